@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.configuration;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Configures the backoff between attempts to (re-)connect the WebSocket.
+ * <p>
+ * The delays grow exponentially with decorrelated jitter: each delay is random between the minimum backoff and three
+ * times the previous delay, capped at the maximum backoff. The randomness keeps many clients which lost their
+ * connection at the same time, e.g. because the server restarted, from reconnecting in lockstep. After the connection
+ * was stable for a while, the delays start from the minimum backoff again.
+ * <p>
+ * Additionally, the connect attempts are limited by a token bucket: at most {@code connectAttemptBurst} attempts are
+ * made at once, further attempts wait until a token is refilled every {@code connectAttemptInterval}.
+ *
+ * @since 3.9.0
+ */
+@Immutable
+public final class BackoffConfiguration {
+
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+    private final Duration stableConnectionPeriod;
+    private final int connectAttemptBurst;
+    private final Duration connectAttemptInterval;
+
+    private BackoffConfiguration(final Builder builder) {
+        minBackoff = builder.minBackoff;
+        maxBackoff = builder.maxBackoff;
+        stableConnectionPeriod = builder.stableConnectionPeriod;
+        connectAttemptBurst = builder.connectAttemptBurst;
+        connectAttemptInterval = builder.connectAttemptInterval;
+    }
+
+    /**
+     * @return a new builder of a backoff configuration with a minimum backoff of {@code 1s}, a maximum backoff of
+     * {@code 60s}, a stable connection period of {@code 60s} and a bucket of {@code 5} connect attempts refilled every
+     * {@code 1s}.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the minimum delay before a connect attempt.
+     */
+    public Duration getMinBackoff() {
+        return minBackoff;
+    }
+
+    /**
+     * @return the maximum delay before a connect attempt.
+     */
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * @return how long a connection must be open until the backoff is reset to the minimum.
+     */
+    public Duration getStableConnectionPeriod() {
+        return stableConnectionPeriod;
+    }
+
+    /**
+     * @return the number of connect attempts which may be made at once.
+     */
+    public int getConnectAttemptBurst() {
+        return connectAttemptBurst;
+    }
+
+    /**
+     * @return the interval in which one more connect attempt is allowed.
+     */
+    public Duration getConnectAttemptInterval() {
+        return connectAttemptInterval;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BackoffConfiguration that = (BackoffConfiguration) o;
+        return connectAttemptBurst == that.connectAttemptBurst &&
+                Objects.equals(minBackoff, that.minBackoff) &&
+                Objects.equals(maxBackoff, that.maxBackoff) &&
+                Objects.equals(stableConnectionPeriod, that.stableConnectionPeriod) &&
+                Objects.equals(connectAttemptInterval, that.connectAttemptInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minBackoff, maxBackoff, stableConnectionPeriod, connectAttemptBurst,
+                connectAttemptInterval);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "minBackoff=" + minBackoff +
+                ", maxBackoff=" + maxBackoff +
+                ", stableConnectionPeriod=" + stableConnectionPeriod +
+                ", connectAttemptBurst=" + connectAttemptBurst +
+                ", connectAttemptInterval=" + connectAttemptInterval +
+                "]";
+    }
+
+    /**
+     * Builder of a {@link BackoffConfiguration}.
+     */
+    public static final class Builder {
+
+        private Duration minBackoff;
+        private Duration maxBackoff;
+        private Duration stableConnectionPeriod;
+        private int connectAttemptBurst;
+        private Duration connectAttemptInterval;
+
+        private Builder() {
+            minBackoff = Duration.ofSeconds(1L);
+            maxBackoff = Duration.ofSeconds(60L);
+            stableConnectionPeriod = Duration.ofSeconds(60L);
+            connectAttemptBurst = 5;
+            connectAttemptInterval = Duration.ofSeconds(1L);
+        }
+
+        /**
+         * Sets the minimum delay before a connect attempt, which is also the base of the exponential growth.
+         *
+         * @param minBackoff the minimum backoff, must be positive.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code minBackoff} is not positive.
+         */
+        public Builder minBackoff(final Duration minBackoff) {
+            checkNotNull(minBackoff, "minBackoff");
+            checkArgument(minBackoff, d -> !d.isNegative() && !d.isZero(),
+                    () -> "The min backoff must be positive but was: " + minBackoff);
+            this.minBackoff = minBackoff;
+            return this;
+        }
+
+        /**
+         * Sets the maximum delay before a connect attempt.
+         *
+         * @param maxBackoff the maximum backoff, must be positive.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code maxBackoff} is not positive.
+         */
+        public Builder maxBackoff(final Duration maxBackoff) {
+            checkNotNull(maxBackoff, "maxBackoff");
+            checkArgument(maxBackoff, d -> !d.isNegative() && !d.isZero(),
+                    () -> "The max backoff must be positive but was: " + maxBackoff);
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        /**
+         * Sets how long a connection must be open until the backoff is reset to the minimum. Connections closed
+         * earlier are considered flapping and continue with the grown backoff.
+         *
+         * @param stableConnectionPeriod the stable connection period, must not be negative.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code stableConnectionPeriod} is negative.
+         */
+        public Builder stableConnectionPeriod(final Duration stableConnectionPeriod) {
+            checkNotNull(stableConnectionPeriod, "stableConnectionPeriod");
+            checkArgument(stableConnectionPeriod, d -> !d.isNegative(),
+                    () -> "The stable connection period must not be negative but was: " + stableConnectionPeriod);
+            this.stableConnectionPeriod = stableConnectionPeriod;
+            return this;
+        }
+
+        /**
+         * Sets the number of connect attempts which may be made at once, i.e. the capacity of the token bucket.
+         *
+         * @param connectAttemptBurst the connect attempt burst, must be positive.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code connectAttemptBurst} is not positive.
+         */
+        public Builder connectAttemptBurst(final int connectAttemptBurst) {
+            checkArgument(connectAttemptBurst, b -> b > 0,
+                    () -> "The connect attempt burst must be positive but was: " + connectAttemptBurst);
+            this.connectAttemptBurst = connectAttemptBurst;
+            return this;
+        }
+
+        /**
+         * Sets the interval in which one more connect attempt is allowed, i.e. the refill rate of the token bucket.
+         *
+         * @param connectAttemptInterval the connect attempt interval, must be positive.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code connectAttemptInterval} is not positive.
+         */
+        public Builder connectAttemptInterval(final Duration connectAttemptInterval) {
+            checkNotNull(connectAttemptInterval, "connectAttemptInterval");
+            checkArgument(connectAttemptInterval, d -> !d.isNegative() && !d.isZero(),
+                    () -> "The connect attempt interval must be positive but was: " + connectAttemptInterval);
+            this.connectAttemptInterval = connectAttemptInterval;
+            return this;
+        }
+
+        /**
+         * @return the backoff configuration.
+         * @throws IllegalArgumentException if the max backoff is less than the min backoff.
+         */
+        public BackoffConfiguration build() {
+            checkArgument(maxBackoff, d -> d.compareTo(minBackoff) >= 0,
+                    () -> "The max backoff <" + maxBackoff + "> must not be less than the min backoff <" +
+                            minBackoff + ">.");
+            return new BackoffConfiguration(this);
+        }
+    }
+
+}
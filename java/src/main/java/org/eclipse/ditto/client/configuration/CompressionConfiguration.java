@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.configuration;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Configures the compression of WebSocket messages with the {@code permessage-deflate} extension (RFC 7692).
+ * <p>
+ * The extension is offered to the server when connecting; messages are only compressed if the server agrees.
+ *
+ * @since 3.9.0
+ */
+@Immutable
+public final class CompressionConfiguration {
+
+    /**
+     * The minimum base-2 logarithm of the LZ77 sliding window size.
+     */
+    public static final int MIN_WINDOW_BITS = 8;
+
+    /**
+     * The maximum base-2 logarithm of the LZ77 sliding window size.
+     */
+    public static final int MAX_WINDOW_BITS = 15;
+
+    private static final String EXTENSION_NAME = "permessage-deflate";
+
+    private final boolean clientNoContextTakeover;
+    private final boolean serverNoContextTakeover;
+    private final int serverMaxWindowBits;
+
+    private CompressionConfiguration(final Builder builder) {
+        clientNoContextTakeover = builder.clientNoContextTakeover;
+        serverNoContextTakeover = builder.serverNoContextTakeover;
+        serverMaxWindowBits = builder.serverMaxWindowBits;
+    }
+
+    /**
+     * @return a new builder of a compression configuration with context takeover in both directions and the maximum
+     * window size.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * @return whether the client resets its compression context after each message.
+     */
+    public boolean isClientNoContextTakeover() {
+        return clientNoContextTakeover;
+    }
+
+    /**
+     * @return whether the server is asked to reset its compression context after each message.
+     */
+    public boolean isServerNoContextTakeover() {
+        return serverNoContextTakeover;
+    }
+
+    /**
+     * @return the base-2 logarithm of the maximum window size the server is asked to compress with.
+     */
+    public int getServerMaxWindowBits() {
+        return serverMaxWindowBits;
+    }
+
+    /**
+     * @return the extension with its parameters as offered in the {@code Sec-WebSocket-Extensions} header.
+     */
+    public String toExtensionOffer() {
+        final StringBuilder offer = new StringBuilder(EXTENSION_NAME);
+        if (clientNoContextTakeover) {
+            offer.append("; client_no_context_takeover");
+        }
+        if (serverNoContextTakeover) {
+            offer.append("; server_no_context_takeover");
+        }
+        if (serverMaxWindowBits < MAX_WINDOW_BITS) {
+            offer.append("; server_max_window_bits=").append(serverMaxWindowBits);
+        }
+        return offer.toString();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CompressionConfiguration that = (CompressionConfiguration) o;
+        return clientNoContextTakeover == that.clientNoContextTakeover &&
+                serverNoContextTakeover == that.serverNoContextTakeover &&
+                serverMaxWindowBits == that.serverMaxWindowBits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(clientNoContextTakeover, serverNoContextTakeover, serverMaxWindowBits);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "clientNoContextTakeover=" + clientNoContextTakeover +
+                ", serverNoContextTakeover=" + serverNoContextTakeover +
+                ", serverMaxWindowBits=" + serverMaxWindowBits +
+                "]";
+    }
+
+    /**
+     * Builder of a {@link CompressionConfiguration}.
+     */
+    public static final class Builder {
+
+        private boolean clientNoContextTakeover;
+        private boolean serverNoContextTakeover;
+        private int serverMaxWindowBits;
+
+        private Builder() {
+            clientNoContextTakeover = false;
+            serverNoContextTakeover = false;
+            serverMaxWindowBits = MAX_WINDOW_BITS;
+        }
+
+        /**
+         * Sets whether the client resets its compression context after each message. Without context takeover,
+         * each message is compressed on its own, which needs less memory but compresses similar messages worse.
+         *
+         * @param clientNoContextTakeover whether the client resets its compression context.
+         * @return this builder.
+         */
+        public Builder clientNoContextTakeover(final boolean clientNoContextTakeover) {
+            this.clientNoContextTakeover = clientNoContextTakeover;
+            return this;
+        }
+
+        /**
+         * Sets whether the server is asked to reset its compression context after each message.
+         *
+         * @param serverNoContextTakeover whether the server resets its compression context.
+         * @return this builder.
+         */
+        public Builder serverNoContextTakeover(final boolean serverNoContextTakeover) {
+            this.serverNoContextTakeover = serverNoContextTakeover;
+            return this;
+        }
+
+        /**
+         * Sets the base-2 logarithm of the maximum window size the server is asked to compress with. Smaller
+         * windows need less memory on both sides but compress worse.
+         * <p>
+         * The window of the client is not configurable as the JDK's {@code Deflater} always uses the maximum window.
+         *
+         * @param serverMaxWindowBits the window bits between {@value #MIN_WINDOW_BITS} and
+         * {@value #MAX_WINDOW_BITS}.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code serverMaxWindowBits} is out of range.
+         */
+        public Builder serverMaxWindowBits(final int serverMaxWindowBits) {
+            checkArgument(serverMaxWindowBits, b -> b >= MIN_WINDOW_BITS && b <= MAX_WINDOW_BITS,
+                    () -> "The server max window bits must be between " + MIN_WINDOW_BITS + " and " +
+                            MAX_WINDOW_BITS + " but were: " + serverMaxWindowBits);
+            this.serverMaxWindowBits = serverMaxWindowBits;
+            return this;
+        }
+
+        /**
+         * @return the compression configuration.
+         */
+        public CompressionConfiguration build() {
+            return new CompressionConfiguration(this);
+        }
+    }
+
+}
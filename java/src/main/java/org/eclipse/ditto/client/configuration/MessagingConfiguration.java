@@ -13,6 +13,7 @@
 package org.eclipse.ditto.client.configuration;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Optional;
@@ -100,6 +101,172 @@ public interface MessagingConfiguration {
      */
     Optional<Consumer<DisconnectedContext>> getDisconnectedListener();
 
+    /**
+     * Returns the number of worker threads parsing and dispatching inbound messages. {@code 0} means that inbound
+     * messages are parsed on the thread receiving them from the connection.
+     *
+     * @return the inbound parallelism.
+     * @since 3.9.0
+     */
+    int getInboundParallelism();
+
+    /**
+     * Returns the duration of one tick of the timer tracking response and idle timeouts, i.e. the precision with
+     * which timeouts expire.
+     *
+     * @return the tick duration.
+     * @since 3.9.0
+     */
+    Duration getTimerTickDuration();
+
+    /**
+     * Returns the number of ticks per wheel of the timer tracking response and idle timeouts.
+     *
+     * @return the number of ticks per wheel.
+     * @since 3.9.0
+     */
+    int getTimerTicksPerWheel();
+
+    /**
+     * Returns the maximum number of JsonPointers for which the consumers of changes are cached per channel.
+     * {@code 0} means that consumers are looked up for each change.
+     *
+     * @return the pointer cache size.
+     * @since 3.9.0
+     */
+    int getPointerCacheSize();
+
+    /**
+     * Returns whether handlers of changes receive the changes of one entity in the order in which the client received
+     * them.
+     *
+     * @return whether dispatching is ordered per entity.
+     * @since 3.9.0
+     */
+    boolean isDispatchOrderedPerEntity();
+
+    /**
+     * Returns the maximum number of messages which are written to the WebSocket before it is flushed.
+     *
+     * @return the maximum number of messages per flush.
+     * @since 3.9.0
+     */
+    int getOutboundMaxBatchMessages();
+
+    /**
+     * Returns the maximum number of characters of the messages which are written to the WebSocket before it is
+     * flushed.
+     *
+     * @return the maximum number of characters per flush.
+     * @since 3.9.0
+     */
+    int getOutboundMaxBatchCharacters();
+
+    /**
+     * Returns how long messages to send wait for further messages to be flushed together with.
+     *
+     * @return the linger duration.
+     * @since 3.9.0
+     */
+    Duration getOutboundLinger();
+
+    /**
+     * Returns the maximum number of messages emitted asynchronously which are not written yet.
+     *
+     * @return the outbound buffer size.
+     * @since 3.9.0
+     */
+    int getOutboundBufferSize();
+
+    /**
+     * Returns the directory of the persistent outbox, if configured.
+     *
+     * @return the outbox directory.
+     * @since 3.9.0
+     */
+    Optional<Path> getOutboxDirectory();
+
+    /**
+     * Returns the size in bytes of a segment file of the persistent outbox.
+     *
+     * @return the outbox segment size.
+     * @since 3.9.0
+     */
+    int getOutboxSegmentSize();
+
+    /**
+     * Returns the configuration of the {@code permessage-deflate} compression, if enabled.
+     *
+     * @return the compression configuration.
+     * @since 3.9.0
+     */
+    Optional<CompressionConfiguration> getCompressionConfiguration();
+
+    /**
+     * Returns the maximum payload size in bytes of a sent WebSocket frame, larger messages are fragmented.
+     *
+     * @return the maximum payload size, {@code 0} if messages are never fragmented.
+     * @since 3.9.0
+     */
+    int getMaxPayloadSize();
+
+    /**
+     * Returns the maximum number of frames queued for sending before sending blocks.
+     *
+     * @return the frame queue size, {@code 0} if unbounded.
+     * @since 3.9.0
+     */
+    int getFrameQueueSize();
+
+    /**
+     * Returns the interval of the pings sent to keep the WebSocket connection alive.
+     *
+     * @return the ping interval, {@link Duration#ZERO} if no pings are sent.
+     * @since 3.9.0
+     */
+    Duration getPingInterval();
+
+    /**
+     * Returns the number of consecutive pings without a pong after which the WebSocket connection is considered dead
+     * and is reconnected.
+     *
+     * @return the maximum number of missed pongs, {@code 0} if connections are not checked for pongs.
+     * @since 3.9.0
+     */
+    int getMaxMissedPongs();
+
+    /**
+     * Returns the timeout of establishing the WebSocket connection.
+     *
+     * @return the connect timeout.
+     * @since 3.9.0
+     */
+    Duration getConnectTimeout();
+
+    /**
+     * Returns the delay before reconnecting after the WebSocket connection was lost.
+     *
+     * @return the reconnect delay.
+     * @since 3.9.0
+     */
+    Duration getReconnectDelay();
+
+    /**
+     * Returns the configuration of the backoff between connect attempts, if configured.
+     *
+     * @return the backoff configuration.
+     * @since 3.9.0
+     */
+    Optional<BackoffConfiguration> getBackoffConfiguration();
+
+    /**
+     * Returns the encoding of the Ditto Protocol messages exchanged over the WebSocket.
+     *
+     * @return the payload encoding.
+     * @since 3.9.0
+     */
+    PayloadEncoding getPayloadEncoding();
+
     /**
      * Builder for creating an instance of {@code MessagingConfiguration} by utilizing Object Scoping and Method
      * Chaining.
@@ -196,10 +363,290 @@ public interface MessagingConfiguration {
          */
         Builder disconnectedListener(@Nullable Consumer<DisconnectedContext> contextListener);
 
+        /**
+         * Sets the number of worker threads parsing and dispatching inbound messages.
+         * <p>
+         * Default is {@code 1}: a single worker decouples parsing from the thread reading the connection and keeps the
+         * order of all messages. With more workers, messages are parsed in parallel while messages concerning the
+         * same entity (or, if they do not concern an entity, having the same correlation ID) keep their order.
+         * {@code 0} parses inbound messages on the thread reading the connection.
+         *
+         * @param inboundParallelism the number of inbound workers, must not be negative.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code inboundParallelism} is negative.
+         * @since 3.9.0
+         */
+        Builder inboundParallelism(int inboundParallelism);
+
+        /**
+         * Sets the duration of one tick of the timer tracking response and idle timeouts. Timeouts expire at most one
+         * tick late; shorter ticks wake up the timer thread more often while timeouts are pending.
+         * <p>
+         * Default is 10 milliseconds.
+         *
+         * @param tickDuration the tick duration, must be positive.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code tickDuration} is not positive.
+         * @since 3.9.0
+         */
+        Builder timerTickDuration(Duration tickDuration);
+
+        /**
+         * Sets the number of ticks per wheel of the timer tracking response and idle timeouts. Timeouts longer than
+         * one wheel revolution are checked once per revolution; more ticks per wheel mean fewer timeouts per tick.
+         * <p>
+         * Default is {@code 512}.
+         *
+         * @param ticksPerWheel the number of ticks per wheel, must be positive; rounded up to a power of two.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code ticksPerWheel} is not positive.
+         * @since 3.9.0
+         */
+        Builder timerTicksPerWheel(int ticksPerWheel);
+
+        /**
+         * Sets the maximum number of JsonPointers (e.g. {@code /things/<thingId>/attributes/<attribute>}) for which
+         * the consumers of changes are cached per channel. When the cache is full, the least recently used pointers
+         * are evicted, so memory stays bounded for changes of many distinct things.
+         * <p>
+         * Default is {@code 10000}. {@code 0} disables caching.
+         *
+         * @param pointerCacheSize the pointer cache size, must not be negative.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code pointerCacheSize} is negative.
+         * @since 3.9.0
+         */
+        Builder pointerCacheSize(int pointerCacheSize);
+
+        /**
+         * Sets whether handlers of changes (e.g. registered with {@code registerForThingChanges}) receive the changes
+         * of one entity in the order in which the client received them. Changes of different entities are still
+         * handled in parallel. Handlers of an entity then run one after another, so a slow handler delays the
+         * changes of the entities sharing its dispatch lane.
+         * <p>
+         * Default is {@code false}: each change is handled independently and the changes of one entity may reach
+         * handlers out of order.
+         *
+         * @param dispatchOrderedPerEntity whether to dispatch ordered per entity.
+         * @return this builder.
+         * @since 3.9.0
+         */
+        Builder dispatchOrderedPerEntity(boolean dispatchOrderedPerEntity);
+
+        /**
+         * Sets the maximum number of messages which are written to the WebSocket before it is flushed. Messages
+         * emitted concurrently, or within the {@link #outboundLinger(Duration) linger duration}, are written in
+         * batches with one flush of the socket each instead of one flush per message.
+         * <p>
+         * Default is {@code 256}. {@code 1} flushes after each message.
+         *
+         * @param maxBatchMessages the maximum number of messages per flush, must be positive.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code maxBatchMessages} is not positive.
+         * @since 3.9.0
+         */
+        Builder outboundMaxBatchMessages(int maxBatchMessages);
+
+        /**
+         * Sets the maximum number of characters of the messages which are written to the WebSocket before it is
+         * flushed. A single message longer than this is written and flushed on its own.
+         * <p>
+         * Default is {@code 262144} (256 Ki).
+         *
+         * @param maxBatchCharacters the maximum number of characters per flush, must be positive.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code maxBatchCharacters} is not positive.
+         * @since 3.9.0
+         */
+        Builder outboundMaxBatchCharacters(int maxBatchCharacters);
+
+        /**
+         * Sets how long messages to send wait for further messages to be flushed together with, unless a batch is
+         * full before. Lingering trades latency for fewer writes to the socket under high load.
+         * <p>
+         * Default is {@code 0}: messages are written right away, only messages emitted concurrently are batched.
+         *
+         * @param linger the linger duration, must not be negative.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code linger} is negative.
+         * @since 3.9.0
+         */
+        Builder outboundLinger(Duration linger);
+
+        /**
+         * Sets the maximum number of messages emitted via
+         * {@link org.eclipse.ditto.client.messaging.MessagingProvider#emitAsync(String)} which are not written yet,
+         * including the messages buffered while the client is reconnecting. Further messages are rejected until
+         * buffered messages were written.
+         * <p>
+         * Default is {@code 1024}.
+         *
+         * @param outboundBufferSize the outbound buffer size, must be positive.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code outboundBufferSize} is not positive.
+         * @since 3.9.0
+         */
+        Builder outboundBufferSize(int outboundBufferSize);
+
+        /**
+         * Enables the persistent outbox in the passed directory. Messages emitted while the client is not connected
+         * are then appended to a journal of memory-mapped segment files in this directory instead of being rejected
+         * or discarded. They are written in order once the client is connected again, also after a restart of the
+         * JVM, and are removed from the journal once they were written. Only Ditto Protocol messages are journaled;
+         * protocol commands like {@code START-SEND-EVENTS} belong to a session and are sent again when subscribing
+         * again.
+         * <p>
+         * The directory must not be shared with other clients. Default is no outbox.
+         *
+         * @param outboxDirectory the directory of the outbox, or {@code null} to disable the outbox.
+         * @return this builder.
+         * @since 3.9.0
+         */
+        Builder outboxDirectory(@Nullable Path outboxDirectory);
+
+        /**
+         * Sets the size in bytes of a segment file of the persistent outbox. Segments are deleted once all their
+         * messages were written, larger messages get a segment of their own.
+         * <p>
+         * Default is {@code 16777216} (16 MiB).
+         *
+         * @param outboxSegmentSize the segment size, must be positive.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code outboxSegmentSize} is not positive.
+         * @since 3.9.0
+         */
+        Builder outboxSegmentSize(int outboxSegmentSize);
+
+        /**
+         * Enables the compression of WebSocket messages with the {@code permessage-deflate} extension, which is
+         * offered to the server when connecting. The verbose JSON of the Ditto Protocol usually compresses well, at
+         * the cost of CPU time and memory for the compression contexts.
+         * <p>
+         * Default is no compression.
+         *
+         * @param compressionConfiguration the compression configuration, or {@code null} to disable compression.
+         * @return this builder.
+         * @since 3.9.0
+         */
+        Builder compressionConfiguration(@Nullable CompressionConfiguration compressionConfiguration);
+
+        /**
+         * Sets the maximum payload size in bytes of a sent WebSocket frame. Messages with a larger payload are sent
+         * as a text frame followed by continuation frames. Received messages are not limited by this setting.
+         * <p>
+         * Default is {@code 262144} (256 KiB).
+         *
+         * @param maxPayloadSize the maximum payload size, {@code 0} to never fragment messages.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code maxPayloadSize} is negative.
+         * @since 3.9.0
+         */
+        Builder maxPayloadSize(int maxPayloadSize);
+
+        /**
+         * Sets the maximum number of frames queued for sending. Sending a message blocks while the queue is full,
+         * which slows down producers if the connection cannot keep up.
+         * <p>
+         * Default is {@code 0}: the queue is unbounded.
+         *
+         * @param frameQueueSize the frame queue size, {@code 0} for an unbounded queue.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code frameQueueSize} is negative.
+         * @since 3.9.0
+         */
+        Builder frameQueueSize(int frameQueueSize);
+
+        /**
+         * Sets the interval of the pings sent to keep the WebSocket connection alive.
+         * <p>
+         * Default is {@code 5s}.
+         *
+         * @param pingInterval the ping interval, {@link Duration#ZERO} to send no pings.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code pingInterval} is negative.
+         * @since 3.9.0
+         */
+        Builder pingInterval(Duration pingInterval);
+
+        /**
+         * Sets the number of consecutive pings without a pong after which the WebSocket connection is considered
+         * dead. A dead connection is closed and reconnected right away instead of when the operating system detects
+         * that the connection is half-open, which may take minutes. A connection is thus considered dead after
+         * about {@code pingInterval * (maxMissedPongs + 1)}.
+         * <p>
+         * Default is {@code 0}.
+         *
+         * @param maxMissedPongs the maximum number of missed pongs, {@code 0} to not check the connection for pongs.
+         * A positive number requires a positive {@link #pingInterval(Duration) ping interval}.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code maxMissedPongs} is negative.
+         * @since 3.9.0
+         */
+        Builder maxMissedPongs(int maxMissedPongs);
+
+        /**
+         * Sets the timeout of establishing the WebSocket connection, both when initially connecting and when
+         * reconnecting.
+         * <p>
+         * Default is {@code 5s}.
+         *
+         * @param connectTimeout the connect timeout, must be positive.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code connectTimeout} is not positive.
+         * @since 3.9.0
+         */
+        Builder connectTimeout(Duration connectTimeout);
+
+        /**
+         * Sets the delay before reconnecting after the WebSocket connection was lost.
+         * <p>
+         * Default is {@code 5s}.
+         *
+         * @param reconnectDelay the reconnect delay, must not be negative.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code reconnectDelay} is negative.
+         * @since 3.9.0
+         */
+        Builder reconnectDelay(Duration reconnectDelay);
+
+        /**
+         * Sets the backoff between connect attempts, which grows exponentially with random jitter and limits the
+         * rate of connect attempts. This keeps many clients from overloading the server by reconnecting in lockstep
+         * after it restarted.
+         * <p>
+         * Default is no backoff configuration: reconnecting waits for the {@link #reconnectDelay(Duration)} and
+         * further attempts follow a fixed sequence of delays between 1 and 13 seconds.
+         *
+         * @param backoffConfiguration the backoff configuration, or {@code null} for the fixed delays.
+         * @return this builder.
+         * @since 3.9.0
+         */
+        Builder backoffConfiguration(@Nullable BackoffConfiguration backoffConfiguration);
+
+        /**
+         * Sets the encoding of the Ditto Protocol messages exchanged over the WebSocket. With
+         * {@link PayloadEncoding#CBOR}, binary CBOR frames are offered to the server as the WebSocket subprotocol
+         * {@code ditto-protocol.cbor}. Messages are sent as JSON if the server does not agree or if Ditto's CBOR
+         * support is not on the classpath.
+         * <p>
+         * The subprotocol is an opt-in which is not defined by Ditto's WebSocket endpoint: only configure
+         * {@link PayloadEncoding#CBOR} if the server was set up to agree to it.
+         * <p>
+         * Default is {@link PayloadEncoding#JSON}.
+         *
+         * @param payloadEncoding the payload encoding.
+         * @return this builder.
+         * @throws NullPointerException if {@code payloadEncoding} is {@code null}.
+         * @since 3.9.0
+         */
+        Builder payloadEncoding(PayloadEncoding payloadEncoding);
+
         /**
          * Creates a new instance of {@code MessagingConfiguration}.
          *
          * @return a new {@code MessagingConfiguration} object based on the arguments provided to this builder.
+         * @throws IllegalArgumentException if {@link #maxMissedPongs(int) missed pongs} are to be detected while the
+         * {@link #pingInterval(Duration) ping interval} is zero.
          */
         MessagingConfiguration build();
 
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.configuration;
+
+/**
+ * Encodings of the Ditto Protocol messages exchanged over the WebSocket.
+ *
+ * @since 3.9.0
+ */
+public enum PayloadEncoding {
+
+    /**
+     * Messages are sent and received as JSON in text frames.
+     */
+    JSON,
+
+    /**
+     * Messages are sent and received as CBOR in binary frames if the server agrees, otherwise as JSON.
+     * <p>
+     * Requires Ditto's CBOR support ({@code org.eclipse.ditto:ditto-json-cbor}) on the classpath; without it the
+     * client falls back to JSON. Protocol commands such as {@code START-SEND-EVENTS} are always sent as text.
+     * <p>
+     * The binary frames are negotiated with the WebSocket subprotocol {@code ditto-protocol.cbor}, which Ditto's
+     * WebSocket endpoint does not define. This encoding is an opt-in which must be agreed with the server, e.g. a
+     * gateway in front of Ditto translating the frames; Ditto itself keeps exchanging JSON.
+     */
+    CBOR
+
+}
@@ -16,6 +16,7 @@ import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.time.Duration;
 import java.util.Arrays;
@@ -51,6 +52,26 @@ public final class WebSocketMessagingConfiguration implements MessagingConfigura
     @Nullable private final Consumer<Throwable> connectionErrorHandler;
     @Nullable private final Consumer<DisconnectedContext> disconnectedListener;
     private final Set<AcknowledgementLabel> declaredAcknowledgements;
+    private final int inboundParallelism;
+    private final Duration timerTickDuration;
+    private final int timerTicksPerWheel;
+    private final int pointerCacheSize;
+    private final boolean dispatchOrderedPerEntity;
+    private final int outboundMaxBatchMessages;
+    private final int outboundMaxBatchCharacters;
+    private final Duration outboundLinger;
+    private final int outboundBufferSize;
+    @Nullable private final Path outboxDirectory;
+    private final int outboxSegmentSize;
+    @Nullable private final CompressionConfiguration compressionConfiguration;
+    private final int maxPayloadSize;
+    private final int frameQueueSize;
+    private final Duration pingInterval;
+    private final int maxMissedPongs;
+    private final Duration connectTimeout;
+    private final Duration reconnectDelay;
+    @Nullable private final BackoffConfiguration backoffConfiguration;
+    private final PayloadEncoding payloadEncoding;
 
     public WebSocketMessagingConfiguration(final WebSocketMessagingConfigurationBuilder builder,
             final URI endpointUri) {
@@ -65,6 +86,26 @@ public final class WebSocketMessagingConfiguration implements MessagingConfigura
         this.timeout = builder.timeout;
         this.declaredAcknowledgements = Collections.unmodifiableSet(builder.declaredAcknowledgements);
         this.endpointUri = endpointUri;
+        inboundParallelism = builder.inboundParallelism;
+        timerTickDuration = builder.timerTickDuration;
+        timerTicksPerWheel = builder.timerTicksPerWheel;
+        pointerCacheSize = builder.pointerCacheSize;
+        dispatchOrderedPerEntity = builder.dispatchOrderedPerEntity;
+        outboundMaxBatchMessages = builder.outboundMaxBatchMessages;
+        outboundMaxBatchCharacters = builder.outboundMaxBatchCharacters;
+        outboundLinger = builder.outboundLinger;
+        outboundBufferSize = builder.outboundBufferSize;
+        outboxDirectory = builder.outboxDirectory;
+        outboxSegmentSize = builder.outboxSegmentSize;
+        compressionConfiguration = builder.compressionConfiguration;
+        maxPayloadSize = builder.maxPayloadSize;
+        frameQueueSize = builder.frameQueueSize;
+        pingInterval = builder.pingInterval;
+        maxMissedPongs = builder.maxMissedPongs;
+        connectTimeout = builder.connectTimeout;
+        reconnectDelay = builder.reconnectDelay;
+        backoffConfiguration = builder.backoffConfiguration;
+        payloadEncoding = builder.payloadEncoding;
     }
 
     public static MessagingConfiguration.Builder newBuilder() {
@@ -121,6 +162,106 @@ public final class WebSocketMessagingConfiguration implements MessagingConfigura
         return Optional.ofNullable(disconnectedListener);
     }
 
+    @Override
+    public int getInboundParallelism() {
+        return inboundParallelism;
+    }
+
+    @Override
+    public Duration getTimerTickDuration() {
+        return timerTickDuration;
+    }
+
+    @Override
+    public int getTimerTicksPerWheel() {
+        return timerTicksPerWheel;
+    }
+
+    @Override
+    public int getPointerCacheSize() {
+        return pointerCacheSize;
+    }
+
+    @Override
+    public boolean isDispatchOrderedPerEntity() {
+        return dispatchOrderedPerEntity;
+    }
+
+    @Override
+    public int getOutboundMaxBatchMessages() {
+        return outboundMaxBatchMessages;
+    }
+
+    @Override
+    public int getOutboundMaxBatchCharacters() {
+        return outboundMaxBatchCharacters;
+    }
+
+    @Override
+    public Duration getOutboundLinger() {
+        return outboundLinger;
+    }
+
+    @Override
+    public int getOutboundBufferSize() {
+        return outboundBufferSize;
+    }
+
+    @Override
+    public Optional<Path> getOutboxDirectory() {
+        return Optional.ofNullable(outboxDirectory);
+    }
+
+    @Override
+    public int getOutboxSegmentSize() {
+        return outboxSegmentSize;
+    }
+
+    @Override
+    public Optional<CompressionConfiguration> getCompressionConfiguration() {
+        return Optional.ofNullable(compressionConfiguration);
+    }
+
+    @Override
+    public int getMaxPayloadSize() {
+        return maxPayloadSize;
+    }
+
+    @Override
+    public int getFrameQueueSize() {
+        return frameQueueSize;
+    }
+
+    @Override
+    public Duration getPingInterval() {
+        return pingInterval;
+    }
+
+    @Override
+    public int getMaxMissedPongs() {
+        return maxMissedPongs;
+    }
+
+    @Override
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    @Override
+    public Duration getReconnectDelay() {
+        return reconnectDelay;
+    }
+
+    @Override
+    public Optional<BackoffConfiguration> getBackoffConfiguration() {
+        return Optional.ofNullable(backoffConfiguration);
+    }
+
+    @Override
+    public PayloadEncoding getPayloadEncoding() {
+        return payloadEncoding;
+    }
+
     private static final class WebSocketMessagingConfigurationBuilder implements MessagingConfiguration.Builder {
 
         private static final List<String> ALLOWED_URI_SCHEME = Arrays.asList("wss", "ws");
@@ -137,6 +278,26 @@ public final class WebSocketMessagingConfiguration implements MessagingConfigura
         @Nullable private Consumer<Throwable> connectionErrorHandler;
         @Nullable private Consumer<DisconnectedContext> disconnectedListener;
         private final Set<AcknowledgementLabel> declaredAcknowledgements = new HashSet<>();
+        private int inboundParallelism;
+        private Duration timerTickDuration;
+        private int timerTicksPerWheel;
+        private int pointerCacheSize;
+        private boolean dispatchOrderedPerEntity;
+        private int outboundMaxBatchMessages;
+        private int outboundMaxBatchCharacters;
+        private Duration outboundLinger;
+        private int outboundBufferSize;
+        @Nullable private Path outboxDirectory;
+        private int outboxSegmentSize;
+        @Nullable private CompressionConfiguration compressionConfiguration;
+        private int maxPayloadSize;
+        private int frameQueueSize;
+        private Duration pingInterval;
+        private int maxMissedPongs;
+        private Duration connectTimeout;
+        private Duration reconnectDelay;
+        @Nullable private BackoffConfiguration backoffConfiguration;
+        private PayloadEncoding payloadEncoding;
 
         private WebSocketMessagingConfigurationBuilder() {
             jsonSchemaVersion = JsonSchemaVersion.LATEST;
@@ -145,6 +306,26 @@ public final class WebSocketMessagingConfiguration implements MessagingConfigura
             proxyConfiguration = null;
             connectionErrorHandler = null;
             disconnectedListener = null;
+            inboundParallelism = 1;
+            timerTickDuration = Duration.ofMillis(10L);
+            timerTicksPerWheel = 512;
+            pointerCacheSize = 10_000;
+            dispatchOrderedPerEntity = false;
+            outboundMaxBatchMessages = 256;
+            outboundMaxBatchCharacters = 256 * 1024;
+            outboundLinger = Duration.ZERO;
+            outboundBufferSize = 1024;
+            outboxDirectory = null;
+            outboxSegmentSize = 16 * 1024 * 1024;
+            compressionConfiguration = null;
+            maxPayloadSize = 256 * 1024;
+            frameQueueSize = 0;
+            pingInterval = Duration.ofSeconds(5L);
+            maxMissedPongs = 0;
+            connectTimeout = Duration.ofSeconds(5L);
+            reconnectDelay = Duration.ofSeconds(5L);
+            backoffConfiguration = null;
+            payloadEncoding = PayloadEncoding.JSON;
         }
 
         @Override
@@ -217,8 +398,167 @@ public final class WebSocketMessagingConfiguration implements MessagingConfigura
             return this;
         }
 
+        @Override
+        public Builder inboundParallelism(final int inboundParallelism) {
+            checkArgument(inboundParallelism, p -> p >= 0,
+                    () -> "The inbound parallelism must not be negative but was: " + inboundParallelism);
+            this.inboundParallelism = inboundParallelism;
+            return this;
+        }
+
+        @Override
+        public Builder timerTickDuration(final Duration tickDuration) {
+            checkNotNull(tickDuration, "tickDuration");
+            checkArgument(tickDuration, d -> !d.isNegative() && !d.isZero(),
+                    () -> "The timer tick duration must be positive but was: " + tickDuration);
+            this.timerTickDuration = tickDuration;
+            return this;
+        }
+
+        @Override
+        public Builder timerTicksPerWheel(final int ticksPerWheel) {
+            checkArgument(ticksPerWheel, t -> t > 0 && t <= (1 << 30),
+                    () -> "The timer ticks per wheel must be in (0, 2^30] but was: " + ticksPerWheel);
+            this.timerTicksPerWheel = ticksPerWheel;
+            return this;
+        }
+
+        @Override
+        public Builder pointerCacheSize(final int pointerCacheSize) {
+            checkArgument(pointerCacheSize, s -> s >= 0,
+                    () -> "The pointer cache size must not be negative but was: " + pointerCacheSize);
+            this.pointerCacheSize = pointerCacheSize;
+            return this;
+        }
+
+        @Override
+        public Builder dispatchOrderedPerEntity(final boolean dispatchOrderedPerEntity) {
+            this.dispatchOrderedPerEntity = dispatchOrderedPerEntity;
+            return this;
+        }
+
+        @Override
+        public Builder outboundMaxBatchMessages(final int maxBatchMessages) {
+            checkArgument(maxBatchMessages, m -> m > 0,
+                    () -> "The outbound maximum batch messages must be positive but was: " + maxBatchMessages);
+            this.outboundMaxBatchMessages = maxBatchMessages;
+            return this;
+        }
+
+        @Override
+        public Builder outboundMaxBatchCharacters(final int maxBatchCharacters) {
+            checkArgument(maxBatchCharacters, c -> c > 0,
+                    () -> "The outbound maximum batch characters must be positive but was: " + maxBatchCharacters);
+            this.outboundMaxBatchCharacters = maxBatchCharacters;
+            return this;
+        }
+
+        @Override
+        public Builder outboundLinger(final Duration linger) {
+            checkNotNull(linger, "linger");
+            checkArgument(linger, l -> !l.isNegative(),
+                    () -> "The outbound linger must not be negative but was: " + linger);
+            this.outboundLinger = linger;
+            return this;
+        }
+
+        @Override
+        public Builder outboundBufferSize(final int outboundBufferSize) {
+            checkArgument(outboundBufferSize, s -> s > 0,
+                    () -> "The outbound buffer size must be positive but was: " + outboundBufferSize);
+            this.outboundBufferSize = outboundBufferSize;
+            return this;
+        }
+
+        @Override
+        public Builder outboxDirectory(@Nullable final Path outboxDirectory) {
+            this.outboxDirectory = outboxDirectory;
+            return this;
+        }
+
+        @Override
+        public Builder outboxSegmentSize(final int outboxSegmentSize) {
+            checkArgument(outboxSegmentSize, s -> s > 0,
+                    () -> "The outbox segment size must be positive but was: " + outboxSegmentSize);
+            this.outboxSegmentSize = outboxSegmentSize;
+            return this;
+        }
+
+        @Override
+        public Builder compressionConfiguration(@Nullable final CompressionConfiguration compressionConfiguration) {
+            this.compressionConfiguration = compressionConfiguration;
+            return this;
+        }
+
+        @Override
+        public Builder maxPayloadSize(final int maxPayloadSize) {
+            checkArgument(maxPayloadSize, s -> s >= 0,
+                    () -> "The max payload size must not be negative but was: " + maxPayloadSize);
+            this.maxPayloadSize = maxPayloadSize;
+            return this;
+        }
+
+        @Override
+        public Builder frameQueueSize(final int frameQueueSize) {
+            checkArgument(frameQueueSize, s -> s >= 0,
+                    () -> "The frame queue size must not be negative but was: " + frameQueueSize);
+            this.frameQueueSize = frameQueueSize;
+            return this;
+        }
+
+        @Override
+        public Builder pingInterval(final Duration pingInterval) {
+            checkNotNull(pingInterval, "pingInterval");
+            checkArgument(pingInterval, i -> !i.isNegative(),
+                    () -> "The ping interval must not be negative but was: " + pingInterval);
+            this.pingInterval = pingInterval;
+            return this;
+        }
+
+        @Override
+        public Builder maxMissedPongs(final int maxMissedPongs) {
+            checkArgument(maxMissedPongs, m -> m >= 0,
+                    () -> "The maximum number of missed pongs must not be negative but was: " + maxMissedPongs);
+            this.maxMissedPongs = maxMissedPongs;
+            return this;
+        }
+
+        @Override
+        public Builder connectTimeout(final Duration connectTimeout) {
+            checkNotNull(connectTimeout, "connectTimeout");
+            checkArgument(connectTimeout, t -> !t.isNegative() && !t.isZero() && t.toMillis() <= Integer.MAX_VALUE,
+                    () -> "The connect timeout must be positive and fit into an int of milliseconds but was: " +
+                            connectTimeout);
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        @Override
+        public Builder reconnectDelay(final Duration reconnectDelay) {
+            checkNotNull(reconnectDelay, "reconnectDelay");
+            checkArgument(reconnectDelay, d -> !d.isNegative(),
+                    () -> "The reconnect delay must not be negative but was: " + reconnectDelay);
+            this.reconnectDelay = reconnectDelay;
+            return this;
+        }
+
+        @Override
+        public Builder backoffConfiguration(@Nullable final BackoffConfiguration backoffConfiguration) {
+            this.backoffConfiguration = backoffConfiguration;
+            return this;
+        }
+
+        @Override
+        public Builder payloadEncoding(final PayloadEncoding payloadEncoding) {
+            this.payloadEncoding = checkNotNull(payloadEncoding, "payloadEncoding");
+            return this;
+        }
+
         @Override
         public MessagingConfiguration build() {
+            checkArgument(maxMissedPongs, m -> m == 0 || !pingInterval.isZero(),
+                    () -> "Missed pongs cannot be detected without pings, but the maximum number of missed pongs " +
+                            "is <" + maxMissedPongs + "> while the ping interval is zero.");
             final URI wsEndpointUri = appendWsPathIfNecessary(this.endpointUri, jsonSchemaVersion);
             return new WebSocketMessagingConfiguration(this, wsEndpointUri);
         }
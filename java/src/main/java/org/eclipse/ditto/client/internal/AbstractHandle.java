@@ -39,7 +39,6 @@ import org.eclipse.ditto.base.model.signals.acks.Acknowledgements;
 import org.eclipse.ditto.base.model.signals.commands.CommandResponse;
 import org.eclipse.ditto.base.model.signals.commands.ErrorResponse;
 import org.eclipse.ditto.client.ack.internal.AcknowledgementRequestsValidator;
-import org.eclipse.ditto.client.internal.bus.Classification;
 import org.eclipse.ditto.client.management.AcknowledgementsFailedException;
 import org.eclipse.ditto.client.management.ClientReconnectingException;
 import org.eclipse.ditto.client.messaging.MessagingProvider;
@@ -197,10 +196,9 @@ public abstract class AbstractHandle {
             final Function<E, ? extends RuntimeException> onError) {
 
         try {
-            final CompletionStage<Adaptable> responseFuture = messagingProvider.getAdaptableBus()
-                    .subscribeOnceForAdaptable(Classification.forCorrelationId(signal), getTimeout());
-
-            messagingProvider.emit(signalToJsonString(signal));
+            // the messaging provider may send the request over another channel than the WebSocket
+            final CompletionStage<Adaptable> responseFuture =
+                    messagingProvider.sendAdaptable(PROTOCOL_ADAPTER.toAdaptable(signal));
             return responseFuture.thenApply(responseAdaptable -> {
                 final Signal<?> response = signalFromAdaptable(responseAdaptable);
                 if (expectedErrorResponseClass.isInstance(response)) {
@@ -16,6 +16,7 @@ import static org.eclipse.ditto.base.model.common.ConditionChecker.argumentNotEm
 import static org.eclipse.ditto.base.model.common.ConditionChecker.argumentNotNull;
 
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -58,6 +59,8 @@ import org.eclipse.ditto.client.messaging.MessagingProvider;
 import org.eclipse.ditto.client.options.Option;
 import org.eclipse.ditto.client.options.OptionName;
 import org.eclipse.ditto.client.options.internal.OptionsEvaluator;
+import org.eclipse.ditto.client.registration.ConsumerQueue;
+import org.eclipse.ditto.client.registration.ConsumerQueueConfiguration;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
@@ -639,6 +642,33 @@ public abstract class CommonManagementImpl<T extends ThingHandle<F>, F extends F
                 });
     }
 
+    @Override
+    public ConsumerQueue registerForThingChanges(final String registrationId,
+            final ConsumerQueueConfiguration queueConfiguration, final Consumer<ThingChange> handler) {
+        argumentNotNull(queueConfiguration);
+        argumentNotNull(handler);
+        return SelectorUtil.registerForChanges(handlerRegistry, registrationId,
+                SelectorUtil.formatJsonPointer(LOGGER, "/things/'{thingId}'"),
+                ThingChange.class, queueConfiguration, handler, (change, value, path, params) -> {
+                    final Thing thing = null != value ? ThingsModelFactory.newThing(value.asObject()) : null;
+                    return new ImmutableThingChange(change.withPathAndValue(path, value), thing);
+                });
+    }
+
+    @Override
+    public void registerForThingChanges(final String registrationId, final int maxBatchSize,
+            final Duration maxDelay, final Consumer<List<ThingChange>> handler) {
+        argumentNotNull(maxDelay);
+        argumentNotNull(handler);
+        SelectorUtil.registerForChanges(handlerRegistry, registrationId,
+                SelectorUtil.formatJsonPointer(LOGGER, "/things/'{thingId}'"), ThingChange.class, maxBatchSize,
+                maxDelay, handler,
+                (change, value, path, params) -> {
+                    final Thing thing = null != value ? ThingsModelFactory.newThing(value.asObject()) : null;
+                    return new ImmutableThingChange(change.withPathAndValue(path, value), thing);
+                });
+    }
+
     /**
      * Request a subscription for a streaming type.
      *
@@ -695,8 +725,7 @@ public abstract class CommonManagementImpl<T extends ThingHandle<F>, F extends F
         final CompletableFuture<String> ackFuture = ackStage.toCompletableFuture();
 
         // subscribe for possible error responses by correlationId
-        final Classification correlationIdTag = Classification.forCorrelationId(correlationId);
-        adaptableBus.subscribeOnceForAdaptable(correlationIdTag, getTimeout())
+        adaptableBus.subscribeOnceForResponse(correlationId, getTimeout())
                 .thenAccept(adaptable -> {
                     final Signal<?> signal = AbstractHandle.PROTOCOL_ADAPTER.fromAdaptable(adaptable);
                     if (signal instanceof ThingErrorResponse) {
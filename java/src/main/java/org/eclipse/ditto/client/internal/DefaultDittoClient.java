@@ -211,7 +211,8 @@ public final class DefaultDittoClient implements DittoClient, DisconnectedDittoC
 
     private static TwinImpl configureTwin(final MessagingProvider messagingProvider) {
         final String name = TopicPath.Channel.TWIN.getName();
-        final PointerBus bus = BusFactory.createPointerBus(name, messagingProvider.getExecutorService());
+        final PointerBus bus = BusFactory.createPointerBus(name, messagingProvider.getExecutorService(),
+                messagingProvider.getMessagingConfiguration());
         init(bus, messagingProvider);
         final MessagingConfiguration messagingConfiguration = messagingProvider.getMessagingConfiguration();
         final JsonSchemaVersion schemaVersion = messagingConfiguration.getJsonSchemaVersion();
@@ -222,7 +223,8 @@ public final class DefaultDittoClient implements DittoClient, DisconnectedDittoC
     private static LiveImpl configureLive(final MessagingProvider messagingProvider,
             final MessageSerializerRegistry messageSerializerRegistry) {
         final String name = TopicPath.Channel.LIVE.getName();
-        final PointerBus bus = BusFactory.createPointerBus(name, messagingProvider.getExecutorService());
+        final PointerBus bus = BusFactory.createPointerBus(name, messagingProvider.getExecutorService(),
+                messagingProvider.getMessagingConfiguration());
         init(bus, messagingProvider);
         final JsonSchemaVersion schemaVersion = messagingProvider.getMessagingConfiguration().getJsonSchemaVersion();
         final OutgoingMessageFactory messageFactory = OutgoingMessageFactory.newInstance(schemaVersion);
@@ -232,7 +234,8 @@ public final class DefaultDittoClient implements DittoClient, DisconnectedDittoC
 
     private static PoliciesImpl configurePolicyClient(final MessagingProvider messagingProvider) {
         final String busName = TopicPath.Channel.NONE.getName();
-        final PointerBus bus = BusFactory.createPointerBus(busName, messagingProvider.getExecutorService());
+        final PointerBus bus = BusFactory.createPointerBus(busName, messagingProvider.getExecutorService(),
+                messagingProvider.getMessagingConfiguration());
         init(bus, messagingProvider);
         final OutgoingMessageFactory messageFactory = getOutgoingMessageFactoryForPolicies(messagingProvider);
         return PoliciesImpl.newInstance(messagingProvider, messageFactory, bus);
@@ -15,6 +15,7 @@ package org.eclipse.ditto.client.internal;
 import static java.util.Objects.requireNonNull;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.argumentNotNull;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -63,14 +64,37 @@ public final class HandlerRegistry<T extends ThingHandle<F>, F extends FeatureHa
     }
 
     /**
-     * Returns the {@link Executor} of the {@code bus} this registry manages.
+     * Returns the {@link Executor} the {@code bus} this registry manages runs handlers with.
      *
-     * @return the {@link Executor} of the {@code bus} this registry manages.
+     * @return the {@link Executor} the {@code bus} this registry manages runs handlers with.
      */
     public Executor getBusExecutor() {
+        return bus.getHandlerExecutor();
+    }
+
+    /**
+     * Returns the {@link Executor} of the {@code bus} this registry manages for running tasks asynchronously,
+     * regardless of how the bus runs handlers.
+     *
+     * @return the {@link Executor} of the {@code bus} this registry manages.
+     * @since 3.9.0
+     */
+    public Executor getBusTaskExecutor() {
         return bus.getExecutor();
     }
 
+    /**
+     * Runs a task on the executor of the {@code bus} this registry manages after a delay.
+     *
+     * @param task the task.
+     * @param delay the delay.
+     * @throws java.util.concurrent.RejectedExecutionException if the bus was closed.
+     * @since 3.9.0
+     */
+    public void scheduleOnBus(final Runnable task, final Duration delay) {
+        bus.schedule(task, delay);
+    }
+
     /**
      * Register a Consumer to be triggered when a notification matches the given JsonPointerSelector.
      *
@@ -20,6 +20,7 @@ import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.protocol.Adaptable;
 
 /**
@@ -83,6 +84,22 @@ public interface AdaptableBus {
      */
     CompletionStage<Adaptable> subscribeOnceForAdaptable(Classification tag, Duration timeout);
 
+    /**
+     * Add a one-time subscriber for the response to a sent command. Responses are matched by their correlation ID
+     * before they are classified, like a one-time adaptable subscriber for
+     * {@link Classification#forCorrelationId(String)}.
+     *
+     * @param correlationId the correlation ID of the command.
+     * @param timeout how long to wait for the response.
+     * @return a future response with the correlation ID, or a failed future if no response arrives within the
+     * timeout.
+     * @throws NullPointerException if {@code correlationId} is {@code null}.
+     * @since 3.9.0
+     */
+    default CompletionStage<Adaptable> subscribeOnceForResponse(final String correlationId, final Duration timeout) {
+        return subscribeOnceForAdaptable(Classification.forCorrelationId(correlationId), timeout);
+    }
+
     /**
      * Add a persistent subscriber for an adaptable message. Only effective if no one-time string or adaptable
      * subscriber matches.
@@ -147,6 +164,15 @@ public interface AdaptableBus {
      */
     void publish(String message);
 
+    /**
+     * Publish a message which was already decoded into JSON, e.g. from a binary CBOR frame. The message is dispatched
+     * like a string message, only without parsing it from text.
+     *
+     * @param message the JSON message.
+     * @since 3.9.0
+     */
+    void publishJson(JsonObject message);
+
     /**
      * An empty interface to mark adaptable bus subscriptions.
      */
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.TopicPath;
+
+/**
+ * Dispatch index of the adaptable classifiers of a bus, keyed by the route of a message: the group, channel,
+ * criterion, action and search action of its topic path.
+ * <p>
+ * For each route, the table remembers which classifiers apply at all and precomputes the classifications which
+ * depend on the route only. Classifying a message thus costs one array lookup plus the classifiers whose result
+ * depends on the message content (e.g. the correlation ID). Routes are materialized on the first message and are
+ * discarded whenever a classifier is added.
+ * <p>
+ * As routes are computed from the topic path alone, the table also tells whether a frame may have subscribers at all
+ * before the frame is parsed.
+ */
+final class AdaptableDispatchTable {
+
+    private static final Classification[] NO_CLASSIFICATIONS = new Classification[0];
+
+    private static final int GROUPS = TopicPath.Group.values().length + 1;
+    private static final int CHANNELS = TopicPath.Channel.values().length + 1;
+    private static final int CRITERIA = TopicPath.Criterion.values().length + 1;
+    private static final int ACTIONS = TopicPath.Action.values().length + 1;
+    private static final int SEARCH_ACTIONS = TopicPath.SearchAction.values().length + 1;
+    private static final int NUMBER_OF_ROUTES = GROUPS * CHANNELS * CRITERIA * ACTIONS * SEARCH_ACTIONS;
+
+    private final List<Classifier<Adaptable>> classifiers;
+    private volatile AtomicReferenceArray<Route> routes;
+
+    AdaptableDispatchTable() {
+        classifiers = new CopyOnWriteArrayList<>();
+        routes = new AtomicReferenceArray<>(NUMBER_OF_ROUTES);
+    }
+
+    /**
+     * Adds a classifier; its classifications are reported after those of all previously added classifiers.
+     *
+     * @param classifier the classifier.
+     */
+    synchronized void addClassifier(final Classifier<Adaptable> classifier) {
+        classifiers.add(classifier);
+        routes = new AtomicReferenceArray<>(NUMBER_OF_ROUTES);
+    }
+
+    /**
+     * Classifies a message by all classifiers in the order in which they were added.
+     *
+     * @param adaptable the message.
+     * @return the classifications of the message; not to be modified.
+     */
+    Classification[] classify(final Adaptable adaptable) {
+        return route(adaptable.getTopicPath()).classify(adaptable);
+    }
+
+    /**
+     * Check whether a message with the given topic path and correlation ID may have a subscriber, without the
+     * message itself.
+     *
+     * @param topicPath the topic path of the message.
+     * @param correlationId the correlation ID of the message, if it has one.
+     * @param hasSubscribers tells whether there are subscribers for a classification.
+     * @return {@code false} if no classification of the message can have subscribers; {@code true} if some
+     * classification has subscribers or if the classification depends on more than topic path and correlation ID.
+     */
+    boolean mayHaveSubscribers(final TopicPath topicPath, @Nullable final String correlationId,
+            final Predicate<Classification> hasSubscribers) {
+        final Route route = route(topicPath);
+        if (route.dependsOnContent) {
+            return true;
+        }
+        for (final Classification fixedClassification : route.fixedClassifications) {
+            if (fixedClassification != null && hasSubscribers.test(fixedClassification)) {
+                return true;
+            }
+        }
+        return route.classifiesByCorrelationId && correlationId != null &&
+                hasSubscribers.test(Classification.forCorrelationId(correlationId));
+    }
+
+    private Route route(final TopicPath topicPath) {
+        final AtomicReferenceArray<Route> currentRoutes = routes;
+        final int routeIndex = routeIndex(topicPath);
+        Route route = currentRoutes.get(routeIndex);
+        if (route == null) {
+            route = Route.of(classifiers, topicPath);
+            currentRoutes.set(routeIndex, route);
+        }
+        return route;
+    }
+
+    private static int routeIndex(final TopicPath topicPath) {
+        int index = ordinal(topicPath.getGroup());
+        index = index * CHANNELS + ordinal(topicPath.getChannel());
+        index = index * CRITERIA + ordinal(topicPath.getCriterion());
+        index = index * ACTIONS + ordinal(topicPath.getAction().orElse(null));
+        return index * SEARCH_ACTIONS + ordinal(topicPath.getSearchAction().orElse(null));
+    }
+
+    private static int ordinal(@Nullable final Enum<?> value) {
+        return value == null ? 0 : value.ordinal() + 1;
+    }
+
+    /**
+     * The classifiers applicable to one route. Each slot either holds a precomputed classification or a classifier
+     * to ask per message.
+     */
+    private static final class Route {
+
+        private final Classification[] fixedClassifications;
+        private final Classifier<Adaptable>[] dynamicClassifiers;
+        private final boolean allFixed;
+        private final boolean classifiesByCorrelationId;
+        private final boolean dependsOnContent;
+
+        private Route(final Classification[] fixedClassifications,
+                final Classifier<Adaptable>[] dynamicClassifiers) {
+            this.fixedClassifications = fixedClassifications;
+            this.dynamicClassifiers = dynamicClassifiers;
+            boolean noDynamicClassifier = true;
+            boolean correlationIdClassifier = false;
+            boolean contentClassifier = false;
+            for (final Classifier<Adaptable> dynamicClassifier : dynamicClassifiers) {
+                if (dynamicClassifier != null) {
+                    noDynamicClassifier = false;
+                    if (dynamicClassifier == Classifiers.correlationId()) {
+                        correlationIdClassifier = true;
+                    } else {
+                        contentClassifier = true;
+                    }
+                }
+            }
+            allFixed = noDynamicClassifier;
+            classifiesByCorrelationId = correlationIdClassifier;
+            dependsOnContent = contentClassifier;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Route of(final List<Classifier<Adaptable>> classifiers, final TopicPath topicPath) {
+            final List<Classification> fixed = new ArrayList<>(classifiers.size());
+            final List<Classifier<Adaptable>> dynamic = new ArrayList<>(classifiers.size());
+            for (final Classifier<Adaptable> classifier : classifiers) {
+                if (classifier instanceof TopicClassifier) {
+                    final TopicClassifier topicClassifier = (TopicClassifier) classifier;
+                    if (!topicClassifier.isApplicableTo(topicPath)) {
+                        continue;
+                    } else if (topicClassifier.dependsOnRouteOnly()) {
+                        final Optional<Classification> classification = topicClassifier.classifyRoute(topicPath);
+                        if (classification.isPresent()) {
+                            fixed.add(classification.get());
+                            dynamic.add(null);
+                        }
+                        continue;
+                    }
+                }
+                fixed.add(null);
+                dynamic.add(classifier);
+            }
+            return new Route(fixed.toArray(new Classification[0]), dynamic.toArray(new Classifier[0]));
+        }
+
+        private Classification[] classify(final Adaptable adaptable) {
+            if (allFixed) {
+                return fixedClassifications;
+            }
+            final Classification[] result = new Classification[fixedClassifications.length];
+            int size = 0;
+            for (int i = 0; i < result.length; i++) {
+                final Classifier<Adaptable> dynamicClassifier = dynamicClassifiers[i];
+                if (dynamicClassifier == null) {
+                    result[size++] = fixedClassifications[i];
+                } else {
+                    final Optional<Classification> classification = dynamicClassifier.classify(adaptable);
+                    if (classification.isPresent()) {
+                        result[size++] = classification.get();
+                    }
+                }
+            }
+            if (size == 0) {
+                return NO_CLASSIFICATIONS;
+            } else if (size < result.length) {
+                final Classification[] trimmed = new Classification[size];
+                System.arraycopy(result, 0, trimmed, 0, size);
+                return trimmed;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects items into micro-batches for a handler of lists. A batch is completed when it reaches the maximum size or
+ * when the maximum delay has passed since its first item was added, whichever comes first.
+ * <p>
+ * Completed batches are passed to the handler in order by a single drain task on the executor, so the handler is
+ * invoked once per batch instead of once per item and never concurrently.
+ *
+ * @param <T> the type of the items.
+ */
+final class BatchingConsumer<T> implements Consumer<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchingConsumer.class);
+
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+    private final Consumer<List<T>> handler;
+    private final Executor executor;
+    private final BiConsumer<Runnable, Duration> scheduler;
+
+    private final Queue<List<T>> completedBatches;
+    private final AtomicBoolean drainScheduled;
+
+    private List<T> batch;
+    private long batchNumber;
+
+    /**
+     * Creates a new consumer.
+     *
+     * @param maxBatchSize the maximum number of items of a batch.
+     * @param maxDelay the maximum time the first item of a batch waits for further items.
+     * @param handler the handler to pass the batches to.
+     * @param executor the executor to run the handler on.
+     * @param scheduler runs a task after a delay.
+     */
+    BatchingConsumer(final int maxBatchSize, final Duration maxDelay, final Consumer<List<T>> handler,
+            final Executor executor, final BiConsumer<Runnable, Duration> scheduler) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+        this.handler = handler;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        completedBatches = new ConcurrentLinkedQueue<>();
+        drainScheduled = new AtomicBoolean(false);
+        batch = new ArrayList<>();
+        batchNumber = 0L;
+    }
+
+    @Override
+    public void accept(final T item) {
+        final boolean first;
+        final long number;
+        final boolean completed;
+        synchronized (this) {
+            batch.add(item);
+            first = batch.size() == 1;
+            number = batchNumber;
+            completed = batch.size() >= maxBatchSize;
+            if (completed) {
+                completeBatch();
+            }
+        }
+        if (completed) {
+            scheduleDrain();
+        } else if (first) {
+            scheduleFlush(number);
+        }
+    }
+
+    private void scheduleFlush(final long number) {
+        try {
+            scheduler.accept(() -> flush(number), maxDelay);
+        } catch (final RejectedExecutionException e) {
+            LOGGER.warn("Could not schedule completing a batch of changes: {}", e.getMessage());
+            flush(number);
+        }
+    }
+
+    private void flush(final long number) {
+        synchronized (this) {
+            // the batch may have been completed by its size already
+            if (number != batchNumber || batch.isEmpty()) {
+                return;
+            }
+            completeBatch();
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * Must be called while holding the lock, so that batches are queued in the order they were completed.
+     */
+    private void completeBatch() {
+        completedBatches.add(Collections.unmodifiableList(batch));
+        batch = new ArrayList<>(Math.min(maxBatchSize, 64));
+        batchNumber++;
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (final RejectedExecutionException e) {
+                drainScheduled.set(false);
+                LOGGER.warn("Executor rejected passing batches of changes to a handler: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void drain() {
+        List<T> completedBatch;
+        while ((completedBatch = completedBatches.poll()) != null) {
+            try {
+                handler.accept(completedBatch);
+            } catch (final RuntimeException e) {
+                LOGGER.error("Handler failed to process batch of changes: {}", e.getMessage(), e);
+            }
+        }
+        drainScheduled.set(false);
+        // a batch may have been added after the poll but before the flag was reset
+        if (!completedBatches.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "maxBatchSize=" + maxBatchSize +
+                ", maxDelay=" + maxDelay +
+                "]";
+    }
+
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * Concurrent cache holding at most a maximum number of entries.
+ * <p>
+ * Eviction approximates LRU with the CLOCK (second chance) algorithm: entries are kept in insertion order and a read
+ * only sets the referenced flag of its entry, so reads never lock or reorder anything. When the cache is full, the
+ * oldest entry is evicted unless it was read since it was last inspected; then its flag is cleared and it is moved to
+ * the back of the queue instead.
+ * <p>
+ * Hits, misses and evictions are counted for monitoring. An optional listener is notified of evicted entries.
+ */
+final class BoundedCache<K, V> {
+
+    private final int maximumSize;
+    private final Map<K, Entry<K, V>> entries;
+    private final Queue<Entry<K, V>> clock;
+    private final AtomicInteger clockSize;
+    private final Lock evictionLock;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private final BiConsumer<K, V> evictionListener;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maximumSize the maximum number of entries.
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive.
+     */
+    BoundedCache(final int maximumSize) {
+        this(maximumSize, (key, value) -> {});
+    }
+
+    /**
+     * Creates a new cache notifying a listener of evicted entries.
+     *
+     * @param maximumSize the maximum number of entries.
+     * @param evictionListener called with the key and value of each entry evicted because the cache was full, after
+     * the entry was removed; it is called by the thread evicting entries while the eviction lock is held.
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive.
+     */
+    BoundedCache(final int maximumSize, final BiConsumer<K, V> evictionListener) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be positive but was: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        entries = new ConcurrentHashMap<>();
+        clock = new ConcurrentLinkedQueue<>();
+        clockSize = new AtomicInteger();
+        evictionLock = new ReentrantLock();
+        hits = new LongAdder();
+        misses = new LongAdder();
+        evictions = new LongAdder();
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * Looks up the value of a key.
+     *
+     * @param key the key.
+     * @return the value or {@code null} if the key is not cached.
+     */
+    @Nullable
+    V get(final K key) {
+        final Entry<K, V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Checks whether a key is cached without counting a hit or miss or marking its entry as read.
+     *
+     * @param key the key.
+     * @return {@code true} if the key is cached.
+     */
+    boolean containsKey(final K key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Caches a value, evicting other entries if the cache is full.
+     *
+     * @param key the key.
+     * @param value the value.
+     */
+    void put(final K key, final V value) {
+        final Entry<K, V> entry = new Entry<>(key, value);
+        final Entry<K, V> previous = entries.put(key, entry);
+        if (previous != null) {
+            previous.removed = true;
+        }
+        clock.add(entry);
+        clockSize.incrementAndGet();
+        evictIfNecessary();
+    }
+
+    /**
+     * Removes the entry of a key.
+     *
+     * @param key the key.
+     */
+    void remove(final K key) {
+        final Entry<K, V> entry = entries.remove(key);
+        if (entry != null) {
+            entry.removed = true;
+        }
+    }
+
+    /**
+     * Removes the entry of a key if it still holds the given value.
+     *
+     * @param key the key.
+     * @param value the value.
+     */
+    void remove(final K key, final V value) {
+        final Entry<K, V> entry = entries.get(key);
+        if (entry != null && entry.value == value && entries.remove(key, entry)) {
+            entry.removed = true;
+        }
+    }
+
+    /**
+     * Removes all entries whose keys match a predicate.
+     *
+     * @param predicate the predicate.
+     */
+    void removeIf(final Predicate<K> predicate) {
+        entries.values().removeIf(entry -> {
+            if (predicate.test(entry.key)) {
+                entry.removed = true;
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Removes all entries; statistics are kept.
+     */
+    void clear() {
+        evictionLock.lock();
+        try {
+            entries.clear();
+            clock.clear();
+            clockSize.set(0);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of cached entries.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of lookups which found an entry.
+     */
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups which found no entry.
+     */
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of entries evicted because the cache was full.
+     */
+    long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private void evictIfNecessary() {
+        // the thread already evicting also evicts the entries added meanwhile
+        if ((entries.size() > maximumSize || clockSize.get() > 2 * maximumSize) && evictionLock.tryLock()) {
+            try {
+                evict();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void evict() {
+        while (entries.size() > maximumSize) {
+            final Entry<K, V> entry = clock.poll();
+            if (entry == null) {
+                return;
+            }
+            if (entry.removed) {
+                clockSize.decrementAndGet();
+            } else if (entry.referenced) {
+                entry.referenced = false;
+                clock.add(entry);
+            } else {
+                clockSize.decrementAndGet();
+                if (entries.remove(entry.key, entry)) {
+                    entry.removed = true;
+                    evictions.increment();
+                    evictionListener.accept(entry.key, entry.value);
+                }
+            }
+        }
+        if (clockSize.get() > 2 * maximumSize) {
+            // entries removed explicitly are still in the queue; drop them before they outnumber the live ones
+            clock.removeIf(entry -> {
+                if (entry.removed) {
+                    clockSize.decrementAndGet();
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "maximumSize=" + maximumSize +
+                ", size=" + size() +
+                ", hits=" + getHitCount() +
+                ", misses=" + getMissCount() +
+                ", evictions=" + getEvictionCount() +
+                "]";
+    }
+
+    private static final class Entry<K, V> {
+
+        private final K key;
+        private final V value;
+        private volatile boolean referenced;
+        private volatile boolean removed;
+
+        private Entry(final K key, final V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
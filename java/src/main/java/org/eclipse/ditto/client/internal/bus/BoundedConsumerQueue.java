@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.client.registration.ConsumerQueue;
+import org.eclipse.ditto.client.registration.ConsumerQueueConfiguration;
+import org.eclipse.ditto.client.registration.OverflowStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded queue in front of a handler. Accepting an item only enqueues it (or applies the overflow strategy) and
+ * schedules a drain task on the executor unless one is scheduled already. The drain task passes the items to the
+ * handler in order and yields the executor thread after a batch, so that each handler occupies at most one thread.
+ * <p>
+ * The drain task never runs on the thread which scheduled it: if the executor runs it right away on that thread, e.g.
+ * a saturated {@code ThreadPoolExecutor} with the {@code CallerRunsPolicy}, or rejects it, the task is handed off to
+ * the scheduler which submits it again from its own thread. So a slow handler never blocks the thread publishing the
+ * changes, like the one receiving the messages of the WebSocket.
+ *
+ * @param <T> the type of the items.
+ */
+final class BoundedConsumerQueue<T> implements ConsumerQueue, Consumer<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BoundedConsumerQueue.class);
+
+    private static final int MAX_ITEMS_PER_DRAIN = 64;
+    private static final Duration HAND_OFF_DELAY = Duration.ZERO;
+
+    private final ConsumerQueueConfiguration configuration;
+    private final Function<T, Object> conflationKey;
+    private final Consumer<T> handler;
+    private final Executor executor;
+    private final BiConsumer<Runnable, Duration> scheduler;
+
+    private final ReentrantLock lock;
+    private final Condition notFull;
+    private final ArrayDeque<T> items;
+    private final LinkedHashMap<Object, T> conflatedItems;
+    private final AtomicBoolean drainScheduled;
+    private final LongAdder dropped;
+    private final LongAdder handled;
+    private final LongAdder failed;
+
+    /**
+     * Creates a new queue.
+     *
+     * @param configuration the capacity and overflow strategy.
+     * @param conflationKey the key of an item to conflate by if the strategy is
+     * {@link OverflowStrategy#CONFLATE_BY_THING}.
+     * @param handler the handler to pass the items to.
+     * @param executor the executor to run the handler on.
+     * @param scheduler runs a task after a delay on another thread than the calling one.
+     */
+    BoundedConsumerQueue(final ConsumerQueueConfiguration configuration, final Function<T, Object> conflationKey,
+            final Consumer<T> handler, final Executor executor, final BiConsumer<Runnable, Duration> scheduler) {
+        this.configuration = configuration;
+        this.conflationKey = conflationKey;
+        this.handler = handler;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        lock = new ReentrantLock();
+        notFull = lock.newCondition();
+        items = new ArrayDeque<>();
+        conflatedItems = new LinkedHashMap<>();
+        drainScheduled = new AtomicBoolean(false);
+        dropped = new LongAdder();
+        handled = new LongAdder();
+        failed = new LongAdder();
+    }
+
+    @Override
+    public void accept(final T item) {
+        if (offer(item)) {
+            scheduleDrain();
+        }
+    }
+
+    @Override
+    public ConsumerQueueConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    @Override
+    public int getDepth() {
+        lock.lock();
+        try {
+            return size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    public long getHandledCount() {
+        return handled.sum();
+    }
+
+    @Override
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    private boolean offer(final T item) {
+        lock.lock();
+        try {
+            switch (configuration.getOverflowStrategy()) {
+                case BLOCK:
+                    while (size() >= configuration.getCapacity()) {
+                        notFull.await();
+                    }
+                    items.add(item);
+                    return true;
+                case DROP_OLDEST:
+                    if (size() >= configuration.getCapacity()) {
+                        items.poll();
+                        dropped.increment();
+                    }
+                    items.add(item);
+                    return true;
+                case DROP_NEWEST:
+                    if (size() >= configuration.getCapacity()) {
+                        dropped.increment();
+                        return false;
+                    }
+                    items.add(item);
+                    return true;
+                case CONFLATE_BY_THING:
+                    final Object key = conflationKey.apply(item);
+                    if (conflatedItems.replace(key, item) != null) {
+                        dropped.increment();
+                        return false;
+                    }
+                    if (size() >= configuration.getCapacity()) {
+                        final Iterator<T> oldest = conflatedItems.values().iterator();
+                        oldest.next();
+                        oldest.remove();
+                        dropped.increment();
+                    }
+                    conflatedItems.put(key, item);
+                    return true;
+                default:
+                    throw new IllegalStateException("Unknown overflow strategy: " +
+                            configuration.getOverflowStrategy());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.increment();
+            LOGGER.warn("Interrupted while waiting for room in the queue of a handler, dropping the change.");
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Nullable
+    private T poll() {
+        lock.lock();
+        try {
+            final T item;
+            if (configuration.getOverflowStrategy() == OverflowStrategy.CONFLATE_BY_THING) {
+                final Iterator<Map.Entry<Object, T>> oldest = conflatedItems.entrySet().iterator();
+                if (oldest.hasNext()) {
+                    item = oldest.next().getValue();
+                    oldest.remove();
+                } else {
+                    item = null;
+                }
+            } else {
+                item = items.poll();
+            }
+            if (item != null) {
+                notFull.signal();
+            }
+            return item;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int size() {
+        return items.size() + conflatedItems.size();
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            submitDrain(Thread.currentThread());
+        }
+    }
+
+    private void submitDrain(@Nullable final Thread submittingThread) {
+        final DrainTask task = new DrainTask(submittingThread);
+        try {
+            executor.execute(task);
+        } catch (final RejectedExecutionException e) {
+            LOGGER.debug("Executor rejected draining the queue of a handler, handing it off: {}", e.getMessage());
+            handOff();
+        } finally {
+            task.submitted = true;
+        }
+    }
+
+    private void handOff() {
+        try {
+            // the drain task submitted by the scheduler may run on its thread, which never publishes changes
+            scheduler.accept(() -> submitDrain(null), HAND_OFF_DELAY);
+        } catch (final RejectedExecutionException e) {
+            drainScheduled.set(false);
+            LOGGER.warn("Could not hand off draining the queue of a handler: {}", e.getMessage());
+        }
+    }
+
+    private void drain() {
+        for (int i = 0; i < MAX_ITEMS_PER_DRAIN; i++) {
+            final T item = poll();
+            if (item == null) {
+                drainScheduled.set(false);
+                // an item may have been added after the poll but before the flag was reset
+                if (getDepth() > 0) {
+                    scheduleDrain();
+                }
+                return;
+            }
+            try {
+                handler.accept(item);
+                handled.increment();
+            } catch (final RuntimeException e) {
+                failed.increment();
+                LOGGER.error("Handler failed to process change: {}", e.getMessage(), e);
+            }
+        }
+        // yield the thread to other tasks; the queue is drained further by a new task
+        drainScheduled.set(false);
+        scheduleDrain();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "configuration=" + configuration +
+                ", depth=" + getDepth() +
+                ", dropped=" + getDroppedCount() +
+                ", handled=" + getHandledCount() +
+                ", failed=" + getFailedCount() +
+                "]";
+    }
+
+    /**
+     * Drains the queue unless the executor runs it on the thread submitting it before {@code execute} returned.
+     */
+    private final class DrainTask implements Runnable {
+
+        @Nullable private final Thread submittingThread;
+        // only read by the submitting thread
+        private boolean submitted;
+
+        private DrainTask(@Nullable final Thread submittingThread) {
+            this.submittingThread = submittingThread;
+            submitted = false;
+        }
+
+        @Override
+        public void run() {
+            if (Thread.currentThread() == submittingThread && !submitted) {
+                handOff();
+            } else {
+                drain();
+            }
+        }
+    }
+
+}
@@ -15,6 +15,8 @@ package org.eclipse.ditto.client.internal.bus;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
+import org.eclipse.ditto.client.configuration.MessagingConfiguration;
+
 /**
  * Factory for creating Buses (e.g. {@link PointerBus}).
  *
@@ -34,7 +36,25 @@ public final class BusFactory {
      * @return the newly created PointerBus
      */
     public static PointerBus createPointerBus(final String name, final ExecutorService executor) {
-        return new DefaultPointerBus(name, executor);
+        return new DefaultPointerBus(name, executor, DefaultRegistry.DEFAULT_POINTER_CACHE_SIZE, false);
+    }
+
+    /**
+     * Creates a new {@link PointerBus} using the passed in {@code name} and {@code executor} which caches the
+     * consumers selected for at most {@link MessagingConfiguration#getPointerCacheSize()} pointers. If
+     * {@link MessagingConfiguration#isDispatchOrderedPerEntity()}, handlers are run by the thread notifying the bus,
+     * which the adaptable bus then keeps per entity.
+     *
+     * @param name the name of the bus (e.g. used in thread names).
+     * @param executor the {@link ExecutorService} to use for asynchronous operations on the Bus.
+     * @param messagingConfiguration the configuration of the messaging the bus is used for.
+     * @return the newly created PointerBus
+     * @since 3.9.0
+     */
+    public static PointerBus createPointerBus(final String name, final ExecutorService executor,
+            final MessagingConfiguration messagingConfiguration) {
+        return new DefaultPointerBus(name, executor, messagingConfiguration.getPointerCacheSize(),
+                messagingConfiguration.isDispatchOrderedPerEntity());
     }
 
     /**
@@ -47,7 +67,35 @@ public final class BusFactory {
     public static AdaptableBus createAdaptableBus(final ExecutorService defaultExecutor,
             final ScheduledExecutorService scheduledExecutor) {
         // the executor service will shutdown when garbage-collected.
-        return new DefaultAdaptableBus(defaultExecutor, scheduledExecutor)
+        return withDefaultClassifiers(new DefaultAdaptableBus(defaultExecutor, scheduledExecutor));
+    }
+
+    /**
+     * Create an adaptable bus which parses published messages on a pool of inbound parser workers as configured by
+     * {@link MessagingConfiguration#getInboundParallelism()}, so that the thread publishing the messages only has to
+     * enqueue them. Subscription timeouts are tracked by a timer configured by
+     * {@link MessagingConfiguration#getTimerTickDuration()} and {@link MessagingConfiguration#getTimerTicksPerWheel()}.
+     * If {@link MessagingConfiguration#isDispatchOrderedPerEntity()}, persistent subscribers receive the messages
+     * concerning one entity in the order in which they were published.
+     *
+     * @param name the name of the bus (e.g. used in thread names).
+     * @param defaultExecutor the default executor to run non-scheduled tasks on.
+     * @param scheduledExecutor the {@code ScheduledExecutorService} to use for scheduling tasks.
+     * @param messagingConfiguration the configuration of the messaging the bus is used for.
+     * @return the adaptable bus.
+     * @since 3.9.0
+     */
+    public static AdaptableBus createAdaptableBus(final String name,
+            final ExecutorService defaultExecutor,
+            final ScheduledExecutorService scheduledExecutor,
+            final MessagingConfiguration messagingConfiguration) {
+        return withDefaultClassifiers(new DefaultAdaptableBus(defaultExecutor, scheduledExecutor, name,
+                messagingConfiguration.getInboundParallelism(), messagingConfiguration.getTimerTickDuration(),
+                messagingConfiguration.getTimerTicksPerWheel(), messagingConfiguration.isDispatchOrderedPerEntity()));
+    }
+
+    private static AdaptableBus withDefaultClassifiers(final AdaptableBus adaptableBus) {
+        return adaptableBus
                 .addStringClassifier(Classifiers.identity())
                 .addAdaptableClassifier(Classifiers.correlationId())
                 .addAdaptableClassifier(Classifiers.streamingType())
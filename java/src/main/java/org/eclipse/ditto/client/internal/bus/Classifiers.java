@@ -85,11 +85,25 @@ public final class Classifiers {
         return Instances.ERROR_CODE_CLASSIFIER;
     }
 
-    private static final class StreamingTypeClassifier implements Classifier<Adaptable> {
+    private static final class StreamingTypeClassifier implements TopicClassifier {
+
+        @Override
+        public boolean isApplicableTo(final TopicPath topicPath) {
+            return topicPath.getGroup() == TopicPath.Group.THINGS;
+        }
+
+        @Override
+        public boolean dependsOnRouteOnly() {
+            return true;
+        }
 
         @Override
         public Optional<Classification> classify(final Adaptable message) {
-            final TopicPath topicPath = message.getTopicPath();
+            return classifyRoute(message.getTopicPath());
+        }
+
+        @Override
+        public Optional<Classification> classifyRoute(final TopicPath topicPath) {
             if (topicPath.getGroup() == TopicPath.Group.THINGS) {
                 switch (topicPath.getChannel()) {
                     case LIVE:
@@ -116,7 +130,7 @@ public final class Classifiers {
         }
     }
 
-    private static final class ThingsSearchClassifier implements Classifier<Adaptable> {
+    private static final class ThingsSearchClassifier implements TopicClassifier {
 
         private static final EnumSet<TopicPath.SearchAction> SEARCH_EVENTS = EnumSet.of(
                 TopicPath.SearchAction.NEXT,
@@ -124,6 +138,21 @@ public final class Classifiers {
                 TopicPath.SearchAction.FAILED
         );
 
+        @Override
+        public boolean isApplicableTo(final TopicPath topicPath) {
+            return topicPath.getSearchAction().filter(SEARCH_EVENTS::contains).isPresent();
+        }
+
+        @Override
+        public boolean dependsOnRouteOnly() {
+            return false;
+        }
+
+        @Override
+        public Optional<Classification> classifyRoute(final TopicPath topicPath) {
+            return Optional.empty();
+        }
+
         @Override
         public Optional<Classification> classify(final Adaptable message) {
             return message.getTopicPath().getSearchAction()
@@ -135,11 +164,26 @@ public final class Classifiers {
         }
     }
 
-    private static final class ErrorsClassifier implements Classifier<Adaptable> {
+    private static final class ErrorsClassifier implements TopicClassifier {
+
+        @Override
+        public boolean isApplicableTo(final TopicPath topicPath) {
+            return topicPath.getCriterion() == TopicPath.Criterion.ERRORS;
+        }
+
+        @Override
+        public boolean dependsOnRouteOnly() {
+            return true;
+        }
 
         @Override
         public Optional<Classification> classify(final Adaptable message) {
-            if (message.getTopicPath().getCriterion() == TopicPath.Criterion.ERRORS) {
+            return classifyRoute(message.getTopicPath());
+        }
+
+        @Override
+        public Optional<Classification> classifyRoute(final TopicPath topicPath) {
+            if (topicPath.getCriterion() == TopicPath.Criterion.ERRORS) {
                 return Optional.of(Classification.forErrors());
             } else {
                 return Optional.empty();
@@ -147,7 +191,22 @@ public final class Classifiers {
         }
     }
 
-    private static final class ErrorCodeClassifier implements Classifier<Adaptable> {
+    private static final class ErrorCodeClassifier implements TopicClassifier {
+
+        @Override
+        public boolean isApplicableTo(final TopicPath topicPath) {
+            return topicPath.getCriterion() == TopicPath.Criterion.ERRORS;
+        }
+
+        @Override
+        public boolean dependsOnRouteOnly() {
+            return false;
+        }
+
+        @Override
+        public Optional<Classification> classifyRoute(final TopicPath topicPath) {
+            return Optional.empty();
+        }
 
         @Override
         public Optional<Classification> classify(final Adaptable message) {
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.protocol.Adaptable;
+
+/**
+ * Table of the responses expected for sent commands, keyed directly by correlation ID.
+ * <p>
+ * Each pending response carries its own deadline and timer handle and is never handed out; callers get a future of
+ * their own, and completing or cancelling it removes the pending response right away. Looking up a correlation ID
+ * costs one hash lookup of the string and allocates nothing, so the table can be consulted for every inbound frame
+ * before it is parsed.
+ */
+final class CorrelationTable {
+
+    private final ConcurrentMap<String, PendingResponse> pendingResponses;
+    private final HashedWheelTimer timer;
+    private final Executor executor;
+
+    /**
+     * Creates a new table.
+     *
+     * @param timer the timer to expire pending responses with.
+     * @param executor the executor to complete the futures of the responses on.
+     */
+    CorrelationTable(final HashedWheelTimer timer, final Executor executor) {
+        pendingResponses = new ConcurrentHashMap<>();
+        this.timer = timer;
+        this.executor = executor;
+    }
+
+    /**
+     * Expects a response with the given correlation ID.
+     *
+     * @param correlationId the correlation ID.
+     * @param timeout how long to wait for the response.
+     * @return the future of the response, failing with a {@link TimeoutException} after the timeout, or {@code null}
+     * if a response with the correlation ID is already expected. Completing or cancelling it stops expecting the
+     * response.
+     */
+    @Nullable
+    CompletableFuture<Adaptable> expect(final String correlationId, final Duration timeout) {
+        final PendingResponse pendingResponse = new PendingResponse(correlationId, timeout);
+        if (pendingResponses.putIfAbsent(correlationId, pendingResponse) != null) {
+            return null;
+        }
+        try {
+            pendingResponse.timeout = timer.newTimeout(pendingResponse, timeout);
+        } catch (final RejectedExecutionException e) {
+            pendingResponses.remove(correlationId, pendingResponse);
+            throw e;
+        }
+        final CompletableFuture<Adaptable> response = pendingResponse.response;
+        response.whenComplete((result, error) -> pendingResponse.discard());
+        return response;
+    }
+
+    /**
+     * Check whether a response with the given correlation ID is expected.
+     *
+     * @param correlationId the correlation ID.
+     * @return whether the response is expected.
+     */
+    boolean isExpected(final String correlationId) {
+        return pendingResponses.containsKey(correlationId);
+    }
+
+    /**
+     * Completes the future of the expected response with the given correlation ID. If its deadline has passed
+     * already, the future fails with a {@link TimeoutException} instead.
+     *
+     * @param correlationId the correlation ID of the response.
+     * @param response the response.
+     * @return whether the response was expected.
+     */
+    boolean complete(final String correlationId, final Adaptable response) {
+        final PendingResponse pendingResponse = pendingResponses.remove(correlationId);
+        if (pendingResponse == null) {
+            return false;
+        }
+        pendingResponse.cancelTimeout();
+        if (System.nanoTime() - pendingResponse.deadline > 0) {
+            pendingResponse.expire();
+        } else {
+            try {
+                executor.execute(() -> pendingResponse.response.complete(response));
+            } catch (final RejectedExecutionException e) {
+                pendingResponse.response.completeExceptionally(e);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of expected responses.
+     */
+    int size() {
+        return pendingResponses.size();
+    }
+
+    /**
+     * An expected response which is also the task expiring it.
+     */
+    private final class PendingResponse implements Runnable {
+
+        private final String correlationId;
+        private final Duration timeoutDuration;
+        private final long deadline;
+        private final CompletableFuture<Adaptable> response;
+        @Nullable private volatile HashedWheelTimer.Timeout timeout;
+
+        private PendingResponse(final String correlationId, final Duration timeoutDuration) {
+            this.correlationId = correlationId;
+            this.timeoutDuration = timeoutDuration;
+            deadline = System.nanoTime() + timeoutDuration.toNanos();
+            response = new CompletableFuture<>();
+        }
+
+        @Override
+        public void run() {
+            if (pendingResponses.remove(correlationId, this)) {
+                expire();
+            }
+        }
+
+        private void expire() {
+            response.completeExceptionally(new TimeoutException("Timed out after " + timeoutDuration));
+        }
+
+        // called when the future of the response is completed, possibly by the caller
+        private void discard() {
+            pendingResponses.remove(correlationId, this);
+            cancelTimeout();
+        }
+
+        private void cancelTimeout() {
+            final HashedWheelTimer.Timeout currentTimeout = timeout;
+            if (currentTimeout != null) {
+                currentTimeout.cancel();
+            }
+        }
+    }
+}
@@ -12,10 +12,11 @@
  */
 package org.eclipse.ditto.client.internal.bus;
 
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
 import java.time.Duration;
-import java.time.Instant;
 import java.util.Collection;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -24,16 +25,14 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
@@ -42,33 +41,72 @@ import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.protocol.Adaptable;
 import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.eclipse.ditto.protocol.TopicPath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 final class DefaultAdaptableBus implements AdaptableBus {
 
     private static final String ACK_SUFFIX = ":ACK";
+    private static final int ORDERED_DISPATCH_STRIPES_PER_PROCESSOR = 16;
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultAdaptableBus.class);
 
     private final ExecutorService defaultExecutor;
     private final ScheduledExecutorService scheduledExecutor;
     private final Collection<Classifier<String>> stringClassifiers;
-    private final Collection<Classifier<Adaptable>> adaptableClassifiers;
+    private final AdaptableDispatchTable adaptableDispatchTable;
 
     private final Map<Classification, Set<Entry<Consumer<String>>>> oneTimeStringConsumers;
     private final Map<Classification, Set<Entry<Consumer<Adaptable>>>> oneTimeAdaptableConsumers;
     private final Map<Classification, Set<Entry<Consumer<Adaptable>>>> persistentAdaptableConsumers;
-    private final Map<SubscriptionId, Future<?>> timeoutFutures;
+    private final HashedWheelTimer timer;
+    private final CorrelationTable correlationTable;
+    @Nullable private final InboundFramePipeline inboundFramePipeline;
+    @Nullable private final StripedSerialExecutor entityOrderedExecutor;
 
     DefaultAdaptableBus(final ExecutorService defaultExecutor, final ScheduledExecutorService scheduledExecutor) {
+        this(defaultExecutor, scheduledExecutor, "", 0, HashedWheelTimer.DEFAULT_TICK_DURATION,
+                HashedWheelTimer.DEFAULT_TICKS_PER_WHEEL, false);
+    }
+
+    /**
+     * Creates an adaptable bus which parses published messages on {@code inboundParallelism} dedicated worker
+     * threads. If {@code inboundParallelism} is {@code 0}, messages are parsed on the publishing thread.
+     * Subscription timeouts are tracked by a hashed wheel timer.
+     *
+     * @param defaultExecutor the executor to run subscribers and expired timeouts on.
+     * @param scheduledExecutor the executor offered to users of the bus for scheduling tasks.
+     * @param name the name to use in the threads of the inbound parser workers and the timer.
+     * @param inboundParallelism the number of inbound parser workers.
+     * @param timerTickDuration the duration of one tick of the timeout timer.
+     * @param timerTicksPerWheel the number of ticks per wheel of the timeout timer.
+     * @param orderedPerEntity whether persistent subscribers receive the messages concerning one entity in the order
+     * of publication.
+     */
+    DefaultAdaptableBus(final ExecutorService defaultExecutor, final ScheduledExecutorService scheduledExecutor,
+            final String name, final int inboundParallelism, final Duration timerTickDuration,
+            final int timerTicksPerWheel, final boolean orderedPerEntity) {
         this.defaultExecutor = defaultExecutor;
         this.scheduledExecutor = scheduledExecutor;
         stringClassifiers = new ConcurrentLinkedQueue<>();
-        adaptableClassifiers = new ConcurrentLinkedQueue<>();
+        adaptableDispatchTable = new AdaptableDispatchTable();
         oneTimeStringConsumers = new ConcurrentHashMap<>();
         oneTimeAdaptableConsumers = new ConcurrentHashMap<>();
         persistentAdaptableConsumers = new ConcurrentHashMap<>();
-        timeoutFutures = new ConcurrentHashMap<>();
+        timer = new HashedWheelTimer(name, defaultExecutor, timerTickDuration, timerTicksPerWheel);
+        correlationTable = new CorrelationTable(timer, defaultExecutor);
+        if (inboundParallelism > 0) {
+            inboundFramePipeline = InboundFramePipeline.newInstance(name, inboundParallelism,
+                    this::doPublish);
+        } else {
+            inboundFramePipeline = null;
+        }
+        if (orderedPerEntity) {
+            entityOrderedExecutor = new StripedSerialExecutor(defaultExecutor,
+                    ORDERED_DISPATCH_STRIPES_PER_PROCESSOR * Runtime.getRuntime().availableProcessors());
+        } else {
+            entityOrderedExecutor = null;
+        }
     }
 
     @Override
@@ -79,7 +117,7 @@ final class DefaultAdaptableBus implements AdaptableBus {
 
     @Override
     public AdaptableBus addAdaptableClassifier(final Classifier<Adaptable> adaptableClassifier) {
-        adaptableClassifiers.add(adaptableClassifier);
+        adaptableDispatchTable.addClassifier(adaptableClassifier);
         return this;
     }
 
@@ -99,6 +137,17 @@ final class DefaultAdaptableBus implements AdaptableBus {
         return subscribeOnce(oneTimeAdaptableConsumers, tag, timeout);
     }
 
+    @Override
+    public CompletionStage<Adaptable> subscribeOnceForResponse(final String correlationId, final Duration timeout) {
+        final CompletableFuture<Adaptable> response =
+                correlationTable.expect(checkNotNull(correlationId, "correlationId"), timeout);
+        if (response != null) {
+            return response;
+        }
+        // a response with the same correlation ID is expected already; queue up behind it
+        return subscribeOnceForAdaptable(Classification.forCorrelationId(correlationId), timeout);
+    }
+
     @Override
     public SubscriptionId subscribeForAdaptable(final Classification tag,
             final Consumer<Adaptable> adaptableConsumer) {
@@ -122,7 +171,7 @@ final class DefaultAdaptableBus implements AdaptableBus {
             final Consumer<Adaptable> adaptableConsumer, final Predicate<Adaptable> terminationPredicate,
             final Consumer<Throwable> onTimeout) {
         final CompletableFuture<Adaptable> terminationFuture = new CompletableFuture<>();
-        final AtomicReference<Instant> lastMessage = new AtomicReference<>(Instant.now());
+        final AtomicLong lastMessage = new AtomicLong(System.nanoTime());
         final Entry<Consumer<Adaptable>> entry = new Entry<>(
                 tag,
                 withTermination(adaptableConsumer, terminationPredicate, terminationFuture, lastMessage)
@@ -158,12 +207,20 @@ final class DefaultAdaptableBus implements AdaptableBus {
 
     @Override
     public void publish(final String message) {
-        doPublish(message);
+        if (inboundFramePipeline != null) {
+            inboundFramePipeline.submit(message);
+        } else {
+            doPublish(message, null);
+        }
     }
 
     @Override
     public void shutdownExecutors() {
         LOGGER.trace("Shutting down AdaptableBus Executors");
+        if (inboundFramePipeline != null) {
+            inboundFramePipeline.shutdown();
+        }
+        timer.stop();
         try {
             defaultExecutor.shutdownNow();
             scheduledExecutor.shutdownNow();
@@ -175,32 +232,106 @@ final class DefaultAdaptableBus implements AdaptableBus {
         }
     }
 
-    // call this in a single-threaded executor so that ordering is preserved
-    private void doPublish(final String message) {
+    // call this on the publishing thread or in the inbound pipeline so that ordering per entity is preserved
+    private void doPublish(final String message, @Nullable final ScannedFrame scannedFrame) {
         if (publishToOneTimeStringSubscribers(message)) {
             return;
         }
         if (message.endsWith(ACK_SUFFIX)) {
             LOGGER.trace("Client got acknowledgement for which there is no subscriber: {}", message);
+            return;
+        }
+        final ScannedFrame scanned = scannedFrame != null ? scannedFrame : ScannedFrame.scan(message);
+        final String scannedCorrelationId = scanned.getCorrelationIdOrNull();
+        final boolean isExpectedResponse =
+                scannedCorrelationId != null && correlationTable.isExpected(scannedCorrelationId);
+        if (!isExpectedResponse && !mayHaveSubscribers(scanned)) {
+            LOGGER.trace("Client got message without subscriber, discarding it unparsed: {}", message);
         } else {
             final Optional<Adaptable> adaptableOptional = parseAsAdaptable(message);
-            if (adaptableOptional.isPresent()) {
-                final Adaptable adaptable = adaptableOptional.get();
-                final List<Classification> tags = getAllAdaptableTags(adaptable);
-                if (publishToOneTimeAdaptableSubscribers(adaptable, tags) ||
-                        publishToPersistentAdaptableSubscribers(adaptable, tags)) {
-                    return;
-                }
+            if (adaptableOptional.isPresent() && publishToAdaptableSubscribers(scannedCorrelationId,
+                    adaptableOptional.get())) {
+                return;
             }
             LOGGER.trace("Client got unhandled message: {}", message);
         }
     }
 
+    @Override
+    public void publishJson(final JsonObject message) {
+        final ScannedFrame scannedFrame = ScannedFrame.of(message);
+        if (inboundFramePipeline != null) {
+            inboundFramePipeline.submit(scannedFrame, () -> doPublishJson(message, scannedFrame));
+        } else {
+            doPublishJson(message, scannedFrame);
+        }
+    }
+
+    // the counterpart of doPublish for messages decoded from binary frames, which are never protocol responses
+    private void doPublishJson(final JsonObject message, final ScannedFrame scannedFrame) {
+        final String scannedCorrelationId = scannedFrame.getCorrelationIdOrNull();
+        final boolean isExpectedResponse =
+                scannedCorrelationId != null && correlationTable.isExpected(scannedCorrelationId);
+        if (!isExpectedResponse && !mayHaveSubscribers(scannedFrame)) {
+            LOGGER.trace("Client got message without subscriber, discarding it unparsed: {}", message);
+        } else {
+            final Optional<Adaptable> adaptableOptional = toAdaptable(message);
+            if (adaptableOptional.isPresent() && publishToAdaptableSubscribers(scannedCorrelationId,
+                    adaptableOptional.get())) {
+                return;
+            }
+            LOGGER.trace("Client got unhandled message: {}", message);
+        }
+    }
+
+    private boolean publishToAdaptableSubscribers(@Nullable final String scannedCorrelationId,
+            final Adaptable adaptable) {
+        if (completeExpectedResponse(scannedCorrelationId, adaptable)) {
+            return true;
+        }
+        final Classification[] tags = adaptableDispatchTable.classify(adaptable);
+        return publishToOneTimeAdaptableSubscribers(adaptable, tags) ||
+                publishToPersistentAdaptableSubscribers(adaptable, tags);
+    }
+
+    private boolean completeExpectedResponse(@Nullable final String scannedCorrelationId, final Adaptable adaptable) {
+        if (correlationTable.size() == 0) {
+            return false;
+        }
+        // the scanner only misses correlation IDs of frames it does not understand
+        final String correlationId = scannedCorrelationId != null ? scannedCorrelationId :
+                adaptable.getDittoHeaders().getCorrelationId().orElse(null);
+        return correlationId != null && correlationTable.complete(correlationId, adaptable);
+    }
+
+    /**
+     * Decide from the scanned topic and correlation ID whether parsing a frame is worthwhile. Frames whose topic
+     * cannot be determined are always parsed so that the parser reports what is wrong with them.
+     */
+    private boolean mayHaveSubscribers(final ScannedFrame scannedFrame) {
+        final Optional<String> topic = scannedFrame.getTopic();
+        if (!topic.isPresent()) {
+            return true;
+        }
+        final TopicPath topicPath;
+        try {
+            topicPath = ProtocolFactory.newTopicPath(topic.get());
+        } catch (final RuntimeException e) {
+            return true;
+        }
+        return adaptableDispatchTable.mayHaveSubscribers(topicPath, scannedFrame.getCorrelationId().orElse(null),
+                this::hasAdaptableSubscribers);
+    }
+
+    private boolean hasAdaptableSubscribers(final Classification tag) {
+        return oneTimeAdaptableConsumers.containsKey(tag) || persistentAdaptableConsumers.containsKey(tag);
+    }
+
     private Consumer<Adaptable> withTermination(
             final Consumer<Adaptable> adaptableConsumer,
             final Predicate<Adaptable> terminationPredicate,
             final CompletableFuture<Adaptable> terminationFuture,
-            final AtomicReference<Instant> lastMessage) {
+            final AtomicLong lastMessage) {
 
         return message -> {
             if (terminationPredicate.test(message)) {
@@ -208,7 +339,7 @@ final class DefaultAdaptableBus implements AdaptableBus {
                 terminationFuture.complete(message);
             } else {
                 // not terminated
-                lastMessage.set(Instant.now());
+                lastMessage.set(System.nanoTime());
             }
             // feed message to adaptable consumer in any case
             adaptableConsumer.accept(message);
@@ -261,7 +392,15 @@ final class DefaultAdaptableBus implements AdaptableBus {
         }
     }
 
-    private boolean publishToOneTimeAdaptableSubscribers(final Adaptable adaptable, final List<Classification> tags) {
+    // consumers of messages concerning the same entity run one after another in the order of publication
+    private static void runConsumerOrdered(final StripedSerialExecutor executor, final Consumer<Adaptable> consumer,
+            final Adaptable adaptable, final Classification tag) {
+        LOGGER.trace("publishing ordered for {}: {}", tag, adaptable);
+        final TopicPath topicPath = adaptable.getTopicPath();
+        executor.execute(topicPath.getNamespace() + "/" + topicPath.getEntityName(), () -> consumer.accept(adaptable));
+    }
+
+    private boolean publishToOneTimeAdaptableSubscribers(final Adaptable adaptable, final Classification[] tags) {
         for (final Classification tag : tags) {
             final Consumer<Adaptable> oneTimeSubscriber = removeOne(oneTimeAdaptableConsumers, tag);
             if (oneTimeSubscriber != null) {
@@ -273,61 +412,63 @@ final class DefaultAdaptableBus implements AdaptableBus {
     }
 
     private boolean publishToPersistentAdaptableSubscribers(final Adaptable adaptable,
-            final List<Classification> tags) {
+            final Classification[] tags) {
         boolean publishedToPersistentSubscribers = false;
         for (final Classification tag : tags) {
             final Set<Entry<Consumer<Adaptable>>> persistentConsumers = persistentAdaptableConsumers.get(tag);
             if (persistentConsumers != null && !persistentConsumers.isEmpty()) {
                 publishedToPersistentSubscribers = true;
                 for (final Entry<Consumer<Adaptable>> entry : persistentConsumers) {
-                    runConsumerAsync(entry.value, adaptable, tag);
+                    if (entityOrderedExecutor != null && !tag.mustBeSequential()) {
+                        runConsumerOrdered(entityOrderedExecutor, entry.value, adaptable, tag);
+                    } else {
+                        runConsumerAsync(entry.value, adaptable, tag);
+                    }
                 }
             }
         }
         return publishedToPersistentSubscribers;
     }
 
-    private List<Classification> getAllAdaptableTags(final Adaptable adaptable) {
-        return adaptableClassifiers.stream()
-                .flatMap(classifier -> classifier.classify(adaptable).map(Stream::of).orElseGet(Stream::empty))
-                .collect(Collectors.toList());
-    }
-
     private <T> void removeAfter(final Map<Classification, Set<Entry<T>>> registry,
             final Entry<T> entry,
             final Duration after,
             final CompletableFuture<?> futureToFail) {
         final Runnable cancellationRunnable = () ->
                 removeEntry(registry, entry, () -> futureToFail.completeExceptionally(timeout(after)));
-        schedule(entry, cancellationRunnable, after);
+        entry.timeout = timer.newTimeout(cancellationRunnable, after);
     }
 
-    private void schedule(final SubscriptionId subscriptionId, final Runnable runnable, final Duration when) {
-        timeoutFutures.compute(subscriptionId, (k, v) -> {
-            if (v != null) {
-                v.cancel(false);
-            }
-            return scheduledExecutor.schedule(runnable, when.toMillis(), TimeUnit.MILLISECONDS);
-        });
+    private <T> void removeAfterIdle(
+            final Map<Classification, Set<Entry<T>>> registry,
+            final Entry<T> entry,
+            final Duration timeout,
+            final CompletableFuture<Adaptable> terminationFuture,
+            final AtomicLong lastMessage) {
+
+        removeAfterIdle(registry, entry, timeout, timeout, terminationFuture, lastMessage);
     }
 
     private <T> void removeAfterIdle(
             final Map<Classification, Set<Entry<T>>> registry,
             final Entry<T> entry,
             final Duration timeout,
+            final Duration delay,
             final CompletableFuture<Adaptable> terminationFuture,
-            final AtomicReference<Instant> lastMessage) {
+            final AtomicLong lastMessage) {
 
         final Runnable cancellationRunnable = () -> {
-            if (timeout.minus(Duration.between(lastMessage.get(), Instant.now())).isNegative()) {
+            final long remainingNanos = timeout.toNanos() - (System.nanoTime() - lastMessage.get());
+            if (remainingNanos <= 0) {
                 // timeout reached; fail with idle timeout
                 removeEntry(registry, entry, () -> terminationFuture.completeExceptionally(timeout(timeout)));
-            } else {
-                // timeout not reached; re-submit.
-                removeAfterIdle(registry, entry, timeout, terminationFuture, lastMessage);
+            } else if (!terminationFuture.isDone()) {
+                // timeout not reached; check again when it would be reached without further messages
+                removeAfterIdle(registry, entry, timeout, Duration.ofNanos(remainingNanos), terminationFuture,
+                        lastMessage);
             }
         };
-        schedule(entry, cancellationRunnable, timeout);
+        entry.timeout = timer.newTimeout(cancellationRunnable, delay);
     }
 
     private static <T> void addEntry(final Map<Classification, Set<Entry<T>>> registry,
@@ -360,6 +501,16 @@ final class DefaultAdaptableBus implements AdaptableBus {
         return Optional.empty();
     }
 
+    private Optional<Adaptable> toAdaptable(final JsonObject message) {
+        try {
+            return Optional.of(ProtocolFactory.jsonifiableAdaptableFromJson(message));
+        } catch (final JsonRuntimeException e) {
+            final String msgPattern = "Client could not understand incoming JSON due to: <{}>:\n  <{}>";
+            LOGGER.warn(msgPattern, e.getMessage(), message);
+        }
+        return Optional.empty();
+    }
+
     private <T> void removeEntry(final Map<Classification, Set<Entry<T>>> registry,
             final Entry<?> entry,
             final Runnable onRemove) {
@@ -369,25 +520,30 @@ final class DefaultAdaptableBus implements AdaptableBus {
             }
             return set.isEmpty() ? null : set;
         });
-        timeoutFutures.computeIfPresent(entry, (k, v) -> {
-            v.cancel(false);
-            return null;
-        });
+        final HashedWheelTimer.Timeout timeout = entry.timeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
     }
 
     @Nullable
     private static <T> T removeOne(final Map<Classification, Set<Entry<T>>> registry,
             final Classification tag) {
         final AtomicReference<T> result = new AtomicReference<>(null);
-        registry.computeIfPresent(tag, (k, set) -> set.stream()
-                .findAny()
-                .map(entry -> {
-                    if (set.remove(entry)) {
-                        result.set(entry.value);
+        registry.computeIfPresent(tag, (k, set) -> {
+            final Iterator<Entry<T>> iterator = set.iterator();
+            if (iterator.hasNext()) {
+                final Entry<T> entry = iterator.next();
+                if (set.remove(entry)) {
+                    result.set(entry.value);
+                    final HashedWheelTimer.Timeout timeout = entry.timeout;
+                    if (timeout != null) {
+                        timeout.cancel();
                     }
-                    return set.isEmpty() ? null : set;
-                })
-                .orElse(null));
+                }
+            }
+            return set.isEmpty() ? null : set;
+        });
         return result.get();
     }
 
@@ -403,6 +559,7 @@ final class DefaultAdaptableBus implements AdaptableBus {
 
         private final Classification key;
         private final T value;
+        @Nullable private volatile HashedWheelTimer.Timeout timeout;
 
         private Entry(final Classification key, final T value) {
             this.key = key;
@@ -12,9 +12,6 @@
  */
 package org.eclipse.ditto.client.internal.bus;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonPointer;
@@ -28,9 +25,11 @@ import org.eclipse.ditto.json.JsonPointer;
 final class DefaultJsonPointerSelector implements JsonPointerSelector {
 
     private final JsonPointer jsonPointer;
+    private final TemplateMatcher templateMatcher;
 
     private DefaultJsonPointerSelector(final JsonPointer jsonPointer) {
         this.jsonPointer = jsonPointer;
+        templateMatcher = TemplateMatcher.compile(jsonPointer);
     }
 
     /**
@@ -49,6 +48,15 @@ final class DefaultJsonPointerSelector implements JsonPointerSelector {
         return jsonPointer;
     }
 
+    /**
+     * Returns the matcher compiled from the pointer of this selector.
+     *
+     * @return the template matcher.
+     */
+    TemplateMatcher getTemplateMatcher() {
+        return templateMatcher;
+    }
+
     @Override
     public boolean test(final JsonPointer target) {
         return matches(target);
@@ -66,21 +74,13 @@ final class DefaultJsonPointerSelector implements JsonPointerSelector {
         if (JsonPointerWithChangePaths.class.isAssignableFrom(type)) // only JsonPointerWithChangePaths class
         {
             final JsonPointerWithChangePaths target = (JsonPointerWithChangePaths) pointer;
-            final JsonPointer targetPointer = target.getTargetPath();
-
-            // we need to add the target path for modification on empty objects
-            final List<JsonPointer> targetPaths = new ArrayList<>(target.getChangePaths());
-            targetPaths.add(JsonPointer.empty());
 
-            return targetPaths.stream() // iterate over all configured "changePaths"
-                    .anyMatch(
-                            targetPath -> // and check if the "changePath" appended to the initial "targetPath" matches
-                                    // the template key looked up via "getObject()":
-                                    JsonPointerSelector.doesTargetMatchTemplate(targetPointer.append(targetPath),
-                                            getPointer()));
+            // check if the "targetPath" or any "changePath" appended to it matches the template key looked up via
+            // "getPointer()" - the changed object is only walked along the keys of the template:
+            return target.hasChangePathMatching(templateMatcher);
         } else if (JsonPointer.class.isAssignableFrom(type)) // or JsonPointer class are supported
         {
-            return JsonPointerSelector.doesTargetMatchTemplate(pointer, getPointer());
+            return templateMatcher.matches(pointer);
         } else {
             // for all other classes (e.g. String) we can very quickly respond:
             return false;
@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.client.internal.bus;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 
@@ -25,12 +27,19 @@ final class DefaultPointerBus implements PointerBus {
 
     private final String name;
     private final ExecutorService executor;
+    private final Executor handlerExecutor;
     private final Registry<Consumer<PointerWithData<?>>> consumerRegistry;
+    private final HashedWheelTimer timer;
 
-    DefaultPointerBus(final String name, final ExecutorService executor) {
+    DefaultPointerBus(final String name, final ExecutorService executor, final int pointerCacheSize,
+            final boolean runHandlersOnNotifyingThread) {
         this.name = name;
         this.executor = executor;
-        consumerRegistry = new DefaultRegistry<>();
+        handlerExecutor = runHandlersOnNotifyingThread ? Runnable::run : executor;
+        consumerRegistry = new DefaultRegistry<>(pointerCacheSize);
+        // the worker thread of the timer is only started when a task is scheduled
+        timer = new HashedWheelTimer(name, executor, HashedWheelTimer.DEFAULT_TICK_DURATION,
+                HashedWheelTimer.DEFAULT_TICKS_PER_WHEEL);
     }
 
     @Override
@@ -38,6 +47,11 @@ final class DefaultPointerBus implements PointerBus {
         return executor;
     }
 
+    @Override
+    public Executor getHandlerExecutor() {
+        return handlerExecutor;
+    }
+
     @Override
     public <T> void notify(final PointerWithData<T> pointerWithData) {
         consumerRegistry.select(pointerWithData.getPointer())
@@ -53,9 +67,15 @@ final class DefaultPointerBus implements PointerBus {
         return consumerRegistry.register(selector, consumer);
     }
 
+    @Override
+    public void schedule(final Runnable task, final Duration delay) {
+        timer.newTimeout(task, delay);
+    }
+
     @Override
     public void close() {
         consumerRegistry.clear();
+        timer.stop();
     }
 
     @Override
@@ -63,6 +83,7 @@ final class DefaultPointerBus implements PointerBus {
         return getClass().getSimpleName() + " [" +
                 "name=" + name +
                 ", executor=" + executor +
+                ", consumerRegistry=" + consumerRegistry +
                 "]";
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
  *
  * See the NOTICE file(s) distributed with this work for additional
  * information regarding copyright ownership.
@@ -13,92 +13,129 @@
 package org.eclipse.ditto.client.internal.bus;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Map;
+import java.util.Set;
 
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 
 /**
  * Default implementation of {@link Registry}.
+ * <p>
+ * Registrations of {@link DefaultJsonPointerSelector}s are kept in an immutable prefix trie over the keys of their
+ * template pointers; all template parameters like {@code {thingId}} of one level share a single wildcard child.
+ * Selecting the registrations for a pointer walks the trie along the keys of the pointer without locking, so it costs
+ * O(depth) per wildcard branch instead of matching every selector. Registrations of other selectors are matched one
+ * by one.
+ * <p>
+ * Writers are serialized and publish a new trie which shares all subtrees untouched by the change. Only cached
+ * selections which the changed selector matches are invalidated: the cached pointers are indexed in a trie as well,
+ * which is only walked along the template of the changed selector. The cache of selections is bounded, so that streams
+ * of changes to many distinct pointers do not let it grow without limit. Selections for
+ * {@link JsonPointerWithChangePaths} are not cached as they depend on the changed object of each event.
  *
  * @since 1.0.0
  */
 final class DefaultRegistry<T> implements Registry<T> {
 
-    private final ConcurrentHashMap<JsonPointer, List<Registration<T>>> pointerCache = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<JsonPointerSelector, List<Registration<T>>> registrationMap =
-            new ConcurrentHashMap<>();
+    /**
+     * The default maximum number of pointers whose selected registrations are cached.
+     */
+    static final int DEFAULT_POINTER_CACHE_SIZE = 10_000;
+
+    @Nullable private final PointerCache<List<Registration<T>>> pointerCache;
 
-    private final boolean useCache;
+    private volatile Snapshot<T> snapshot;
 
     /**
      * Constructs a new DefaultRegistry with JsonPointer caching enabled.
      */
     DefaultRegistry() {
-        this(true);
+        this(DEFAULT_POINTER_CACHE_SIZE);
     }
 
     /**
-     * Constructs a new DefaultRegistry withe the passed options.
+     * Constructs a new DefaultRegistry caching the registrations selected for at most the given number of
+     * JsonPointers; the least recently selected pointers are evicted first.
      *
-     * @param useJsonPointerCache whether to use a JsonPointer cache or not.
+     * @param pointerCacheSize the maximum number of cached JsonPointers, {@code 0} to disable caching.
+     * @throws IllegalArgumentException if {@code pointerCacheSize} is negative.
      */
-    private DefaultRegistry(final boolean useJsonPointerCache) {
-        this.useCache = useJsonPointerCache;
+    DefaultRegistry(final int pointerCacheSize) {
+        if (pointerCacheSize < 0) {
+            throw new IllegalArgumentException("The pointer cache size must not be negative but was: " +
+                    pointerCacheSize);
+        }
+        pointerCache = pointerCacheSize > 0 ? new PointerCache<>(pointerCacheSize) : null;
+        snapshot = Snapshot.empty();
     }
 
     @Override
     public synchronized Registration<T> register(final JsonPointerSelector sel, final T obj) {
-        List<Registration<T>> registrations;
-        if (null == (registrations = this.registrationMap.get(sel))) {
-            registrations = this.registrationMap.computeIfAbsent(sel, selector -> new ArrayList<>());
-        }
+        final Registration<T>[] registrationHolder = newHolder();
+        final Registration<T> reg = new DefaultRegistration<>(sel, obj, () -> remove(registrationHolder[0]));
+        registrationHolder[0] = reg;
 
-        final Registration<T> reg = new DefaultRegistration<>(sel, obj, () -> {
-            this.registrationMap.remove(sel);
-            pointerCache.clear();
-        });
-        registrations.add(reg);
-
-        pointerCache.clear();
+        snapshot = snapshot.with(reg);
+        invalidateCacheFor(sel);
         return reg;
     }
 
     @Override
     public synchronized boolean unregister(final JsonPointer pointer) {
-        boolean found = false;
-        for (final JsonPointerSelector sel : registrationMap.keySet()) {
-            if (!sel.matches(pointer)) {
-                continue;
-            }
-            if (null != registrationMap.remove(sel) && !found) {
-                found = true;
+        final List<Registration<T>> toRemove = new ArrayList<>();
+        for (final Registration<T> registration : snapshot) {
+            if (registration.getSelector().matches(pointer)) {
+                toRemove.add(registration);
             }
         }
+        Snapshot<T> newSnapshot = snapshot;
+        for (final Registration<T> registration : toRemove) {
+            newSnapshot = newSnapshot.without(registration);
+        }
+        snapshot = newSnapshot;
+        for (final Registration<T> registration : toRemove) {
+            invalidateCacheFor(registration.getSelector());
+        }
 
-        if (useCache) {
+        if (pointerCache != null) {
             pointerCache.remove(pointer);
         }
-        return found;
+        return !toRemove.isEmpty();
     }
 
     @Override
-    public synchronized List<Registration<T>> select(final JsonPointer pointer) {
+    public List<Registration<T>> select(final JsonPointer pointer) {
+        if (pointer instanceof JsonPointerWithChangePaths) {
+            // the selection depends on the changed object of each event, so caching it would hardly ever hit but
+            // keep whole event payloads reachable
+            return snapshot.select(pointer);
+        }
+
         List<Registration<T>> selectedRegs;
-        if (null != (selectedRegs = pointerCache.get(pointer))) {
+        if (pointerCache != null && null != (selectedRegs = pointerCache.get(pointer))) {
             return selectedRegs;
         }
 
-        final List<Registration<T>> regs = new ArrayList<>();
-        registrationMap.forEach((selector, theRegistrations) -> {
-            if (selector.matches(pointer)) {
-                regs.addAll(theRegistrations);
-            }
-        });
+        final Snapshot<T> currentSnapshot = snapshot;
+        final List<Registration<T>> regs = currentSnapshot.select(pointer);
 
-        if (useCache && !regs.isEmpty()) {
+        if (pointerCache != null && !regs.isEmpty()) {
             pointerCache.put(pointer, regs);
+            if (snapshot != currentSnapshot) {
+                // a writer may have invalidated the cache before the stale selection was put into it
+                pointerCache.remove(pointer, regs);
+            }
         }
 
         return regs;
@@ -106,14 +143,315 @@ final class DefaultRegistry<T> implements Registry<T> {
 
     @Override
     public synchronized void clear() {
-        pointerCache.clear();
-        registrationMap.clear();
+        snapshot = Snapshot.empty();
+        if (pointerCache != null) {
+            pointerCache.clear();
+        }
+    }
+
+    @Override
+    public Iterator<Registration<T>> iterator() {
+        return snapshot.iterator();
+    }
+
+    private synchronized void remove(final Registration<T> registration) {
+        snapshot = snapshot.without(registration);
+        invalidateCacheFor(registration.getSelector());
+    }
+
+    private void invalidateCacheFor(final JsonPointerSelector selector) {
+        if (pointerCache != null) {
+            if (selector instanceof DefaultJsonPointerSelector) {
+                pointerCache.invalidate(((DefaultJsonPointerSelector) selector).getTemplateMatcher());
+            } else {
+                pointerCache.invalidateIf(selector::matches);
+            }
+        }
     }
 
     @Override
-    public synchronized Iterator<Registration<T>> iterator() {
-        final List<Registration<T>> regs = new ArrayList<>();
-        registrationMap.forEach((selector, theRegistrations) -> regs.addAll(theRegistrations));
-        return regs.iterator();
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "pointerCache=" + pointerCache +
+                "]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Registration<T>[] newHolder() {
+        return new Registration[1];
+    }
+
+    private static boolean isTemplateParameter(final JsonKey key) {
+        return JsonPointerSelector.matchesTemplateParam(key, key);
+    }
+
+    /**
+     * Immutable state of the registry: the trie of template selector registrations plus the list of registrations of
+     * all other selectors.
+     */
+    private static final class Snapshot<T> implements Iterable<Registration<T>> {
+
+        private static final Snapshot<?> EMPTY = new Snapshot<>(Node.empty(), Collections.emptyList());
+
+        private final Node<T> root;
+        private final List<Registration<T>> otherRegistrations;
+
+        private Snapshot(final Node<T> root, final List<Registration<T>> otherRegistrations) {
+            this.root = root;
+            this.otherRegistrations = otherRegistrations;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Snapshot<T> empty() {
+            return (Snapshot<T>) EMPTY;
+        }
+
+        private Snapshot<T> with(final Registration<T> registration) {
+            final JsonPointerSelector selector = registration.getSelector();
+            if (selector instanceof DefaultJsonPointerSelector) {
+                return new Snapshot<>(root.with(keysOf(selector.getPointer()), 0, registration), otherRegistrations);
+            } else {
+                final List<Registration<T>> newOtherRegistrations = new ArrayList<>(otherRegistrations);
+                newOtherRegistrations.add(registration);
+                return new Snapshot<>(root, Collections.unmodifiableList(newOtherRegistrations));
+            }
+        }
+
+        private Snapshot<T> without(final Registration<T> registration) {
+            final JsonPointerSelector selector = registration.getSelector();
+            if (selector instanceof DefaultJsonPointerSelector) {
+                final Node<T> newRoot = root.without(keysOf(selector.getPointer()), 0, registration);
+                return newRoot == root ? this :
+                        new Snapshot<>(newRoot != null ? newRoot : Node.empty(), otherRegistrations);
+            } else if (otherRegistrations.contains(registration)) {
+                final List<Registration<T>> newOtherRegistrations = new ArrayList<>(otherRegistrations);
+                newOtherRegistrations.remove(registration);
+                return new Snapshot<>(root, Collections.unmodifiableList(newOtherRegistrations));
+            } else {
+                return this;
+            }
+        }
+
+        private List<Registration<T>> select(final JsonPointer pointer) {
+            final List<Registration<T>> result = new ArrayList<>();
+            if (pointer instanceof JsonPointerWithChangePaths) {
+                final JsonPointerWithChangePaths pointerWithChangePaths = (JsonPointerWithChangePaths) pointer;
+                final JsonPointer targetPath = pointerWithChangePaths.getTargetPath();
+                if (targetPath.isEmpty()) {
+                    // the empty pointer matches every template
+                    root.collectAll(result, null);
+                } else {
+                    // a registration may match several change paths but must be selected once
+                    final Set<Registration<T>> selected = Collections.newSetFromMap(new IdentityHashMap<>());
+                    root.collectPrefixes(keysOf(targetPath), 0, pointerWithChangePaths.getChangedObject(), result,
+                            selected);
+                }
+            } else {
+                selectTemplates(pointer, result, null);
+            }
+            for (final Registration<T> registration : otherRegistrations) {
+                if (registration.getSelector().matches(pointer)) {
+                    result.add(registration);
+                }
+            }
+            return result;
+        }
+
+        private void selectTemplates(final JsonPointer target, final List<Registration<T>> result,
+                @Nullable final Set<Registration<T>> selected) {
+            if (target.isEmpty()) {
+                // the empty pointer matches every template
+                root.collectAll(result, selected);
+            } else {
+                root.collectPrefixes(keysOf(target), 0, null, result, selected);
+            }
+        }
+
+        @Override
+        public Iterator<Registration<T>> iterator() {
+            final List<Registration<T>> all = new ArrayList<>();
+            root.collectAll(all, null);
+            all.addAll(otherRegistrations);
+            return Collections.unmodifiableList(all).iterator();
+        }
+
+        private static JsonKey[] keysOf(final JsonPointer pointer) {
+            final JsonKey[] keys = new JsonKey[pointer.getLevelCount()];
+            int i = 0;
+            for (final JsonKey key : pointer) {
+                keys[i++] = key;
+            }
+            return keys;
+        }
+    }
+
+    /**
+     * Immutable trie node. The registrations of a node are those whose template has the keys of the path to the node.
+     */
+    private static final class Node<T> {
+
+        private static final Node<?> EMPTY = new Node<>(Collections.emptyMap(), null, Collections.emptyList());
+
+        private final Map<JsonKey, Node<T>> children;
+        @Nullable private final Node<T> wildcardChild;
+        private final List<Registration<T>> registrations;
+
+        private Node(final Map<JsonKey, Node<T>> children, @Nullable final Node<T> wildcardChild,
+                final List<Registration<T>> registrations) {
+            this.children = children;
+            this.wildcardChild = wildcardChild;
+            this.registrations = registrations;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Node<T> empty() {
+            return (Node<T>) EMPTY;
+        }
+
+        private boolean isEmpty() {
+            return children.isEmpty() && wildcardChild == null && registrations.isEmpty();
+        }
+
+        private Node<T> with(final JsonKey[] keys, final int level, final Registration<T> registration) {
+            if (level == keys.length) {
+                final List<Registration<T>> newRegistrations = new ArrayList<>(registrations.size() + 1);
+                newRegistrations.addAll(registrations);
+                newRegistrations.add(registration);
+                return new Node<>(children, wildcardChild, Collections.unmodifiableList(newRegistrations));
+            }
+            final JsonKey key = keys[level];
+            if (isTemplateParameter(key)) {
+                final Node<T> child = wildcardChild != null ? wildcardChild : empty();
+                return new Node<>(children, child.with(keys, level + 1, registration), registrations);
+            } else {
+                final Node<T> child = children.getOrDefault(key, empty());
+                return new Node<>(withChild(key, child.with(keys, level + 1, registration)), wildcardChild,
+                        registrations);
+            }
+        }
+
+        /**
+         * @return this node if the registration was not found, the new node otherwise or {@code null} if the new node
+         * would be empty.
+         */
+        @Nullable
+        private Node<T> without(final JsonKey[] keys, final int level, final Registration<T> registration) {
+            final Node<T> result;
+            if (level == keys.length) {
+                if (!registrations.contains(registration)) {
+                    return this;
+                }
+                final List<Registration<T>> newRegistrations = new ArrayList<>(registrations);
+                newRegistrations.remove(registration);
+                result = new Node<>(children, wildcardChild, Collections.unmodifiableList(newRegistrations));
+            } else {
+                final JsonKey key = keys[level];
+                if (isTemplateParameter(key)) {
+                    if (wildcardChild == null) {
+                        return this;
+                    }
+                    final Node<T> newChild = wildcardChild.without(keys, level + 1, registration);
+                    if (newChild == wildcardChild) {
+                        return this;
+                    }
+                    result = new Node<>(children, newChild, registrations);
+                } else {
+                    final Node<T> child = children.get(key);
+                    if (child == null) {
+                        return this;
+                    }
+                    final Node<T> newChild = child.without(keys, level + 1, registration);
+                    if (newChild == child) {
+                        return this;
+                    }
+                    result = new Node<>(withChild(key, newChild), wildcardChild, registrations);
+                }
+            }
+            return result.isEmpty() ? null : result;
+        }
+
+        private Map<JsonKey, Node<T>> withChild(final JsonKey key, @Nullable final Node<T> child) {
+            final Map<JsonKey, Node<T>> newChildren = new HashMap<>(children);
+            if (child != null) {
+                newChildren.put(key, child);
+            } else {
+                newChildren.remove(key);
+            }
+            return newChildren.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(newChildren);
+        }
+
+        /**
+         * Collects the registrations of all non-empty templates matching a prefix of the keys. If a changed object is
+         * given, the templates extending the keys by a path of the object are collected as well.
+         */
+        private void collectPrefixes(final JsonKey[] keys, final int level, @Nullable final JsonObject changedObject,
+                final List<Registration<T>> result, @Nullable final Set<Registration<T>> selected) {
+            if (level > 0) {
+                addAll(registrations, result, selected);
+            }
+            if (level < keys.length) {
+                final Node<T> child = children.get(keys[level]);
+                if (child != null) {
+                    child.collectPrefixes(keys, level + 1, changedObject, result, selected);
+                }
+                if (wildcardChild != null) {
+                    wildcardChild.collectPrefixes(keys, level + 1, changedObject, result, selected);
+                }
+            } else if (changedObject != null) {
+                collectChanged(changedObject, result, selected);
+            }
+        }
+
+        /**
+         * Collects the registrations of all templates below this node extending its path by a path of the changed
+         * object. Only the keys present in the trie are looked up in the object; its other fields are never visited.
+         */
+        private void collectChanged(final JsonObject changedObject, final List<Registration<T>> result,
+                @Nullable final Set<Registration<T>> selected) {
+            for (final Map.Entry<JsonKey, Node<T>> child : children.entrySet()) {
+                changedObject.getValue(child.getKey().asPointer())
+                        .ifPresent(value -> child.getValue().collectChanged(value, result, selected));
+            }
+            if (wildcardChild != null && !changedObject.isEmpty()) {
+                if (wildcardChild.isLeaf()) {
+                    addAll(wildcardChild.registrations, result, selected);
+                } else {
+                    for (final JsonField field : changedObject) {
+                        wildcardChild.collectChanged(field.getValue(), result, selected);
+                    }
+                }
+            }
+        }
+
+        private void collectChanged(final JsonValue changedValue, final List<Registration<T>> result,
+                @Nullable final Set<Registration<T>> selected) {
+            addAll(registrations, result, selected);
+            if (changedValue.isObject() && !isLeaf()) {
+                collectChanged(changedValue.asObject(), result, selected);
+            }
+        }
+
+        private boolean isLeaf() {
+            return children.isEmpty() && wildcardChild == null;
+        }
+
+        private void collectAll(final List<Registration<T>> result, @Nullable final Set<Registration<T>> selected) {
+            addAll(registrations, result, selected);
+            for (final Node<T> child : children.values()) {
+                child.collectAll(result, selected);
+            }
+            if (wildcardChild != null) {
+                wildcardChild.collectAll(result, selected);
+            }
+        }
+
+        private static <T> void addAll(final List<Registration<T>> registrations, final List<Registration<T>> result,
+                @Nullable final Set<Registration<T>> selected) {
+            for (final Registration<T> registration : registrations) {
+                if (selected == null || selected.add(registration)) {
+                    result.add(registration);
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.client.internal.DefaultThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Timer for large numbers of timeouts which are usually cancelled before they expire, such as response timeouts.
+ * <p>
+ * Timeouts are kept in a wheel of buckets; each tick of a single worker thread expires the timeouts of one bucket.
+ * Adding and cancelling a timeout is O(1) and lock-free: both only enqueue the timeout for the worker. Time is measured
+ * with {@link System#nanoTime()} and timeouts expire with a precision of one tick.
+ * <p>
+ * The worker thread is started on demand and terminates after it has been idle for a while, so an unused timer does
+ * not hold a thread. Expired tasks are run on the given executor.
+ */
+final class HashedWheelTimer {
+
+    /**
+     * The default duration of one tick.
+     */
+    static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(10L);
+
+    /**
+     * The default number of buckets of the wheel.
+     */
+    static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    private static final int WORKER_IDLE = 0;
+    private static final int WORKER_RUNNING = 1;
+    private static final int SHUTDOWN = 2;
+
+    private static final long IDLE_NANOS_BEFORE_WORKER_EXITS = TimeUnit.SECONDS.toNanos(1L);
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final DefaultThreadFactory threadFactory;
+    private final Executor taskExecutor;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime;
+    private final Queue<Timeout> pendingTimeouts;
+    private final Queue<Timeout> cancelledTimeouts;
+    private final AtomicInteger state;
+
+    @Nullable private volatile Thread workerThread;
+
+    /**
+     * Creates a new timer.
+     *
+     * @param name the name to use in the worker thread.
+     * @param taskExecutor the executor to run expired tasks on.
+     * @param tickDuration the duration of one tick, the precision of the timer.
+     * @param ticksPerWheel the number of buckets of the wheel; rounded up to a power of two.
+     * @throws IllegalArgumentException if {@code tickDuration} or {@code ticksPerWheel} are not positive.
+     */
+    HashedWheelTimer(final String name, final Executor taskExecutor, final Duration tickDuration,
+            final int ticksPerWheel) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("The tick duration must be positive but was: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > (1 << 30)) {
+            throw new IllegalArgumentException("The ticks per wheel must be in (0, 2^30] but was: " + ticksPerWheel);
+        }
+        threadFactory = new DefaultThreadFactory("ditto-client-timer-" + name);
+        this.taskExecutor = taskExecutor;
+        tickNanos = tickDuration.toNanos();
+        int wheelSize = 1;
+        while (wheelSize < ticksPerWheel) {
+            wheelSize <<= 1;
+        }
+        wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new Bucket();
+        }
+        mask = wheelSize - 1;
+        startTime = System.nanoTime();
+        pendingTimeouts = new ConcurrentLinkedQueue<>();
+        cancelledTimeouts = new ConcurrentLinkedQueue<>();
+        state = new AtomicInteger(WORKER_IDLE);
+    }
+
+    /**
+     * Schedules a task to run after a delay.
+     *
+     * @param task the task.
+     * @param delay the delay.
+     * @return the handle to cancel the task with.
+     * @throws RejectedExecutionException if the timer was stopped.
+     */
+    Timeout newTimeout(final Runnable task, final Duration delay) {
+        if (state.get() == SHUTDOWN) {
+            throw new RejectedExecutionException("Timer was stopped.");
+        }
+        final long deadline = System.nanoTime() - startTime + Math.max(0L, delay.toNanos());
+        final Timeout timeout = new Timeout(this, task, deadline);
+        pendingTimeouts.add(timeout);
+        if (state.compareAndSet(WORKER_IDLE, WORKER_RUNNING)) {
+            startWorker();
+        }
+        return timeout;
+    }
+
+    /**
+     * Stops the timer; pending tasks are not run.
+     */
+    void stop() {
+        state.set(SHUTDOWN);
+        final Thread worker = workerThread;
+        if (worker != null && worker != Thread.currentThread()) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(2L));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.info("Waiting for timer termination was interrupted.");
+            }
+        }
+        pendingTimeouts.clear();
+        cancelledTimeouts.clear();
+    }
+
+    private void startWorker() {
+        final Thread thread = threadFactory.newThread(new Worker());
+        workerThread = thread;
+        thread.start();
+    }
+
+    /**
+     * Handle of a scheduled task.
+     */
+    static final class Timeout {
+
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state = INIT;
+
+        // only accessed by the worker thread
+        private long remainingRounds;
+        @Nullable private Bucket bucket;
+        @Nullable private Timeout next;
+        @Nullable private Timeout prev;
+
+        private Timeout(final HashedWheelTimer timer, final Runnable task, final long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the task if it has not run yet.
+         *
+         * @return whether the task was cancelled by this call.
+         */
+        boolean cancel() {
+            if (STATE_UPDATER.compareAndSet(this, INIT, CANCELLED)) {
+                timer.cancelledTimeouts.add(this);
+                return true;
+            }
+            return false;
+        }
+
+        private boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        private void expire() {
+            if (STATE_UPDATER.compareAndSet(this, INIT, EXPIRED)) {
+                try {
+                    timer.taskExecutor.execute(task);
+                } catch (final RejectedExecutionException e) {
+                    LOGGER.debug("Executor rejected expired timeout task: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of the timeouts of one wheel slot; only accessed by the worker thread.
+     */
+    private static final class Bucket {
+
+        @Nullable private Timeout head;
+        @Nullable private Timeout tail;
+
+        private void add(final Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void remove(final Timeout timeout) {
+            final Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        /**
+         * Removes and expires all timeouts whose last round has come.
+         *
+         * @return the number of timeouts removed from the bucket.
+         */
+        private int expireTimeouts(final long deadline) {
+            int removed = 0;
+            Timeout timeout = head;
+            while (timeout != null) {
+                final Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    removed++;
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                    removed++;
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+            return removed;
+        }
+    }
+
+    private final class Worker implements Runnable {
+
+        private long tick;
+        private int scheduledTimeouts;
+
+        @Override
+        public void run() {
+            tick = (System.nanoTime() - startTime) / tickNanos;
+            long idleSince = System.nanoTime();
+            while (state.get() == WORKER_RUNNING) {
+                final long deadline = waitForNextTick();
+                if (deadline < 0) {
+                    break;
+                }
+                removeCancelledTimeouts();
+                transferPendingTimeouts();
+                scheduledTimeouts -= wheel[(int) (tick & mask)].expireTimeouts(deadline);
+                tick++;
+                if (scheduledTimeouts > 0 || !pendingTimeouts.isEmpty()) {
+                    idleSince = System.nanoTime();
+                } else if (System.nanoTime() - idleSince > IDLE_NANOS_BEFORE_WORKER_EXITS && tryExit()) {
+                    return;
+                }
+            }
+        }
+
+        private boolean tryExit() {
+            if (!state.compareAndSet(WORKER_RUNNING, WORKER_IDLE)) {
+                return true;
+            }
+            // a timeout may have been added after the last check; a new worker is started for it unless this one
+            // takes it over
+            return pendingTimeouts.isEmpty() || !state.compareAndSet(WORKER_IDLE, WORKER_RUNNING);
+        }
+
+        private long waitForNextTick() {
+            final long deadline = tickNanos * (tick + 1);
+            while (true) {
+                final long sleepNanos = deadline - (System.nanoTime() - startTime);
+                if (sleepNanos <= 0) {
+                    return deadline;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (final InterruptedException e) {
+                    if (state.get() == SHUTDOWN) {
+                        return -1;
+                    }
+                }
+            }
+        }
+
+        private void removeCancelledTimeouts() {
+            Timeout timeout;
+            while ((timeout = cancelledTimeouts.poll()) != null) {
+                final Bucket bucket = timeout.bucket;
+                if (bucket != null) {
+                    bucket.remove(timeout);
+                    scheduledTimeouts--;
+                }
+            }
+        }
+
+        private void transferPendingTimeouts() {
+            for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+                final Timeout timeout = pendingTimeouts.poll();
+                if (timeout == null) {
+                    return;
+                }
+                if (timeout.isCancelled()) {
+                    continue;
+                }
+                final long expirationTick = timeout.deadline / tickNanos;
+                timeout.remainingRounds = (expirationTick - tick) / wheel.length;
+                // timeouts already due are expired with the current tick
+                final long ticks = Math.max(expirationTick, tick);
+                wheel[(int) (ticks & mask)].add(timeout);
+                scheduledTimeouts++;
+            }
+        }
+    }
+}
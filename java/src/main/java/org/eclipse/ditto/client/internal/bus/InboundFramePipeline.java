@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.eclipse.ditto.client.internal.DefaultThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decouples the thread receiving raw frames (e.g. the WebSocket reader thread) from parsing and dispatching them.
+ * The receiving thread only enqueues the frame; a fixed pool of parser workers processes the frames in parallel.
+ * Frames with the same ordering key (the thing ID or, if absent, the correlation ID) are processed in the order in
+ * which they were received.
+ * <p>
+ * The number of frames in flight is bounded: if the workers fall behind, {@link #submit(String)} blocks the
+ * receiving thread so that back-pressure propagates to the connection instead of buffering without limit.
+ */
+final class InboundFramePipeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InboundFramePipeline.class);
+
+    /**
+     * The number of stripes per worker; more stripes than workers reduce head-of-line blocking between unrelated
+     * things hashed onto the same stripe.
+     */
+    private static final int STRIPES_PER_WORKER = 4;
+    private static final int MAX_FRAMES_IN_FLIGHT_PER_WORKER = 1024;
+    private static final String NO_ORDERING_KEY = "";
+
+    private final ExecutorService workers;
+    private final StripedSerialExecutor stripedExecutor;
+    private final Semaphore inFlight;
+    private final BiConsumer<String, ScannedFrame> frameHandler;
+
+    private InboundFramePipeline(final ExecutorService workers, final int parallelism,
+            final BiConsumer<String, ScannedFrame> frameHandler) {
+        this.workers = workers;
+        this.frameHandler = frameHandler;
+        stripedExecutor = new StripedSerialExecutor(workers, parallelism * STRIPES_PER_WORKER);
+        inFlight = new Semaphore(parallelism * MAX_FRAMES_IN_FLIGHT_PER_WORKER);
+    }
+
+    /**
+     * Creates a new pipeline with {@code parallelism} parser workers.
+     *
+     * @param name the name to use in the worker threads.
+     * @param parallelism the number of parser workers, must be positive.
+     * @param frameHandler the handler parsing and dispatching a single frame, given the frame and its scanned
+     * routing fields.
+     * @return the pipeline.
+     */
+    static InboundFramePipeline newInstance(final String name, final int parallelism,
+            final BiConsumer<String, ScannedFrame> frameHandler) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The inbound parallelism must be positive but was: " + parallelism);
+        }
+        final ExecutorService workers = Executors.newFixedThreadPool(parallelism,
+                new DefaultThreadFactory("ditto-client-inbound-" + name));
+        return new InboundFramePipeline(workers, parallelism, frameHandler);
+    }
+
+    /**
+     * Enqueues a raw frame for parsing and dispatching. Blocks if too many frames are in flight.
+     *
+     * @param frame the raw frame.
+     */
+    void submit(final String frame) {
+        final ScannedFrame scannedFrame = ScannedFrame.scan(frame);
+        submit(scannedFrame, () -> frameHandler.accept(frame, scannedFrame), frame);
+    }
+
+    /**
+     * Enqueues the processing of a frame which was already decoded, e.g. from a binary frame, in the order of the
+     * raw frames with the same ordering key. Blocks if too many frames are in flight.
+     *
+     * @param scannedFrame the routing fields of the decoded frame.
+     * @param frameHandler processes the decoded frame.
+     */
+    void submit(final ScannedFrame scannedFrame, final Runnable frameHandler) {
+        submit(scannedFrame, frameHandler, scannedFrame);
+    }
+
+    private void submit(final ScannedFrame scannedFrame, final Runnable frameHandler, final Object frame) {
+        try {
+            inFlight.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Interrupted while waiting for inbound capacity, dropping frame: {}", frame);
+            return;
+        }
+        try {
+            stripedExecutor.execute(orderingKey(scannedFrame), () -> {
+                try {
+                    frameHandler.run();
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            inFlight.release();
+            LOGGER.debug("Inbound pipeline was shut down, dropping frame: {}", frame);
+        }
+    }
+
+    /**
+     * Stops the parser workers; frames not yet processed are discarded.
+     */
+    void shutdown() {
+        workers.shutdownNow();
+        try {
+            workers.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.info("Waiting for inbound workers termination was interrupted.");
+        }
+    }
+
+    /**
+     * Determines the key whose frames must be processed in order: the entity ID ({@code <namespace>/<name>}) from the
+     * topic or, for frames without topic, the correlation ID. Frames having neither (e.g. protocol acknowledgements)
+     * share a single key.
+     *
+     * @param scannedFrame the scanned routing fields of the frame.
+     * @return the ordering key.
+     */
+    static String orderingKey(final ScannedFrame scannedFrame) {
+        final String topic = scannedFrame.getTopic().orElse(null);
+        if (topic != null) {
+            final int firstSlash = topic.indexOf('/');
+            final int secondSlash = firstSlash < 0 ? -1 : topic.indexOf('/', firstSlash + 1);
+            return secondSlash < 0 ? topic : topic.substring(0, secondSlash);
+        }
+        return scannedFrame.getCorrelationId().orElse(NO_ORDERING_KEY);
+    }
+}
@@ -19,31 +19,43 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 
 /**
- * Contains a {@code targetPath} where a Change was initially created and a list of changed paths relative to this base
- * {@code targetPath} containing information about which elements got changes together with the "root".
+ * Contains a {@code targetPath} where a Change was initially created together with the changed JSON object, whose
+ * hierarchy defines the changed paths relative to this base {@code targetPath}.
+ * <p>
+ * The changed paths are not computed up front: a payload with thousands of fields would yield thousands of pointers
+ * for each event, most of which no registration is interested in. Instead, the object is only walked along the keys
+ * of the templates which are matched against this pointer. Equality is structural like that of the changed paths
+ * themselves: two instances are equal if they have the same {@code targetPath} and the same changed paths, whatever
+ * the changed values are. The changed paths are only computed if instances are compared or hashed.
  *
  * @since 1.0.0
  */
 final class JsonPointerWithChangePaths implements JsonPointer {
 
     private final JsonPointer targetPath;
-    private final List<JsonPointer> changePaths;
+    @Nullable private final JsonObject changedObject;
+    @Nullable private volatile List<JsonPointer> changePaths;
 
     /**
      * Constructs a new {@code JsonPointerWithChangePaths}.
      *
      * @param targetPath the JsonPointer where a Change was initially created
-     * @param changePaths a list of changed paths relative to the {@code targetPath} which were also involved in a
-     * change
+     * @param changedObject the changed JSON object at the {@code targetPath} or {@code null} if the changed value was
+     * no object
      */
-    JsonPointerWithChangePaths(final JsonPointer targetPath, final List<JsonPointer> changePaths) {
+    JsonPointerWithChangePaths(final JsonPointer targetPath, @Nullable final JsonObject changedObject) {
         this.targetPath = targetPath;
-        this.changePaths = Collections.unmodifiableList(new ArrayList<>(changePaths));
+        this.changedObject = changedObject;
     }
 
     /**
@@ -56,12 +68,127 @@ final class JsonPointerWithChangePaths implements JsonPointer {
     }
 
     /**
-     * Returns a list of changed paths relative to the {@code targetPath} which were also involved in a change.
+     * Returns the changed JSON object at the {@code targetPath}.
+     *
+     * @return the changed object or {@code null} if the changed value was no object.
+     */
+    @Nullable
+    JsonObject getChangedObject() {
+        return changedObject;
+    }
+
+    /**
+     * Checks whether the {@code targetPath} or one of the changed paths appended to it matches the passed template.
+     *
+     * @param template the template, e.g. {@code /things/{thingId}/attributes/{attributeKey}}
+     * @return {@code true} if any of the paths matches the template
+     */
+    boolean hasChangePathMatching(final TemplateMatcher template) {
+        if (template.matches(targetPath)) {
+            return true;
+        }
+        if (!isTargetPrefixOf(template)) {
+            return false;
+        }
+        return changedObject != null && hasPathMatching(changedObject, template, targetPath.getLevelCount());
+    }
+
+    /**
+     * Returns the changed paths appended to the {@code targetPath} which have the depth of the passed template and
+     * match it. Deeper changed paths would match the template as well, but their changes are contained in the
+     * changes of the returned paths.
      *
-     * @return a list of changed paths relative to the {@code targetPath} which were also involved in a change.
+     * @param template the template, e.g. {@code /things/{thingId}/attributes/{attributeKey}}
+     * @return the matching paths
      */
-    List<JsonPointer> getChangePaths() {
-        return changePaths;
+    List<JsonPointer> getChangePathsMatching(final TemplateMatcher template) {
+        if (changedObject == null || !isTargetPrefixOf(template)) {
+            return Collections.emptyList();
+        }
+        final List<JsonPointer> result = new ArrayList<>();
+        collectPathsMatching(changedObject, template, targetPath.getLevelCount(), targetPath, result);
+        return result;
+    }
+
+    private boolean isTargetPrefixOf(final TemplateMatcher template) {
+        if (targetPath.getLevelCount() >= template.getLevelCount()) {
+            return false;
+        }
+        int level = 0;
+        for (final JsonKey targetKey : targetPath) {
+            if (!template.matches(targetKey, level++)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasPathMatching(final JsonObject object, final TemplateMatcher template, final int level) {
+        if (template.isParameter(level)) {
+            for (final JsonField field : object) {
+                if (hasPathMatching(field.getValue(), template, level + 1)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return object.getValue(template.getSegment(level).asPointer())
+                .map(value -> hasPathMatching(value, template, level + 1))
+                .orElse(false);
+    }
+
+    private static boolean hasPathMatching(final JsonValue value, final TemplateMatcher template, final int level) {
+        if (level == template.getLevelCount()) {
+            return true;
+        }
+        return value.isObject() && hasPathMatching(value.asObject(), template, level);
+    }
+
+    private static void collectPathsMatching(final JsonObject object, final TemplateMatcher template, final int level,
+            final JsonPointer path, final List<JsonPointer> result) {
+
+        if (template.isParameter(level)) {
+            for (final JsonField field : object) {
+                collectPathsMatching(field.getValue(), template, level + 1, path.addLeaf(field.getKey()), result);
+            }
+        } else {
+            final JsonKey segment = template.getSegment(level);
+            object.getValue(segment.asPointer()).ifPresent(value ->
+                    collectPathsMatching(value, template, level + 1, path.addLeaf(segment), result));
+        }
+    }
+
+    private static void collectPathsMatching(final JsonValue value, final TemplateMatcher template, final int level,
+            final JsonPointer path, final List<JsonPointer> result) {
+
+        if (level == template.getLevelCount()) {
+            result.add(path);
+        } else if (value.isObject()) {
+            collectPathsMatching(value.asObject(), template, level, path, result);
+        }
+    }
+
+    private List<JsonPointer> getChangePaths() {
+        List<JsonPointer> result = changePaths;
+        if (result == null) {
+            // racing threads compute equal lists
+            result = new ArrayList<>();
+            if (changedObject != null) {
+                collectPaths(changedObject, JsonPointer.empty(), result);
+            }
+            changePaths = result;
+        }
+        return result;
+    }
+
+    private static void collectPaths(final JsonObject object, final JsonPointer path, final List<JsonPointer> result) {
+        for (final JsonField field : object) {
+            final JsonPointer fieldPath = path.addLeaf(field.getKey());
+            result.add(fieldPath);
+            if (field.getValue().isObject()) {
+                collectPaths(field.getValue().asObject(), fieldPath, result);
+            }
+        }
     }
 
     public static JsonPointer empty() {return JsonPointer.empty();}
@@ -127,16 +254,16 @@ final class JsonPointerWithChangePaths implements JsonPointer {
             return false;
         }
         final JsonPointerWithChangePaths that = (JsonPointerWithChangePaths) o;
-        return Objects.equals(targetPath, that.targetPath) && Objects.equals(changePaths, that.changePaths);
+        return Objects.equals(targetPath, that.targetPath) && Objects.equals(getChangePaths(), that.getChangePaths());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(targetPath, changePaths);
+        return Objects.hash(targetPath, getChangePaths());
     }
 
     @Override
     public String toString() {
-        return targetPath + " + " + changePaths;
+        return targetPath + " + " + changedObject;
     }
 }
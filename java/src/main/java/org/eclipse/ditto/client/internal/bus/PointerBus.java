@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.client.internal.bus;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 
@@ -71,6 +73,24 @@ public interface PointerBus {
      */
     ExecutorService getExecutor();
 
+    /**
+     * @return the Executor to run the handlers of notifications with.
+     * @since 3.9.0
+     */
+    default Executor getHandlerExecutor() {
+        return getExecutor();
+    }
+
+    /**
+     * Runs a task on the executor of this bus after a delay.
+     *
+     * @param task the task.
+     * @param delay the delay.
+     * @throws java.util.concurrent.RejectedExecutionException if this bus was closed.
+     * @since 3.9.0
+     */
+    void schedule(Runnable task, Duration delay);
+
     /**
      * Closes the Bus.
      */
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonPointer;
+
+/**
+ * {@link BoundedCache} keyed by JsonPointers whose keys are indexed in a prefix trie over their keys, so that the
+ * entries of all pointers matched by a template are invalidated by walking the trie along the template instead of
+ * testing every cached pointer.
+ * <p>
+ * Reads go to the cache without locking. Writers update the cache first and then reconcile the index with it under
+ * the monitor of this object; as every change of the cache is followed by a reconciliation, the index contains exactly
+ * the cached pointers once all writers are done.
+ *
+ * @param <V> the type of the cached values.
+ * @since 3.9.0
+ */
+final class PointerCache<V> {
+
+    private final BoundedCache<JsonPointer, V> cache;
+    private IndexNode root;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maximumSize the maximum number of cached pointers.
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive.
+     */
+    PointerCache(final int maximumSize) {
+        cache = new BoundedCache<>(maximumSize, (pointer, value) -> reconcile(pointer));
+        root = new IndexNode(JsonPointer.empty());
+    }
+
+    /**
+     * Looks up the value of a pointer.
+     *
+     * @param pointer the pointer.
+     * @return the value or {@code null} if the pointer is not cached.
+     */
+    @Nullable
+    V get(final JsonPointer pointer) {
+        return cache.get(pointer);
+    }
+
+    /**
+     * Caches a value, evicting other entries if the cache is full.
+     *
+     * @param pointer the pointer.
+     * @param value the value.
+     */
+    void put(final JsonPointer pointer, final V value) {
+        cache.put(pointer, value);
+        reconcile(pointer);
+    }
+
+    /**
+     * Removes the entry of a pointer.
+     *
+     * @param pointer the pointer.
+     */
+    void remove(final JsonPointer pointer) {
+        cache.remove(pointer);
+        reconcile(pointer);
+    }
+
+    /**
+     * Removes the entry of a pointer if it still holds the given value.
+     *
+     * @param pointer the pointer.
+     * @param value the value.
+     */
+    void remove(final JsonPointer pointer, final V value) {
+        cache.remove(pointer, value);
+        reconcile(pointer);
+    }
+
+    /**
+     * Removes the entries of all pointers the template matches: the empty pointer and the pointers which start with
+     * the keys of a non-empty template, where template parameters match any key. Only the subtrees of the index
+     * along the template are visited.
+     *
+     * @param template the template.
+     */
+    synchronized void invalidate(final TemplateMatcher template) {
+        if (root.cached) {
+            root.uncache(cache);
+        }
+        if (template.getLevelCount() > 0) {
+            root.invalidate(template, 0, cache);
+        }
+    }
+
+    /**
+     * Removes the entries of all pointers matching a predicate; all cached pointers are visited.
+     *
+     * @param predicate the predicate.
+     */
+    synchronized void invalidateIf(final Predicate<JsonPointer> predicate) {
+        root.invalidateIf(predicate, cache);
+    }
+
+    /**
+     * Removes all entries; statistics are kept.
+     */
+    void clear() {
+        synchronized (this) {
+            root = new IndexNode(JsonPointer.empty());
+        }
+        // outside of the monitor as the eviction listener takes it while holding the eviction lock of the cache; a
+        // pointer put meanwhile may stay indexed although it is no longer cached, which only costs its index node
+        cache.clear();
+    }
+
+    /**
+     * @return the number of cached pointers.
+     */
+    int size() {
+        return cache.size();
+    }
+
+    private synchronized void reconcile(final JsonPointer pointer) {
+        if (cache.containsKey(pointer)) {
+            root.index(pointer.iterator());
+        } else {
+            root.unindex(pointer.iterator());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return cache.toString();
+    }
+
+    /**
+     * Mutable trie node guarded by the monitor of the enclosing cache. A node is {@code cached} if its pointer, which
+     * has the keys of the path to the node, is cached.
+     */
+    private static final class IndexNode {
+
+        private final JsonPointer pointer;
+        private final Map<JsonKey, IndexNode> children;
+        private boolean cached;
+
+        private IndexNode(final JsonPointer pointer) {
+            this.pointer = pointer;
+            children = new HashMap<>();
+        }
+
+        private void index(final Iterator<JsonKey> keys) {
+            if (keys.hasNext()) {
+                children.computeIfAbsent(keys.next(), key -> new IndexNode(pointer.addLeaf(key))).index(keys);
+            } else {
+                cached = true;
+            }
+        }
+
+        private void unindex(final Iterator<JsonKey> keys) {
+            if (keys.hasNext()) {
+                final JsonKey key = keys.next();
+                final IndexNode child = children.get(key);
+                if (child != null) {
+                    child.unindex(keys);
+                    removeIfEmpty(key, child);
+                }
+            } else {
+                cached = false;
+            }
+        }
+
+        private void invalidate(final TemplateMatcher template, final int level,
+                final BoundedCache<JsonPointer, ?> cache) {
+            if (template.isParameter(level)) {
+                final Iterator<Map.Entry<JsonKey, IndexNode>> it = children.entrySet().iterator();
+                while (it.hasNext()) {
+                    final Map.Entry<JsonKey, IndexNode> child = it.next();
+                    if (child.getValue().invalidateBelow(template, level + 1, cache)) {
+                        it.remove();
+                    }
+                }
+            } else {
+                final JsonKey key = template.getSegment(level);
+                final IndexNode child = children.get(key);
+                if (child != null && child.invalidateBelow(template, level + 1, cache)) {
+                    children.remove(key);
+                }
+            }
+        }
+
+        /**
+         * @return whether this node became empty.
+         */
+        private boolean invalidateBelow(final TemplateMatcher template, final int level,
+                final BoundedCache<JsonPointer, ?> cache) {
+            if (level == template.getLevelCount()) {
+                // the template matches all pointers starting with the keys of this node
+                invalidateIf(anyPointer -> true, cache);
+                return true;
+            }
+            invalidate(template, level, cache);
+            return isEmpty();
+        }
+
+        private void invalidateIf(final Predicate<JsonPointer> predicate, final BoundedCache<JsonPointer, ?> cache) {
+            if (cached && predicate.test(pointer)) {
+                uncache(cache);
+            }
+            final Iterator<IndexNode> it = children.values().iterator();
+            while (it.hasNext()) {
+                final IndexNode child = it.next();
+                child.invalidateIf(predicate, cache);
+                if (child.isEmpty()) {
+                    it.remove();
+                }
+            }
+        }
+
+        private void uncache(final BoundedCache<JsonPointer, ?> cache) {
+            cached = false;
+            cache.remove(pointer);
+        }
+
+        private void removeIfEmpty(final JsonKey key, final IndexNode child) {
+            if (child.isEmpty()) {
+                children.remove(key);
+            }
+        }
+
+        private boolean isEmpty() {
+            return !cached && children.isEmpty();
+        }
+    }
+
+}
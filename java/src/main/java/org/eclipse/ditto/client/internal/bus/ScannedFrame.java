@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * The routing relevant fields of a raw Ditto protocol frame: the {@code topic} and the {@code correlation-id} header.
+ * They are extracted by a single forward scan over the raw text which neither builds a JSON tree nor materializes
+ * any other field, so that frames without subscribers can be discarded before being parsed.
+ */
+final class ScannedFrame {
+
+    private static final ScannedFrame NOT_A_JSON_OBJECT = new ScannedFrame(null, null);
+
+    private static final String TOPIC = "topic";
+    private static final String HEADERS = "headers";
+    private static final String CORRELATION_ID = "correlation-id";
+
+    @Nullable private final String topic;
+    @Nullable private final String correlationId;
+
+    private ScannedFrame(@Nullable final String topic, @Nullable final String correlationId) {
+        this.topic = topic;
+        this.correlationId = correlationId;
+    }
+
+    /**
+     * Scans a raw frame. Frames which are no well-formed JSON objects as far as they are scanned yield neither topic
+     * nor correlation ID.
+     *
+     * @param frame the raw frame.
+     * @return the scanned fields.
+     */
+    static ScannedFrame scan(final String frame) {
+        try {
+            return new Cursor(frame).scanTopLevel();
+        } catch (final MalformedFrameException e) {
+            return NOT_A_JSON_OBJECT;
+        }
+    }
+
+    /**
+     * Reads the fields from a frame which was already decoded, e.g. from a binary CBOR frame. Fields which are no
+     * strings are treated as absent, as by {@link #scan(String)}.
+     *
+     * @param frame the decoded frame.
+     * @return the fields.
+     */
+    static ScannedFrame of(final JsonObject frame) {
+        final String topic = frame.getValue(TOPIC)
+                .filter(JsonValue::isString)
+                .map(JsonValue::asString)
+                .orElse(null);
+        final String correlationId = frame.getValue(HEADERS)
+                .filter(JsonValue::isObject)
+                .flatMap(headers -> headers.asObject().getValue(CORRELATION_ID))
+                .filter(JsonValue::isString)
+                .map(JsonValue::asString)
+                .orElse(null);
+        return new ScannedFrame(topic, correlationId);
+    }
+
+    /**
+     * @return the topic of the frame if it has one.
+     */
+    Optional<String> getTopic() {
+        return Optional.ofNullable(topic);
+    }
+
+    /**
+     * @return the correlation ID header of the frame if it has one.
+     */
+    Optional<String> getCorrelationId() {
+        return Optional.ofNullable(correlationId);
+    }
+
+    /**
+     * @return the correlation ID header of the frame or {@code null} if it has none; does not allocate.
+     */
+    @Nullable
+    String getCorrelationIdOrNull() {
+        return correlationId;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "topic=" + topic +
+                ", correlationId=" + correlationId +
+                "]";
+    }
+
+    /**
+     * Forward-only cursor over the raw text; only the fields of interest are ever copied out of it.
+     */
+    private static final class Cursor {
+
+        private final String text;
+        private int pos;
+
+        private Cursor(final String text) {
+            this.text = text;
+            pos = 0;
+        }
+
+        private ScannedFrame scanTopLevel() {
+            expect('{');
+            String topic = null;
+            String correlationId = null;
+            boolean headersSeen = false;
+            if (!tryConsume('}')) {
+                do {
+                    final String key = readString();
+                    expect(':');
+                    if (topic == null && TOPIC.equals(key) && peek() == '"') {
+                        topic = readString();
+                    } else if (!headersSeen && HEADERS.equals(key) && peek() == '{') {
+                        headersSeen = true;
+                        correlationId = scanHeaders();
+                    } else {
+                        skipValue();
+                    }
+                    if (topic != null && headersSeen) {
+                        // nothing else of interest follows
+                        break;
+                    }
+                } while (tryConsume(','));
+            }
+            return new ScannedFrame(topic, correlationId);
+        }
+
+        @Nullable
+        private String scanHeaders() {
+            expect('{');
+            String correlationId = null;
+            if (!tryConsume('}')) {
+                do {
+                    final String key = readString();
+                    expect(':');
+                    if (correlationId == null && CORRELATION_ID.equalsIgnoreCase(key) && peek() == '"') {
+                        correlationId = readString();
+                    } else {
+                        skipValue();
+                    }
+                } while (tryConsume(','));
+                expect('}');
+            }
+            return correlationId;
+        }
+
+        private void skipValue() {
+            final char c = peek();
+            if (c == '"') {
+                skipString();
+            } else if (c == '{' || c == '[') {
+                skipContainer();
+            } else {
+                // number or literal
+                while (pos < text.length()) {
+                    final char d = text.charAt(pos);
+                    if (d == ',' || d == '}' || d == ']' || isWhitespace(d)) {
+                        break;
+                    }
+                    pos++;
+                }
+            }
+        }
+
+        private void skipContainer() {
+            int depth = 0;
+            while (pos < text.length()) {
+                final char c = text.charAt(pos);
+                if (c == '"') {
+                    skipString();
+                    continue;
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                    if (depth == 0) {
+                        pos++;
+                        return;
+                    }
+                }
+                pos++;
+            }
+            throw new MalformedFrameException();
+        }
+
+        private void skipString() {
+            pos = endOfString(pos + 1) + 1;
+        }
+
+        private String readString() {
+            skipWhitespace();
+            if (pos >= text.length() || text.charAt(pos) != '"') {
+                throw new MalformedFrameException();
+            }
+            final int start = pos + 1;
+            final int end = endOfString(start);
+            pos = end + 1;
+            final String raw = text.substring(start, end);
+            return raw.indexOf('\\') < 0 ? raw : unescape(raw);
+        }
+
+        private int endOfString(final int start) {
+            int i = start;
+            while (i < text.length()) {
+                final char c = text.charAt(i);
+                if (c == '\\') {
+                    i += 2;
+                } else if (c == '"') {
+                    return i;
+                } else {
+                    i++;
+                }
+            }
+            throw new MalformedFrameException();
+        }
+
+        private char peek() {
+            skipWhitespace();
+            if (pos >= text.length()) {
+                throw new MalformedFrameException();
+            }
+            return text.charAt(pos);
+        }
+
+        private void expect(final char expected) {
+            if (peek() != expected) {
+                throw new MalformedFrameException();
+            }
+            pos++;
+        }
+
+        private boolean tryConsume(final char expected) {
+            if (peek() == expected) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (pos < text.length() && isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private static boolean isWhitespace(final char c) {
+            return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+        }
+
+        private static String unescape(final String raw) {
+            final StringBuilder builder = new StringBuilder(raw.length());
+            for (int i = 0; i < raw.length(); i++) {
+                final char c = raw.charAt(i);
+                if (c != '\\' || i + 1 >= raw.length()) {
+                    builder.append(c);
+                    continue;
+                }
+                final char escaped = raw.charAt(++i);
+                switch (escaped) {
+                    case 'b':
+                        builder.append('\b');
+                        break;
+                    case 'f':
+                        builder.append('\f');
+                        break;
+                    case 'n':
+                        builder.append('\n');
+                        break;
+                    case 'r':
+                        builder.append('\r');
+                        break;
+                    case 't':
+                        builder.append('\t');
+                        break;
+                    case 'u':
+                        if (i + 4 >= raw.length()) {
+                            throw new MalformedFrameException();
+                        }
+                        try {
+                            builder.append((char) Integer.parseInt(raw.substring(i + 1, i + 5), 16));
+                        } catch (final NumberFormatException e) {
+                            throw new MalformedFrameException();
+                        }
+                        i += 4;
+                        break;
+                    default:
+                        // '"', '\\' and '/'
+                        builder.append(escaped);
+                }
+            }
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Signals that the scanned text is not a JSON object; never leaves this class.
+     */
+    private static final class MalformedFrameException extends RuntimeException {
+
+        private static final long serialVersionUID = -3165786414531096826L;
+
+        private MalformedFrameException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -12,16 +12,12 @@
  */
 package org.eclipse.ditto.client.internal.bus;
 
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.text.MessageFormat;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -34,12 +30,11 @@ import org.eclipse.ditto.base.model.signals.events.Event;
 import org.eclipse.ditto.client.changes.Change;
 import org.eclipse.ditto.client.internal.HandlerRegistry;
 import org.eclipse.ditto.client.internal.SpecificChangeBuilderFunction;
-import org.eclipse.ditto.json.JsonField;
-import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.client.registration.ConsumerQueue;
+import org.eclipse.ditto.client.registration.ConsumerQueueConfiguration;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
-import org.eclipse.ditto.json.JsonValueContainer;
 import org.eclipse.ditto.messages.model.Message;
 import org.slf4j.Logger;
 
@@ -136,59 +131,22 @@ public final class SelectorUtil {
 
             final Change change = changeBuilderFunction.apply(event, message.getExtra().orElse(null));
 
-            final List<JsonPointer> jsonPointers = change.getValue()
+            // the changed paths are derived lazily from the object by the selectors matching against it:
+            final JsonObject changedObject = change.getValue()
                     .filter(JsonValue::isObject)
                     .map(JsonValue::asObject)
-                    .map(obj -> calculateJsonPointerHierarchy(JsonPointer.empty(), obj))
-                    .orElse(Collections.singletonList(JsonPointer.empty()));
+                    .orElse(null);
 
             // notify the address where the Change actually happened:
             String address = addressBuilderFunction.apply(event);
             final JsonPointer jsonPointer = JsonPointer.of(address);
             final JsonPointerWithChangePaths
-                    jsonPointerWithChangePaths = new JsonPointerWithChangePaths(jsonPointer, jsonPointers);
+                    jsonPointerWithChangePaths = new JsonPointerWithChangePaths(jsonPointer, changedObject);
             logger.trace("Notifying bus at address '{}' with obj: {}", jsonPointerWithChangePaths, change);
             in.notify(jsonPointerWithChangePaths, change);
         });
     }
 
-    /**
-     * Calculates a List of JsonPointers based on the passed {@code entryPointer} and the passed {@code fromJsonObject}.
-     * The hierarchy of the {@code fromJsonObject} will be "mapped" to the returned List of JsonPointers.
-     * <p>
-     * Example: If a {@code entryPointer} of "/things/my:thing1/attributes" is given and a {@code fromJsonObject} of
-     * {@code { "foo": { "sub": 1, "misc": "hello" }, "bar": { "other": false } } } the resulting List of JsonPointers
-     * would be:
-     * <ul>
-     * <li>/things/my:thing1/attributes/foo</li>
-     * <li>/things/my:thing1/attributes/bar/other</li>
-     * </ul>
-     */
-    private static List<JsonPointer> calculateJsonPointerHierarchy(final JsonPointer entryPointer,
-            final JsonValueContainer<JsonField> fromJsonObject) {
-
-        return fromJsonObject.stream()
-                .map(jsonField -> {
-                    final JsonValue value = jsonField.getValue();
-                    final JsonPointer pointerOnLevel = entryPointer.addLeaf(jsonField.getKey());
-                    if (value.isObject()) {
-                        final List<JsonPointer> pointersOnLevel = new ArrayList<>();
-                        final JsonObject objectOnLevel = value.asObject();
-                        pointersOnLevel.add(pointerOnLevel);
-
-                        // recurse further "down":
-                        pointersOnLevel.addAll(calculateJsonPointerHierarchy(pointerOnLevel, objectOnLevel));
-                        return pointersOnLevel;
-                    } else {
-                        return Collections.singletonList(pointerOnLevel);
-                    }
-                })
-                .reduce(new ArrayList<>(), (a, b) -> {
-                    a.addAll(b);
-                    return a;
-                });
-    }
-
     /**
      * Registers for the passed {@code selector} and {@code changeClass} the specified {@code handler} which will get a
      * Change of type {@code <T>} when a messages on the bus matches the passed {@link DefaultJsonPointerSelector
@@ -210,12 +168,97 @@ public final class SelectorUtil {
             final Consumer<T> handler,
             final SpecificChangeBuilderFunction<T> changeBuilderFunction) {
 
-        // everything after /things/{thingId}:
-        final Optional<JsonPointer> subPath = selector.getPointer().getSubPointer(2);
-        final JsonPointer selectorTemplatePath = subPath.orElse(JsonPointer.empty());
-
         // get the configured Dispatcher for the Thing Client
-        final Executor busDispatcher = inHandlerRegistry.getBusExecutor();
+        registerForChanges(inHandlerRegistry, registrationId, selector, changeClass, handler, changeBuilderFunction,
+                inHandlerRegistry.getBusExecutor());
+    }
+
+    /**
+     * Registers for the passed {@code selector} and {@code changeClass} the specified {@code handler} like
+     * {@link #registerForChanges(HandlerRegistry, String, JsonPointerSelector, Class, Consumer,
+     * SpecificChangeBuilderFunction)}, but passes the changes to the {@code handler} through a bounded
+     * {@link ConsumerQueue} drained on the executor of the bus.
+     *
+     * @param inHandlerRegistry the HandlerRegistry to use for registering the {@code handler} with the passed {@code
+     * registrationId}
+     * @param registrationId the ID to register in the {@code inHandlerRegistry} with
+     * @param selector the JsonPointerSelector to use for matching on the event bus
+     * @param changeClass the type of the Change to expect
+     * @param queueConfiguration the capacity and overflow strategy of the queue
+     * @param handler the handler which will be notified of the Change
+     * @param changeBuilderFunction the Function to use for building a specific Change of the type {@code <T>}
+     * @param <T> the type of the Change, e.g. {@link org.eclipse.ditto.client.changes.ThingChange}
+     * @return the queue of the handler
+     * @since 3.9.0
+     */
+    public static <T extends Change> ConsumerQueue registerForChanges(final HandlerRegistry<?, ?> inHandlerRegistry,
+            final String registrationId,
+            final JsonPointerSelector selector,
+            final Class<T> changeClass,
+            final ConsumerQueueConfiguration queueConfiguration,
+            final Consumer<T> handler,
+            final SpecificChangeBuilderFunction<T> changeBuilderFunction) {
+
+        final BoundedConsumerQueue<T> queue = new BoundedConsumerQueue<>(queueConfiguration, Change::getEntityId,
+                handler, inHandlerRegistry.getBusTaskExecutor(), inHandlerRegistry::scheduleOnBus);
+        // enqueueing is cheap, so the queue is fed directly by the thread notifying the bus
+        registerForChanges(inHandlerRegistry, registrationId, selector, changeClass, queue, changeBuilderFunction,
+                Runnable::run);
+        return queue;
+    }
+
+    /**
+     * Registers for the passed {@code selector} and {@code changeClass} the specified {@code handler} like
+     * {@link #registerForChanges(HandlerRegistry, String, JsonPointerSelector, Class, Consumer,
+     * SpecificChangeBuilderFunction)}, but passes the changes to the {@code handler} in micro-batches collected on the
+     * bus. A batch is passed once it holds {@code maxBatchSize} changes or {@code maxDelay} after its first change,
+     * whichever comes first. The batches are passed in order on the executor of the bus, one at a time.
+     *
+     * @param inHandlerRegistry the HandlerRegistry to use for registering the {@code handler} with the passed {@code
+     * registrationId}
+     * @param registrationId the ID to register in the {@code inHandlerRegistry} with
+     * @param selector the JsonPointerSelector to use for matching on the event bus
+     * @param changeClass the type of the Change to expect
+     * @param maxBatchSize the maximum number of changes of a batch
+     * @param maxDelay the maximum time the first change of a batch waits for further changes
+     * @param handler the handler which will be notified of the batches of Changes
+     * @param changeBuilderFunction the Function to use for building a specific Change of the type {@code <T>}
+     * @param <T> the type of the Change, e.g. {@link org.eclipse.ditto.client.changes.ThingChange}
+     * @throws IllegalArgumentException if {@code maxBatchSize} or {@code maxDelay} is not positive
+     * @since 3.9.0
+     */
+    public static <T extends Change> void registerForChanges(final HandlerRegistry<?, ?> inHandlerRegistry,
+            final String registrationId,
+            final JsonPointerSelector selector,
+            final Class<T> changeClass,
+            final int maxBatchSize,
+            final Duration maxDelay,
+            final Consumer<List<T>> handler,
+            final SpecificChangeBuilderFunction<T> changeBuilderFunction) {
+
+        checkArgument(maxBatchSize, size -> size > 0,
+                () -> "The maximum batch size must be positive but was: " + maxBatchSize);
+        checkNotNull(maxDelay, "maxDelay");
+        checkArgument(maxDelay, delay -> !delay.isNegative() && !delay.isZero(),
+                () -> "The maximum delay must be positive but was: " + maxDelay);
+
+        final BatchingConsumer<T> batchingConsumer = new BatchingConsumer<>(maxBatchSize, maxDelay, handler,
+                inHandlerRegistry.getBusTaskExecutor(), inHandlerRegistry::scheduleOnBus);
+        // adding to a batch is cheap, so batches are collected directly by the thread notifying the bus
+        registerForChanges(inHandlerRegistry, registrationId, selector, changeClass, batchingConsumer,
+                changeBuilderFunction, Runnable::run);
+    }
+
+    private static <T extends Change> void registerForChanges(final HandlerRegistry<?, ?> inHandlerRegistry,
+            final String registrationId,
+            final JsonPointerSelector selector,
+            final Class<T> changeClass,
+            final Consumer<T> handler,
+            final SpecificChangeBuilderFunction<T> changeBuilderFunction,
+            final Executor busDispatcher) {
+
+        // compiled once per registration; template parameters are bound after /things/{thingId}:
+        final TemplateMatcher templateMatcher = TemplateMatcher.compile(selector.getPointer(), 2);
 
         inHandlerRegistry.register(registrationId, selector, event -> {
             if (event.getData() instanceof Change) {
@@ -227,111 +270,71 @@ public final class SelectorUtil {
                             (JsonPointerWithChangePaths) event.getPointer();
 
                     final JsonPointer targetPointer = jsonPointerWithChangePaths.getTargetPath();
+                    final boolean targetMatches = templateMatcher.matches(targetPointer);
                     // only of the rootChange defines the passed in "changeClass" directly as interface (not inherited)
-                    if (Arrays.asList(rootChange.getClass().getInterfaces()).contains(changeClass) &&
-                            JsonPointerSelector.doesTargetMatchTemplate(targetPointer, selector.getPointer())) {
+                    if (targetMatches && isDirectInterface(rootChange.getClass(), changeClass)) {
                         // the change is directly accepted
                         handler.accept(changeClass.cast(rootChange));
                     }
                     // if already the targetPointer matches the selector
-                    else if (JsonPointerSelector.doesTargetMatchTemplate(targetPointer, selector.getPointer())) {
+                    else if (targetMatches) {
                         // we can directly invoke the handler
                         resolveTemplateParametersAndPassChangeToHandler(targetPointer, targetPointer,
-                                selectorTemplatePath, rootChange, changeBuilderFunction, handler, busDispatcher);
+                                templateMatcher, rootChange, changeBuilderFunction, handler, busDispatcher);
                     } else {
-                        // otherwise, we iterate over all "changePaths", find the matching paths and invoke the handler
-                        // for them:
-                        jsonPointerWithChangePaths.getChangePaths().stream() // for each change path
-                                .map(targetPointer::append) // append the changePath to the targetPointer
-                                // filter only matching combined paths:
-                                .filter(combinedPath -> JsonPointerSelector.doesTargetMatchTemplate(combinedPath,
-                                        selector.getPointer()))
-                                // for each matching combinedPath, resolve its template parameters and pass it to the handler:
-                                .forEach(combinedPath -> resolveTemplateParametersAndPassChangeToHandler(targetPointer,
-                                        combinedPath, selectorTemplatePath, rootChange, changeBuilderFunction, handler,
-                                        busDispatcher));
+                        // otherwise, we walk the changed object along the selector, find the matching paths and
+                        // invoke the handler for them:
+                        for (final JsonPointer combinedPath :
+                                jsonPointerWithChangePaths.getChangePathsMatching(templateMatcher)) {
+                            // resolve the template parameters of each matching path and pass it to the handler:
+                            resolveTemplateParametersAndPassChangeToHandler(targetPointer, combinedPath,
+                                    templateMatcher, rootChange, changeBuilderFunction, handler, busDispatcher);
+                        }
                     }
                 } else {
                     // only of the rootChange defines the passed in "changeClass" directly as interface (not inherited)
-                    if (Arrays.asList(rootChange.getClass().getInterfaces()).contains(changeClass)) {
+                    if (isDirectInterface(rootChange.getClass(), changeClass)) {
                         // the change is directly accepted
                         handler.accept(changeClass.cast(rootChange));
                     } else {
-                        final JsonPointer startPointer = JsonPointer.of(event.getPointer().toString());
+                        final JsonPointer startPointer = event.getPointer();
                         resolveTemplateParametersAndPassChangeToHandler(startPointer, startPointer,
-                                selectorTemplatePath, rootChange, changeBuilderFunction, handler, busDispatcher);
+                                templateMatcher, rootChange, changeBuilderFunction, handler, busDispatcher);
                     }
                 }
             }
         });
     }
 
+    private static boolean isDirectInterface(final Class<?> type, final Class<?> interfaceType) {
+        for (final Class<?> directInterface : type.getInterfaces()) {
+            if (directInterface == interfaceType) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
-     * Resolves template parameters in the passed {@code selectorTemplatePath} with the matching values in {@code
-     * targetPath}, builds the specific change with the passed {@code changeBuilderFunction} and invokes the passed
-     * {@code handler} with the resulting Change wrapping the execution with the passed {@code busDispatcher}.
+     * Resolves template parameters of the passed compiled {@code templateMatcher} with the matching keys of the
+     * {@code combinedPath}, builds the specific change with the passed {@code changeBuilderFunction} and invokes the
+     * passed {@code handler} with the resulting Change wrapping the execution with the passed {@code busDispatcher}.
      */
     private static <T extends Change> void resolveTemplateParametersAndPassChangeToHandler(final JsonPointer targetPath,
             final JsonPointer combinedPath,
-            final JsonPointer selectorTemplatePath,
+            final TemplateMatcher templateMatcher,
             final Change rootChange,
             final SpecificChangeBuilderFunction<T> changeBuilderFunction,
             final Consumer<T> handler,
             final Executor busDispatcher) {
 
-        // only select everything after /things/{thingId}:
-        final JsonPointer thingRelativePointer = combinedPath.getSubPointer(2).orElse(JsonPointer.empty());
-
-        final Map<String, String> templateParams = new HashMap<>();
-        JsonPointer pathRelativePointer = thingRelativePointer;
-        JsonPointer tmpResolvedSelectorTemplatePath = JsonPointer.empty();
-        for (int i = 0; i < selectorTemplatePath.getLevelCount(); i++) {
-            final Optional<JsonKey> trKey = thingRelativePointer.get(i);
-            final Optional<JsonKey> pKey = selectorTemplatePath.get(i);
-            if (trKey.equals(pKey)) {
-                pathRelativePointer = pathRelativePointer.nextLevel();
-                if (trKey.isPresent()) {
-                    tmpResolvedSelectorTemplatePath = tmpResolvedSelectorTemplatePath.addLeaf(trKey.get());
-                }
-            } else if (trKey.isPresent() && pKey.isPresent() && pKey.get().toString().matches("^\\{.*}$")) {
-                // matches a template, e.g. {featureId}
-                final String s = pKey.get().toString();
-                templateParams.put(s, trKey.get().toString());
-                pathRelativePointer = pathRelativePointer.nextLevel();
-                tmpResolvedSelectorTemplatePath = tmpResolvedSelectorTemplatePath.addLeaf(trKey.get());
-            }
-        }
-
-        final JsonPointer diff = JsonPointer.of(combinedPath.toString().replace(targetPath.toString(), ""));
-
-
-        final JsonPointer parsedPath = pathRelativePointer;
-        if (!diff.isEmpty() && !diff.toString().startsWith(parsedPath.toString())) {
-            // this change is not propagated as it was not subscribed for
-            return;
-        }
-
-        final JsonValue jsonValue = rootChange.getValue()
-                .map(value -> {
-                    if (parsedPath.isEmpty()) {
-                        JsonValue valueToSet = value;
-                        if (value.isObject()) {
-                            valueToSet = value.asObject().getValue(diff).get();
-                        }
-                        return valueToSet;
-                    } else {
-                        JsonValue valueToSet = value;
-                        if (value.isObject() && value.asObject().contains(diff)) {
-                            valueToSet = value.asObject().getValue(diff).get();
-                        }
-                        return JsonObject.newBuilder().set(parsedPath, valueToSet).build();
-                    }
-                }).orElse(null);
-
-        final T desiredChange =
-                changeBuilderFunction.buildSpecificChange(rootChange, jsonValue, pathRelativePointer, templateParams);
-        // use the configured Dispatcher of the Thing Client for responding to the handlers:
-        busDispatcher.execute(() -> handler.accept(desiredChange));
+        templateMatcher.resolve(targetPath, combinedPath, rootChange.getValue().orElse(null),
+                (changePath, changedValue, templateParams) -> {
+                    final T desiredChange = changeBuilderFunction.buildSpecificChange(rootChange, changedValue,
+                            changePath, templateParams);
+                    // use the configured Dispatcher of the Thing Client for responding to the handlers:
+                    busDispatcher.execute(() -> handler.accept(desiredChange));
+                });
     }
 
     /**
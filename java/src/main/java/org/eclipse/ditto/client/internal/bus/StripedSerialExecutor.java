@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs tasks on a delegate executor while guaranteeing that tasks submitted with equal keys run one after another in
+ * submission order. Keys are hashed onto a fixed number of stripes; each stripe is a mailbox which is drained by at
+ * most one thread of the delegate at any time. Tasks of different stripes run in parallel.
+ */
+final class StripedSerialExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StripedSerialExecutor.class);
+
+    private final Executor delegate;
+    private final Mailbox[] mailboxes;
+
+    /**
+     * Creates a new {@code StripedSerialExecutor}.
+     *
+     * @param delegate the executor to run the mailboxes on.
+     * @param stripes the number of stripes, must be positive.
+     */
+    StripedSerialExecutor(final Executor delegate, final int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("The number of stripes must be positive but was: " + stripes);
+        }
+        this.delegate = delegate;
+        mailboxes = new Mailbox[stripes];
+        for (int i = 0; i < stripes; i++) {
+            mailboxes[i] = new Mailbox();
+        }
+    }
+
+    /**
+     * Enqueues the task into the stripe of the given key.
+     *
+     * @param key the ordering key; tasks with equal keys run in submission order.
+     * @param task the task to run.
+     * @throws RejectedExecutionException if the delegate executor does not accept the task.
+     */
+    void execute(final Object key, final Runnable task) {
+        mailboxes[stripeOf(key)].enqueue(task);
+    }
+
+    /**
+     * @return the number of stripes.
+     */
+    int getStripes() {
+        return mailboxes.length;
+    }
+
+    private int stripeOf(final Object key) {
+        final int h = key.hashCode();
+        // spread the higher bits like HashMap does, as keys are often strings with similar prefixes
+        return ((h ^ (h >>> 16)) & Integer.MAX_VALUE) % mailboxes.length;
+    }
+
+    private final class Mailbox implements Runnable {
+
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        private void enqueue(final Runnable task) {
+            tasks.add(task);
+            trySchedule();
+        }
+
+        private void trySchedule() {
+            if (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+                try {
+                    delegate.execute(this);
+                } catch (final RejectedExecutionException e) {
+                    scheduled.set(false);
+                    tasks.clear();
+                    throw e;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    try {
+                        task.run();
+                    } catch (final RuntimeException e) {
+                        LOGGER.error("Task of serial mailbox failed: {}", e.getMessage(), e);
+                    }
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+                // a task may have been enqueued after the last poll but before resetting the flag
+                try {
+                    trySchedule();
+                } catch (final RejectedExecutionException e) {
+                    LOGGER.debug("Dropping pending tasks of serial mailbox as executor was shut down.");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * A JsonPointer template like {@code /things/{thingId}/features/{featureId}} compiled into its segments.
+ * <p>
+ * Which segments are template parameters is determined once when compiling, so matching a pointer only compares its
+ * keys with the literal segments, and resolving the parameters binds them directly from the keys of the pointer.
+ *
+ * @since 3.9.0
+ */
+final class TemplateMatcher {
+
+    private final JsonPointer template;
+    private final JsonKey[] segments;
+    private final String[] parameterNames;
+    private final int parameterLevel;
+    private final int parameterCount;
+
+    private TemplateMatcher(final JsonPointer template, final int parameterLevel) {
+        this.template = template;
+        this.parameterLevel = parameterLevel;
+        segments = new JsonKey[template.getLevelCount()];
+        final String[] names = new String[segments.length];
+        int parameters = 0;
+        int level = 0;
+        for (final JsonKey segment : template) {
+            segments[level] = segment;
+            if (JsonPointerSelector.matchesTemplateParam(segment, segment)) {
+                names[level] = segment.toString();
+                if (level >= parameterLevel) {
+                    parameters++;
+                }
+            }
+            level++;
+        }
+        parameterNames = names;
+        parameterCount = parameters;
+    }
+
+    /**
+     * Compiles the passed template.
+     *
+     * @param template the template, e.g. {@code /things/{thingId}/attributes/{attributeKey}}.
+     * @return the compiled template.
+     */
+    static TemplateMatcher compile(final JsonPointer template) {
+        return compile(template, 0);
+    }
+
+    /**
+     * Compiles the passed template whose parameters are only bound from the passed level on.
+     *
+     * @param template the template, e.g. {@code /things/{thingId}/attributes/{attributeKey}}.
+     * @param parameterLevel the level of the first segment to bind, e.g. {@code 2} to match but not bind the
+     * {@code {thingId}} of the example above.
+     * @return the compiled template.
+     */
+    static TemplateMatcher compile(final JsonPointer template, final int parameterLevel) {
+        return new TemplateMatcher(template, parameterLevel);
+    }
+
+    /**
+     * @return the template this matcher was compiled from.
+     */
+    JsonPointer getTemplate() {
+        return template;
+    }
+
+    /**
+     * @return the number of segments of the template.
+     */
+    int getLevelCount() {
+        return segments.length;
+    }
+
+    /**
+     * @param level the level of the segment.
+     * @return the segment of the template on the passed level.
+     */
+    JsonKey getSegment(final int level) {
+        return segments[level];
+    }
+
+    /**
+     * @param level the level of the segment.
+     * @return whether the segment on the passed level is a template parameter which matches any key.
+     */
+    boolean isParameter(final int level) {
+        return parameterNames[level] != null;
+    }
+
+    /**
+     * Matches the passed key against the segment on the passed level.
+     *
+     * @param key the key.
+     * @param level the level of the segment.
+     * @return whether the key matches.
+     */
+    boolean matches(final JsonKey key, final int level) {
+        return isParameter(level) || segments[level].equals(key);
+    }
+
+    /**
+     * Matches the passed pointer like {@link JsonPointerSelector#doesTargetMatchTemplate(JsonPointer, JsonPointer)}:
+     * the empty pointer matches every template, other pointers match if their first keys match all segments.
+     *
+     * @param target the pointer.
+     * @return whether the pointer matches.
+     */
+    boolean matches(final JsonPointer target) {
+        if (target.isEmpty()) {
+            return true;
+        }
+        if (target.getLevelCount() < segments.length || segments.length == 0) {
+            return false;
+        }
+        final Iterator<JsonKey> keys = target.iterator();
+        for (int level = 0; level < segments.length; level++) {
+            if (!matches(keys.next(), level)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resolves a change at the passed {@code combinedPath}, which extends the {@code targetPath} the change was
+     * created at, against the template and passes the path relative to the template, the changed value at that path
+     * and the bound template parameters to the passed consumer.
+     * <p>
+     * Nothing is passed if the change below the {@code targetPath} does not lead to the part matched by the template.
+     *
+     * @param targetPath the path the change was created at.
+     * @param combinedPath the changed path, starting with the {@code targetPath}.
+     * @param changedValue the value of the change at the {@code targetPath}.
+     * @param consumer the consumer of the resolved change.
+     */
+    void resolve(final JsonPointer targetPath, final JsonPointer combinedPath, @Nullable final JsonValue changedValue,
+            final ResolvedChangeConsumer consumer) {
+
+        final Map<String, String> templateParams =
+                parameterCount == 0 ? Collections.emptyMap() : new HashMap<>(2 * parameterCount);
+        int matchedSegments = 0;
+        final Iterator<JsonKey> keys = combinedPath.iterator();
+        for (int level = 0; level < segments.length && keys.hasNext(); level++) {
+            final JsonKey key = keys.next();
+            if (level >= parameterLevel) {
+                if (segments[level].equals(key)) {
+                    matchedSegments++;
+                } else if (isParameter(level)) {
+                    templateParams.put(parameterNames[level], key.toString());
+                    matchedSegments++;
+                }
+            }
+        }
+
+        final JsonPointer diff = subPointer(combinedPath, targetPath.getLevelCount());
+        final JsonPointer changePath = subPointer(combinedPath, parameterLevel + matchedSegments);
+        if (!diff.isEmpty() && !startsWith(diff, changePath)) {
+            // this change is not propagated as it was not subscribed for
+            return;
+        }
+
+        @Nullable final JsonValue value;
+        if (changedValue == null) {
+            value = null;
+        } else if (changePath.isEmpty()) {
+            value = changedValue.isObject() ? changedValue.asObject().getValue(diff).orElse(null) : changedValue;
+        } else {
+            final JsonValue valueToSet = changedValue.isObject() ?
+                    changedValue.asObject().getValue(diff).orElse(changedValue) : changedValue;
+            value = JsonObject.newBuilder().set(changePath, valueToSet).build();
+        }
+        consumer.accept(changePath, value, templateParams);
+    }
+
+    private static JsonPointer subPointer(final JsonPointer pointer, final int level) {
+        return level == 0 ? pointer : pointer.getSubPointer(level).orElse(JsonPointer.empty());
+    }
+
+    private static boolean startsWith(final JsonPointer pointer, final JsonPointer prefix) {
+        if (prefix.getLevelCount() > pointer.getLevelCount()) {
+            return false;
+        }
+        final Iterator<JsonKey> keys = pointer.iterator();
+        for (final JsonKey prefixKey : prefix) {
+            if (!prefixKey.equals(keys.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "template=" + template +
+                ", parameterLevel=" + parameterLevel +
+                "]";
+    }
+
+    /**
+     * Consumer of a change resolved against a template.
+     */
+    @FunctionalInterface
+    interface ResolvedChangeConsumer {
+
+        /**
+         * Accepts the resolved change.
+         *
+         * @param changePath the changed path relative to the part matched by the template.
+         * @param changedValue the changed value at that path.
+         * @param templateParams the bound template parameters, the key being the template name, e.g.
+         * {@code "{featureId}"}.
+         */
+        void accept(JsonPointer changePath, @Nullable JsonValue changedValue, Map<String, String> templateParams);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import java.util.Optional;
+
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.TopicPath;
+
+/**
+ * Classifier of adaptables which knows from the topic path alone whether it classifies a message at all and whether
+ * its classification depends on anything else than the topic path. This allows the {@link AdaptableDispatchTable}
+ * to skip it for messages it never classifies and to compute its classification once per route.
+ */
+interface TopicClassifier extends Classifier<Adaptable> {
+
+    /**
+     * Check whether this classifier may classify messages with the given topic path.
+     *
+     * @param topicPath the topic path.
+     * @return {@code false} if {@link #classify(Object)} returns an empty optional for all messages with the topic
+     * path.
+     */
+    boolean isApplicableTo(TopicPath topicPath);
+
+    /**
+     * Check whether the classification depends only on the group, channel, criterion, action and search action of
+     * the topic path. If so, {@link #classifyRoute(TopicPath)} yields the classification of all messages with the
+     * route of the topic path.
+     *
+     * @return whether all messages with the same route have the same classification.
+     */
+    boolean dependsOnRouteOnly();
+
+    /**
+     * Classify all messages with the route of the given topic path; only meaningful if
+     * {@link #dependsOnRouteOnly()}.
+     *
+     * @param topicPath the topic path.
+     * @return the classification of all messages with the route of the topic path, or an empty optional if this
+     * classifier does not depend on the route only.
+     */
+    Optional<Classification> classifyRoute(TopicPath topicPath);
+}
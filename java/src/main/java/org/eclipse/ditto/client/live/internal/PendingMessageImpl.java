@@ -18,7 +18,6 @@ import javax.annotation.Nullable;
 
 import org.eclipse.ditto.client.ack.ResponseConsumer;
 import org.eclipse.ditto.client.internal.OutgoingMessageFactory;
-import org.eclipse.ditto.client.internal.bus.Classification;
 import org.eclipse.ditto.client.live.messages.MessageSender;
 import org.eclipse.ditto.client.live.messages.MessageSerializerRegistry;
 import org.eclipse.ditto.client.live.messages.PendingMessage;
@@ -131,8 +130,8 @@ final class PendingMessageImpl<T> implements PendingMessage<T> {
         logger.trace("Message about to send: {}", toBeSentMessage);
         if (responseConsumer != null) {
             toBeSentMessage.getCorrelationId().ifPresent(correlationId ->
-                    messagingProvider.getAdaptableBus().subscribeOnceForAdaptable(
-                            Classification.forCorrelationId(correlationId),
+                    messagingProvider.getAdaptableBus().subscribeOnceForResponse(
+                            correlationId,
                             getCallbackTTL(message)
                     ).handle((responseAdaptable, error) -> {
                         typeCheckAndConsume(responseConsumer, protocolAdapter.fromAdaptable(responseAdaptable));
@@ -15,6 +15,8 @@ package org.eclipse.ditto.client.management.internal;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.argumentNotNull;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -35,6 +37,8 @@ import org.eclipse.ditto.client.management.FeatureHandle;
 import org.eclipse.ditto.client.management.ThingHandle;
 import org.eclipse.ditto.client.messaging.MessagingProvider;
 import org.eclipse.ditto.client.options.Option;
+import org.eclipse.ditto.client.registration.ConsumerQueue;
+import org.eclipse.ditto.client.registration.ConsumerQueueConfiguration;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
@@ -373,6 +377,36 @@ public abstract class ThingHandleImpl<T extends ThingHandle<F>, F extends Featur
                 });
     }
 
+    @Override
+    public ConsumerQueue registerForThingChanges(final String registrationId,
+            final ConsumerQueueConfiguration queueConfiguration, final Consumer<ThingChange> handler) {
+        argumentNotNull(queueConfiguration);
+        argumentNotNull(handler);
+        return SelectorUtil.registerForChanges(handlerRegistry, registrationId,
+                SelectorUtil.formatJsonPointer(LOGGER, "/things/{0}", thingId), ThingChange.class, queueConfiguration,
+                handler,
+                (change, value, path, params) -> {
+                    final Thing thing =
+                            value != null ? ThingsModelFactory.newThingBuilder(value.asObject()).build() : null;
+                    return new ImmutableThingChange(change.withPathAndValue(path, value), thing);
+                });
+    }
+
+    @Override
+    public void registerForThingChanges(final String registrationId, final int maxBatchSize,
+            final Duration maxDelay, final Consumer<List<ThingChange>> handler) {
+        argumentNotNull(maxDelay);
+        argumentNotNull(handler);
+        SelectorUtil.registerForChanges(handlerRegistry, registrationId,
+                SelectorUtil.formatJsonPointer(LOGGER, "/things/{0}", thingId), ThingChange.class, maxBatchSize,
+                maxDelay, handler,
+                (change, value, path, params) -> {
+                    final Thing thing =
+                            value != null ? ThingsModelFactory.newThingBuilder(value.asObject()).build() : null;
+                    return new ImmutableThingChange(change.withPathAndValue(path, value), thing);
+                });
+    }
+
     @Override
     public CompletionStage<Thing> retrieve() {
         return retrieve(new Option<?>[0]);
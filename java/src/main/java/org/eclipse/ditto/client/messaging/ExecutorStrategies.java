@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.client.internal.DefaultThreadFactory;
+import org.eclipse.ditto.client.messaging.internal.InlineExecutorService;
+import org.eclipse.ditto.client.messaging.internal.VirtualThreadExecutorStrategy;
+
+/**
+ * Factory for the built-in {@link ExecutorStrategy} implementations.
+ *
+ * @since 3.9.0
+ */
+public final class ExecutorStrategies {
+
+    private ExecutorStrategies() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the default strategy: a {@code ThreadPoolExecutor} dynamic in thread size with 0 Threads core pool size
+     * and the maximum pool size depending on the available processors (times 8). If all threads are busy, the
+     * submitting thread runs the task itself.
+     *
+     * @return the strategy.
+     */
+    public static ExecutorStrategy threadPool() {
+        return threadPool(Runtime.getRuntime().availableProcessors() * 8);
+    }
+
+    /**
+     * Returns a strategy creating a {@code ThreadPoolExecutor} like {@link #threadPool()} with the passed maximum pool
+     * size.
+     *
+     * @param maximumPoolSize the maximum number of threads.
+     * @return the strategy.
+     * @throws IllegalArgumentException if {@code maximumPoolSize} is not positive.
+     */
+    public static ExecutorStrategy threadPool(final int maximumPoolSize) {
+        checkArgument(maximumPoolSize, size -> size > 0,
+                () -> "The maximum pool size must be positive but was: " + maximumPoolSize);
+        return name -> {
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    0, maximumPoolSize, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                    new DefaultThreadFactory("ditto-client-" + name),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        };
+    }
+
+    /**
+     * Returns a strategy running each task on a new virtual thread, so that callbacks blocking on I/O do not occupy
+     * platform threads. Virtual threads are available on Java 21 and later; on older runtimes the strategy falls back
+     * to {@link #threadPool()}.
+     *
+     * @return the strategy.
+     */
+    public static ExecutorStrategy virtualThreads() {
+        return VirtualThreadExecutorStrategy.getInstance()
+                .map(ExecutorStrategy.class::cast)
+                .orElseGet(ExecutorStrategies::threadPool);
+    }
+
+    /**
+     * Returns a strategy creating a work-stealing {@code ForkJoinPool} with the passed parallelism. The pool queues
+     * tasks instead of growing, so its number of threads stays bounded by the parallelism. Tasks submitted by the
+     * same thread are run in FIFO order.
+     *
+     * @param parallelism the number of threads actively running tasks.
+     * @return the strategy.
+     * @throws IllegalArgumentException if {@code parallelism} is not positive.
+     */
+    public static ExecutorStrategy workStealing(final int parallelism) {
+        checkArgument(parallelism, p -> p > 0, () -> "The parallelism must be positive but was: " + parallelism);
+        return name -> new ForkJoinPool(parallelism, pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("ditto-client-" + name + "-" + thread.getPoolIndex());
+            return thread;
+        }, null, true);
+    }
+
+    /**
+     * Returns a strategy running each task directly on the submitting thread, e.g. the thread receiving the messages
+     * of the WebSocket, like an event loop. This avoids any handoff between threads, but callbacks must neither block
+     * nor take long, as they delay the processing of all subsequent messages.
+     *
+     * @return the strategy.
+     */
+    public static ExecutorStrategy inline() {
+        return name -> new InlineExecutorService();
+    }
+
+}
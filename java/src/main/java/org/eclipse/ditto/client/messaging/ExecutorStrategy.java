@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Strategy for creating the {@code ExecutorService} the Ditto client runs callbacks and internal bus tasks with.
+ * Implementations for common strategies are provided by {@link ExecutorStrategies}.
+ *
+ * @since 3.9.0
+ */
+@FunctionalInterface
+public interface ExecutorStrategy {
+
+    /**
+     * Creates a new {@code ExecutorService}.
+     *
+     * @param name the name to use in the created threads.
+     * @return the {@code ExecutorService}.
+     */
+    ExecutorService createExecutorService(String name);
+
+}
@@ -32,12 +32,24 @@ public class MessagingException extends RuntimeException {
 
     private static final String RECREATE_FAILED_TEMPLATE = "Recreating WebSocket of session <%s> failed.";
 
+    private static final String OUTBOUND_BUFFER_FULL_TEMPLATE =
+            "Outbound buffer of session <%s> is full, it holds at most <%d> messages.";
+
+    private static final String NOT_CONNECTED_TEMPLATE =
+            "WebSocket of session <%s> is not connected - discarded <%d> messages.";
+
+    private static final String OUTBOX_FAILED_TEMPLATE = "Outbox of session <%s> failed.";
+
     private static final long serialVersionUID = 6930767503633213674L;
 
     private MessagingException(final String message, final Throwable cause) {
         super(message, cause);
     }
 
+    private MessagingException(final String message) {
+        super(message);
+    }
+
     public static MessagingException connectFailed(final String sessionId, final Throwable cause) {
         return new MessagingException(String.format(DEFAULT_MESSAGE_TEMPLATE, sessionId), cause);
     }
@@ -54,4 +66,34 @@ public class MessagingException extends RuntimeException {
         return new MessagingException(String.format(RECREATE_FAILED_TEMPLATE, sessionId), cause);
     }
 
+    /**
+     * @param sessionId the session ID.
+     * @param bufferSize the number of messages the buffer holds at most.
+     * @return the exception of a message which was not accepted because the outbound buffer was full.
+     * @since 3.9.0
+     */
+    public static MessagingException outboundBufferFull(final String sessionId, final int bufferSize) {
+        return new MessagingException(String.format(OUTBOUND_BUFFER_FULL_TEMPLATE, sessionId, bufferSize));
+    }
+
+    /**
+     * @param sessionId the session ID.
+     * @param discardedMessages the number of discarded messages.
+     * @return the exception of messages which were discarded because the WebSocket was not connected.
+     * @since 3.9.0
+     */
+    public static MessagingException notConnected(final String sessionId, final int discardedMessages) {
+        return new MessagingException(String.format(NOT_CONNECTED_TEMPLATE, sessionId, discardedMessages));
+    }
+
+    /**
+     * @param sessionId the session ID.
+     * @param cause the cause of the failure.
+     * @return the exception of a failure to open or append to the outbox.
+     * @since 3.9.0
+     */
+    public static MessagingException outboxFailed(final String sessionId, final Throwable cause) {
+        return new MessagingException(String.format(OUTBOX_FAILED_TEMPLATE, sessionId), cause);
+    }
+
 }
@@ -21,7 +21,6 @@ import java.util.concurrent.ExecutorService;
 import org.eclipse.ditto.client.configuration.AuthenticationConfiguration;
 import org.eclipse.ditto.client.configuration.MessagingConfiguration;
 import org.eclipse.ditto.client.internal.bus.AdaptableBus;
-import org.eclipse.ditto.client.internal.bus.Classification;
 import org.eclipse.ditto.client.management.ClientReconnectingException;
 import org.eclipse.ditto.protocol.Adaptable;
 import org.eclipse.ditto.protocol.ProtocolFactory;
@@ -102,6 +101,49 @@ public interface MessagingProvider {
      */
     void emit(String message);
 
+    /**
+     * Send a message into the channel provided by this provider and get notified when it was written.
+     * <p>
+     * Unlike {@link #emit(String)}, messages emitted while the client is reconnecting are buffered and written once
+     * it is connected again. The number of messages which are emitted but not written yet is bounded by the
+     * {@link MessagingConfiguration#getOutboundBufferSize() outbound buffer size}: producers can apply backpressure
+     * by waiting for the returned stage before emitting further messages.
+     * <p>
+     * The default implementation emits the message right away and returns a completed stage.
+     *
+     * @param message the message to emit.
+     * @return a stage which completes when the message was written or fails with a
+     * {@link org.eclipse.ditto.client.messaging.MessagingException} if the outbound buffer is full or the message
+     * could not be written.
+     * @since 3.9.0
+     */
+    default CompletionStage<Void> emitAsync(final String message) {
+        final CompletableFuture<Void> written = new CompletableFuture<>();
+        try {
+            emit(message);
+            written.complete(null);
+        } catch (final RuntimeException e) {
+            written.completeExceptionally(e);
+        }
+        return written;
+    }
+
+    /**
+     * Returns a stage which completes when all subscriptions registered by
+     * {@link #registerSubscriptionMessage(Object, String)} are acknowledged by the backend again after the latest
+     * reconnection. Messages of the subscriptions may be missed until then.
+     * <p>
+     * The default implementation returns a completed stage.
+     *
+     * @return the stage of the resubscription, completed if the client did not reconnect yet. It fails if the
+     * reconnection failed permanently or a subscription was not acknowledged within the
+     * {@link MessagingConfiguration#getTimeout() timeout}.
+     * @since 3.9.0
+     */
+    default CompletionStage<Void> getResubscription() {
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Emit an adaptable message in a fire-and-forget manner.
      *
@@ -135,7 +177,7 @@ public interface MessagingProvider {
                     );
             final Duration timeout = getMessagingConfiguration().getTimeout();
             final CompletionStage<Adaptable> result = getAdaptableBus()
-                    .subscribeOnceForAdaptable(Classification.forCorrelationId(correlationId), timeout);
+                    .subscribeOnceForResponse(correlationId, timeout);
             emitAdaptable(adaptableToSend);
             return result;
         } catch (final ClientReconnectingException cre) {
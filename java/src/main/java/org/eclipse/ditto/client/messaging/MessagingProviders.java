@@ -15,13 +15,13 @@ package org.eclipse.ditto.client.messaging;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.SynchronousQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 import org.eclipse.ditto.client.configuration.MessagingConfiguration;
 import org.eclipse.ditto.client.internal.DefaultThreadFactory;
 import org.eclipse.ditto.client.internal.VersionReader;
+import org.eclipse.ditto.client.messaging.internal.HttpRequestChannels;
+import org.eclipse.ditto.client.messaging.internal.JdkWebSocketMessagingProviders;
+import org.eclipse.ditto.client.messaging.internal.ShardedMessagingProvider;
 import org.eclipse.ditto.client.messaging.internal.WebSocketMessagingProvider;
 
 import com.neovisionaries.ws.client.WebSocket;
@@ -88,6 +88,102 @@ public final class MessagingProviders {
         return webSocket(configuration, authenticationProvider, defaultCallbackExecutor);
     }
 
+    /**
+     * Creates a new {@code WebSocketMessagingProvider} whose executor for messages is created by the passed
+     * {@code executorStrategy}, e.g. {@link ExecutorStrategies#virtualThreads()} for callbacks blocking on I/O.
+     *
+     * @param configuration configuration of websocket messaging.
+     * @param authenticationProvider provides authentication.
+     * @param executorStrategy creates the executor for messages.
+     * @return the created WebSocket based MessagingProvider.
+     * @since 3.9.0
+     */
+    public static MessagingProvider webSocket(final MessagingConfiguration configuration,
+            final AuthenticationProvider<WebSocket> authenticationProvider,
+            final ExecutorStrategy executorStrategy) {
+        final ExecutorService callbackExecutor = executorStrategy.createExecutorService("default-" +
+                authenticationProvider.getConfiguration().getSessionId());
+        return webSocket(configuration, authenticationProvider, callbackExecutor);
+    }
+
+    /**
+     * Creates a new {@code ShardedMessagingProvider} spreading the messages over {@code shardCount} WebSocket
+     * connections; the messages of one thing are always sent over the same connection.
+     *
+     * @param configuration configuration of websocket messaging, applied to each connection.
+     * @param authenticationProvider provides authentication for all connections.
+     * @param shardCount the number of connections.
+     * @return the created sharded WebSocket based MessagingProvider.
+     * @throws IllegalArgumentException if {@code shardCount} is not positive or if an outbox directory is
+     * configured.
+     * @since 3.9.0
+     */
+    public static MessagingProvider shardedWebSocket(final MessagingConfiguration configuration,
+            final AuthenticationProvider<WebSocket> authenticationProvider,
+            final int shardCount) {
+        final String sessionId = authenticationProvider.getConfiguration().getSessionId();
+        return ShardedMessagingProvider.newInstance(configuration, authenticationProvider, shardCount,
+                createDefaultExecutorService("default-" + sessionId),
+                createScheduledExecutorService("adaptable-bus-" + sessionId));
+    }
+
+    /**
+     * Creates a new messaging provider based on the non-blocking {@code java.net.http.WebSocket} of Java 11 and
+     * newer, which needs no threads blocking on reading or writing. It exchanges messages as JSON and does not
+     * support the outbox, outbound batching, compression or CBOR payload encoding.
+     *
+     * @param configuration configuration of websocket messaging.
+     * @param authenticationProvider provides authentication, one of {@link AuthenticationProviders}.
+     * @return the created WebSocket based MessagingProvider.
+     * @throws UnsupportedOperationException if the Java runtime is older than Java 11.
+     * @since 3.9.0
+     */
+    public static MessagingProvider jdkWebSocket(final MessagingConfiguration configuration,
+            final AuthenticationProvider<WebSocket> authenticationProvider) {
+        final String sessionId = authenticationProvider.getConfiguration().getSessionId();
+        return jdkWebSocket(configuration, authenticationProvider, createDefaultExecutorService("default-" + sessionId),
+                createScheduledExecutorService("adaptable-bus-" + sessionId));
+    }
+
+    /**
+     * Creates a new messaging provider based on the non-blocking {@code java.net.http.WebSocket} of Java 11 and
+     * newer.
+     *
+     * @param configuration configuration of websocket messaging.
+     * @param authenticationProvider provides authentication, one of {@link AuthenticationProviders}.
+     * @param callbackExecutor the executor for messages.
+     * @param internalBusExecutor the scheduled executor for the internal bus.
+     * @return the created WebSocket based MessagingProvider.
+     * @throws UnsupportedOperationException if the Java runtime is older than Java 11.
+     * @see #jdkWebSocket(MessagingConfiguration, AuthenticationProvider)
+     * @since 3.9.0
+     */
+    public static MessagingProvider jdkWebSocket(final MessagingConfiguration configuration,
+            final AuthenticationProvider<WebSocket> authenticationProvider,
+            final ExecutorService callbackExecutor,
+            final ScheduledExecutorService internalBusExecutor) {
+        return JdkWebSocketMessagingProviders.newInstance(configuration, authenticationProvider, callbackExecutor,
+                internalBusExecutor);
+    }
+
+    /**
+     * Decorates the passed messaging provider so that twin thing commands expecting a response, such as retrieving,
+     * modifying or merging a thing, are sent as requests to the Ditto HTTP API multiplexed over a pooled HTTP/2
+     * connection, while events and all other messages are still exchanged over the WebSocket of the passed provider.
+     * Slow queries thus do not delay the consumption of events and vice versa.
+     *
+     * @param messagingProvider the WebSocket based MessagingProvider, whose endpoint determines the HTTP endpoint.
+     * @param authenticationProvider provides authentication of the HTTP requests, one of
+     * {@link AuthenticationProviders}.
+     * @return the decorated MessagingProvider.
+     * @throws UnsupportedOperationException if the Java runtime is older than Java 11.
+     * @since 3.9.0
+     */
+    public static MessagingProvider withHttpRequestChannel(final MessagingProvider messagingProvider,
+            final AuthenticationProvider<WebSocket> authenticationProvider) {
+        return HttpRequestChannels.newInstance(messagingProvider, authenticationProvider);
+    }
+
     /**
      * Creates the default {@code ExecutorService} the Ditto client uses if no other executor service was
      * configured.
@@ -102,19 +198,14 @@ public final class MessagingProviders {
     /**
      * Creates an {@code ExecutorService} backed by a {@code ThreadPoolExecutor} dynamic in thread size with 0 Threads
      * core pool size and the maximum pool size depending on the available processors (times 8).
+     * See {@link ExecutorStrategies} for other kinds of executors.
      *
      * @param name the name to use in the created threads.
      * @return the default {@code ExecutorService}.
      * @since 2.1.0
      */
     public static ExecutorService createExecutorService(final String name) {
-        final int maximumPoolSize = Runtime.getRuntime().availableProcessors() * 8; // limit by default to this max pool size
-        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
-                0, maximumPoolSize, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
-                new DefaultThreadFactory("ditto-client-" + name),
-                new ThreadPoolExecutor.CallerRunsPolicy());
-        executor.allowCoreThreadTimeOut(true);
-        return executor;
+        return ExecutorStrategies.threadPool().createExecutorService(name);
     }
 
     /**
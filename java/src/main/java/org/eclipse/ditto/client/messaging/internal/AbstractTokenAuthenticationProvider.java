@@ -16,12 +16,14 @@ import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 import org.eclipse.ditto.client.configuration.AuthenticationConfiguration;
@@ -38,7 +40,8 @@ import com.neovisionaries.ws.client.WebSocket;
  *
  * @since 1.0.0
  */
-abstract class AbstractTokenAuthenticationProvider implements AuthenticationProvider<WebSocket> {
+abstract class AbstractTokenAuthenticationProvider implements AuthenticationProvider<WebSocket>,
+        HeaderAuthentication {
 
     private static final String PROTOCOL_CMD_JWT_TOKEN_TEMPLATE = "JWT-TOKEN?jwtToken=%s";
 
@@ -46,6 +49,7 @@ abstract class AbstractTokenAuthenticationProvider implements AuthenticationProv
     private final Map<String, String> additionalHeaders;
     private final JsonWebTokenSupplier jsonWebTokenSupplier;
     private final JwtRefreshScheduler jwtRefreshScheduler;
+    @Nullable private volatile JsonWebToken requestJwt;
 
     AbstractTokenAuthenticationProvider(final TokenAuthenticationConfiguration authenticationConfiguration,
             final JsonWebTokenSupplier jsonWebTokenSupplier) {
@@ -72,6 +76,34 @@ abstract class AbstractTokenAuthenticationProvider implements AuthenticationProv
 
     private void sendJwt(final WebSocket webSocket, final JsonWebToken jsonWebToken) {
         webSocket.sendText(String.format(PROTOCOL_CMD_JWT_TOKEN_TEMPLATE, jsonWebToken.getToken()));
+        // auto flush is disabled by the messaging provider, which flushes only the batches it writes itself
+        webSocket.flush();
+    }
+
+    @Override
+    public Map<String, String> prepareHeaders(final Consumer<String> protocolMessageSender) {
+        final JsonWebToken jwt = jsonWebTokenSupplier.get();
+        jwtRefreshScheduler.scheduleRefresh(jwt.getExpirationTime(), newJwt ->
+                protocolMessageSender.accept(String.format(PROTOCOL_CMD_JWT_TOKEN_TEMPLATE, newJwt.getToken())));
+        return getHeaders(jwt);
+    }
+
+    @Override
+    public Map<String, String> getRequestHeaders() {
+        // reuse the token of previous requests until it is about to expire
+        JsonWebToken jwt = requestJwt;
+        if (null == jwt || !Instant.now()
+                .isBefore(jwt.getExpirationTime().minus(authenticationConfiguration.getExpiryGracePeriod()))) {
+            jwt = jsonWebTokenSupplier.get();
+            requestJwt = jwt;
+        }
+        return getHeaders(jwt);
+    }
+
+    private Map<String, String> getHeaders(final JsonWebToken jwt) {
+        final Map<String, String> headers = new LinkedHashMap<>(additionalHeaders);
+        headers.put("Authorization", String.format("Bearer %s", jwt.getToken()));
+        return headers;
     }
 
     @Override
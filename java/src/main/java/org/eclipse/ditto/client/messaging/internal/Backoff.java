@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongSupplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.client.configuration.BackoffConfiguration;
+
+/**
+ * Backoff state of the connection of one client according to a {@link BackoffConfiguration}: exponentially growing
+ * delays with decorrelated jitter, reset after a stable connection, and a token bucket limiting the connect attempts.
+ */
+@ThreadSafe
+final class Backoff {
+
+    private final long minBackoffNanos;
+    private final long maxBackoffNanos;
+    private final long stableConnectionPeriodNanos;
+    private final TokenBucket connectAttempts;
+    private final LongSupplier nanoClock;
+    private final LongBinaryOperator random;
+
+    private long previousDelayNanos;
+    private long connectedSinceNanos;
+    private boolean connected;
+
+    /**
+     * Creates a new backoff.
+     *
+     * @param configuration the backoff configuration.
+     * @param connectAttempts the token bucket limiting the connect attempts, may be shared with other clients.
+     */
+    Backoff(final BackoffConfiguration configuration, final TokenBucket connectAttempts) {
+        this(configuration, connectAttempts, System::nanoTime,
+                (origin, bound) -> ThreadLocalRandom.current().nextLong(origin, bound));
+    }
+
+    Backoff(final BackoffConfiguration configuration, final TokenBucket connectAttempts,
+            final LongSupplier nanoClock, final LongBinaryOperator random) {
+
+        minBackoffNanos = configuration.getMinBackoff().toNanos();
+        maxBackoffNanos = configuration.getMaxBackoff().toNanos();
+        stableConnectionPeriodNanos = configuration.getStableConnectionPeriod().toNanos();
+        this.connectAttempts = connectAttempts;
+        this.nanoClock = nanoClock;
+        this.random = random;
+        previousDelayNanos = minBackoffNanos;
+    }
+
+    /**
+     * Creates the token bucket limiting the connect attempts according to the passed configuration.
+     *
+     * @param configuration the backoff configuration.
+     * @return the token bucket.
+     */
+    static TokenBucket newConnectAttemptBucket(final BackoffConfiguration configuration) {
+        return new TokenBucket(configuration.getConnectAttemptBurst(), configuration.getConnectAttemptInterval());
+    }
+
+    /**
+     * Determines the delay before the next connect attempt: random between the minimum backoff and three times the
+     * previous delay, capped at the maximum backoff.
+     *
+     * @return the delay.
+     */
+    synchronized Duration nextDelay() {
+        final long upperBound = Math.min(maxBackoffNanos, saturatedTimesThree(previousDelayNanos));
+        final long delay = upperBound > minBackoffNanos
+                ? random.applyAsLong(minBackoffNanos, upperBound + 1)
+                : minBackoffNanos;
+        previousDelayNanos = delay;
+        return Duration.ofNanos(delay);
+    }
+
+    /**
+     * Takes a connect attempt from the token bucket if one is available.
+     *
+     * @return {@link Duration#ZERO} if the attempt may be made now, otherwise the time to wait before asking again.
+     */
+    Duration tryAcquireConnectAttempt() {
+        return connectAttempts.tryAcquire();
+    }
+
+    /**
+     * Records that the connection was established.
+     */
+    synchronized void onConnected() {
+        connected = true;
+        connectedSinceNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Records that the connection was lost and resets the delays if the connection was stable before.
+     */
+    synchronized void onDisconnected() {
+        if (connected && nanoClock.getAsLong() - connectedSinceNanos >= stableConnectionPeriodNanos) {
+            previousDelayNanos = minBackoffNanos;
+        }
+        connected = false;
+    }
+
+    private static long saturatedTimesThree(final long nanos) {
+        return nanos > Long.MAX_VALUE / 3 ? Long.MAX_VALUE : nanos * 3;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "minBackoffNanos=" + minBackoffNanos +
+                ", maxBackoffNanos=" + maxBackoffNanos +
+                ", stableConnectionPeriodNanos=" + stableConnectionPeriodNanos +
+                ", connectAttempts=" + connectAttempts +
+                "]";
+    }
+
+}
@@ -14,6 +14,12 @@ package org.eclipse.ditto.client.messaging.internal;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
 import org.eclipse.ditto.client.configuration.AuthenticationConfiguration;
 import org.eclipse.ditto.client.configuration.BasicAuthenticationConfiguration;
 import org.eclipse.ditto.client.messaging.AuthenticationProvider;
@@ -25,7 +31,7 @@ import com.neovisionaries.ws.client.WebSocket;
  *
  * @since 1.0.0
  */
-public final class BasicAuthenticationProvider implements AuthenticationProvider<WebSocket> {
+public final class BasicAuthenticationProvider implements AuthenticationProvider<WebSocket>, HeaderAuthentication {
 
     private final BasicAuthenticationConfiguration configuration;
 
@@ -45,6 +51,20 @@ public final class BasicAuthenticationProvider implements AuthenticationProvider
         webSocket.setUserInfo(username, configuration.getPassword());
     }
 
+    @Override
+    public Map<String, String> prepareHeaders(final Consumer<String> protocolMessageSender) {
+        return getRequestHeaders();
+    }
+
+    @Override
+    public Map<String, String> getRequestHeaders() {
+        final String userInfo = configuration.getUsername() + ":" + configuration.getPassword();
+        final Map<String, String> headers = new LinkedHashMap<>(configuration.getAdditionalHeaders());
+        headers.put("Authorization",
+                "Basic " + Base64.getEncoder().encodeToString(userInfo.getBytes(StandardCharsets.UTF_8)));
+        return headers;
+    }
+
     @Override
     public void destroy() {
         // nothing to destroy here
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Encodes Ditto Protocol messages as CBOR and decodes them with the {@link CborFactory} of Ditto's CBOR support,
+ * which is loaded by the {@link ServiceLoader} if {@code ditto-json-cbor} is on the classpath.
+ */
+final class CborCodec {
+
+    /**
+     * The WebSocket subprotocol offered in the {@code Sec-WebSocket-Protocol} header to negotiate binary CBOR frames.
+     * Ditto's WebSocket endpoint does not define it: the server (e.g. a proxy in front of Ditto) must be set up to
+     * agree to it, otherwise the client keeps sending and expecting JSON text frames.
+     */
+    static final String SUBPROTOCOL = "ditto-protocol.cbor";
+
+    private final CborFactory cborFactory;
+
+    private CborCodec(final CborFactory cborFactory) {
+        this.cborFactory = cborFactory;
+    }
+
+    /**
+     * Loads Ditto's CBOR support.
+     *
+     * @return the codec, or {@code null} if CBOR is not available.
+     */
+    @Nullable
+    static CborCodec load() {
+        try {
+            final Iterator<CborFactory> factories =
+                    ServiceLoader.load(CborFactory.class, CborCodec.class.getClassLoader()).iterator();
+            while (factories.hasNext()) {
+                final CborFactory factory = factories.next();
+                if (factory.isCborAvailable()) {
+                    return new CborCodec(factory);
+                }
+            }
+        } catch (final ServiceConfigurationError | LinkageError e) {
+            // an incomplete ditto-json-cbor on the classpath is treated like none
+        }
+        return null;
+    }
+
+    /**
+     * Encodes a Ditto Protocol message from its JSON representation.
+     *
+     * @param json the JSON message.
+     * @return the CBOR bytes.
+     * @throws IOException if encoding failed.
+     * @throws org.eclipse.ditto.json.JsonParseException if the message is no valid JSON.
+     */
+    byte[] encode(final String json) throws IOException {
+        return encode(JsonFactory.readFrom(json));
+    }
+
+    /**
+     * Encodes a Ditto Protocol message which is still available as JSON value, without serializing it to text first.
+     *
+     * @param json the JSON message.
+     * @return the CBOR bytes.
+     * @throws IOException if encoding failed.
+     */
+    byte[] encode(final JsonValue json) throws IOException {
+        return cborFactory.toByteArray(json);
+    }
+
+    /**
+     * Decodes a Ditto Protocol message.
+     *
+     * @param cbor the CBOR bytes.
+     * @return the decoded JSON value.
+     * @throws org.eclipse.ditto.json.JsonParseException if the bytes are no valid CBOR.
+     */
+    JsonValue decode(final byte[] cbor) {
+        return cborFactory.readFrom(cbor);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "cborFactory=" + cborFactory +
+                "]";
+    }
+
+}
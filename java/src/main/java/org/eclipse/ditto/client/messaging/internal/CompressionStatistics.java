@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the bytes of the WebSocket messages before and after {@code permessage-deflate} compression in both
+ * directions, so that the compression ratio can be monitored.
+ *
+ * @since 3.9.0
+ */
+public final class CompressionStatistics {
+
+    private final LongAdder outboundMessageBytes;
+    private final LongAdder outboundWireBytes;
+    private final LongAdder inboundMessageBytes;
+    private final LongAdder inboundWireBytes;
+
+    CompressionStatistics() {
+        outboundMessageBytes = new LongAdder();
+        outboundWireBytes = new LongAdder();
+        inboundMessageBytes = new LongAdder();
+        inboundWireBytes = new LongAdder();
+    }
+
+    void recordOutboundMessage(final CharSequence message) {
+        outboundMessageBytes.add(utf8Length(message));
+    }
+
+    void recordOutboundMessage(final int byteCount) {
+        outboundMessageBytes.add(byteCount);
+    }
+
+    void recordOutboundFrame(final int payloadLength) {
+        outboundWireBytes.add(payloadLength);
+    }
+
+    void recordInboundMessage(final CharSequence message) {
+        inboundMessageBytes.add(utf8Length(message));
+    }
+
+    void recordInboundMessage(final int byteCount) {
+        inboundMessageBytes.add(byteCount);
+    }
+
+    void recordInboundFrame(final int payloadLength) {
+        inboundWireBytes.add(payloadLength);
+    }
+
+    /**
+     * @return the number of UTF-8 bytes of the sent messages before compression.
+     */
+    public long getOutboundMessageBytes() {
+        return outboundMessageBytes.sum();
+    }
+
+    /**
+     * @return the number of payload bytes of the sent frames after compression.
+     */
+    public long getOutboundWireBytes() {
+        return outboundWireBytes.sum();
+    }
+
+    /**
+     * @return the number of UTF-8 bytes of the received messages after decompression.
+     */
+    public long getInboundMessageBytes() {
+        return inboundMessageBytes.sum();
+    }
+
+    /**
+     * @return the number of payload bytes of the received frames before decompression.
+     */
+    public long getInboundWireBytes() {
+        return inboundWireBytes.sum();
+    }
+
+    /**
+     * @return the ratio of the sent message bytes to the sent wire bytes, e.g. {@code 5.0} if the messages were
+     * compressed to a fifth of their size, or {@code 1.0} if nothing was sent yet.
+     */
+    public double getOutboundRatio() {
+        return ratio(getOutboundMessageBytes(), getOutboundWireBytes());
+    }
+
+    /**
+     * @return the ratio of the received message bytes to the received wire bytes, or {@code 1.0} if nothing was
+     * received yet.
+     */
+    public double getInboundRatio() {
+        return ratio(getInboundMessageBytes(), getInboundWireBytes());
+    }
+
+    private static double ratio(final long messageBytes, final long wireBytes) {
+        return wireBytes == 0 ? 1.0 : (double) messageBytes / wireBytes;
+    }
+
+    /**
+     * Counts the UTF-8 bytes of the passed characters without encoding them.
+     *
+     * @param chars the characters.
+     * @return the number of bytes of the characters encoded in UTF-8.
+     */
+    static long utf8Length(final CharSequence chars) {
+        long length = 0;
+        final int count = chars.length();
+        for (int i = 0; i < count; i++) {
+            final char c = chars.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "outboundMessageBytes=" + getOutboundMessageBytes() +
+                ", outboundWireBytes=" + getOutboundWireBytes() +
+                ", inboundMessageBytes=" + getInboundMessageBytes() +
+                ", inboundWireBytes=" + getInboundWireBytes() +
+                "]";
+    }
+
+}
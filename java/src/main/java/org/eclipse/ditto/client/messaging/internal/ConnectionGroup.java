@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import org.eclipse.ditto.client.configuration.DisconnectedContext;
+import org.eclipse.ditto.client.messaging.MessagingProvider;
+
+/**
+ * A group of WebSocket connections of one client which share the adaptable bus, its executors and the authentication
+ * provider. The group owns these shared resources: a connection of the group neither closes them nor notifies the
+ * disconnected listener itself, but leaves both to the group.
+ */
+interface ConnectionGroup {
+
+    /**
+     * Called when a connection of the group was disconnected, before it reconnects if reconnecting is enabled.
+     *
+     * @param connection the disconnected connection.
+     * @param context the context of the disconnection, whose handler applies to the disconnected connection.
+     */
+    void onDisconnected(MessagingProvider connection, DisconnectedContext context);
+
+    /**
+     * Called when a connection of the group was connected again after it was disconnected.
+     *
+     * @param connection the reconnected connection.
+     */
+    void onReconnected(MessagingProvider connection);
+
+    /**
+     * Closes all connections of the group and the resources they share, e.g. when a connection destroys itself
+     * because it must not reconnect.
+     */
+    void close();
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.util.Arrays;
+
+/**
+ * Consistent hash ring mapping keys to the nodes {@code 0} to {@code nodeCount - 1}.
+ * <p>
+ * Each node is placed on the ring at several points (virtual nodes) so that the keys spread evenly; a key belongs to
+ * the node of the first point at or after the hash of the key. The points are kept in a sorted array, so looking up
+ * a key is a binary search which allocates nothing.
+ */
+final class ConsistentHashRing {
+
+    private final int nodeCount;
+    private final long[] points;
+    private final int[] nodes;
+
+    /**
+     * Creates a new ring.
+     *
+     * @param nodeCount the number of nodes, must be positive.
+     * @param virtualNodes the number of points per node on the ring, must be positive.
+     */
+    ConsistentHashRing(final int nodeCount, final int virtualNodes) {
+        this.nodeCount = nodeCount;
+        final long[] unsortedPoints = new long[nodeCount * virtualNodes];
+        for (int node = 0; node < nodeCount; node++) {
+            for (int virtualNode = 0; virtualNode < virtualNodes; virtualNode++) {
+                unsortedPoints[node * virtualNodes + virtualNode] = hash("node-" + node + "#" + virtualNode);
+            }
+        }
+        points = unsortedPoints.clone();
+        Arrays.sort(points);
+        nodes = new int[points.length];
+        for (int i = 0; i < unsortedPoints.length; i++) {
+            nodes[Arrays.binarySearch(points, unsortedPoints[i])] = i / virtualNodes;
+        }
+    }
+
+    /**
+     * @return the number of nodes.
+     */
+    int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Determines the node of the passed key.
+     *
+     * @param key the key.
+     * @return the node between {@code 0} and {@code nodeCount - 1}.
+     */
+    int nodeFor(final CharSequence key) {
+        if (nodeCount == 1) {
+            return 0;
+        }
+        final int index = Arrays.binarySearch(points, hash(key));
+        final int pointIndex = index >= 0 ? index : -index - 1;
+        return nodes[pointIndex == points.length ? 0 : pointIndex];
+    }
+
+    /**
+     * 64-bit FNV-1a over the characters, finished with the MurmurHash3 mix to spread similar keys over the ring.
+     */
+    private static long hash(final CharSequence key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "nodeCount=" + nodeCount +
+                ", points=" + points.length +
+                "]";
+    }
+
+}
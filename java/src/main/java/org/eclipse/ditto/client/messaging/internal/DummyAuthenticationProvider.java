@@ -14,6 +14,10 @@ package org.eclipse.ditto.client.messaging.internal;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
 import org.eclipse.ditto.client.configuration.AuthenticationConfiguration;
 import org.eclipse.ditto.client.configuration.DummyAuthenticationConfiguration;
 import org.eclipse.ditto.client.messaging.AuthenticationProvider;
@@ -27,7 +31,7 @@ import com.neovisionaries.ws.client.WebSocket;
  *
  * @since 1.0.0
  */
-public final class DummyAuthenticationProvider implements AuthenticationProvider<WebSocket> {
+public final class DummyAuthenticationProvider implements AuthenticationProvider<WebSocket>, HeaderAuthentication {
 
     private static final String X_DITTO_DUMMY_AUTH_HEADER = "x-ditto-pre-authenticated";
 
@@ -49,6 +53,18 @@ public final class DummyAuthenticationProvider implements AuthenticationProvider
         webSocket.addHeader(X_DITTO_DUMMY_AUTH_HEADER, dummyUsername);
     }
 
+    @Override
+    public Map<String, String> prepareHeaders(final Consumer<String> protocolMessageSender) {
+        return getRequestHeaders();
+    }
+
+    @Override
+    public Map<String, String> getRequestHeaders() {
+        final Map<String, String> headers = new LinkedHashMap<>(configuration.getAdditionalHeaders());
+        headers.put(X_DITTO_DUMMY_AUTH_HEADER, configuration.getDummyUsername());
+        return headers;
+    }
+
     @Override
     public void destroy() {
         // nothing to destroy here
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Authentication expressed as headers of the WebSocket handshake, independent of the WebSocket implementation.
+ */
+interface HeaderAuthentication {
+
+    /**
+     * Prepares the authentication of a new connection.
+     *
+     * @param protocolMessageSender sends protocol messages over the connection, e.g. to renew the authentication.
+     * @return the headers to add to the handshake.
+     */
+    Map<String, String> prepareHeaders(Consumer<String> protocolMessageSender);
+
+    /**
+     * Returns the headers authenticating a single HTTP request, e.g. of the HTTP request channel.
+     *
+     * @return the headers to add to the request.
+     */
+    Map<String, String> getRequestHeaders();
+
+}
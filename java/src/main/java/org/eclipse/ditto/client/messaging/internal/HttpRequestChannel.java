@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.protocol.Adaptable;
+
+/**
+ * Sends thing commands as requests of the Ditto HTTP API.
+ */
+@FunctionalInterface
+interface HttpRequestChannel {
+
+    /**
+     * Sends a command over HTTP.
+     *
+     * @param command the command to send.
+     * @return the Ditto Protocol response of the command, see {@link HttpThingCommand#toResponse(int, String, String)}.
+     */
+    CompletionStage<Adaptable> send(HttpThingCommand command);
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.ditto.client.configuration.AuthenticationConfiguration;
+import org.eclipse.ditto.client.configuration.MessagingConfiguration;
+import org.eclipse.ditto.client.internal.bus.AdaptableBus;
+import org.eclipse.ditto.client.messaging.MessagingProvider;
+import org.eclipse.ditto.protocol.Adaptable;
+
+/**
+ * Messaging Provider sending twin thing commands which expect a response over an HTTP request channel and everything
+ * else over the WebSocket of another messaging provider. Large responses to queries are thus not queued with the
+ * events received over the WebSocket, and the queries do not wait for the events.
+ * <p>
+ * Which commands are sent over HTTP is described at {@link HttpThingCommand}.
+ *
+ * @since 3.9.0
+ */
+public final class HttpRequestChannelMessagingProvider implements MessagingProvider {
+
+    private final MessagingProvider delegate;
+    private final HttpRequestChannel requestChannel;
+
+    private HttpRequestChannelMessagingProvider(final MessagingProvider delegate,
+            final HttpRequestChannel requestChannel) {
+        this.delegate = delegate;
+        this.requestChannel = requestChannel;
+    }
+
+    /**
+     * Returns a new {@code HttpRequestChannelMessagingProvider}.
+     *
+     * @param delegate the messaging provider of the WebSocket.
+     * @param requestChannel the channel to send thing commands over.
+     * @return the provider.
+     */
+    static HttpRequestChannelMessagingProvider newInstance(final MessagingProvider delegate,
+            final HttpRequestChannel requestChannel) {
+
+        return new HttpRequestChannelMessagingProvider(checkNotNull(delegate, "delegate"),
+                checkNotNull(requestChannel, "requestChannel"));
+    }
+
+    @Override
+    public CompletionStage<?> initializeAsync() {
+        return delegate.initializeAsync().thenApply(initialized -> this);
+    }
+
+    @Override
+    public AuthenticationConfiguration getAuthenticationConfiguration() {
+        return delegate.getAuthenticationConfiguration();
+    }
+
+    @Override
+    public MessagingConfiguration getMessagingConfiguration() {
+        return delegate.getMessagingConfiguration();
+    }
+
+    @Override
+    public ExecutorService getExecutorService() {
+        return delegate.getExecutorService();
+    }
+
+    @Override
+    public AdaptableBus getAdaptableBus() {
+        return delegate.getAdaptableBus();
+    }
+
+    @Override
+    public MessagingProvider registerSubscriptionMessage(final Object key, final String message) {
+        delegate.registerSubscriptionMessage(key, message);
+        return this;
+    }
+
+    @Override
+    public MessagingProvider unregisterSubscriptionMessage(final Object key) {
+        delegate.unregisterSubscriptionMessage(key);
+        return this;
+    }
+
+    @Override
+    public void emit(final String message) {
+        delegate.emit(message);
+    }
+
+    @Override
+    public CompletionStage<Void> emitAsync(final String message) {
+        return delegate.emitAsync(message);
+    }
+
+    @Override
+    public CompletionStage<Void> getResubscription() {
+        return delegate.getResubscription();
+    }
+
+    @Override
+    public void emitAdaptable(final Adaptable message) {
+        delegate.emitAdaptable(message);
+    }
+
+    @Override
+    public CompletionStage<Adaptable> sendAdaptable(final Adaptable adaptable) {
+        final Optional<HttpThingCommand> httpThingCommand = HttpThingCommand.of(adaptable);
+        if (httpThingCommand.isPresent()) {
+            return requestChannel.send(httpThingCommand.get());
+        }
+        return delegate.sendAdaptable(adaptable);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+    public void registerChannelCloser(final Runnable channelCloser) {
+        delegate.registerChannelCloser(channelCloser);
+    }
+
+    @Override
+    public void onDittoProtocolError(final Throwable throwable) {
+        delegate.onDittoProtocolError(throwable);
+    }
+
+}
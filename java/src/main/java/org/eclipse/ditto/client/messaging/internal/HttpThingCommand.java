@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.eclipse.ditto.protocol.TopicPath;
+
+/**
+ * A twin thing command of the Ditto Protocol mapped to a request of the Ditto HTTP API, and the HTTP response mapped
+ * back to the Ditto Protocol response of the command.
+ * <p>
+ * Only commands with a response equivalent to the one received over the WebSocket are mapped: retrieving, modifying,
+ * merging and deleting a single thing or a part of it without requesting acknowledgements. Creating a thing is not
+ * mapped, as {@code PUT} would modify an existing thing instead of failing.
+ */
+final class HttpThingCommand {
+
+    private static final String API_PATH = "/api/2/things/";
+    private static final String WS_PATH_REGEX = "/ws/\\d+/?$";
+    private static final String MERGE_PATCH_CONTENT_TYPE = "application/merge-patch+json";
+    private static final String JSON_CONTENT_TYPE = "application/json";
+
+    /**
+     * Headers the HTTP client sets itself or which do not apply to a request.
+     */
+    private static final Set<String> EXCLUDED_HEADERS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "connection", "content-length", "content-type", "date", "expect", "from", "host", "origin", "referer",
+            "upgrade", "via", "warning")));
+
+    private final Adaptable command;
+    private final String method;
+    private final String pathAndQuery;
+    private final Map<String, String> headers;
+    @Nullable private final String body;
+
+    private HttpThingCommand(final Adaptable command, final String method, final String pathAndQuery,
+            final Map<String, String> headers, @Nullable final String body) {
+        this.command = command;
+        this.method = method;
+        this.pathAndQuery = pathAndQuery;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    /**
+     * Maps a Ditto Protocol message to a request of the Ditto HTTP API.
+     *
+     * @param adaptable the message to send.
+     * @return the request, or an empty optional if the message cannot be sent over HTTP with the same response.
+     */
+    static Optional<HttpThingCommand> of(final Adaptable adaptable) {
+        final TopicPath topicPath = adaptable.getTopicPath();
+        final DittoHeaders dittoHeaders = adaptable.getDittoHeaders();
+        if (TopicPath.Group.THINGS != topicPath.getGroup() ||
+                TopicPath.Channel.TWIN != topicPath.getChannel() ||
+                TopicPath.Criterion.COMMANDS != topicPath.getCriterion() ||
+                TopicPath.ID_PLACEHOLDER.equals(topicPath.getNamespace()) ||
+                TopicPath.ID_PLACEHOLDER.equals(topicPath.getEntityName()) ||
+                dittoHeaders.containsKey(DittoHeaderDefinition.REQUESTED_ACKS.getKey())) {
+            return Optional.empty();
+        }
+        final String method = topicPath.getAction().map(HttpThingCommand::toMethod).orElse(null);
+        if (null == method) {
+            return Optional.empty();
+        }
+
+        final StringBuilder pathAndQuery = new StringBuilder(API_PATH)
+                .append(encode(topicPath.getNamespace() + ":" + topicPath.getEntityName()));
+        for (final JsonKey key : adaptable.getPayload().getPath()) {
+            pathAndQuery.append('/').append(encode(key.toString()));
+        }
+        adaptable.getPayload().getFields()
+                .ifPresent(fields -> pathAndQuery.append("?fields=").append(encode(fields.toString())));
+
+        final Map<String, String> headers = new LinkedHashMap<>();
+        dittoHeaders.forEach((key, value) -> {
+            if (!EXCLUDED_HEADERS.contains(key.toLowerCase(Locale.ENGLISH))) {
+                headers.put(key, value);
+            }
+        });
+        final String body;
+        if ("PUT".equals(method) || "PATCH".equals(method)) {
+            headers.put("Content-Type", "PATCH".equals(method) ? MERGE_PATCH_CONTENT_TYPE : JSON_CONTENT_TYPE);
+            body = adaptable.getPayload().getValue().orElse(JsonValue.nullLiteral()).toString();
+        } else {
+            body = null;
+        }
+        return Optional.of(new HttpThingCommand(adaptable, method, pathAndQuery.toString(), headers, body));
+    }
+
+    @Nullable
+    private static String toMethod(final TopicPath.Action action) {
+        switch (action) {
+            case RETRIEVE:
+                return "GET";
+            case MODIFY:
+                return "PUT";
+            case MERGE:
+                return "PATCH";
+            case DELETE:
+                return "DELETE";
+            default:
+                return null;
+        }
+    }
+
+    private static String encode(final String pathSegmentOrParameter) {
+        try {
+            return URLEncoder.encode(pathSegmentOrParameter, StandardCharsets.UTF_8.name()).replace("+", "%20");
+        } catch (final UnsupportedEncodingException e) {
+            throw new IllegalStateException("UTF-8 is not supported", e);
+        }
+    }
+
+    /**
+     * Determines the base URI of the Ditto HTTP API from the endpoint of the Ditto WebSocket.
+     *
+     * @param webSocketEndpoint the WebSocket endpoint, e.g. {@code wss://ditto.example.com/ws/2}.
+     * @return the HTTP base URI, e.g. {@code https://ditto.example.com}.
+     * @throws IllegalArgumentException if the endpoint is no WebSocket URI.
+     */
+    static URI getHttpBaseUri(final URI webSocketEndpoint) {
+        final String scheme;
+        if ("wss".equalsIgnoreCase(webSocketEndpoint.getScheme())) {
+            scheme = "https";
+        } else if ("ws".equalsIgnoreCase(webSocketEndpoint.getScheme())) {
+            scheme = "http";
+        } else {
+            throw new IllegalArgumentException("No WebSocket URI: " + webSocketEndpoint);
+        }
+        final String path = null != webSocketEndpoint.getRawPath()
+                ? webSocketEndpoint.getRawPath().replaceFirst(WS_PATH_REGEX, "")
+                : "";
+        try {
+            return new URI(scheme + "://" + webSocketEndpoint.getRawAuthority() + path);
+        } catch (final URISyntaxException e) {
+            throw new IllegalArgumentException("No WebSocket URI: " + webSocketEndpoint, e);
+        }
+    }
+
+    /**
+     * @return the HTTP method of the request.
+     */
+    String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the path and query of the request relative to the HTTP base URI, starting with {@code /api/2/things/}.
+     */
+    String getPathAndQuery() {
+        return pathAndQuery;
+    }
+
+    /**
+     * @return the headers of the request.
+     */
+    Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return the JSON body of the request, if any.
+     */
+    Optional<String> getBody() {
+        return Optional.ofNullable(body);
+    }
+
+    /**
+     * Maps the HTTP response to the Ditto Protocol response of the command.
+     *
+     * @param statusCode the status code of the HTTP response.
+     * @param eTag the {@code ETag} header of the HTTP response, if any.
+     * @param responseBody the body of the HTTP response, empty if there was none.
+     * @return the response.
+     * @throws IllegalStateException if the response of an error status is no Ditto error.
+     */
+    Adaptable toResponse(final int statusCode, @Nullable final String eTag, final String responseBody) {
+        final TopicPath topicPath = command.getTopicPath();
+        final boolean isError = statusCode >= 400;
+        @Nullable final JsonValue value = responseBody.isEmpty() ? null : parse(statusCode, responseBody);
+        if (isError && (null == value || !value.isObject())) {
+            throw new IllegalStateException("Unexpected HTTP response <" + statusCode + ">: " + responseBody);
+        }
+        final String topic = isError
+                ? topicPath.getNamespace() + "/" + topicPath.getEntityName() + "/things/twin/errors"
+                : topicPath.getPath();
+        final JsonObject requestHeaders = command.getDittoHeaders().toJson();
+        final JsonObject responseHeaders = null != eTag
+                ? requestHeaders.setValue(DittoHeaderDefinition.ETAG.getKey(), eTag)
+                : requestHeaders;
+        final JsonObject response = JsonObject.newBuilder()
+                .set("topic", topic)
+                .set("headers", responseHeaders)
+                .set("path", isError ? "/" : command.getPayload().getPath().toString())
+                .set("status", statusCode)
+                .build();
+        return ProtocolFactory.jsonifiableAdaptableFromJson(null != value
+                ? response.setValue("value", value)
+                : response);
+    }
+
+    private static JsonValue parse(final int statusCode, final String responseBody) {
+        try {
+            return JsonFactory.readFrom(responseBody);
+        } catch (final RuntimeException e) {
+            throw new IllegalStateException("Unexpected HTTP response <" + statusCode + ">: " + responseBody, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "method=" + method +
+                ", pathAndQuery=" + pathAndQuery +
+                "]";
+    }
+
+}
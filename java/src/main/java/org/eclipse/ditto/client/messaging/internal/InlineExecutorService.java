@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code ExecutorService} running each task directly on the submitting thread.
+ *
+ * @since 3.9.0
+ */
+public final class InlineExecutorService extends AbstractExecutorService {
+
+    private final AtomicInteger runningTasks;
+    private volatile boolean shutdown;
+
+    public InlineExecutorService() {
+        runningTasks = new AtomicInteger();
+        shutdown = false;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor was shut down.");
+        }
+        runningTasks.incrementAndGet();
+        try {
+            command.run();
+        } finally {
+            if (runningTasks.decrementAndGet() == 0 && shutdown) {
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && runningTasks.get() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (this) {
+            while (!isTerminated()) {
+                final long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces outbound messages of many producers into batches which are written by a single drainer at a time.
+ * <p>
+ * Producers only enqueue their message. The producer which finds no drain in progress becomes the drainer and writes
+ * all queued messages in batches, so messages emitted concurrently are written together with one flush of the socket
+ * per batch instead of one flush per message. With a linger duration greater than zero, the first message of a batch
+ * waits for further messages until either the linger duration has passed or the batch is full.
+ * <p>
+ * Messages may be written with a future which completes once the batch containing the message was written, or fails
+ * if writing the batch failed. While the sink is not writable, e.g. during a reconnect, messages stay queued until
+ * {@link #flush()} is called after it became writable again.
+ */
+final class OutboundWriter<M> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboundWriter.class);
+
+    /**
+     * Number of batches a drainer writes before handing the remaining messages over to the scheduler, so that a
+     * producer thread which became the drainer is not kept busy by other producers indefinitely.
+     */
+    private static final int MAX_BATCHES_PER_DRAIN = 16;
+
+    private final int maxBatchMessages;
+    private final int maxBatchCharacters;
+    private final Duration linger;
+    private final ScheduledExecutorService scheduler;
+    private final Consumer<List<M>> batchWriter;
+    private final ToIntFunction<? super M> messageSize;
+    private final BooleanSupplier writable;
+
+    private final Queue<OutboundMessage<M>> queue;
+    private final AtomicInteger queuedMessages;
+    private final AtomicLong queuedCharacters;
+    private final AtomicBoolean drainScheduled;
+    /**
+     * Whether a lingering drain is scheduled which was not taken over yet; whoever resets it runs the drain.
+     */
+    private final AtomicBoolean lingering;
+    @Nullable private volatile ScheduledFuture<?> lingeringDrain;
+
+    /**
+     * Creates a new writer.
+     *
+     * @param maxBatchMessages the maximum number of messages of a batch.
+     * @param maxBatchCharacters the maximum size of the messages of a batch. A single larger message is written as a
+     * batch on its own.
+     * @param linger how long the first message of a batch waits for further messages.
+     * @param scheduler the scheduler to run delayed and handed over drains on.
+     * @param batchWriter writes a batch of messages, never invoked concurrently. Throwing an exception fails the
+     * futures of the messages of the batch.
+     * @param messageSize the size of a message, e.g. its number of characters.
+     */
+    OutboundWriter(final int maxBatchMessages, final int maxBatchCharacters, final Duration linger,
+            final ScheduledExecutorService scheduler, final Consumer<List<M>> batchWriter,
+            final ToIntFunction<? super M> messageSize) {
+        this(maxBatchMessages, maxBatchCharacters, linger, scheduler, batchWriter, messageSize, () -> true);
+    }
+
+    /**
+     * Creates a new writer which keeps the messages queued while the sink is not writable.
+     *
+     * @param maxBatchMessages the maximum number of messages of a batch.
+     * @param maxBatchCharacters the maximum size of the messages of a batch. A single larger message is written as a
+     * batch on its own.
+     * @param linger how long the first message of a batch waits for further messages.
+     * @param scheduler the scheduler to run delayed and handed over drains on.
+     * @param batchWriter writes a batch of messages, never invoked concurrently. Throwing an exception fails the
+     * futures of the messages of the batch.
+     * @param messageSize the size of a message, e.g. its number of characters.
+     * @param writable tells whether the batch writer can write at the moment.
+     */
+    OutboundWriter(final int maxBatchMessages, final int maxBatchCharacters, final Duration linger,
+            final ScheduledExecutorService scheduler, final Consumer<List<M>> batchWriter,
+            final ToIntFunction<? super M> messageSize, final BooleanSupplier writable) {
+        this.maxBatchMessages = maxBatchMessages;
+        this.maxBatchCharacters = maxBatchCharacters;
+        this.linger = linger;
+        this.scheduler = scheduler;
+        this.batchWriter = batchWriter;
+        this.messageSize = messageSize;
+        this.writable = writable;
+        queue = new ConcurrentLinkedQueue<>();
+        queuedMessages = new AtomicInteger();
+        queuedCharacters = new AtomicLong();
+        drainScheduled = new AtomicBoolean(false);
+        lingering = new AtomicBoolean(false);
+        lingeringDrain = null;
+    }
+
+    /**
+     * Writes the passed message with the next batch.
+     *
+     * @param message the message.
+     */
+    void write(final M message) {
+        write(message, null);
+    }
+
+    /**
+     * Writes the passed message with the next batch and completes the passed future once it was written.
+     *
+     * @param message the message.
+     * @param written the future to complete once the message was written, or {@code null}.
+     */
+    void write(final M message, @Nullable final CompletableFuture<Void> written) {
+        final OutboundMessage<M> outboundMessage =
+                new OutboundMessage<>(message, messageSize.applyAsInt(message), written);
+        queue.add(outboundMessage);
+        queuedMessages.incrementAndGet();
+        queuedCharacters.addAndGet(outboundMessage.size);
+        if (drainScheduled.compareAndSet(false, true)) {
+            if (linger.isZero() || isBatchFull()) {
+                drain();
+            } else {
+                scheduleLingeringDrain();
+            }
+        } else if (isBatchFull()) {
+            drainLingeringNow();
+        }
+    }
+
+    /**
+     * Writes the queued messages right away instead of letting them linger, e.g. after the sink became writable again.
+     */
+    void flush() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            drain();
+        } else {
+            drainLingeringNow();
+        }
+    }
+
+    /**
+     * Discards the queued messages and fails their futures.
+     *
+     * @param cause creates the error to fail the futures with from the number of discarded messages.
+     * @return the number of discarded messages.
+     */
+    int discard(final IntFunction<? extends RuntimeException> cause) {
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        int discarded = 0;
+        OutboundMessage<M> next;
+        while ((next = queue.poll()) != null) {
+            queuedMessages.decrementAndGet();
+            queuedCharacters.addAndGet(-next.size);
+            if (next.written != null) {
+                futures.add(next.written);
+            }
+            discarded++;
+        }
+        if (!futures.isEmpty()) {
+            final RuntimeException error = cause.apply(discarded);
+            futures.forEach(future -> future.completeExceptionally(error));
+        }
+        return discarded;
+    }
+
+    private boolean isBatchFull() {
+        return queuedMessages.get() >= maxBatchMessages || queuedCharacters.get() >= maxBatchCharacters;
+    }
+
+    private void drainLingeringNow() {
+        // cancelling the scheduled drain does not tell whether it already started, so it is taken over by the flag
+        if (lingering.compareAndSet(true, false)) {
+            final ScheduledFuture<?> scheduledDrain = lingeringDrain;
+            if (scheduledDrain != null) {
+                scheduledDrain.cancel(false);
+            }
+            drain();
+        }
+    }
+
+    private void drainAfterLingering() {
+        if (lingering.compareAndSet(true, false)) {
+            drain();
+        }
+    }
+
+    private void scheduleLingeringDrain() {
+        lingering.set(true);
+        try {
+            lingeringDrain = scheduler.schedule(this::drainAfterLingering, linger.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (final RejectedExecutionException e) {
+            LOGGER.debug("Could not schedule writing messages after lingering: {}", e.getMessage());
+            drainAfterLingering();
+        }
+    }
+
+    private void handOverDrain() {
+        try {
+            scheduler.execute(this::drain);
+        } catch (final RejectedExecutionException e) {
+            LOGGER.debug("Could not hand over writing messages: {}", e.getMessage());
+            drain();
+        }
+    }
+
+    private void drain() {
+        lingeringDrain = null;
+        final List<M> batch = new ArrayList<>(Math.min(maxBatchMessages, 64));
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < MAX_BATCHES_PER_DRAIN && writable.getAsBoolean() && pollBatch(batch, futures); i++) {
+            try {
+                batchWriter.accept(batch);
+                futures.forEach(future -> future.complete(null));
+            } catch (final RuntimeException e) {
+                LOGGER.error("Failed to write batch of <{}> messages: {}", batch.size(), e.getMessage());
+                futures.forEach(future -> future.completeExceptionally(e));
+            }
+            batch.clear();
+            futures.clear();
+        }
+        drainScheduled.set(false);
+        // a message may have been enqueued after the last poll but before the flag was reset; messages which are not
+        // writable yet are left for the flush after the sink became writable
+        if (!queue.isEmpty() && writable.getAsBoolean() && drainScheduled.compareAndSet(false, true)) {
+            if (linger.isZero() || isBatchFull()) {
+                handOverDrain();
+            } else {
+                scheduleLingeringDrain();
+            }
+        }
+    }
+
+    private boolean pollBatch(final List<M> batch, final List<CompletableFuture<Void>> futures) {
+        // only the drainer removes messages, so the peeked message is the polled one
+        int batchCharacters = 0;
+        OutboundMessage<M> next;
+        while (batch.size() < maxBatchMessages && (next = queue.peek()) != null &&
+                (batch.isEmpty() || batchCharacters + next.size <= maxBatchCharacters)) {
+            queue.poll();
+            queuedMessages.decrementAndGet();
+            queuedCharacters.addAndGet(-next.size);
+            batchCharacters += next.size;
+            batch.add(next.message);
+            if (next.written != null) {
+                futures.add(next.written);
+            }
+        }
+        return !batch.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "maxBatchMessages=" + maxBatchMessages +
+                ", maxBatchCharacters=" + maxBatchCharacters +
+                ", linger=" + linger +
+                "]";
+    }
+
+    private static final class OutboundMessage<M> {
+
+        private final M message;
+        private final int size;
+        @Nullable private final CompletableFuture<Void> written;
+
+        private OutboundMessage(final M message, final int size, @Nullable final CompletableFuture<Void> written) {
+            this.message = message;
+            this.size = size;
+            this.written = written;
+        }
+    }
+
+}
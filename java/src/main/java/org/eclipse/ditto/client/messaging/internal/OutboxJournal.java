@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.ObjLongConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent journal of outbound messages, stored as a log of memory-mapped segment files in a directory.
+ * <p>
+ * Each appended message gets the next sequence number. A segment file is named after the sequence number of its first
+ * message and holds records of the form {@code [length][crc32][UTF-8 bytes]}; the length is written last, so a
+ * record torn by a crash of the JVM is detected by its missing length or checksum and ignored when the journal is
+ * opened again. Appending only copies the message into the mapped segment, the operating system writes it to disk.
+ * <p>
+ * Messages are acknowledged in order once they were delivered. The acknowledged sequence number is stored in a file
+ * of its own, and segments which only hold acknowledged messages are deleted.
+ */
+final class OutboxJournal implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "outbox-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String ACKNOWLEDGED_FILE_NAME = "outbox.ack";
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Deque<Segment> segments;
+    private final MappedByteBuffer acknowledgedBuffer;
+
+    private long lastSequenceNumber;
+    private long acknowledgedSequenceNumber;
+
+    private OutboxJournal(final Path directory, final int segmentSize, final Deque<Segment> segments,
+            final MappedByteBuffer acknowledgedBuffer) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.segments = segments;
+        this.acknowledgedBuffer = acknowledgedBuffer;
+        // messages before the first segment were acknowledged even if the acknowledged file got lost
+        final long acknowledgedBeforeFirstSegment =
+                segments.isEmpty() ? 0L : segments.getFirst().firstSequenceNumber - 1;
+        acknowledgedSequenceNumber = Math.max(acknowledgedBuffer.getLong(0), acknowledgedBeforeFirstSegment);
+        lastSequenceNumber =
+                segments.isEmpty() ? acknowledgedSequenceNumber : segments.getLast().getLastSequenceNumber();
+    }
+
+    /**
+     * Opens the journal in the passed directory, recovering the messages appended before.
+     *
+     * @param directory the directory of the journal, created if it does not exist.
+     * @param segmentSize the size of a segment file in bytes.
+     * @return the journal.
+     * @throws IOException if the journal could not be opened.
+     */
+    static OutboxJournal open(final Path directory, final int segmentSize) throws IOException {
+        Files.createDirectories(directory);
+        final List<Path> segmentFiles = new ArrayList<>();
+        try (final DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            files.forEach(segmentFiles::add);
+        }
+        // the zero padded sequence numbers sort like the file names
+        segmentFiles.sort(null);
+        final Deque<Segment> segments = new ArrayDeque<>();
+        for (final Path segmentFile : segmentFiles) {
+            segments.add(Segment.recover(segmentFile, parseFirstSequenceNumber(segmentFile)));
+        }
+        final MappedByteBuffer acknowledgedBuffer = map(directory.resolve(ACKNOWLEDGED_FILE_NAME), Long.BYTES);
+        final OutboxJournal journal = new OutboxJournal(directory, segmentSize, segments, acknowledgedBuffer);
+        journal.deleteAcknowledgedSegments();
+        return journal;
+    }
+
+    /**
+     * Appends the passed message.
+     *
+     * @param message the message.
+     * @return the sequence number of the message.
+     * @throws IOException if a new segment could not be created.
+     */
+    synchronized long append(final String message) throws IOException {
+        final byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        Segment segment = segments.peekLast();
+        if (segment == null || !segment.hasSpaceFor(bytes.length)) {
+            final long firstSequenceNumber = lastSequenceNumber + 1;
+            final int size = Math.max(segmentSize, RECORD_HEADER_SIZE + bytes.length);
+            segment = Segment.create(directory.resolve(segmentFileName(firstSequenceNumber)), firstSequenceNumber,
+                    size);
+            segments.add(segment);
+        }
+        segment.append(bytes);
+        return ++lastSequenceNumber;
+    }
+
+    /**
+     * Passes the messages starting with the passed sequence number in order to the passed consumer.
+     *
+     * @param fromSequenceNumber the sequence number of the first message to pass.
+     * @param consumer the consumer of the messages and their sequence numbers.
+     */
+    synchronized void forEachFrom(final long fromSequenceNumber, final ObjLongConsumer<String> consumer) {
+        forEachFrom(fromSequenceNumber, Integer.MAX_VALUE, consumer);
+    }
+
+    /**
+     * Passes at most {@code maxMessages} messages starting with the passed sequence number in order to the passed
+     * consumer, so that a large backlog can be read in chunks.
+     *
+     * @param fromSequenceNumber the sequence number of the first message to pass.
+     * @param maxMessages the maximum number of messages to pass.
+     * @param consumer the consumer of the messages and their sequence numbers.
+     * @return the number of passed messages.
+     */
+    synchronized int forEachFrom(final long fromSequenceNumber, final int maxMessages,
+            final ObjLongConsumer<String> consumer) {
+        int passed = 0;
+        for (final Segment segment : segments) {
+            if (passed < maxMessages && segment.getLastSequenceNumber() >= fromSequenceNumber) {
+                passed += segment.forEachFrom(fromSequenceNumber, maxMessages - passed, consumer);
+            }
+        }
+        return passed;
+    }
+
+    /**
+     * Acknowledges the message with the passed sequence number if it directly follows the acknowledged messages.
+     * Acknowledging out of order has no effect, so the messages after a gap are passed again by
+     * {@link #forEachFrom(long, ObjLongConsumer)}.
+     *
+     * @param sequenceNumber the sequence number of the delivered message.
+     * @return whether the message was acknowledged.
+     */
+    synchronized boolean acknowledge(final long sequenceNumber) {
+        if (sequenceNumber != acknowledgedSequenceNumber + 1) {
+            return false;
+        }
+        acknowledgedSequenceNumber = sequenceNumber;
+        acknowledgedBuffer.putLong(0, sequenceNumber);
+        deleteAcknowledgedSegments();
+        return true;
+    }
+
+    /**
+     * @return the sequence number of the last appended message, {@code 0} if no message was appended yet.
+     */
+    synchronized long getLastSequenceNumber() {
+        return lastSequenceNumber;
+    }
+
+    /**
+     * @return the sequence number of the last acknowledged message.
+     */
+    synchronized long getAcknowledgedSequenceNumber() {
+        return acknowledgedSequenceNumber;
+    }
+
+    @Override
+    public synchronized void close() {
+        segments.forEach(Segment::force);
+        acknowledgedBuffer.force();
+    }
+
+    private void deleteAcknowledgedSegments() {
+        // the current segment is kept to append to
+        while (segments.size() > 1 && segments.getFirst().getLastSequenceNumber() <= acknowledgedSequenceNumber) {
+            segments.removeFirst().delete();
+        }
+        final Segment current = segments.peekLast();
+        if (current != null && current.isFull() && current.getLastSequenceNumber() <= acknowledgedSequenceNumber) {
+            segments.removeLast().delete();
+        }
+    }
+
+    private static String segmentFileName(final long firstSequenceNumber) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, firstSequenceNumber, SEGMENT_SUFFIX);
+    }
+
+    private static long parseFirstSequenceNumber(final Path segmentFile) {
+        final String fileName = segmentFile.getFileName().toString();
+        return Long.parseLong(
+                fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static MappedByteBuffer map(final Path file, final int size) throws IOException {
+        // the mapping stays valid after the channel was closed
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, channel.size()));
+        }
+    }
+
+    private static int checksum(final ByteBuffer buffer, final int offset, final int length) {
+        final CRC32 crc = new CRC32();
+        final ByteBuffer bytes = buffer.duplicate();
+        // positioned as Buffer: the covariant overrides of ByteBuffer only exist since Java 9
+        ((Buffer) bytes).position(offset);
+        ((Buffer) bytes).limit(offset + length);
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "directory=" + directory +
+                ", segmentSize=" + segmentSize +
+                "]";
+    }
+
+    /**
+     * A memory-mapped segment file of the journal.
+     */
+    private static final class Segment {
+
+        private final Path file;
+        private final long firstSequenceNumber;
+        private final MappedByteBuffer buffer;
+        private final List<Integer> recordOffsets;
+        private int writePosition;
+
+        private Segment(final Path file, final long firstSequenceNumber, final MappedByteBuffer buffer) {
+            this.file = file;
+            this.firstSequenceNumber = firstSequenceNumber;
+            this.buffer = buffer;
+            recordOffsets = new ArrayList<>();
+            writePosition = 0;
+        }
+
+        private static Segment create(final Path file, final long firstSequenceNumber, final int size)
+                throws IOException {
+            return new Segment(file, firstSequenceNumber, map(file, size));
+        }
+
+        private static Segment recover(final Path file, final long firstSequenceNumber) throws IOException {
+            final Segment segment = new Segment(file, firstSequenceNumber, map(file, 0));
+            final MappedByteBuffer buffer = segment.buffer;
+            int position = 0;
+            while (position + RECORD_HEADER_SIZE <= buffer.capacity()) {
+                final int length = buffer.getInt(position);
+                final int dataOffset = position + RECORD_HEADER_SIZE;
+                if (length <= 0 || dataOffset + length > buffer.capacity() ||
+                        buffer.getInt(position + Integer.BYTES) != checksum(buffer, dataOffset, length)) {
+                    break;
+                }
+                segment.recordOffsets.add(position);
+                position = dataOffset + length;
+            }
+            segment.writePosition = position;
+            // clears what is left of a torn record
+            for (int i = position; i < Math.min(position + RECORD_HEADER_SIZE, buffer.capacity()); i++) {
+                buffer.put(i, (byte) 0);
+            }
+            return segment;
+        }
+
+        private boolean hasSpaceFor(final int length) {
+            return writePosition + RECORD_HEADER_SIZE + length <= buffer.capacity();
+        }
+
+        private boolean isFull() {
+            return !hasSpaceFor(1);
+        }
+
+        private void append(final byte[] bytes) {
+            final int dataOffset = writePosition + RECORD_HEADER_SIZE;
+            final ByteBuffer data = buffer.duplicate();
+            ((Buffer) data).position(dataOffset);
+            data.put(bytes);
+            buffer.putInt(writePosition + Integer.BYTES, checksum(buffer, dataOffset, bytes.length));
+            // the length completes the record
+            buffer.putInt(writePosition, bytes.length);
+            recordOffsets.add(writePosition);
+            writePosition = dataOffset + bytes.length;
+        }
+
+        private long getLastSequenceNumber() {
+            return firstSequenceNumber + recordOffsets.size() - 1;
+        }
+
+        private int forEachFrom(final long fromSequenceNumber, final int maxMessages,
+                final ObjLongConsumer<String> consumer) {
+            final int fromIndex = (int) Math.max(0L, fromSequenceNumber - firstSequenceNumber);
+            final int toIndex = (int) Math.min(recordOffsets.size(), (long) fromIndex + maxMessages);
+            for (int i = fromIndex; i < toIndex; i++) {
+                final int offset = recordOffsets.get(i);
+                final int length = buffer.getInt(offset);
+                final byte[] bytes = new byte[length];
+                final ByteBuffer data = buffer.duplicate();
+                ((Buffer) data).position(offset + RECORD_HEADER_SIZE);
+                data.get(bytes);
+                consumer.accept(new String(bytes, StandardCharsets.UTF_8), firstSequenceNumber + i);
+            }
+            return Math.max(0, toIndex - fromIndex);
+        }
+
+        private void force() {
+            buffer.force();
+        }
+
+        private void delete() {
+            try {
+                Files.deleteIfExists(file);
+            } catch (final IOException e) {
+                // a mapped file may not be deletable on some platforms, it is deleted when the journal is opened again
+                file.toFile().deleteOnExit();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "file=" + file +
+                    ", firstSequenceNumber=" + firstSequenceNumber +
+                    ", records=" + recordOffsets.size() +
+                    "]";
+        }
+    }
+
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.client.messaging.MessagingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the messages of an {@link OutboxJournal} through an {@link OutboundWriter} in the order of the journal and
+ * acknowledges them once they were written.
+ * <p>
+ * The messages are queued in the outbound writer as {@link Frame}s. If writing a message fails, the messages queued
+ * after it must not be written before it is written again, so the failure starts a new generation: the frames of
+ * previous generations still queued are skipped by the batch writer, see {@link #isCurrent(Frame)}, and only release
+ * their credits, while the outbox is replayed from its first unacknowledged message.
+ *
+ * @since 3.9.0
+ */
+final class OutboxWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxWriter.class);
+
+    private final OutboxJournal journal;
+    private final OutboundWriter<Object> outboundWriter;
+    private final Executor replayExecutor;
+    private final BooleanSupplier writable;
+    private final String sessionId;
+    private final Map<Long, CompletableFuture<Void>> futures;
+    private final Semaphore credits;
+    private final AtomicBoolean replayScheduled;
+    private long replayedSequenceNumber; // guarded by journal
+    private volatile long generation; // written while holding the lock of the journal
+
+    /**
+     * Creates a new writer which starts with the first unacknowledged message of the journal.
+     *
+     * @param journal the journal.
+     * @param outboundWriter the outbound writer whose batch writer skips frames which are not current.
+     * @param bufferSize the maximum number of messages of the journal queued in the outbound writer.
+     * @param replayExecutor the executor to replay the journal on once queued messages were written.
+     * @param writable tells whether the outbound writer can write at the moment.
+     * @param sessionId the session ID to report failures with.
+     */
+    OutboxWriter(final OutboxJournal journal, final OutboundWriter<Object> outboundWriter, final int bufferSize,
+            final Executor replayExecutor, final BooleanSupplier writable, final String sessionId) {
+        this.journal = journal;
+        this.outboundWriter = outboundWriter;
+        this.replayExecutor = replayExecutor;
+        this.writable = writable;
+        this.sessionId = sessionId;
+        futures = new ConcurrentHashMap<>();
+        credits = new Semaphore(bufferSize);
+        replayScheduled = new AtomicBoolean(false);
+        replayedSequenceNumber = journal.getAcknowledgedSequenceNumber();
+        generation = 0L;
+    }
+
+    /**
+     * Appends a message to the journal and writes it once all messages appended before were written.
+     *
+     * @param message the message.
+     * @param written the future to complete once the message was written, or {@code null}.
+     * @throws MessagingException if the message could not be appended and no future was passed.
+     */
+    void emit(final String message, @Nullable final CompletableFuture<Void> written) {
+        synchronized (journal) {
+            final long sequenceNumber;
+            try {
+                sequenceNumber = journal.append(message);
+            } catch (final IOException e) {
+                final MessagingException outboxFailed = MessagingException.outboxFailed(sessionId, e);
+                if (null == written) {
+                    throw outboxFailed;
+                }
+                written.completeExceptionally(outboxFailed);
+                return;
+            }
+            if (null != written) {
+                futures.put(sequenceNumber, written);
+            }
+            // skips reading the message back from the journal if all messages before were written
+            final boolean caughtUp = replayedSequenceNumber == sequenceNumber - 1;
+            if (caughtUp && writable.getAsBoolean() && credits.tryAcquire()) {
+                write(message, sequenceNumber);
+                return;
+            }
+        }
+        // without credits, the message is written with the chunk replayed after the messages in flight were written
+        replay();
+    }
+
+    /**
+     * Writes the next chunk of the messages in the journal which were not written yet. At most as many messages as
+     * fit into the buffer are written at a time; the next chunk is written as messages of the previous one were
+     * written.
+     */
+    void replay() {
+        synchronized (journal) {
+            final long backlog = journal.getLastSequenceNumber() - replayedSequenceNumber;
+            if (backlog <= 0 || !writable.getAsBoolean()) {
+                return;
+            }
+            final int availableCredits = credits.drainPermits();
+            final int chunk = (int) Math.min(availableCredits, backlog);
+            credits.release(availableCredits - chunk);
+            if (chunk > 0) {
+                journal.forEachFrom(replayedSequenceNumber + 1, chunk, this::write);
+            }
+        }
+    }
+
+    /**
+     * Tells whether a frame belongs to the current generation and is to be written. Frames of previous generations
+     * are written again by the replay after a failed write and must be skipped.
+     *
+     * @param frame the frame.
+     * @return whether the frame is to be written.
+     */
+    boolean isCurrent(final Frame frame) {
+        return frame.generation == generation;
+    }
+
+    /**
+     * Fails the futures of the messages which were not written yet and closes the journal. The messages stay in the
+     * journal to be written by the next writer using it.
+     */
+    void close() {
+        synchronized (journal) {
+            final MessagingException notConnected = MessagingException.notConnected(sessionId, futures.size());
+            futures.values().forEach(future -> future.completeExceptionally(notConnected));
+            futures.clear();
+            journal.close();
+        }
+    }
+
+    private void scheduleReplay() {
+        // replays once for all messages written meanwhile instead of once per written message
+        if (!replayScheduled.getAndSet(true)) {
+            try {
+                replayExecutor.execute(() -> {
+                    replayScheduled.set(false);
+                    replay();
+                });
+            } catch (final RejectedExecutionException e) {
+                replayScheduled.set(false);
+                LOGGER.debug("Client <{}>: Could not schedule writing the outbox: {}", sessionId, e.getMessage());
+            }
+        }
+    }
+
+    // called with a credit acquired and the lock of the journal held; the credit is released once the frame was
+    // written or skipped
+    private void write(final String message, final long sequenceNumber) {
+        final Frame frame = new Frame(message, generation);
+        final CompletableFuture<Void> written = new CompletableFuture<>();
+        written.whenComplete((result, error) -> {
+            credits.release();
+            if (null == error && isCurrent(frame)) {
+                journal.acknowledge(sequenceNumber);
+                final CompletableFuture<Void> emitted = futures.remove(sequenceNumber);
+                if (null != emitted) {
+                    emitted.complete(null);
+                }
+            } else if (null != error) {
+                restartFromFirstUnacknowledged(frame);
+            }
+            // the future of the emitter of a message which was not written stays pending until it is written again
+            if (journal.getLastSequenceNumber() > getReplayedSequenceNumber()) {
+                scheduleReplay();
+            }
+        });
+        replayedSequenceNumber = sequenceNumber;
+        outboundWriter.write(frame, written);
+    }
+
+    private void restartFromFirstUnacknowledged(final Frame failedFrame) {
+        synchronized (journal) {
+            if (isCurrent(failedFrame)) {
+                generation++;
+                replayedSequenceNumber = journal.getAcknowledgedSequenceNumber();
+            }
+        }
+    }
+
+    private long getReplayedSequenceNumber() {
+        synchronized (journal) {
+            return replayedSequenceNumber;
+        }
+    }
+
+    /**
+     * Message of the journal queued in the outbound writer.
+     */
+    static final class Frame {
+
+        private final String message;
+        private final long generation;
+
+        private Frame(final String message, final long generation) {
+            this.message = message;
+            this.generation = generation;
+        }
+
+        /**
+         * @return the message.
+         */
+        String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return message;
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the round-trip times of the WebSocket pings measured by their pongs in a histogram, and counts the pongs
+ * which were missed, so that the quality of the connection can be monitored.
+ * <p>
+ * The histogram has buckets of exponentially growing size: the upper bound of each bucket is twice the upper bound
+ * of the previous one, starting with one microsecond, so that percentiles are accurate to a factor of two.
+ *
+ * @since 3.9.0
+ */
+public final class PingStatistics {
+
+    private static final int BUCKET_COUNT = 32;
+
+    private final AtomicLongArray buckets;
+    private final LongAdder sampleCount;
+    private final LongAdder roundTripNanosSum;
+    private final AtomicLong minRoundTripNanos;
+    private final AtomicLong maxRoundTripNanos;
+    private final LongAdder missedPongs;
+    private final LongAdder deadConnections;
+    private volatile long lastRoundTripNanos;
+
+    PingStatistics() {
+        buckets = new AtomicLongArray(BUCKET_COUNT);
+        sampleCount = new LongAdder();
+        roundTripNanosSum = new LongAdder();
+        minRoundTripNanos = new AtomicLong(Long.MAX_VALUE);
+        maxRoundTripNanos = new AtomicLong(0L);
+        missedPongs = new LongAdder();
+        deadConnections = new LongAdder();
+    }
+
+    void recordRoundTripTime(final long nanos) {
+        buckets.incrementAndGet(bucketOf(nanos));
+        sampleCount.increment();
+        roundTripNanosSum.add(nanos);
+        minRoundTripNanos.accumulateAndGet(nanos, Math::min);
+        maxRoundTripNanos.accumulateAndGet(nanos, Math::max);
+        lastRoundTripNanos = nanos;
+    }
+
+    void recordMissedPong() {
+        missedPongs.increment();
+    }
+
+    void recordDeadConnection() {
+        deadConnections.increment();
+    }
+
+    private static int bucketOf(final long nanos) {
+        final long micros = nanos / 1_000L;
+        return Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+
+    private static long upperBoundNanos(final int bucket) {
+        return (1L << bucket) * 1_000L;
+    }
+
+    /**
+     * @return the number of measured round-trip times.
+     */
+    public long getSampleCount() {
+        return sampleCount.sum();
+    }
+
+    /**
+     * @return the last measured round-trip time, or {@link Duration#ZERO} if none was measured yet.
+     */
+    public Duration getLastRoundTripTime() {
+        return Duration.ofNanos(lastRoundTripNanos);
+    }
+
+    /**
+     * @return the shortest measured round-trip time, or {@link Duration#ZERO} if none was measured yet.
+     */
+    public Duration getMinRoundTripTime() {
+        final long min = minRoundTripNanos.get();
+        return Duration.ofNanos(min == Long.MAX_VALUE ? 0L : min);
+    }
+
+    /**
+     * @return the longest measured round-trip time, or {@link Duration#ZERO} if none was measured yet.
+     */
+    public Duration getMaxRoundTripTime() {
+        return Duration.ofNanos(maxRoundTripNanos.get());
+    }
+
+    /**
+     * @return the mean of the measured round-trip times, or {@link Duration#ZERO} if none was measured yet.
+     */
+    public Duration getMeanRoundTripTime() {
+        final long count = getSampleCount();
+        return Duration.ofNanos(count == 0 ? 0L : roundTripNanosSum.sum() / count);
+    }
+
+    /**
+     * Estimates a percentile of the measured round-trip times from the histogram.
+     *
+     * @param percentile the percentile between {@code 0} and {@code 100}, e.g. {@code 99.0}.
+     * @return the upper bound of the histogram bucket containing the percentile, at most the longest measured
+     * round-trip time, or {@link Duration#ZERO} if none was measured yet.
+     * @throws IllegalArgumentException if {@code percentile} is not between {@code 0} and {@code 100}.
+     */
+    public Duration getRoundTripTimePercentile(final double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100 but was: " + percentile);
+        }
+        final long[] counts = getBucketCounts();
+        long total = 0L;
+        for (final long count : counts) {
+            total += count;
+        }
+        if (total == 0L) {
+            return Duration.ZERO;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * total));
+        long cumulative = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return Duration.ofNanos(Math.min(upperBoundNanos(i), maxRoundTripNanos.get()));
+            }
+        }
+        return Duration.ZERO;
+    }
+
+    /**
+     * Returns the histogram of the measured round-trip times.
+     *
+     * @return the number of round-trip times of each non-empty bucket by the exclusive upper bound of the bucket;
+     * the last bucket also contains all longer round-trip times.
+     */
+    public SortedMap<Duration, Long> getRoundTripTimeHistogram() {
+        final long[] counts = getBucketCounts();
+        final SortedMap<Duration, Long> histogram = new TreeMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0L) {
+                histogram.put(Duration.ofNanos(upperBoundNanos(i)), counts[i]);
+            }
+        }
+        return Collections.unmodifiableSortedMap(histogram);
+    }
+
+    private long[] getBucketCounts() {
+        final long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return counts;
+    }
+
+    /**
+     * @return the number of pings which were not answered by a pong before the next ping was sent.
+     */
+    public long getMissedPongs() {
+        return missedPongs.sum();
+    }
+
+    /**
+     * @return the number of connections which were closed and reconnected because too many pongs were missed.
+     */
+    public long getDeadConnections() {
+        return deadConnections.sum();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "sampleCount=" + getSampleCount() +
+                ", lastRoundTripTime=" + getLastRoundTripTime() +
+                ", meanRoundTripTime=" + getMeanRoundTripTime() +
+                ", p99RoundTripTime=" + getRoundTripTimePercentile(99.0) +
+                ", maxRoundTripTime=" + getMaxRoundTripTime() +
+                ", missedPongs=" + getMissedPongs() +
+                ", deadConnections=" + getDeadConnections() +
+                "]";
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the pings of a WebSocket connection which were not answered by a pong and decides when the connection is
+ * dead because {@link org.eclipse.ditto.client.configuration.MessagingConfiguration#getMaxMissedPongs()} pongs in a
+ * row were missed. Missed pongs and dead connections are recorded in the {@link PingStatistics}.
+ */
+final class PongMonitor {
+
+    private final int maxMissedPongs;
+    private final PingStatistics pingStatistics;
+    private final AtomicInteger unansweredPings;
+
+    /**
+     * Creates a new monitor.
+     *
+     * @param maxMissedPongs the number of missed pongs in a row after which the connection is dead, {@code 0} to
+     * never consider it dead.
+     * @param pingStatistics the statistics to record missed pongs and dead connections in.
+     */
+    PongMonitor(final int maxMissedPongs, final PingStatistics pingStatistics) {
+        this.maxMissedPongs = maxMissedPongs;
+        this.pingStatistics = pingStatistics;
+        unansweredPings = new AtomicInteger();
+    }
+
+    /**
+     * Called before a ping is sent; the previous ping was missed if it was not answered by now.
+     *
+     * @return {@code true} if the connection is dead and must be closed.
+     */
+    boolean onPing() {
+        final int missedPongs = unansweredPings.getAndIncrement();
+        if (missedPongs > 0) {
+            pingStatistics.recordMissedPong();
+        }
+        if (missedPongs > 0 && missedPongs == maxMissedPongs) {
+            pingStatistics.recordDeadConnection();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Called when a pong was received or a new connection was established.
+     */
+    void reset() {
+        unansweredPings.set(0);
+    }
+
+    /**
+     * @return the number of missed pongs in a row after which the connection is dead.
+     */
+    int getMaxMissedPongs() {
+        return maxMissedPongs;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "maxMissedPongs=" + maxMissedPongs +
+                ", unansweredPings=" + unansweredPings +
+                "]";
+    }
+
+}
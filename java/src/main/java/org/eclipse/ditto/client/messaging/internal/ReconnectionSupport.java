@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.client.configuration.DisconnectedContext;
+import org.eclipse.ditto.client.configuration.MessagingConfiguration;
+import org.eclipse.ditto.client.internal.bus.AdaptableBus;
+import org.eclipse.ditto.client.internal.bus.Classification;
+import org.eclipse.ditto.client.messaging.AuthenticationException;
+import org.eclipse.ditto.client.messaging.MessagingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Handling of lost connections shared by the WebSocket messaging providers: deciding whether to reconnect after a
+ * disconnection, subscribing again for messages from the backend after reconnecting and mapping connect errors.
+ *
+ * @since 3.9.0
+ */
+final class ReconnectionSupport {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReconnectionSupport.class);
+
+    private static final Duration ZOMBIE_LIFETIME = Duration.ofSeconds(3L);
+    private static final String ACK_SUFFIX = ":ACK";
+
+    private final String sessionId;
+    private final MessagingConfiguration messagingConfiguration;
+    private final AdaptableBus adaptableBus;
+    private final Runnable reconnect;
+    private final Runnable selfDestruct;
+    private final Map<Object, String> subscriptionMessages;
+    private final AtomicBoolean manuallyPreventReconnect;
+    private final AtomicBoolean manuallyPerformReconnect;
+    private final DisconnectedContext.DisconnectionHandler disconnectionHandler;
+
+    /**
+     * Creates the reconnection support of a messaging provider.
+     *
+     * @param sessionId the session ID of the provider.
+     * @param messagingConfiguration the configuration of the provider.
+     * @param adaptableBus the bus the acknowledgements of subscription messages are published on.
+     * @param closeChannel closes the channel of the provider on behalf of a disconnected listener.
+     * @param reconnect reconnects unless the provider is already reconnecting.
+     * @param selfDestruct closes the provider if it is not reconnected.
+     */
+    ReconnectionSupport(final String sessionId, final MessagingConfiguration messagingConfiguration,
+            final AdaptableBus adaptableBus, final Runnable closeChannel, final Runnable reconnect,
+            final Runnable selfDestruct) {
+        this.sessionId = sessionId;
+        this.messagingConfiguration = messagingConfiguration;
+        this.adaptableBus = adaptableBus;
+        this.reconnect = reconnect;
+        this.selfDestruct = selfDestruct;
+        subscriptionMessages = new ConcurrentHashMap<>();
+        manuallyPreventReconnect = new AtomicBoolean(false);
+        manuallyPerformReconnect = new AtomicBoolean(false);
+        disconnectionHandler = new DisconnectedContext.DisconnectionHandler() {
+
+            @Override
+            public DisconnectedContext.DisconnectionHandler closeChannel() {
+                closeChannel.run();
+                return this;
+            }
+
+            @Override
+            public DisconnectedContext.DisconnectionHandler preventConfiguredReconnect(final boolean preventReconnect) {
+                manuallyPreventReconnect.set(preventReconnect);
+                return this;
+            }
+
+            @Override
+            public DisconnectedContext.DisconnectionHandler performReconnect() {
+                manuallyPerformReconnect.set(true);
+                reconnect.run();
+                return this;
+            }
+        };
+    }
+
+    /**
+     * Registers a message to send again after reconnecting, replacing the message registered with the same key.
+     *
+     * @param key the key of the message.
+     * @param message the message.
+     */
+    void registerSubscriptionMessage(final Object key, final String message) {
+        subscriptionMessages.put(key, message);
+    }
+
+    /**
+     * Removes the message registered with the passed key.
+     *
+     * @param key the key of the message.
+     */
+    void unregisterSubscriptionMessage(final Object key) {
+        subscriptionMessages.remove(key);
+    }
+
+    /**
+     * @return whether connecting is retried after a disconnection, which is the case if reconnecting is enabled or
+     * a disconnected listener explicitly performed a reconnect.
+     */
+    boolean isRetryingReconnect() {
+        return messagingConfiguration.isReconnectEnabled() || manuallyPerformReconnect.get();
+    }
+
+    /**
+     * Resets a reconnect explicitly performed by a disconnected listener once the provider is connected again.
+     */
+    void onReconnected() {
+        manuallyPerformReconnect.set(false);
+    }
+
+    /**
+     * Notifies about a disconnection and then reconnects, closes the provider after a while or leaves reconnecting
+     * to the disconnected listener, depending on the configuration and on what the listener decided.
+     *
+     * @param disconnectionSource the source of the disconnection.
+     * @param cause the cause of the disconnection, or {@code null}.
+     * @param disconnectedListener the listener to notify, e.g. the configured disconnected listener.
+     */
+    void handleDisconnection(final DisconnectedContext.Source disconnectionSource, @Nullable final Throwable cause,
+            final Consumer<DisconnectedContext> disconnectedListener) {
+
+        disconnectedListener.accept(new DefaultDisconnectedContext(disconnectionSource, cause, disconnectionHandler));
+
+        if (messagingConfiguration.isReconnectEnabled()) {
+            if (manuallyPreventReconnect.get()) {
+                LOGGER.info("Client <{}>: User defined disconnectedListener explicitly prevented reconnect which " +
+                        "would have happened now. Closing client ...", sessionId);
+                scheduleSelfDestruction();
+            } else {
+                // reconnect in a while if client was initially connected and we are not reconnecting already
+                LOGGER.info("Client <{}>: Reconnection is enabled", sessionId);
+                reconnect.run();
+            }
+        } else if (manuallyPerformReconnect.get()) {
+            LOGGER.info("Client <{}>: User defined disconnectedListener explicitly performed reconnect. " +
+                    "NOT closing client ...", sessionId);
+        } else {
+            LOGGER.info("Client <{}>: Reconnection is NOT enabled. Closing client ...", sessionId);
+            scheduleSelfDestruction();
+        }
+    }
+
+    private void scheduleSelfDestruction() {
+        // delay self destruction in order to handle any final error message
+        adaptableBus.getScheduledExecutor()
+                .schedule(selfDestruct, ZOMBIE_LIFETIME.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sends all registered subscription messages at once and completes the passed future when all of them are
+     * acknowledged, or fails it when one of them is not acknowledged within the configured timeout.
+     *
+     * @param resubscribed the future to complete.
+     * @param send sends a message and completes the returned stage once it was sent or failed to be sent.
+     */
+    void resubscribe(final CompletableFuture<Void> resubscribed, final Function<String, CompletionStage<?>> send) {
+        final List<String> messages = new ArrayList<>(subscriptionMessages.values());
+        if (messages.isEmpty()) {
+            resubscribed.complete(null);
+            return;
+        }
+        LOGGER.info("Client <{}>: Subscribing again for messages from backend after reconnection: {}", sessionId,
+                messages);
+        final Duration timeout = messagingConfiguration.getTimeout();
+        final CompletableFuture<?>[] acks = new CompletableFuture<?>[messages.size()];
+        for (int i = 0; i < acks.length; i++) {
+            final String message = messages.get(i);
+            // subscribe for the acknowledgement before sending, as it may arrive right away
+            final CompletableFuture<String> ack = adaptableBus
+                    .subscribeOnceForString(Classification.forString(getAckFor(message)), timeout)
+                    .toCompletableFuture();
+            try {
+                send.apply(message).whenComplete((sent, error) -> {
+                    if (null != error) {
+                        ack.completeExceptionally(error);
+                    }
+                });
+            } catch (final RuntimeException e) {
+                ack.completeExceptionally(e);
+            }
+            acks[i] = ack;
+        }
+        CompletableFuture.allOf(acks).whenComplete((acknowledged, error) -> {
+            if (null != error) {
+                LOGGER.warn("Client <{}>: Subscribing again after reconnection failed: {}", sessionId,
+                        error.getMessage());
+                resubscribed.completeExceptionally(error);
+            } else {
+                LOGGER.info("Client <{}>: Subscribed again for messages from backend after reconnection",
+                        sessionId);
+                resubscribed.complete(null);
+            }
+        });
+    }
+
+    private static String getAckFor(final String subscriptionMessage) {
+        final int parametersStart = subscriptionMessage.indexOf('?');
+        final String command = parametersStart < 0
+                ? subscriptionMessage
+                : subscriptionMessage.substring(0, parametersStart);
+        return command + ACK_SUFFIX;
+    }
+
+    /**
+     * Maps the status of a rejected WebSocket handshake to the exception to fail connecting with.
+     *
+     * @param cause the exception the handshake was rejected with.
+     * @param statusCode the HTTP status code of the response to the handshake.
+     * @param reason the reason to report for client errors other than {@code 401} and {@code 403}.
+     * @return the exception.
+     */
+    RuntimeException mapHandshakeError(final Throwable cause, final int statusCode, final String reason) {
+        final RuntimeException result;
+        if (401 == statusCode) {
+            result = AuthenticationException.unauthorized(sessionId, cause);
+        } else if (403 == statusCode) {
+            result = AuthenticationException.forbidden(sessionId, cause);
+        } else if (statusCode >= 400 && statusCode < 500) {
+            result = AuthenticationException.withStatus(sessionId, cause, statusCode, reason);
+        } else {
+            result = MessagingException.connectFailed(sessionId, cause);
+        }
+        return result;
+    }
+
+    /**
+     * Unwraps the exceptions of futures.
+     *
+     * @param e the exception.
+     * @return the first cause which is not the exception of a future.
+     */
+    static Throwable getRootCause(final Throwable e) {
+        if (e.getCause() == null) {
+            return e;
+        }
+        return e instanceof CompletionException || e instanceof ExecutionException ? getRootCause(e.getCause()) : e;
+    }
+
+}
@@ -14,6 +14,7 @@ package org.eclipse.ditto.client.messaging.internal;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
@@ -49,6 +50,7 @@ final class Retry<T> {
     private final ExecutorService callbackExecutor;
     @Nullable private final Consumer<Throwable> errorConsumer;
     private final Predicate<Throwable> isRecoverable;
+    @Nullable private final Backoff backoff;
 
     private Retry(final String nameOfAction,
             final String sessionId,
@@ -56,7 +58,8 @@ final class Retry<T> {
             final ScheduledExecutorService reconnectExecutor,
             final ExecutorService callbackExecutor,
             @Nullable final Consumer<Throwable> errorConsumer,
-            final Predicate<Throwable> isRecoverable) {
+            final Predicate<Throwable> isRecoverable,
+            @Nullable final Backoff backoff) {
 
         this.sessionId = sessionId;
         this.nameOfAction = nameOfAction;
@@ -65,6 +68,7 @@ final class Retry<T> {
         this.callbackExecutor = callbackExecutor;
         this.errorConsumer = errorConsumer;
         this.isRecoverable = isRecoverable;
+        this.backoff = backoff;
     }
 
     private static int ensureIndexIntoTimeToWaitBounds(final int index) {
@@ -89,6 +93,17 @@ final class Retry<T> {
     }
 
     private void completeFutureEventually(final int attempt, final CompletableFuture<T> resultToComplete) {
+        if (backoff != null) {
+            final Duration timeToWaitForAttempt = backoff.tryAcquireConnectAttempt();
+            if (!timeToWaitForAttempt.isZero()) {
+                LOGGER.info("Client <{}>: Too many attempts, waiting for <{}> before trying to <{}>.",
+                        sessionId, timeToWaitForAttempt, nameOfAction);
+                reconnectExecutor.schedule(() -> this.completeFutureEventually(attempt, resultToComplete),
+                        timeToWaitForAttempt.toNanos(),
+                        TimeUnit.NANOSECONDS);
+                return;
+            }
+        }
         try {
             retriedSupplier.get().whenComplete((result, error) -> {
                 if (result != null) {
@@ -109,12 +124,12 @@ final class Retry<T> {
             if (isRecoverable.test(cause)) {
                 LOGGER.error("Client <{}>: Failed to <{}>: {}", sessionId, nameOfAction, error.getMessage());
                 notifyErrorConsumer(cause);
-                final int timeToWaitInSeconds = getTimeToWaitInSecondsForAttempt(attempt);
-                LOGGER.info("Client <{}>: Waiting for <{}> second(s) before retrying to <{}>.",
-                        sessionId, timeToWaitInSeconds, nameOfAction);
+                final Duration timeToWait = getTimeToWaitForAttempt(attempt);
+                LOGGER.info("Client <{}>: Waiting for <{}> before retrying to <{}>.",
+                        sessionId, timeToWait, nameOfAction);
                 reconnectExecutor.schedule(() -> this.completeFutureEventually(attempt + 1, resultToComplete),
-                        timeToWaitInSeconds,
-                        TimeUnit.SECONDS);
+                        timeToWait.toMillis(),
+                        TimeUnit.MILLISECONDS);
             } else {
                 LOGGER.error("Client <{}>: Permanently failed to {}: {}", sessionId, nameOfAction, error.getMessage());
                 notifyErrorConsumer(cause);
@@ -145,9 +160,12 @@ final class Retry<T> {
         }
     }
 
-    private int getTimeToWaitInSecondsForAttempt(final int attempt) {
+    private Duration getTimeToWaitForAttempt(final int attempt) {
+        if (backoff != null) {
+            return backoff.nextDelay();
+        }
         final int attemptIndex = ensureIndexIntoTimeToWaitBounds(attempt - 1);
-        return TIME_TO_WAIT_BETWEEN_RETRIES_IN_SECONDS[attemptIndex];
+        return Duration.ofSeconds(TIME_TO_WAIT_BETWEEN_RETRIES_IN_SECONDS[attemptIndex]);
     }
 
     /**
@@ -225,6 +243,15 @@ final class Retry<T> {
          */
         RetryBuilderFinal<T> isRecoverable(Predicate<Throwable> isRecoverable);
 
+        /**
+         * Sets the backoff determining the time to wait between the attempts and limiting their rate.
+         * The attempts are retried after a fixed sequence of delays between 1 and 13 seconds when not set.
+         *
+         * @param backoff the backoff, or {@code null} for the fixed sequence of delays.
+         * @return this builder.
+         */
+        RetryBuilderFinal<T> withBackoff(@Nullable Backoff backoff);
+
         /**
          * Executes the provided supplier unit the supplier returns a result.
          *
@@ -248,10 +275,11 @@ final class Retry<T> {
         @Nullable private final ScheduledExecutorService reconnectExecutor;
         @Nullable private final ExecutorService callbackExecutor;
         private final Predicate<Throwable> isRecoverable;
+        @Nullable private final Backoff backoff;
 
         private RetryBuilder(final String nameOfAction, final Supplier<CompletionStage<T>> retriedSupplier) {
             this(nameOfAction, retriedSupplier, "", null, null, null,
-                    Exception.class::isInstance);
+                    Exception.class::isInstance, null);
         }
 
         private RetryBuilder(final String nameOfAction,
@@ -260,7 +288,8 @@ final class Retry<T> {
                 @Nullable final ScheduledExecutorService reconnectExecutor,
                 @Nullable final ExecutorService callbackExecutor,
                 @Nullable final Consumer<Throwable> errorConsumer,
-                final Predicate<Throwable> isRecoverable) {
+                final Predicate<Throwable> isRecoverable,
+                @Nullable final Backoff backoff) {
 
             this.nameOfAction = nameOfAction;
             this.retriedSupplier = retriedSupplier;
@@ -269,12 +298,13 @@ final class Retry<T> {
             this.reconnectExecutor = reconnectExecutor;
             this.callbackExecutor = callbackExecutor;
             this.errorConsumer = errorConsumer;
+            this.backoff = backoff;
         }
 
         @Override
         public RetryBuilderStep2<T> inClientSession(final String sessionId) {
             return new RetryBuilder<>(nameOfAction, retriedSupplier, sessionId, reconnectExecutor, callbackExecutor,
-                    errorConsumer, isRecoverable
+                    errorConsumer, isRecoverable, backoff
             );
         }
 
@@ -282,19 +312,25 @@ final class Retry<T> {
         public RetryBuilderFinal<T> withExecutors(final ScheduledExecutorService reconnectExecutor,
                 final ExecutorService callbackExecutor) {
             return new RetryBuilder<>(nameOfAction, retriedSupplier, sessionId, reconnectExecutor, callbackExecutor,
-                    errorConsumer, isRecoverable);
+                    errorConsumer, isRecoverable, backoff);
         }
 
         @Override
         public RetryBuilderFinal<T> notifyOnError(@Nullable final Consumer<Throwable> errorConsumer) {
             return new RetryBuilder<>(nameOfAction, retriedSupplier, sessionId, reconnectExecutor, callbackExecutor,
-                    errorConsumer, isRecoverable);
+                    errorConsumer, isRecoverable, backoff);
         }
 
         @Override
         public RetryBuilderFinal<T> isRecoverable(final Predicate<Throwable> isRecoverable) {
             return new RetryBuilder<>(nameOfAction, retriedSupplier, sessionId, reconnectExecutor, callbackExecutor,
-                    errorConsumer, isRecoverable);
+                    errorConsumer, isRecoverable, backoff);
+        }
+
+        @Override
+        public RetryBuilderFinal<T> withBackoff(@Nullable final Backoff backoff) {
+            return new RetryBuilder<>(nameOfAction, retriedSupplier, sessionId, reconnectExecutor, callbackExecutor,
+                    errorConsumer, isRecoverable, backoff);
         }
 
         @Override
@@ -302,7 +338,7 @@ final class Retry<T> {
             return new Retry<>(nameOfAction, sessionId, retriedSupplier,
                     checkNotNull(reconnectExecutor, "reconnectExecutor"),
                     checkNotNull(callbackExecutor, "callbackExecutor"),
-                    errorConsumer, isRecoverable).completeFutureEventually(future);
+                    errorConsumer, isRecoverable, backoff).completeFutureEventually(future);
         }
 
     }
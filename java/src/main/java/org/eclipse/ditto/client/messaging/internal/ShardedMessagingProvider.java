@@ -0,0 +1,417 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.client.configuration.AuthenticationConfiguration;
+import org.eclipse.ditto.client.configuration.DisconnectedContext;
+import org.eclipse.ditto.client.configuration.MessagingConfiguration;
+import org.eclipse.ditto.client.internal.bus.AdaptableBus;
+import org.eclipse.ditto.client.internal.bus.BusFactory;
+import org.eclipse.ditto.client.messaging.AuthenticationProvider;
+import org.eclipse.ditto.client.messaging.MessagingProvider;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.TopicPath;
+
+import com.neovisionaries.ws.client.WebSocket;
+
+/**
+ * Messaging provider spreading the traffic of one client over several WebSocket connections (shards) with the same
+ * credentials, so that sending and receiving is not limited to one TCP connection and its reader thread.
+ * <p>
+ * Messages of the Ditto Protocol are routed by consistent hashing of the ID of the entity in their topic, so all
+ * messages of one thing are sent in order over the same connection. Requests to start a subscription for a list of
+ * {@code namespaces} are partitioned by namespace over the connections, other requests to start a subscription are
+ * sent over one connection, so that each event is received only once. Requests to stop a subscription and other
+ * protocol commands are sent over all connections. All connections publish the received messages to one shared
+ * {@link AdaptableBus}.
+ * <p>
+ * Note that a subscription without {@code namespaces} is held by a single connection: all events, messages or live
+ * commands it subscribes for are received over that connection only, regardless of the connection their entity is
+ * routed to, and none of them are received while that connection reconnects. Subscribe with {@code namespaces} to
+ * spread receiving over the connections.
+ * <p>
+ * The connections share the bus, its executors and the authentication provider, which are closed once when this
+ * provider is closed. The disconnected listener is notified once when a connection is lost while all others are
+ * connected, not once per connection; the connections lost meanwhile reconnect as configured. If a connection
+ * closes itself because it must not reconnect, it closes all connections.
+ *
+ * @since 3.9.0
+ */
+public final class ShardedMessagingProvider implements MessagingProvider {
+
+    private static final int VIRTUAL_NODES_PER_SHARD = 64;
+    private static final String TOPIC_FIELD = "\"topic\"";
+    private static final String START_PREFIX = "START-";
+    private static final String NAMESPACES_PARAMETER = "namespaces";
+
+    private final AdaptableBus adaptableBus;
+    private final MessagingConfiguration messagingConfiguration;
+    private final AuthenticationProvider<WebSocket> authenticationProvider;
+    private final ExecutorService callbackExecutor;
+    private final List<MessagingProvider> shards;
+    private final ConsistentHashRing ring;
+    private final List<MessagingProvider> disconnectedShards;
+    private final AtomicBoolean closed;
+
+    /**
+     * Creates a provider over the connections created by the passed factory.
+     *
+     * @param adaptableBus the bus shared by the connections.
+     * @param messagingConfiguration configuration of messaging.
+     * @param authenticationProvider provides authentication, shared by all connections.
+     * @param callbackExecutor the executor for messages.
+     * @param shardFactory creates the connections of the passed group.
+     */
+    ShardedMessagingProvider(final AdaptableBus adaptableBus,
+            final MessagingConfiguration messagingConfiguration,
+            final AuthenticationProvider<WebSocket> authenticationProvider,
+            final ExecutorService callbackExecutor,
+            final Function<ConnectionGroup, List<MessagingProvider>> shardFactory) {
+
+        this.adaptableBus = adaptableBus;
+        this.messagingConfiguration = messagingConfiguration;
+        this.authenticationProvider = authenticationProvider;
+        this.callbackExecutor = callbackExecutor;
+        disconnectedShards = new ArrayList<>();
+        closed = new AtomicBoolean(false);
+        shards = Collections.unmodifiableList(new ArrayList<>(shardFactory.apply(new ShardGroup())));
+        ring = new ConsistentHashRing(shards.size(), VIRTUAL_NODES_PER_SHARD);
+    }
+
+    /**
+     * Returns a new {@code ShardedMessagingProvider} opening the given number of WebSocket connections.
+     *
+     * @param messagingConfiguration configuration of messaging, applied to each connection.
+     * @param authenticationProvider provides authentication, shared by all connections.
+     * @param shardCount the number of connections, must be positive.
+     * @param callbackExecutor the executor for messages.
+     * @param scheduledExecutor the scheduled executor for scheduling tasks.
+     * @return the provider.
+     * @throws IllegalArgumentException if {@code shardCount} is not positive or if an outbox directory is configured,
+     * as the connections cannot share one outbox.
+     */
+    public static ShardedMessagingProvider newInstance(final MessagingConfiguration messagingConfiguration,
+            final AuthenticationProvider<WebSocket> authenticationProvider,
+            final int shardCount,
+            final ExecutorService callbackExecutor,
+            final ScheduledExecutorService scheduledExecutor) {
+
+        checkNotNull(messagingConfiguration, "messagingConfiguration");
+        checkNotNull(authenticationProvider, "authenticationProvider");
+        checkArgument(shardCount, c -> c > 0, () -> "The shard count must be positive but was: " + shardCount);
+        checkNotNull(callbackExecutor, "callbackExecutor");
+        checkNotNull(scheduledExecutor, "scheduledExecutor");
+        checkArgument(messagingConfiguration, c -> !c.getOutboxDirectory().isPresent(),
+                () -> "A persistent outbox is not supported by sharded connections.");
+
+        final AdaptableBus adaptableBus = BusFactory.createAdaptableBus(
+                authenticationProvider.getConfiguration().getSessionId(), callbackExecutor, scheduledExecutor,
+                messagingConfiguration);
+        // the connections reconnect at the same time, so they share the limit of connect attempts
+        final TokenBucket connectAttempts = messagingConfiguration.getBackoffConfiguration()
+                .map(Backoff::newConnectAttemptBucket)
+                .orElse(null);
+        return new ShardedMessagingProvider(adaptableBus, messagingConfiguration, authenticationProvider,
+                callbackExecutor, group -> {
+                    final List<MessagingProvider> shards = new ArrayList<>(shardCount);
+                    for (int i = 0; i < shardCount; i++) {
+                        shards.add(WebSocketMessagingProvider.newInstance(adaptableBus, messagingConfiguration,
+                                authenticationProvider, callbackExecutor, connectAttempts, group));
+                    }
+                    return shards;
+                });
+    }
+
+    /**
+     * @return the number of connections.
+     */
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    @Override
+    public CompletionStage<?> initializeAsync() {
+        final CompletableFuture<?>[] initializations = shards.stream()
+                .map(shard -> shard.initializeAsync().toCompletableFuture())
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(initializations).thenApply(done -> this);
+    }
+
+    @Override
+    public AuthenticationConfiguration getAuthenticationConfiguration() {
+        return authenticationProvider.getConfiguration();
+    }
+
+    @Override
+    public MessagingConfiguration getMessagingConfiguration() {
+        return messagingConfiguration;
+    }
+
+    @Override
+    public ExecutorService getExecutorService() {
+        return callbackExecutor;
+    }
+
+    @Override
+    public AdaptableBus getAdaptableBus() {
+        return adaptableBus;
+    }
+
+    @Override
+    public MessagingProvider registerSubscriptionMessage(final Object key, final String message) {
+        final Map<Integer, String> partitions = partition(message);
+        for (int i = 0; i < shards.size(); i++) {
+            final String partition = partitions.get(i);
+            if (null != partition) {
+                shards.get(i).registerSubscriptionMessage(key, partition);
+            } else {
+                shards.get(i).unregisterSubscriptionMessage(key);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public MessagingProvider unregisterSubscriptionMessage(final Object key) {
+        shards.forEach(shard -> shard.unregisterSubscriptionMessage(key));
+        return this;
+    }
+
+    @Override
+    public void emit(final String message) {
+        final String entityKey = extractEntityKey(message);
+        if (null != entityKey) {
+            shards.get(ring.nodeFor(entityKey)).emit(message);
+        } else {
+            partition(message).forEach((shard, partition) -> shards.get(shard).emit(partition));
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> emitAsync(final String message) {
+        final String entityKey = extractEntityKey(message);
+        if (null != entityKey) {
+            return shards.get(ring.nodeFor(entityKey)).emitAsync(message);
+        }
+        final CompletableFuture<?>[] emitted = partition(message).entrySet()
+                .stream()
+                .map(partition -> shards.get(partition.getKey()).emitAsync(partition.getValue()).toCompletableFuture())
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(emitted);
+    }
+
+    @Override
+    public CompletionStage<Void> getResubscription() {
+        final CompletableFuture<?>[] resubscriptions = shards.stream()
+                .map(shard -> shard.getResubscription().toCompletableFuture())
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(resubscriptions);
+    }
+
+    @Override
+    public void emitAdaptable(final Adaptable message) {
+        // routes by the topic path at hand and leaves serializing the message to the shard, e.g. as CBOR
+        final TopicPath topicPath = message.getTopicPath();
+        shards.get(ring.nodeFor(topicPath.getNamespace() + "/" + topicPath.getEntityName())).emitAdaptable(message);
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            shards.forEach(MessagingProvider::close);
+            // the resources shared by the connections are closed once, after all connections were closed
+            authenticationProvider.destroy();
+            adaptableBus.shutdownExecutors();
+        }
+    }
+
+    @Override
+    public void registerChannelCloser(final Runnable channelCloser) {
+        shards.forEach(shard -> shard.registerChannelCloser(channelCloser));
+    }
+
+    @Override
+    public void onDittoProtocolError(final Throwable throwable) {
+        // the error may have been received over any connection
+        shards.forEach(shard -> shard.onDittoProtocolError(throwable));
+    }
+
+    /**
+     * Splits a protocol command into the commands to send over the individual connections.
+     *
+     * @param message the protocol command.
+     * @return the commands by the index of the connection to send them over.
+     */
+    Map<Integer, String> partition(final String message) {
+        if (!message.startsWith(START_PREFIX)) {
+            final Map<Integer, String> all = new TreeMap<>();
+            for (int i = 0; i < shards.size(); i++) {
+                all.put(i, message);
+            }
+            return all;
+        }
+        final int queryStart = message.indexOf('?');
+        final String command = queryStart < 0 ? message : message.substring(0, queryStart);
+        final Map<String, String> parameters = queryStart < 0
+                ? Collections.emptyMap()
+                : parseParameters(message.substring(queryStart + 1));
+        final String namespaces = parameters.get(NAMESPACES_PARAMETER);
+        if (null == namespaces || namespaces.isEmpty()) {
+            return Collections.singletonMap(ring.nodeFor(command), message);
+        }
+        final Map<Integer, List<String>> namespacesByShard = new TreeMap<>();
+        for (final String namespace : namespaces.split(",")) {
+            namespacesByShard.computeIfAbsent(ring.nodeFor(namespace.trim()), shard -> new ArrayList<>())
+                    .add(namespace.trim());
+        }
+        final Map<Integer, String> partitions = new TreeMap<>();
+        namespacesByShard.forEach((shard, shardNamespaces) -> {
+            final Map<String, String> shardParameters = new LinkedHashMap<>(parameters);
+            shardParameters.put(NAMESPACES_PARAMETER, String.join(",", shardNamespaces));
+            partitions.put(shard, command + "?" + formatParameters(shardParameters));
+        });
+        return partitions;
+    }
+
+    /**
+     * Extracts the namespace and name of the entity from the topic of a Ditto Protocol message without parsing it.
+     *
+     * @param message the message.
+     * @return the namespace and name separated by a slash, or {@code null} if the message has no such topic.
+     */
+    @Nullable
+    static String extractEntityKey(final String message) {
+        if (message.isEmpty() || message.charAt(0) != '{') {
+            return null;
+        }
+        final int field = message.indexOf(TOPIC_FIELD);
+        if (field < 0) {
+            return null;
+        }
+        final int colon = message.indexOf(':', field + TOPIC_FIELD.length());
+        final int topicStart = colon < 0 ? -1 : message.indexOf('"', colon + 1);
+        final int topicEnd = topicStart < 0 ? -1 : message.indexOf('"', topicStart + 1);
+        if (topicEnd < 0) {
+            return null;
+        }
+        final int namespaceEnd = message.indexOf('/', topicStart + 1);
+        final int nameEnd = namespaceEnd < 0 ? -1 : message.indexOf('/', namespaceEnd + 1);
+        if (nameEnd < 0 || nameEnd > topicEnd) {
+            return null;
+        }
+        return message.substring(topicStart + 1, nameEnd);
+    }
+
+    private static Map<String, String> parseParameters(final String query) {
+        final Map<String, String> parameters = new LinkedHashMap<>();
+        for (final String parameter : query.split("&")) {
+            final int equals = parameter.indexOf('=');
+            if (equals < 0) {
+                parameters.put(urlDecode(parameter), "");
+            } else {
+                parameters.put(urlDecode(parameter.substring(0, equals)), urlDecode(parameter.substring(equals + 1)));
+            }
+        }
+        return parameters;
+    }
+
+    private static String formatParameters(final Map<String, String> parameters) {
+        final StringBuilder query = new StringBuilder();
+        parameters.forEach((name, value) -> {
+            if (query.length() > 0) {
+                query.append('&');
+            }
+            query.append(urlEncode(name)).append('=').append(urlEncode(value));
+        });
+        return query.toString();
+    }
+
+    private static String urlDecode(final String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+        } catch (final UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String urlEncode(final String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (final UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The connections of this provider, which leave the shared resources and the disconnected listener to it.
+     */
+    private final class ShardGroup implements ConnectionGroup {
+
+        @Override
+        public void onDisconnected(final MessagingProvider connection, final DisconnectedContext context) {
+            final boolean firstDisconnected;
+            synchronized (disconnectedShards) {
+                firstDisconnected = disconnectedShards.isEmpty();
+                if (!disconnectedShards.contains(connection)) {
+                    disconnectedShards.add(connection);
+                }
+            }
+            if (firstDisconnected) {
+                messagingConfiguration.getDisconnectedListener().ifPresent(listener -> listener.accept(context));
+            }
+        }
+
+        @Override
+        public void onReconnected(final MessagingProvider connection) {
+            synchronized (disconnectedShards) {
+                disconnectedShards.remove(connection);
+            }
+        }
+
+        @Override
+        public void close() {
+            ShardedMessagingProvider.this.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "shards=" + shards.size() +
+                ", sessionId=" + authenticationProvider.getConfiguration().getSessionId() +
+                "]";
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Token bucket limiting the rate of an action: the bucket holds at most {@code capacity} tokens, one token is
+ * refilled every {@code refillInterval} and each execution of the action takes one token.
+ */
+@ThreadSafe
+final class TokenBucket {
+
+    private final int capacity;
+    private final long refillIntervalNanos;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * Creates a new full token bucket.
+     *
+     * @param capacity the maximum number of tokens.
+     * @param refillInterval the interval in which one token is refilled.
+     */
+    TokenBucket(final int capacity, final Duration refillInterval) {
+        this(capacity, refillInterval, System::nanoTime);
+    }
+
+    TokenBucket(final int capacity, final Duration refillInterval, final LongSupplier nanoClock) {
+        this.capacity = capacity;
+        refillIntervalNanos = refillInterval.toNanos();
+        this.nanoClock = nanoClock;
+        tokens = capacity;
+        lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return {@link Duration#ZERO} if a token was taken, otherwise the time until the next token is available.
+     */
+    synchronized Duration tryAcquire() {
+        final long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (double) (now - lastRefillNanos) / refillIntervalNanos);
+        lastRefillNanos = now;
+        if (tokens >= 1.0) {
+            tokens -= 1.0;
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos((long) Math.ceil((1.0 - tokens) * refillIntervalNanos));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "capacity=" + capacity +
+                ", refillIntervalNanos=" + refillIntervalNanos +
+                "]";
+    }
+
+}
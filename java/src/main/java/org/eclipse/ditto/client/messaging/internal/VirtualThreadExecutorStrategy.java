@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.client.messaging.ExecutorStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates executors running each task on a new virtual thread. Virtual threads exist on Java 21 and later only while
+ * the client is compiled for Java 8, so the API is looked up once via method handles.
+ *
+ * @since 3.9.0
+ */
+public final class VirtualThreadExecutorStrategy implements ExecutorStrategy {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadExecutorStrategy.class);
+
+    @Nullable private static final VirtualThreadExecutorStrategy INSTANCE = lookUp();
+
+    private final MethodHandle ofVirtual;
+    private final MethodHandle name;
+    private final MethodHandle factory;
+    private final MethodHandle newThreadPerTaskExecutor;
+
+    private VirtualThreadExecutorStrategy(final MethodHandle ofVirtual, final MethodHandle name,
+            final MethodHandle factory, final MethodHandle newThreadPerTaskExecutor) {
+        this.ofVirtual = ofVirtual;
+        this.name = name;
+        this.factory = factory;
+        this.newThreadPerTaskExecutor = newThreadPerTaskExecutor;
+    }
+
+    /**
+     * Returns the strategy if the runtime supports virtual threads.
+     *
+     * @return the strategy or an empty Optional if virtual threads are not supported.
+     */
+    public static Optional<VirtualThreadExecutorStrategy> getInstance() {
+        return Optional.ofNullable(INSTANCE);
+    }
+
+    @Nullable
+    private static VirtualThreadExecutorStrategy lookUp() {
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            return new VirtualThreadExecutorStrategy(
+                    lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass)),
+                    lookup.findVirtual(ofVirtualClass, "name",
+                            MethodType.methodType(ofVirtualClass, String.class, long.class)),
+                    lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class)),
+                    lookup.findStatic(Executors.class, "newThreadPerTaskExecutor",
+                            MethodType.methodType(ExecutorService.class, ThreadFactory.class)));
+        } catch (final ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            LOGGER.info("Virtual threads are not supported by the Java runtime: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public ExecutorService createExecutorService(final String threadName) {
+        try {
+            final Object builder = name.invoke(ofVirtual.invoke(), "ditto-client-" + threadName + "-", 1L);
+            return (ExecutorService) newThreadPerTaskExecutor.invoke((ThreadFactory) factory.invoke(builder));
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException("Could not create executor of virtual threads: " + e.getMessage(), e);
+        }
+    }
+
+}
@@ -51,7 +51,8 @@ final class WebSocketFactoryFactory {
      */
     static WebSocketFactory newWebSocketFactory(final MessagingConfiguration configuration) {
 
-        final WebSocketFactory webSocketFactory = new WebSocketFactory();
+        final WebSocketFactory webSocketFactory = new WebSocketFactory()
+                .setConnectionTimeout((int) configuration.getConnectTimeout().toMillis());
 
         configuration.getProxyConfiguration().ifPresent(proxyConfiguration -> {
             final ProxySettings proxySettings = webSocketFactory.getProxySettings();
@@ -66,12 +67,20 @@ final class WebSocketFactoryFactory {
         });
 
         configuration.getTrustStoreConfiguration().ifPresent(trustStoreConfiguration ->
-                webSocketFactory.setSSLContext(
-                        sslContext(trustStoreConfiguration, loadTrustStore(trustStoreConfiguration))));
+                webSocketFactory.setSSLContext(newSslContext(trustStoreConfiguration)));
 
         return webSocketFactory;
     }
 
+    /**
+     * Creates the SSL context trusting the certificates of the passed {@code trustStoreConfiguration}.
+     *
+     * @return the created SSL context.
+     */
+    static SSLContext newSslContext(final TrustStoreConfiguration trustStoreConfiguration) {
+        return sslContext(trustStoreConfiguration, loadTrustStore(trustStoreConfiguration));
+    }
+
     private static SSLContext sslContext(final TrustStoreConfiguration configuration, final KeyStore trustStore) {
         try {
             final KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance("SunX509");
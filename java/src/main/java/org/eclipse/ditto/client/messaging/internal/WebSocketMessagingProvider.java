@@ -16,37 +16,42 @@ import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.io.IOException;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
-import org.eclipse.ditto.base.model.common.HttpStatus;
 import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.client.configuration.AuthenticationConfiguration;
 import org.eclipse.ditto.client.configuration.DisconnectedContext;
 import org.eclipse.ditto.client.configuration.MessagingConfiguration;
+import org.eclipse.ditto.client.configuration.PayloadEncoding;
 import org.eclipse.ditto.client.internal.DefaultThreadFactory;
 import org.eclipse.ditto.client.internal.VersionReader;
 import org.eclipse.ditto.client.internal.bus.AdaptableBus;
 import org.eclipse.ditto.client.internal.bus.BusFactory;
 import org.eclipse.ditto.client.management.ClientReconnectingException;
-import org.eclipse.ditto.client.messaging.AuthenticationException;
 import org.eclipse.ditto.client.messaging.AuthenticationProvider;
 import org.eclipse.ditto.client.messaging.MessagingException;
 import org.eclipse.ditto.client.messaging.MessagingProvider;
 import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.ProtocolFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,6 +59,7 @@ import com.neovisionaries.ws.client.OpeningHandshakeException;
 import com.neovisionaries.ws.client.StatusLine;
 import com.neovisionaries.ws.client.WebSocket;
 import com.neovisionaries.ws.client.WebSocketAdapter;
+import com.neovisionaries.ws.client.WebSocketCloseCode;
 import com.neovisionaries.ws.client.WebSocketError;
 import com.neovisionaries.ws.client.WebSocketException;
 import com.neovisionaries.ws.client.WebSocketFactory;
@@ -66,16 +72,8 @@ import com.neovisionaries.ws.client.WebSocketFrame;
  */
 public final class WebSocketMessagingProvider extends WebSocketAdapter implements MessagingProvider {
 
-    // how long this object survives after the websocket connection is closed by server and reconnect is disabled
-    private static final Duration ZOMBIE_LIFETIME = Duration.ofSeconds(3L);
-
     private static final String DITTO_CLIENT_USER_AGENT = "DittoClient/" + VersionReader.determineClientVersion();
     private static final Logger LOGGER = LoggerFactory.getLogger(WebSocketMessagingProvider.class);
-    private static final int CONNECTION_TIMEOUT_MS = 5000;
-    private static final int RECONNECTION_TIMEOUT_SECONDS = 5;
-    private static final long INITIAL_CHECK_DELAY = 0;
-    private static final long RETRY_CHECK_PERIOD = 20;
-    private static final int MIN_RECONNECTING_CHECK_TRIES = 4;
 
     private final AdaptableBus adaptableBus;
     private final MessagingConfiguration messagingConfiguration;
@@ -83,19 +81,30 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
     private final ExecutorService callbackExecutor;
     private final String sessionId;
     private final ScheduledExecutorService connectExecutor;
-    private final Map<Object, String> subscriptionMessages;
+    @Nullable private final ConnectionGroup connectionGroup;
+    /**
+     * Writes text messages as {@code String}, Ditto Protocol messages already encoded as CBOR as {@code byte[]} and
+     * messages of the outbox as {@link OutboxWriter.Frame}.
+     */
+    private final OutboundWriter<Object> outboundWriter;
+    private final Semaphore outboundCredits;
+    private final Queue<DeferredMessage> deferredMessages;
+    @Nullable private final OutboxWriter outbox;
+    @Nullable private final CompressionStatistics compressionStatistics;
+    private final PingStatistics pingStatistics;
+    private final PongMonitor pongMonitor;
+    @Nullable private final Backoff backoff;
+    @Nullable private final CborCodec cborCodec;
+    private volatile boolean binaryFramesAgreed;
+    private final ReconnectionSupport reconnectionSupport;
     private final AtomicBoolean reconnecting = new AtomicBoolean(false);
     private final AtomicBoolean initializing = new AtomicBoolean(false);
     private final AtomicBoolean explicitlyClosing = new AtomicBoolean(false);
     private final CompletableFuture<WebSocket> initializationFuture = new CompletableFuture<>();
+    private volatile CompletableFuture<Void> resubscription = CompletableFuture.completedFuture(null);
 
     private final AtomicReference<WebSocket> webSocket;
 
-    private final DisconnectedContext.DisconnectionHandler disconnectionHandler;
-
-    private final AtomicBoolean manuallyPreventReconnect = new AtomicBoolean(false);
-    private final AtomicBoolean manuallyPerformReconnect = new AtomicBoolean(false);
-
     private Runnable channelCloser;
     @Nullable
     private Throwable lastReceivedDittoProtocolError = null;
@@ -108,44 +117,86 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
      * @param messagingConfiguration the specific configuration to apply.
      * @param authenticationProvider provider for the authentication method with which to open the websocket.
      * @param callbackExecutor       the executor service to run callbacks with.
+     * @param connectAttempts        the token bucket limiting the connect attempts if shared with other providers.
+     * @param connectionGroup        the group owning the bus, executor and authentication provider, if shared.
      */
     private WebSocketMessagingProvider(final AdaptableBus adaptableBus,
                                        final MessagingConfiguration messagingConfiguration,
                                        final AuthenticationProvider<WebSocket> authenticationProvider,
-                                       final ExecutorService callbackExecutor) {
+                                       final ExecutorService callbackExecutor,
+                                       @Nullable final TokenBucket connectAttempts,
+                                       @Nullable final ConnectionGroup connectionGroup) {
         this.adaptableBus = adaptableBus;
         this.messagingConfiguration = messagingConfiguration;
         this.authenticationProvider = authenticationProvider;
         this.callbackExecutor = callbackExecutor;
+        this.connectionGroup = connectionGroup;
 
         sessionId = authenticationProvider.getConfiguration().getSessionId();
         connectExecutor = createConnectExecutor(sessionId);
-        subscriptionMessages = new ConcurrentHashMap<>();
+        outboundWriter = new OutboundWriter<>(messagingConfiguration.getOutboundMaxBatchMessages(),
+                messagingConfiguration.getOutboundMaxBatchCharacters(),
+                messagingConfiguration.getOutboundLinger(),
+                connectExecutor,
+                this::sendToWebsocket,
+                WebSocketMessagingProvider::getFrameSize,
+                this::isWritable);
+        outboundCredits = new Semaphore(messagingConfiguration.getOutboundBufferSize());
+        deferredMessages = new ConcurrentLinkedQueue<>();
+        final OutboxJournal outboxJournal = openOutbox(messagingConfiguration, sessionId);
+        outbox = null != outboxJournal
+                ? new OutboxWriter(outboxJournal, outboundWriter, messagingConfiguration.getOutboundBufferSize(),
+                        connectExecutor, this::isWritable, sessionId)
+                : null;
+        compressionStatistics = messagingConfiguration.getCompressionConfiguration().isPresent()
+                ? new CompressionStatistics()
+                : null;
+        pingStatistics = new PingStatistics();
+        pongMonitor = new PongMonitor(messagingConfiguration.getMaxMissedPongs(), pingStatistics);
+        backoff = messagingConfiguration.getBackoffConfiguration()
+                .map(backoffConfiguration -> new Backoff(backoffConfiguration, null != connectAttempts
+                        ? connectAttempts
+                        : Backoff.newConnectAttemptBucket(backoffConfiguration)))
+                .orElse(null);
+        cborCodec = loadCborCodec(messagingConfiguration, sessionId);
         webSocket = new AtomicReference<>();
 
         channelCloser = () -> {
         };
-        disconnectionHandler = new DisconnectedContext.DisconnectionHandler() {
-
-            @Override
-            public DisconnectedContext.DisconnectionHandler closeChannel() {
-                channelCloser.run();
-                return this;
-            }
+        reconnectionSupport = new ReconnectionSupport(sessionId, messagingConfiguration, adaptableBus,
+                () -> channelCloser.run(), this::doReconnect, this::selfDestruct);
+    }
 
-            @Override
-            public DisconnectedContext.DisconnectionHandler preventConfiguredReconnect(final boolean preventReconnect) {
-                manuallyPreventReconnect.set(preventReconnect);
-                return this;
-            }
+    @Nullable
+    private static OutboxJournal openOutbox(final MessagingConfiguration messagingConfiguration,
+            final String sessionId) {
+        final Path outboxDirectory = messagingConfiguration.getOutboxDirectory().orElse(null);
+        if (null == outboxDirectory) {
+            return null;
+        }
+        try {
+            final OutboxJournal journal =
+                    OutboxJournal.open(outboxDirectory, messagingConfiguration.getOutboxSegmentSize());
+            LOGGER.info("Client <{}>: Opened outbox in <{}> with <{}> messages to write.", sessionId,
+                    outboxDirectory, journal.getLastSequenceNumber() - journal.getAcknowledgedSequenceNumber());
+            return journal;
+        } catch (final IOException e) {
+            throw MessagingException.outboxFailed(sessionId, e);
+        }
+    }
 
-            @Override
-            public DisconnectedContext.DisconnectionHandler performReconnect() {
-                manuallyPerformReconnect.set(true);
-                doReconnect();
-                return this;
-            }
-        };
+    @Nullable
+    private static CborCodec loadCborCodec(final MessagingConfiguration messagingConfiguration,
+            final String sessionId) {
+        if (PayloadEncoding.CBOR != messagingConfiguration.getPayloadEncoding()) {
+            return null;
+        }
+        final CborCodec codec = CborCodec.load();
+        if (null == codec) {
+            LOGGER.warn("Client <{}>: CBOR payload encoding is configured but Ditto's CBOR support is not on the " +
+                    "classpath, falling back to JSON.", sessionId);
+        }
+        return codec;
     }
 
     private static ScheduledExecutorService createConnectExecutor(final String sessionId) {
@@ -179,9 +230,36 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
         checkNotNull(defaultExecutor, "defaultExecutor");
         checkNotNull(scheduledExecutor, "scheduledExecutor");
 
-        final AdaptableBus adaptableBus = BusFactory.createAdaptableBus(defaultExecutor, scheduledExecutor);
+        final AdaptableBus adaptableBus = BusFactory.createAdaptableBus(
+                authenticationProvider.getConfiguration().getSessionId(), defaultExecutor, scheduledExecutor,
+                messagingConfiguration);
         return new WebSocketMessagingProvider(adaptableBus, messagingConfiguration, authenticationProvider,
-                defaultExecutor);
+                defaultExecutor, null, null);
+    }
+
+    /**
+     * Returns a new {@code WebSocketMessagingProvider} of a group of connections, publishing incoming messages to the
+     * bus shared by the group. Closing the provider leaves the bus, its executors and the authentication provider
+     * open; the group closes them.
+     *
+     * @param adaptableBus the bus to publish all incoming messages to.
+     * @param messagingConfiguration configuration of messaging.
+     * @param authenticationProvider provides authentication.
+     * @param callbackExecutor the executor for messages.
+     * @param connectAttempts the token bucket limiting the connect attempts of all providers sharing it, or
+     * {@code null} to limit only the connect attempts of this provider if a backoff is configured.
+     * @param connectionGroup the group of the connection.
+     * @return the provider.
+     */
+    static WebSocketMessagingProvider newInstance(final AdaptableBus adaptableBus,
+            final MessagingConfiguration messagingConfiguration,
+            final AuthenticationProvider<WebSocket> authenticationProvider,
+            final ExecutorService callbackExecutor,
+            @Nullable final TokenBucket connectAttempts,
+            final ConnectionGroup connectionGroup) {
+
+        return new WebSocketMessagingProvider(adaptableBus, messagingConfiguration, authenticationProvider,
+                callbackExecutor, connectAttempts, checkNotNull(connectionGroup, "connectionGroup"));
     }
 
     @Override
@@ -215,13 +293,13 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
 
     @Override
     public MessagingProvider registerSubscriptionMessage(final Object key, final String message) {
-        subscriptionMessages.put(key, message);
+        reconnectionSupport.registerSubscriptionMessage(key, message);
         return this;
     }
 
     @Override
     public MessagingProvider unregisterSubscriptionMessage(final Object key) {
-        subscriptionMessages.remove(key);
+        reconnectionSupport.unregisterSubscriptionMessage(key);
         return this;
     }
 
@@ -235,6 +313,7 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
                     messagingConfiguration.isInitialConnectRetryEnabled())
                     .thenApply(ws -> {
                         setWebSocket(ws);
+                        writeDeferredMessages();
                         return this;
                     });
         }
@@ -273,10 +352,18 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
         checkNotNull(ws, "ws");
 
         ws.addHeader("User-Agent", DITTO_CLIENT_USER_AGENT);
-        ws.setMaxPayloadSize(256 * 1024); // 256 KiB
+        ws.setMaxPayloadSize(messagingConfiguration.getMaxPayloadSize());
         ws.setMissingCloseFrameAllowed(true);
-        ws.setFrameQueueSize(0);
-        ws.setPingInterval(CONNECTION_TIMEOUT_MS);
+        ws.setFrameQueueSize(messagingConfiguration.getFrameQueueSize());
+        // the outbound writer flushes once per batch of messages
+        ws.setAutoFlush(false);
+        ws.setPingInterval(messagingConfiguration.getPingInterval().toMillis());
+        ws.setPingPayloadGenerator(() -> newPingPayload(ws));
+        messagingConfiguration.getCompressionConfiguration()
+                .ifPresent(compressionConfiguration -> ws.addExtension(compressionConfiguration.toExtensionOffer()));
+        if (null != cborCodec) {
+            ws.addProtocol(CborCodec.SUBPROTOCOL);
+        }
         authenticationProvider.prepareAuthentication(ws);
         ws.addListener(this);
 
@@ -293,22 +380,188 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
 
     @Override
     public void emit(final String message) {
-        if (reconnecting.get()) {
+        if (null != outbox && isDittoProtocolMessage(message)) {
+            outbox.emit(message, null);
+        } else if (reconnecting.get()) {
             throw ClientReconnectingException.newInstance();
         } else {
-            sendToWebsocket(message);
+            outboundWriter.write(message);
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> emitAsync(final String message) {
+        final CompletableFuture<Void> written = new CompletableFuture<>();
+        if (!outboundCredits.tryAcquire()) {
+            written.completeExceptionally(
+                    MessagingException.outboundBufferFull(sessionId, messagingConfiguration.getOutboundBufferSize()));
+            return written;
+        }
+        written.whenComplete((result, error) -> outboundCredits.release());
+        if (null != outbox && isDittoProtocolMessage(message)) {
+            outbox.emit(message, written);
+        } else if (isWritable()) {
+            outboundWriter.write(message, written);
+        } else {
+            deferredMessages.add(new DeferredMessage(message, written));
+            // the connection may have been established after checking it
+            if (isWritable()) {
+                writeDeferredMessages();
+            }
         }
+        return written;
     }
 
-    private void sendToWebsocket(final String stringMessage) {
+    @Override
+    public void emitAdaptable(final Adaptable message) {
+        final CborCodec codec = cborCodec;
+        if (binaryFramesAgreed && null != codec && null == outbox && !reconnecting.get()) {
+            // encodes the JSON object directly instead of parsing it again from its string representation
+            final JsonObject jsonMessage = ProtocolFactory.wrapAsJsonifiableAdaptable(message).toJson();
+            try {
+                outboundWriter.write(codec.encode(jsonMessage));
+            } catch (final IOException | JsonRuntimeException e) {
+                LOGGER.warn("Client <{}>: Could not encode message as CBOR, sending it as JSON: {}", sessionId,
+                        e.getMessage());
+                outboundWriter.write(jsonMessage.toString());
+            }
+        } else {
+            MessagingProvider.super.emitAdaptable(message);
+        }
+    }
+
+    private static int getFrameSize(final Object frame) {
+        if (frame instanceof byte[]) {
+            return ((byte[]) frame).length;
+        } else if (frame instanceof OutboxWriter.Frame) {
+            return ((OutboxWriter.Frame) frame).getMessage().length();
+        }
+        return ((String) frame).length();
+    }
+
+    private boolean isWritable() {
+        final WebSocket ws = webSocket.get();
+        return !reconnecting.get() && ws != null && ws.isOpen();
+    }
+
+    /**
+     * Protocol commands like {@code START-SEND-EVENTS} or {@code JWT-TOKEN} are no JSON. They are not journaled, as
+     * they belong to the current session and are sent again with the next one, e.g. by resubscribing.
+     */
+    private static boolean isDittoProtocolMessage(final String message) {
+        return message.startsWith("{");
+    }
+
+    private void writeDeferredMessages() {
+        synchronized (deferredMessages) {
+            DeferredMessage deferredMessage;
+            while ((deferredMessage = deferredMessages.poll()) != null) {
+                outboundWriter.write(deferredMessage.message, deferredMessage.written);
+            }
+        }
+        if (null != outbox) {
+            outbox.replay();
+        }
+        // writes the messages which stayed in the outbound writer while the WebSocket was not writable
+        outboundWriter.flush();
+    }
+
+    private void discardDeferredMessages() {
+        final int discarded = outboundWriter.discard(
+                discardedMessages -> MessagingException.notConnected(sessionId, discardedMessages));
+        if (discarded > 0) {
+            LOGGER.debug("Client <{}>: Discarded <{}> messages which were not written before closing", sessionId,
+                    discarded);
+        }
+        synchronized (deferredMessages) {
+            final MessagingException notConnected =
+                    MessagingException.notConnected(sessionId, deferredMessages.size());
+            DeferredMessage deferredMessage;
+            while ((deferredMessage = deferredMessages.poll()) != null) {
+                deferredMessage.written.completeExceptionally(notConnected);
+            }
+        }
+    }
+
+    private void closeOutbox() {
+        if (null != outbox) {
+            // the messages stay in the outbox to be written by the next client using it
+            outbox.close();
+        }
+    }
+
+    private void sendToWebsocket(final List<Object> frames) {
         final WebSocket ws = webSocket.get();
         if (ws != null && ws.isOpen()) {
-            LOGGER.debug("Client <{}>: Sending: {}", sessionId, stringMessage);
-            ws.sendText(stringMessage);
+            LOGGER.debug("Client <{}>: Sending <{}> messages", sessionId, frames.size());
+            for (final Object frame : frames) {
+                if (frame instanceof byte[]) {
+                    sendCborMessage(ws, (byte[]) frame);
+                } else if (frame instanceof OutboxWriter.Frame) {
+                    sendOutboxMessage(ws, (OutboxWriter.Frame) frame);
+                } else {
+                    sendTextMessage(ws, (String) frame);
+                }
+            }
+            ws.flush();
         } else {
-            LOGGER.error("Client <{}>: WebSocket is not connected - going to discard message '{}'",
-                    sessionId, stringMessage);
+            if (LOGGER.isTraceEnabled()) {
+                frames.forEach(frame -> LOGGER.trace("Client <{}>: Discarding message: {}", sessionId,
+                        frame instanceof byte[] ? "<" + ((byte[]) frame).length + "> CBOR bytes" : frame));
+            }
+            // only happens if the connection is lost while the batch is written, as the outbound writer keeps the
+            // messages queued while the WebSocket is not writable; fails the futures of the messages
+            throw MessagingException.notConnected(sessionId, frames.size());
+        }
+    }
+
+    private void sendOutboxMessage(final WebSocket ws, final OutboxWriter.Frame frame) {
+        // frames queued before writing an earlier message failed are skipped, the outbox replays them in order
+        if (null != outbox && outbox.isCurrent(frame)) {
+            sendTextMessage(ws, frame.getMessage());
+        } else if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Client <{}>: Skipping message which is written again from the outbox: {}", sessionId,
+                    frame);
+        }
+    }
+
+    private void sendTextMessage(final WebSocket ws, final String stringMessage) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Client <{}>: Sending: {}", sessionId, stringMessage);
+        }
+        if (null != compressionStatistics) {
+            compressionStatistics.recordOutboundMessage(stringMessage);
         }
+        sendMessage(ws, stringMessage);
+    }
+
+    private void sendCborMessage(final WebSocket ws, final byte[] cbor) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Client <{}>: Sending <{}> CBOR bytes", sessionId, cbor.length);
+        }
+        if (null != compressionStatistics) {
+            compressionStatistics.recordOutboundMessage(cbor.length);
+        }
+        if (binaryFramesAgreed || null == cborCodec) {
+            ws.sendBinary(cbor);
+        } else {
+            // the message was encoded before reconnecting to a server which did not agree to binary frames
+            ws.sendText(cborCodec.decode(cbor).toString());
+        }
+    }
+
+    private void sendMessage(final WebSocket ws, final String stringMessage) {
+        // protocol commands like START-SEND-EVENTS are no JSON and always sent as text
+        if (binaryFramesAgreed && null != cborCodec && stringMessage.startsWith("{")) {
+            try {
+                ws.sendBinary(cborCodec.encode(stringMessage));
+                return;
+            } catch (final IOException | JsonRuntimeException e) {
+                LOGGER.warn("Client <{}>: Could not encode message as CBOR, sending it as JSON: {}", sessionId,
+                        e.getMessage());
+            }
+        }
+        ws.sendText(stringMessage);
     }
 
     @Override
@@ -321,11 +574,24 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
             LOGGER.debug("Client <{}>: Closing WebSocket client of endpoint <{}>.", sessionId,
                     messagingConfiguration.getEndpointUri());
 
+            outboundWriter.flush();
+            discardDeferredMessages();
+            closeOutbox();
+            if (null != compressionStatistics) {
+                LOGGER.info("Client <{}>: Compressed sent messages <{}> times and received messages <{}> times: {}",
+                        sessionId, compressionStatistics.getOutboundRatio(), compressionStatistics.getInboundRatio(),
+                        compressionStatistics);
+            }
+            if (pingStatistics.getSampleCount() > 0) {
+                LOGGER.info("Client <{}>: Ping statistics: {}", sessionId, pingStatistics);
+            }
             // Scheduled tasks obtained from "shutdownNow" are useless because they overrides Runnable.run()
             // to NOT run when the parent executor was shut down.
             connectExecutor.shutdownNow();
-            authenticationProvider.destroy();
-            adaptableBus.shutdownExecutors();
+            if (null == connectionGroup) {
+                authenticationProvider.destroy();
+                adaptableBus.shutdownExecutors();
+            }
             final WebSocket ws = webSocket.get();
             if (ws != null) {
                 ws.disconnect();
@@ -353,35 +619,17 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
 
     @Override
     public void onConnected(final WebSocket websocket, final Map<String, List<String>> headers) {
+        pongMonitor.reset();
+        binaryFramesAgreed = null != cborCodec && CborCodec.SUBPROTOCOL.equals(websocket.getAgreedProtocol());
         callbackExecutor.execute(() -> {
             LOGGER.info("Client <{}>: WebSocket connection is established", sessionId);
-
-            if (!subscriptionMessages.isEmpty()) {
-                LOGGER.info("Client <{}>: Subscribing again for messages from backend after reconnection",
-                        sessionId);
-                final CompletableFuture<Boolean> isReconnecting = new CompletableFuture<>();
-                final Runnable checkTask = () -> {
-                    if (!reconnecting.get()) {
-                        isReconnecting.complete(true);  // Complete the future if flag is true
-                    }
-                };
-                final ScheduledFuture<?> fixedRateChecker = connectExecutor.scheduleAtFixedRate(checkTask, INITIAL_CHECK_DELAY, RETRY_CHECK_PERIOD, TimeUnit.MILLISECONDS);
-                try {
-                    if (Boolean.TRUE.equals(isReconnecting.get(RETRY_CHECK_PERIOD * MIN_RECONNECTING_CHECK_TRIES, TimeUnit.MILLISECONDS))) { // Ensures 4 retries of the scheduleAtFixedRate method.
-                        fixedRateChecker.cancel(true);
-                        LOGGER.debug("Reconnecting is completed -> emitting subscriptionMessages: {}", subscriptionMessages);
-                        subscriptionMessages.values().forEach(this::emit);
-                    }
-                } catch (TimeoutException | ExecutionException e) {
-                    isReconnecting.complete(false);
-                    fixedRateChecker.cancel(true);
-                    LOGGER.error("Reconnecting failed: {}", e.getMessage());
-                } catch (InterruptedException e) {
-                    isReconnecting.complete(false);
-                    fixedRateChecker.cancel(true);
-                    LOGGER.error("Reconnecting failed due to thread being interrupted: {}", e.getMessage());
-                    Thread.currentThread().interrupt();
-                }
+            if (null != compressionStatistics) {
+                LOGGER.info("Client <{}>: Agreed WebSocket extensions: {}", sessionId,
+                        websocket.getAgreedExtensions());
+            }
+            if (null != cborCodec) {
+                LOGGER.info("Client <{}>: Server {} binary CBOR frames.", sessionId,
+                        binaryFramesAgreed ? "agreed to" : "did not agree to, falling back to JSON instead of");
             }
         });
     }
@@ -399,19 +647,19 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
                         serverCloseFrame.getCloseCode(),
                         serverCloseFrame.getCloseReason());
                 awaitLastReceivedDittoProtocolError();
-                handleReconnectionIfEnabled(DisconnectedContext.Source.SERVER, lastReceivedDittoProtocolError);
+                handleDisconnection(DisconnectedContext.Source.SERVER, lastReceivedDittoProtocolError);
             } else if (!explicitlyClosing.get()) {
                 // client closed connection because of a connection interruption or something similar
                 LOGGER.info("Client <{}>: WebSocket connection to endpoint <{}> was unintentionally closed by client " +
                                 "- client will try to reconnect if enabled!",
                         sessionId, messagingConfiguration.getEndpointUri());
                 awaitLastReceivedDittoProtocolError();
-                handleReconnectionIfEnabled(DisconnectedContext.Source.CLIENT, lastReceivedDittoProtocolError);
+                handleDisconnection(DisconnectedContext.Source.CLIENT, lastReceivedDittoProtocolError);
             } else {
                 // only when close() was called we should end here
                 LOGGER.info("Client <{}>: WebSocket connection to endpoint <{}> was closed by user",
                         sessionId, messagingConfiguration.getEndpointUri());
-                handleReconnectionIfEnabled(DisconnectedContext.Source.USER_CODE, null);
+                handleDisconnection(DisconnectedContext.Source.USER_CODE, null);
             }
         });
     }
@@ -438,7 +686,7 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
                 errorMsg = "-";
             }
             LOGGER.error(msgPattern, sessionId, errorMsg);
-            handleReconnectionIfEnabled(DisconnectedContext.Source.CLIENT, cause);
+            handleDisconnection(DisconnectedContext.Source.CLIENT, cause);
         });
     }
 
@@ -456,6 +704,7 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
                     .withExecutors(connectExecutor, callbackExecutor)
                     .notifyOnError(messagingConfiguration.getConnectionErrorHandler().orElse(null))
                     .isRecoverable(isRecoverable)
+                    .withBackoff(backoff)
                     .completeFutureEventually(future);
         } catch (final Exception exception) {
             future.completeExceptionally(exception);
@@ -463,61 +712,80 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
         }
     }
 
-    private void handleReconnectionIfEnabled(final DisconnectedContext.Source disconnectionSource,
-                                             @Nullable final Throwable throwableSupplier) {
+    private void handleDisconnection(final DisconnectedContext.Source disconnectionSource,
+            @Nullable final Throwable cause) {
 
-        final Optional<Consumer<DisconnectedContext>> disconnectedListener =
-                messagingConfiguration.getDisconnectedListener();
-        if (disconnectedListener.isPresent()) {
-            final Consumer<DisconnectedContext> disconnectedContextConsumer = disconnectedListener.get();
-            disconnectedContextConsumer.accept(
-                    new DefaultDisconnectedContext(disconnectionSource, throwableSupplier, disconnectionHandler));
+        reconnectionSupport.handleDisconnection(disconnectionSource, cause, this::notifyDisconnected);
+    }
+
+    private void notifyDisconnected(final DisconnectedContext disconnectedContext) {
+        if (null != connectionGroup) {
+            connectionGroup.onDisconnected(this, disconnectedContext);
+        } else {
+            messagingConfiguration.getDisconnectedListener()
+                    .ifPresent(listener -> listener.accept(disconnectedContext));
         }
+    }
 
-        if (messagingConfiguration.isReconnectEnabled()) {
-            if (manuallyPreventReconnect.get()) {
-                LOGGER.info("Client <{}>: User defined disconnectedListener explicitly prevented reconnect which " +
-                        "would have happened now. Closing client ...", sessionId);
-                // delay self destruction in order to handle any final error message
-                adaptableBus.getScheduledExecutor()
-                        .schedule(this::close, ZOMBIE_LIFETIME.toMillis(), TimeUnit.MILLISECONDS);
-            } else {
-                // reconnect in a while if client was initially connected and we are not reconnecting already
-                LOGGER.info("Client <{}>: Reconnection is enabled", sessionId);
-                doReconnect();
-            }
+    private void selfDestruct() {
+        // a connection of a group takes the whole client down, like a single connection does
+        if (null != connectionGroup) {
+            connectionGroup.close();
         } else {
-            if (manuallyPerformReconnect.get()) {
-                LOGGER.info("Client <{}>: User defined disconnectedListener explicitly performed reconnect. " +
-                        "NOT closing client ...", sessionId);
-            } else {
-                LOGGER.info("Client <{}>: Reconnection is NOT enabled. Closing client ...", sessionId);
-                // delay self destruction in order to handle any final error message
-                adaptableBus.getScheduledExecutor()
-                        .schedule(this::close, ZOMBIE_LIFETIME.toMillis(), TimeUnit.MILLISECONDS);
-            }
+            close();
         }
     }
 
     private void doReconnect() {
         if (reconnecting.compareAndSet(false, true)) {
-            LOGGER.info("Client <{}>: Reconnecting in <{}> seconds ...", sessionId, RECONNECTION_TIMEOUT_SECONDS);
-            connectExecutor.schedule(this::reconnectWithRetries, RECONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            resubscription = new CompletableFuture<>();
+            final Duration reconnectDelay;
+            if (null != backoff) {
+                backoff.onDisconnected();
+                reconnectDelay = backoff.nextDelay();
+            } else {
+                reconnectDelay = messagingConfiguration.getReconnectDelay();
+            }
+            LOGGER.info("Client <{}>: Reconnecting in <{}> ...", sessionId, reconnectDelay);
+            connectExecutor.schedule(this::reconnectWithRetries, reconnectDelay.toMillis(), TimeUnit.MILLISECONDS);
         }
     }
 
     private void reconnectWithRetries() {
+        final CompletableFuture<Void> pendingResubscription = resubscription;
         this.connectWithPotentialRetries("reconnect WebSocket", this::recreateWebSocket, new CompletableFuture<>(),
-                        messagingConfiguration.isReconnectEnabled() || manuallyPerformReconnect.get())
-                .thenAccept(reconnectedWebSocket -> {
-                    setWebSocket(reconnectedWebSocket);
-                    reconnecting.set(false);
-                    manuallyPerformReconnect.set(false);
+                        reconnectionSupport.isRetryingReconnect())
+                .whenComplete((reconnectedWebSocket, error) -> {
+                    if (null != error) {
+                        pendingResubscription.completeExceptionally(error);
+                    } else {
+                        setWebSocket(reconnectedWebSocket);
+                        reconnecting.set(false);
+                        reconnectionSupport.onReconnected();
+                        if (null != connectionGroup) {
+                            connectionGroup.onReconnected(this);
+                        }
+                        reconnectionSupport.resubscribe(pendingResubscription, this::emitSubscriptionMessage);
+                        writeDeferredMessages();
+                    }
                 });
     }
 
+    private CompletionStage<Void> emitSubscriptionMessage(final String message) {
+        emit(message);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletionStage<Void> getResubscription() {
+        return resubscription;
+    }
+
     private void setWebSocket(final WebSocket webSocket) {
         explicitlyClosing.set(false); // reset potential explicit close request by the user
+        if (null != backoff) {
+            backoff.onConnected();
+        }
         synchronized (this.webSocket) {
             final WebSocket oldWebSocket = this.webSocket.get();
             this.webSocket.set(webSocket);
@@ -541,6 +809,8 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
         }
         ws.clearHeaders();
         ws.clearListeners();
+        ws.clearExtensions();
+        ws.clearProtocols();
 
         try {
             final String declaredAcksJsonArrayString = messagingConfiguration.getDeclaredAcknowledgements()
@@ -550,7 +820,7 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
                     .collect(JsonCollectors.valuesToArray())
                     .toString();
 
-            return ws.recreate(CONNECTION_TIMEOUT_MS)
+            return ws.recreate((int) messagingConfiguration.getConnectTimeout().toMillis())
                     .addHeader(DittoHeaderDefinition.DECLARED_ACKS.getKey(), declaredAcksJsonArrayString);
         } catch (IOException e) {
             throw MessagingException.recreateFailed(sessionId, e);
@@ -559,6 +829,20 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
 
     @Override
     public void onBinaryMessage(final WebSocket websocket, final byte[] binary) {
+        if (null != cborCodec) {
+            if (null != compressionStatistics) {
+                compressionStatistics.recordInboundMessage(binary.length);
+            }
+            try {
+                final JsonValue decoded = cborCodec.decode(binary);
+                LOGGER.debug("Client <{}>: Received WebSocket CBOR message <{}>", sessionId, decoded);
+                // dispatched like text messages, only without parsing the decoded JSON from text again
+                adaptableBus.publishJson(decoded.asObject());
+            } catch (final JsonRuntimeException | UnsupportedOperationException e) {
+                LOGGER.warn("Client <{}>: Could not decode WebSocket CBOR message: {}", sessionId, e.getMessage());
+            }
+            return;
+        }
         final String stringMessage = new String(binary, StandardCharsets.UTF_8);
         LOGGER.debug("Client <{}>: Received WebSocket byte array message <{}>, as string <{}> - don't know what to do" +
                 " with it!.", sessionId, binary, stringMessage);
@@ -567,35 +851,95 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
     @Override
     public void onTextMessage(final WebSocket websocket, final String text) {
         LOGGER.debug("Client <{}>: Received WebSocket string message <{}>", sessionId, text);
+        if (null != compressionStatistics) {
+            compressionStatistics.recordInboundMessage(text);
+        }
         handleIncomingMessage(text);
     }
 
+    @Override
+    public void onFrame(final WebSocket websocket, final WebSocketFrame frame) {
+        // called with the frame as received, before its payload is decompressed
+        if (null != compressionStatistics && frame.isDataFrame()) {
+            compressionStatistics.recordInboundFrame(frame.getPayloadLength());
+        }
+    }
+
+    @Override
+    public void onSendingFrame(final WebSocket websocket, final WebSocketFrame frame) {
+        // called with the frame as sent, after its payload was compressed
+        if (null != compressionStatistics && frame.isDataFrame()) {
+            compressionStatistics.recordOutboundFrame(frame.getPayloadLength());
+        }
+    }
+
+    @Override
+    public void onPongFrame(final WebSocket websocket, final WebSocketFrame frame) {
+        pongMonitor.reset();
+        final byte[] payload = frame.getPayload();
+        if (null != payload && payload.length == Long.BYTES) {
+            // the pong echoes the payload of the ping, which is the time the ping was sent
+            final long roundTripNanos = System.nanoTime() - ByteBuffer.wrap(payload).getLong();
+            if (roundTripNanos >= 0L) {
+                pingStatistics.recordRoundTripTime(roundTripNanos);
+            }
+        }
+    }
+
+    /**
+     * Creates the payload of the next ping, which is the time it is sent, and closes the connection if the configured
+     * number of previous pings was not answered by a pong.
+     *
+     * @param ws the WebSocket sending the ping.
+     * @return the payload.
+     */
+    private byte[] newPingPayload(final WebSocket ws) {
+        if (pongMonitor.onPing()) {
+            LOGGER.warn("Client <{}>: Missed <{}> pongs in a row, closing the dead WebSocket connection.", sessionId,
+                    pongMonitor.getMaxMissedPongs());
+            // closing the socket right away instead of waiting for the close frame of the server makes
+            // onDisconnected reconnect if reconnecting is enabled
+            connectExecutor.execute(() -> ws.disconnect(WebSocketCloseCode.AWAY, "Missed pongs", 0L));
+        }
+        return ByteBuffer.allocate(Long.BYTES).putLong(System.nanoTime()).array();
+    }
+
+    /**
+     * Returns the round-trip times of the pings sent to keep the connection alive and the number of pongs which
+     * were missed.
+     *
+     * @return the ping statistics.
+     * @since 3.9.0
+     */
+    public PingStatistics getPingStatistics() {
+        return pingStatistics;
+    }
+
+    /**
+     * Returns the statistics of the {@code permessage-deflate} compression of the messages sent and received by
+     * this provider, if compression is configured.
+     *
+     * @return the compression statistics.
+     * @since 3.9.0
+     */
+    public Optional<CompressionStatistics> getCompressionStatistics() {
+        return Optional.ofNullable(compressionStatistics);
+    }
+
     private void handleIncomingMessage(final String message) {
         adaptableBus.publish(message);
     }
 
     private RuntimeException mapConnectError(final Throwable e) {
-        final Throwable cause = getRootCause(e);
+        final Throwable cause = ReconnectionSupport.getRootCause(e);
         final RuntimeException result;
         if (cause instanceof WebSocketException) {
             LOGGER.error("Got exception: {}", cause.getMessage());
             if (cause instanceof OpeningHandshakeException) {
                 final StatusLine statusLine = ((OpeningHandshakeException) cause).getStatusLine();
-                final HttpStatus httpStatus = HttpStatus.tryGetInstance(statusLine.getStatusCode())
-                        .orElse(HttpStatus.INTERNAL_SERVER_ERROR);
-                if (httpStatus.isClientError()) {
-                    if (HttpStatus.UNAUTHORIZED.equals(httpStatus)) {
-                        result = AuthenticationException.unauthorized(sessionId, cause);
-                    } else if (HttpStatus.FORBIDDEN.equals(httpStatus)) {
-                        result = AuthenticationException.forbidden(sessionId, cause);
-                    } else {
-                        result = AuthenticationException.withStatus(sessionId, cause, statusLine.getStatusCode(),
-                                statusLine.getReasonPhrase() + ": " +
-                                        new String(((OpeningHandshakeException) cause).getBody()));
-                    }
-                } else {
-                    result = MessagingException.connectFailed(sessionId, cause);
-                }
+                result = reconnectionSupport.mapHandshakeError(cause, statusLine.getStatusCode(),
+                        statusLine.getReasonPhrase() + ": " +
+                                new String(((OpeningHandshakeException) cause).getBody()));
             } else if (((WebSocketException) cause).getError() == WebSocketError.SOCKET_CONNECT_ERROR &&
                     cause.getCause() instanceof UnknownHostException) {
                 result = MessagingException.connectFailed(sessionId, cause.getCause());
@@ -620,11 +964,15 @@ public final class WebSocketMessagingProvider extends WebSocketAdapter implement
         return true;
     }
 
-    private static Throwable getRootCause(final Throwable e) {
-        if (e.getCause() == null) {
-            return e;
+    private static final class DeferredMessage {
+
+        private final String message;
+        private final CompletableFuture<Void> written;
+
+        private DeferredMessage(final String message, final CompletableFuture<Void> written) {
+            this.message = message;
+            this.written = written;
         }
-        return e instanceof CompletionException || e instanceof ExecutionException ? getRootCause(e.getCause()) : e;
     }
 
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.registration;
+
+/**
+ * The bounded queue of changes waiting for a handler registered with a {@link ConsumerQueueConfiguration}. It is
+ * drained by at most one thread at a time, so a slow handler only delays its own changes.
+ *
+ * @since 3.9.0
+ */
+public interface ConsumerQueue {
+
+    /**
+     * @return the configuration of this queue.
+     */
+    ConsumerQueueConfiguration getConfiguration();
+
+    /**
+     * Returns the number of changes waiting for the handler, i.e. how far the handler lags behind.
+     *
+     * @return the current depth of this queue.
+     */
+    int getDepth();
+
+    /**
+     * Returns the number of changes which were discarded without being passed to the handler: dropped because the
+     * queue was full or replaced by a newer change of the same Thing.
+     *
+     * @return the number of discarded changes.
+     */
+    long getDroppedCount();
+
+    /**
+     * @return the number of changes the handler processed without throwing an exception.
+     */
+    long getHandledCount();
+
+    /**
+     * @return the number of changes for which the handler threw an exception.
+     */
+    long getFailedCount();
+
+}
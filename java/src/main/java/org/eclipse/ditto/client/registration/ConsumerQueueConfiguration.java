@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.registration;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Configures the {@link ConsumerQueue} of a handler: how many changes may wait for the handler and what happens to
+ * further changes.
+ *
+ * @since 3.9.0
+ */
+@Immutable
+public final class ConsumerQueueConfiguration {
+
+    private final int capacity;
+    private final OverflowStrategy overflowStrategy;
+
+    private ConsumerQueueConfiguration(final int capacity, final OverflowStrategy overflowStrategy) {
+        this.capacity = capacity;
+        this.overflowStrategy = overflowStrategy;
+    }
+
+    /**
+     * Returns a new configuration.
+     *
+     * @param capacity the maximum number of changes waiting for the handler.
+     * @param overflowStrategy what to do with changes arriving while the queue is full.
+     * @return the configuration.
+     * @throws NullPointerException if {@code overflowStrategy} is {@code null}.
+     * @throws IllegalArgumentException if {@code capacity} is not positive.
+     */
+    public static ConsumerQueueConfiguration of(final int capacity, final OverflowStrategy overflowStrategy) {
+        checkArgument(capacity, c -> c > 0, () -> "The capacity must be positive but was: " + capacity);
+        return new ConsumerQueueConfiguration(capacity, checkNotNull(overflowStrategy, "overflowStrategy"));
+    }
+
+    /**
+     * @return the maximum number of changes waiting for the handler.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return what to do with changes arriving while the queue is full.
+     */
+    public OverflowStrategy getOverflowStrategy() {
+        return overflowStrategy;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ConsumerQueueConfiguration that = (ConsumerQueueConfiguration) o;
+        return capacity == that.capacity && overflowStrategy == that.overflowStrategy;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(capacity, overflowStrategy);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "capacity=" + capacity +
+                ", overflowStrategy=" + overflowStrategy +
+                "]";
+    }
+
+}
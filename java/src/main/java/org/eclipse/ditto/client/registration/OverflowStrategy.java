@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.registration;
+
+/**
+ * Determines what happens to a change arriving for a handler whose {@link ConsumerQueue} is full.
+ *
+ * @since 3.9.0
+ */
+public enum OverflowStrategy {
+
+    /**
+     * The thread dispatching the change waits until the queue has room. This slows down receiving all messages of
+     * the client to the pace of the handler; no change is dropped.
+     */
+    BLOCK,
+
+    /**
+     * The oldest queued change is dropped to make room for the arriving one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The arriving change is dropped.
+     */
+    DROP_NEWEST,
+
+    /**
+     * At most one change per Thing is queued: an arriving change replaces the queued change of the same Thing, keeping
+     * its position in the queue. If the queue is full of changes of other Things, the oldest one is dropped.
+     */
+    CONFLATE_BY_THING
+
+}
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.client.registration;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.eclipse.ditto.client.DittoClient;
@@ -44,4 +46,51 @@ public interface ThingChangeRegistration extends HandlerDeregistration {
      */
     void registerForThingChanges(String registrationId, Consumer<ThingChange> handler);
 
+    /**
+     * Registers a {@link Consumer} which is notified about {@link ThingChange}s like
+     * {@link #registerForThingChanges(String, Consumer)}, but through a bounded {@link ConsumerQueue}. Changes are
+     * only enqueued by the thread receiving them, so a slow handler lags behind on its own queue instead of stalling
+     * the reception of messages for all handlers. What happens when the queue is full is determined by the
+     * {@link OverflowStrategy} of the {@code queueConfiguration}. Example:
+     * <pre>
+     * ConsumerQueue queue = myThing.registerForThingChanges(HANDLER_ID,
+     *         ConsumerQueueConfiguration.of(1000, OverflowStrategy.CONFLATE_BY_THING), this::updateDashboard);
+     * LOGGER.info("dashboard lags {} changes behind", queue.getDepth());
+     * </pre>
+     *
+     * @param registrationId an arbitrary ID provided by the user which can be used to cancel the registration later on.
+     * The {@code registrationId} needs to be unique per {@link DittoClient} instance.
+     * @param queueConfiguration the capacity and overflow strategy of the queue.
+     * @param handler the {@code Consumer} to handle change notifications.
+     * @return the queue of the handler providing its depth and drop counters.
+     * @throws DuplicateRegistrationIdException if a handler is already registered for the given {@code
+     * registrationId}.
+     * @since 3.9.0
+     */
+    ConsumerQueue registerForThingChanges(String registrationId, ConsumerQueueConfiguration queueConfiguration,
+            Consumer<ThingChange> handler);
+
+    /**
+     * Registers a {@link Consumer} which is notified about {@link ThingChange}s like
+     * {@link #registerForThingChanges(String, Consumer)}, but in micro-batches. A batch is passed to the handler once
+     * it holds {@code maxBatchSize} changes or {@code maxDelay} after its first change, whichever comes first, so that
+     * handlers writing the changes to a database or a message broker can do so with one request per batch. The
+     * batches are passed in the order the changes were received, one at a time. Example:
+     * <pre>
+     * myThing.registerForThingChanges(HANDLER_ID, 500, Duration.ofMillis(50L), changes -&gt; repository.saveAll(changes));
+     * </pre>
+     *
+     * @param registrationId an arbitrary ID provided by the user which can be used to cancel the registration later on.
+     * The {@code registrationId} needs to be unique per {@link DittoClient} instance.
+     * @param maxBatchSize the maximum number of changes of a batch.
+     * @param maxDelay the maximum time the first change of a batch waits for further changes.
+     * @param handler the {@code Consumer} to handle the batches of change notifications.
+     * @throws DuplicateRegistrationIdException if a handler is already registered for the given {@code
+     * registrationId}.
+     * @throws IllegalArgumentException if {@code maxBatchSize} or {@code maxDelay} is not positive.
+     * @since 3.9.0
+     */
+    void registerForThingChanges(String registrationId, int maxBatchSize, Duration maxDelay,
+            Consumer<List<ThingChange>> handler);
+
 }
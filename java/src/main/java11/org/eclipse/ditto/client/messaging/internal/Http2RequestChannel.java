@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.client.configuration.MessagingConfiguration;
+import org.eclipse.ditto.protocol.Adaptable;
+
+/**
+ * Sends thing commands to the Ditto HTTP API with the {@code java.net.http.HttpClient}, which multiplexes concurrent
+ * requests as streams of one pooled HTTP/2 connection per server if the server supports HTTP/2.
+ */
+final class Http2RequestChannel implements HttpRequestChannel {
+
+    private final HttpClient httpClient;
+    private final String baseUri;
+    private final HeaderAuthentication authentication;
+    private final Duration timeout;
+
+    private Http2RequestChannel(final HttpClient httpClient, final String baseUri,
+            final HeaderAuthentication authentication, final Duration timeout) {
+        this.httpClient = httpClient;
+        this.baseUri = baseUri;
+        this.authentication = authentication;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns a new {@code Http2RequestChannel} to the server of the configured WebSocket endpoint.
+     *
+     * @param messagingConfiguration the configuration of the WebSocket.
+     * @param authentication provides the authentication headers of the requests.
+     * @return the channel.
+     */
+    static Http2RequestChannel newInstance(final MessagingConfiguration messagingConfiguration,
+            final HeaderAuthentication authentication) {
+
+        return new Http2RequestChannel(HttpClients.forConfiguration(messagingConfiguration),
+                HttpThingCommand.getHttpBaseUri(messagingConfiguration.getEndpointUri()).toString(),
+                authentication,
+                messagingConfiguration.getTimeout());
+    }
+
+    @Override
+    public CompletionStage<Adaptable> send(final HttpThingCommand command) {
+        final HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUri + command.getPathAndQuery()))
+                .timeout(timeout)
+                .method(command.getMethod(), command.getBody()
+                        .map(HttpRequest.BodyPublishers::ofString)
+                        .orElseGet(HttpRequest.BodyPublishers::noBody));
+        command.getHeaders().forEach(request::header);
+        authentication.getRequestHeaders().forEach(request::setHeader);
+
+        return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> command.toResponse(response.statusCode(),
+                        response.headers().firstValue("ETag").orElse(null),
+                        response.body()));
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.util.Optional;
+
+import org.eclipse.ditto.client.configuration.MessagingConfiguration;
+import org.eclipse.ditto.client.configuration.ProxyConfiguration;
+
+/**
+ * Provides the {@link HttpClient}s of the WebSockets and HTTP request channels based on {@code java.net.http}.
+ */
+final class HttpClients {
+
+    private HttpClients() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the HTTP client for the passed configuration. Without a proxy or trust store, one HTTP client and thus
+     * its selector thread and connection pool are shared by all users.
+     *
+     * @param messagingConfiguration the configuration.
+     * @return the HTTP client, which prefers HTTP/2 for requests.
+     */
+    static HttpClient forConfiguration(final MessagingConfiguration messagingConfiguration) {
+        final Optional<ProxyConfiguration> proxyConfiguration = messagingConfiguration.getProxyConfiguration();
+        if (proxyConfiguration.isEmpty() && messagingConfiguration.getTrustStoreConfiguration().isEmpty()) {
+            return SharedHttpClient.INSTANCE;
+        }
+        final HttpClient.Builder builder = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2);
+        proxyConfiguration.ifPresent(proxy -> {
+            builder.proxy(ProxySelector.of(new InetSocketAddress(proxy.getHost(), proxy.getPort())));
+            if (proxy.getUsername().isPresent() && proxy.getPassword().isPresent()) {
+                builder.authenticator(new ProxyAuthenticator(proxy.getUsername().get(), proxy.getPassword().get()));
+            }
+        });
+        messagingConfiguration.getTrustStoreConfiguration()
+                .ifPresent(trustStore -> builder.sslContext(WebSocketFactoryFactory.newSslContext(trustStore)));
+        return builder.build();
+    }
+
+    /**
+     * Holds the {@link HttpClient} shared by all users without proxy or trust store, created on first use.
+     */
+    private static final class SharedHttpClient {
+
+        private static final HttpClient INSTANCE = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .build();
+
+    }
+
+    private static final class ProxyAuthenticator extends Authenticator {
+
+        private final String username;
+        private final String password;
+
+        private ProxyAuthenticator(final String username, final String password) {
+            this.username = username;
+            this.password = password;
+        }
+
+        @Override
+        protected PasswordAuthentication getPasswordAuthentication() {
+            if (RequestorType.PROXY == getRequestorType()) {
+                return new PasswordAuthentication(username, password.toCharArray());
+            }
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import org.eclipse.ditto.client.messaging.AuthenticationProvider;
+import org.eclipse.ditto.client.messaging.MessagingProvider;
+
+/**
+ * Creates messaging providers sending thing commands over a multiplexed HTTP/2 connection to the Ditto HTTP API
+ * with the {@code java.net.http.HttpClient} of Java 11 and newer.
+ * <p>
+ * This is the Java 11 version of this class in {@code META-INF/versions/11} of the multi-release jar.
+ *
+ * @since 3.9.0
+ */
+public final class HttpRequestChannels {
+
+    private HttpRequestChannels() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Indicates whether the Java runtime provides {@code java.net.http.HttpClient}.
+     *
+     * @return {@code true} for Java 11 and newer.
+     */
+    public static boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * Returns a messaging provider sending thing commands over HTTP/2 and everything else over the passed messaging
+     * provider.
+     *
+     * @param messagingProvider the messaging provider of the WebSocket.
+     * @param authenticationProvider provides authentication, which must be one of the authentication providers of
+     * {@link org.eclipse.ditto.client.messaging.AuthenticationProviders}.
+     * @return the messaging provider.
+     * @throws IllegalArgumentException if the authentication provider does not authenticate by headers.
+     */
+    public static MessagingProvider newInstance(final MessagingProvider messagingProvider,
+            final AuthenticationProvider<?> authenticationProvider) {
+
+        checkNotNull(messagingProvider, "messagingProvider");
+        checkNotNull(authenticationProvider, "authenticationProvider");
+        if (!(authenticationProvider instanceof HeaderAuthentication)) {
+            throw new IllegalArgumentException("The authentication provider <" +
+                    authenticationProvider.getClass().getName() + "> does not authenticate by headers.");
+        }
+        return HttpRequestChannelMessagingProvider.newInstance(messagingProvider,
+                Http2RequestChannel.newInstance(messagingProvider.getMessagingConfiguration(),
+                        (HeaderAuthentication) authenticationProvider));
+    }
+
+}
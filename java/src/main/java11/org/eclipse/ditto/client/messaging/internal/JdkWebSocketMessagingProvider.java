@@ -0,0 +1,592 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.net.http.WebSocket;
+import java.net.http.WebSocketHandshakeException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.client.configuration.AuthenticationConfiguration;
+import org.eclipse.ditto.client.configuration.DisconnectedContext;
+import org.eclipse.ditto.client.configuration.MessagingConfiguration;
+import org.eclipse.ditto.client.configuration.PayloadEncoding;
+import org.eclipse.ditto.client.internal.VersionReader;
+import org.eclipse.ditto.client.internal.bus.AdaptableBus;
+import org.eclipse.ditto.client.internal.bus.BusFactory;
+import org.eclipse.ditto.client.management.ClientReconnectingException;
+import org.eclipse.ditto.client.messaging.AuthenticationProvider;
+import org.eclipse.ditto.client.messaging.MessagingException;
+import org.eclipse.ditto.client.messaging.MessagingProvider;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Messaging Provider providing messaging access to the Ditto WebSocket with the non-blocking
+ * {@link java.net.http.WebSocket} of Java 11 and newer.
+ * <p>
+ * In contrast to the {@link WebSocketMessagingProvider}, no threads are blocked on reading or writing: all providers
+ * and {@link HttpRequestChannels HTTP request channels} without a proxy or trust store configuration share one
+ * {@link HttpClient} and thus its selector thread, and incoming messages are requested on demand so that a slow
+ * consumer pushes back on the TCP connection instead of buffering frames without bound.
+ * <p>
+ * Messages are always exchanged as JSON. The outbox, outbound batching, {@code permessage-deflate} compression and
+ * CBOR payload encoding of the {@link MessagingConfiguration} are not supported and ignored.
+ *
+ * @since 3.9.0
+ */
+public final class JdkWebSocketMessagingProvider implements MessagingProvider, WebSocket.Listener {
+
+    private static final Duration ZOMBIE_LIFETIME = Duration.ofSeconds(3L);
+    private static final String DITTO_CLIENT_USER_AGENT = "DittoClient/" + VersionReader.determineClientVersion();
+    private static final Logger LOGGER = LoggerFactory.getLogger(JdkWebSocketMessagingProvider.class);
+
+    /**
+     * The number of messages requested from the WebSocket when the connection is opened. Each received message is
+     * replaced by requesting a further one after it was published to the bus.
+     */
+    private static final int INBOUND_DEMAND = 64;
+
+    private final AdaptableBus adaptableBus;
+    private final MessagingConfiguration messagingConfiguration;
+    private final AuthenticationProvider<?> authenticationProvider;
+    private final HeaderAuthentication headerAuthentication;
+    private final ExecutorService callbackExecutor;
+    private final String sessionId;
+    private final HttpClient httpClient;
+    @Nullable private final Backoff backoff;
+    private final ReconnectionSupport reconnectionSupport;
+    private final AtomicInteger pendingMessages = new AtomicInteger();
+    private final Queue<DeferredMessage> deferredMessages = new ConcurrentLinkedQueue<>();
+    private final PingStatistics pingStatistics = new PingStatistics();
+    private final PongMonitor pongMonitor;
+    private final Object sendLock = new Object();
+    private CompletableFuture<Void> lastSent = CompletableFuture.completedFuture(null); // guarded by sendLock
+    private final StringBuilder partialText = new StringBuilder();
+    private final AtomicBoolean reconnecting = new AtomicBoolean(false);
+    private final AtomicBoolean initializing = new AtomicBoolean(false);
+    private final AtomicBoolean explicitlyClosing = new AtomicBoolean(false);
+    private final CompletableFuture<WebSocket> initializationFuture = new CompletableFuture<>();
+    private volatile CompletableFuture<Void> resubscription = CompletableFuture.completedFuture(null);
+    private final AtomicReference<WebSocket> webSocket = new AtomicReference<>();
+    @Nullable private volatile ScheduledFuture<?> pinger;
+
+    private Runnable channelCloser;
+
+    @Nullable private volatile Throwable lastReceivedDittoProtocolError;
+
+    private JdkWebSocketMessagingProvider(final AdaptableBus adaptableBus,
+            final MessagingConfiguration messagingConfiguration,
+            final AuthenticationProvider<?> authenticationProvider,
+            final HeaderAuthentication headerAuthentication,
+            final ExecutorService callbackExecutor) {
+
+        this.adaptableBus = adaptableBus;
+        this.messagingConfiguration = messagingConfiguration;
+        this.authenticationProvider = authenticationProvider;
+        this.headerAuthentication = headerAuthentication;
+        this.callbackExecutor = callbackExecutor;
+
+        sessionId = authenticationProvider.getConfiguration().getSessionId();
+        httpClient = HttpClients.forConfiguration(messagingConfiguration);
+        backoff = messagingConfiguration.getBackoffConfiguration()
+                .map(backoffConfiguration -> new Backoff(backoffConfiguration,
+                        Backoff.newConnectAttemptBucket(backoffConfiguration)))
+                .orElse(null);
+        pongMonitor = new PongMonitor(messagingConfiguration.getMaxMissedPongs(), pingStatistics);
+        logUnsupportedConfiguration(messagingConfiguration, sessionId);
+
+        channelCloser = () -> {
+        };
+        reconnectionSupport = new ReconnectionSupport(sessionId, messagingConfiguration, adaptableBus,
+                () -> channelCloser.run(), this::doReconnect, this::close);
+    }
+
+    /**
+     * Returns a new {@code JdkWebSocketMessagingProvider}.
+     *
+     * @param messagingConfiguration configuration of messaging.
+     * @param authenticationProvider provides authentication, which must be one of the authentication providers of
+     * {@link org.eclipse.ditto.client.messaging.AuthenticationProviders}.
+     * @param callbackExecutor the executor for messages.
+     * @param scheduledExecutor the scheduled executor for scheduling tasks.
+     * @return the provider.
+     * @throws IllegalArgumentException if the authentication provider does not authenticate by handshake headers.
+     */
+    public static JdkWebSocketMessagingProvider newInstance(final MessagingConfiguration messagingConfiguration,
+            final AuthenticationProvider<?> authenticationProvider,
+            final ExecutorService callbackExecutor,
+            final ScheduledExecutorService scheduledExecutor) {
+
+        checkNotNull(messagingConfiguration, "messagingConfiguration");
+        checkNotNull(authenticationProvider, "authenticationProvider");
+        checkNotNull(callbackExecutor, "callbackExecutor");
+        checkNotNull(scheduledExecutor, "scheduledExecutor");
+        if (!(authenticationProvider instanceof HeaderAuthentication)) {
+            throw new IllegalArgumentException("The authentication provider <" +
+                    authenticationProvider.getClass().getName() + "> does not authenticate by handshake headers.");
+        }
+
+        final AdaptableBus adaptableBus = BusFactory.createAdaptableBus(
+                authenticationProvider.getConfiguration().getSessionId(), callbackExecutor, scheduledExecutor,
+                messagingConfiguration);
+        return new JdkWebSocketMessagingProvider(adaptableBus, messagingConfiguration, authenticationProvider,
+                (HeaderAuthentication) authenticationProvider, callbackExecutor);
+    }
+
+    private static void logUnsupportedConfiguration(final MessagingConfiguration messagingConfiguration,
+            final String sessionId) {
+
+        if (messagingConfiguration.getOutboxDirectory().isPresent() ||
+                messagingConfiguration.getCompressionConfiguration().isPresent() ||
+                PayloadEncoding.JSON != messagingConfiguration.getPayloadEncoding()) {
+            LOGGER.warn("Client <{}>: The outbox, compression and CBOR payload encoding are not supported by the " +
+                    "java.net.http WebSocket and ignored.", sessionId);
+        }
+    }
+
+    @Override
+    public AuthenticationConfiguration getAuthenticationConfiguration() {
+        return authenticationProvider.getConfiguration();
+    }
+
+    @Override
+    public MessagingConfiguration getMessagingConfiguration() {
+        return messagingConfiguration;
+    }
+
+    @Override
+    public ExecutorService getExecutorService() {
+        return callbackExecutor;
+    }
+
+    @Override
+    public AdaptableBus getAdaptableBus() {
+        return adaptableBus;
+    }
+
+    @Override
+    public MessagingProvider registerSubscriptionMessage(final Object key, final String message) {
+        reconnectionSupport.registerSubscriptionMessage(key, message);
+        return this;
+    }
+
+    @Override
+    public MessagingProvider unregisterSubscriptionMessage(final Object key) {
+        reconnectionSupport.unregisterSubscriptionMessage(key);
+        return this;
+    }
+
+    @Override
+    public CompletionStage<?> initializeAsync() {
+        // this method may be called multiple times.
+        if (!initializing.getAndSet(true)) {
+            initializationFuture.thenAccept(ws -> writeDeferredMessages());
+            connectWithPotentialRetries("initialize WebSocket", initializationFuture,
+                    messagingConfiguration.isInitialConnectRetryEnabled());
+        }
+        return initializationFuture.thenApply(ws -> this);
+    }
+
+    private CompletionStage<WebSocket> connect() {
+        final String declaredAcksJsonArrayString = messagingConfiguration.getDeclaredAcknowledgements()
+                .stream()
+                .map(AcknowledgementLabel::toString)
+                .map(JsonValue::of)
+                .collect(JsonCollectors.valuesToArray())
+                .toString();
+        final WebSocket.Builder builder = httpClient.newWebSocketBuilder()
+                .connectTimeout(messagingConfiguration.getConnectTimeout())
+                .header("User-Agent", DITTO_CLIENT_USER_AGENT)
+                .header(DittoHeaderDefinition.DECLARED_ACKS.getKey(), declaredAcksJsonArrayString);
+        headerAuthentication.prepareHeaders(this::emit).forEach(builder::header);
+
+        LOGGER.info("Client <{}>: Connecting WebSocket to endpoint <{}>", sessionId,
+                messagingConfiguration.getEndpointUri());
+        return builder.buildAsync(messagingConfiguration.getEndpointUri(), this)
+                .handle((ws, error) -> {
+                    if (null != error) {
+                        throw mapConnectError(error);
+                    }
+                    setWebSocket(ws);
+                    return ws;
+                });
+    }
+
+    @Override
+    public void emit(final String message) {
+        if (reconnecting.get()) {
+            throw ClientReconnectingException.newInstance();
+        }
+        send(message).whenComplete((sent, error) -> {
+            if (null != error) {
+                LOGGER.warn("Client <{}>: Could not send message: {}", sessionId, error.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public CompletionStage<Void> emitAsync(final String message) {
+        if (pendingMessages.incrementAndGet() > messagingConfiguration.getOutboundBufferSize()) {
+            pendingMessages.decrementAndGet();
+            return CompletableFuture.failedFuture(
+                    MessagingException.outboundBufferFull(sessionId, messagingConfiguration.getOutboundBufferSize()));
+        }
+        final CompletableFuture<Void> written = new CompletableFuture<>();
+        written.whenComplete((sent, error) -> pendingMessages.decrementAndGet());
+        if (explicitlyClosing.get()) {
+            written.completeExceptionally(MessagingException.notConnected(sessionId, 1));
+        } else if (isWritable()) {
+            sendAndComplete(message, written);
+        } else {
+            deferredMessages.add(new DeferredMessage(message, written));
+            // the connection may have been established after checking it
+            if (isWritable()) {
+                writeDeferredMessages();
+            }
+        }
+        return written;
+    }
+
+    private boolean isWritable() {
+        final WebSocket ws = webSocket.get();
+        return !reconnecting.get() && null != ws && !ws.isOutputClosed();
+    }
+
+    private void sendAndComplete(final String message, final CompletableFuture<Void> written) {
+        send(message).whenComplete((sent, error) -> {
+            if (null != error) {
+                written.completeExceptionally(error);
+            } else {
+                written.complete(null);
+            }
+        });
+    }
+
+    private void writeDeferredMessages() {
+        synchronized (deferredMessages) {
+            DeferredMessage deferredMessage;
+            while ((deferredMessage = deferredMessages.poll()) != null) {
+                sendAndComplete(deferredMessage.message, deferredMessage.written);
+            }
+        }
+    }
+
+    private void discardDeferredMessages() {
+        synchronized (deferredMessages) {
+            final MessagingException notConnected =
+                    MessagingException.notConnected(sessionId, deferredMessages.size());
+            DeferredMessage deferredMessage;
+            while ((deferredMessage = deferredMessages.poll()) != null) {
+                deferredMessage.written.completeExceptionally(notConnected);
+            }
+        }
+    }
+
+    /**
+     * Sends a text message after the previous one, as the {@code java.net.http.WebSocket} does not accept a message
+     * before the previous one was sent.
+     *
+     * @param message the message to send.
+     * @return a future completed when the message was sent.
+     */
+    private CompletableFuture<Void> send(final String message) {
+        final WebSocket ws = webSocket.get();
+        if (null == ws || ws.isOutputClosed()) {
+            return CompletableFuture.failedFuture(MessagingException.notConnected(sessionId, 1));
+        }
+        synchronized (sendLock) {
+            final CompletableFuture<Void> sent = lastSent.handle((previous, error) -> null)
+                    .thenCompose(previous -> ws.sendText(message, true))
+                    .thenApply(sentWebSocket -> null);
+            lastSent = sent;
+            return sent;
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (explicitlyClosing.getAndSet(true)) {
+                LOGGER.debug("Client <{}>: WebSocket client is already closing", sessionId);
+                return;
+            }
+            LOGGER.debug("Client <{}>: Closing WebSocket client of endpoint <{}>.", sessionId,
+                    messagingConfiguration.getEndpointUri());
+
+            stopPinging();
+            discardDeferredMessages();
+            authenticationProvider.destroy();
+            adaptableBus.shutdownExecutors();
+            final WebSocket ws = webSocket.getAndSet(null);
+            if (ws != null) {
+                ws.sendClose(WebSocket.NORMAL_CLOSURE, "")
+                        .orTimeout(ZOMBIE_LIFETIME.toMillis(), TimeUnit.MILLISECONDS)
+                        .whenComplete((closed, error) -> {
+                            if (null != error) {
+                                ws.abort();
+                            }
+                        });
+            }
+
+            LOGGER.info("Client <{}>: WebSocket destroyed.", sessionId);
+            initializationFuture.completeExceptionally(MessagingException.connectFailed(sessionId,
+                    new IllegalStateException("The client was destroyed.")));
+        } catch (final Exception e) {
+            LOGGER.info("Client <{}>: Exception occurred while trying to shutdown http client.", sessionId, e);
+            initializationFuture.completeExceptionally(MessagingException.connectFailed(sessionId, e));
+        }
+    }
+
+    @Override
+    public void registerChannelCloser(final Runnable channelCloser) {
+        this.channelCloser = channelCloser;
+    }
+
+    @Override
+    public void onDittoProtocolError(final Throwable throwable) {
+        lastReceivedDittoProtocolError = throwable;
+    }
+
+    @Override
+    public void onOpen(final WebSocket ws) {
+        LOGGER.info("Client <{}>: WebSocket connection is established", sessionId);
+        ws.request(INBOUND_DEMAND);
+    }
+
+    @Override
+    public CompletionStage<?> onText(final WebSocket ws, final CharSequence data, final boolean last) {
+        // the listener is invoked sequentially, so the partial text needs no further synchronization
+        partialText.append(data);
+        if (last) {
+            final String message = partialText.toString();
+            partialText.setLength(0);
+            LOGGER.debug("Client <{}>: Received WebSocket string message <{}>", sessionId, message);
+            adaptableBus.publish(message);
+        }
+        ws.request(1L);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onBinary(final WebSocket ws, final ByteBuffer data, final boolean last) {
+        LOGGER.debug("Client <{}>: Received WebSocket binary message of <{}> bytes - don't know what to do with it!",
+                sessionId, data.remaining());
+        ws.request(1L);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(final WebSocket ws, final int statusCode, final String reason) {
+        LOGGER.info("Client <{}>: WebSocket connection to endpoint <{}> was closed by Server with code <{}> and " +
+                "reason <{}>.", sessionId, messagingConfiguration.getEndpointUri(), statusCode, reason);
+        onDisconnected(ws, DisconnectedContext.Source.SERVER, lastReceivedDittoProtocolError);
+        return null;
+    }
+
+    @Override
+    public void onError(final WebSocket ws, final Throwable error) {
+        LOGGER.error("Client <{}>: Error in WebSocket: {}", sessionId,
+                error.getClass().getSimpleName() + ": " + error.getMessage());
+        onDisconnected(ws, DisconnectedContext.Source.CLIENT, error);
+    }
+
+    private void onDisconnected(final WebSocket ws, final DisconnectedContext.Source source,
+            @Nullable final Throwable cause) {
+
+        // ignore WebSockets which were replaced or closed by the user
+        if (webSocket.compareAndSet(ws, null)) {
+            partialText.setLength(0);
+            callbackExecutor.execute(() -> reconnectionSupport.handleDisconnection(source, cause,
+                    disconnectedContext -> messagingConfiguration.getDisconnectedListener()
+                            .ifPresent(listener -> listener.accept(disconnectedContext))));
+        }
+    }
+
+    private void connectWithPotentialRetries(final String actionName,
+            final CompletableFuture<WebSocket> future,
+            final boolean retry) {
+
+        try {
+            Retry.retryTo(actionName, this::connect)
+                    .inClientSession(sessionId)
+                    .withExecutors(adaptableBus.getScheduledExecutor(), callbackExecutor)
+                    .notifyOnError(messagingConfiguration.getConnectionErrorHandler().orElse(null))
+                    // every exception is recoverable, as with the WebSocketMessagingProvider
+                    .isRecoverable(exception -> retry)
+                    .withBackoff(backoff)
+                    .completeFutureEventually(future);
+        } catch (final Exception exception) {
+            future.completeExceptionally(exception);
+        }
+    }
+
+    private void doReconnect() {
+        if (!explicitlyClosing.get() && reconnecting.compareAndSet(false, true)) {
+            final CompletableFuture<Void> pendingResubscription = new CompletableFuture<>();
+            resubscription = pendingResubscription;
+            final Duration reconnectDelay;
+            if (null != backoff) {
+                backoff.onDisconnected();
+                reconnectDelay = backoff.nextDelay();
+            } else {
+                reconnectDelay = messagingConfiguration.getReconnectDelay();
+            }
+            LOGGER.info("Client <{}>: Reconnecting in <{}> ...", sessionId, reconnectDelay);
+            final CompletableFuture<WebSocket> reconnected = new CompletableFuture<>();
+            reconnected.whenComplete((ws, error) -> {
+                if (null != error) {
+                    pendingResubscription.completeExceptionally(error);
+                } else {
+                    reconnecting.set(false);
+                    reconnectionSupport.onReconnected();
+                    reconnectionSupport.resubscribe(pendingResubscription, this::send);
+                    writeDeferredMessages();
+                }
+            });
+            adaptableBus.getScheduledExecutor().schedule(() -> connectWithPotentialRetries("reconnect WebSocket",
+                    reconnected, reconnectionSupport.isRetryingReconnect()),
+                    reconnectDelay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> getResubscription() {
+        return resubscription;
+    }
+
+    private void setWebSocket(final WebSocket ws) {
+        if (null != backoff) {
+            backoff.onConnected();
+        }
+        pongMonitor.reset();
+        final WebSocket oldWebSocket = webSocket.getAndSet(ws);
+        if (oldWebSocket != null && oldWebSocket != ws) {
+            oldWebSocket.abort();
+        }
+        startPinging();
+    }
+
+    private synchronized void startPinging() {
+        final long pingIntervalMillis = messagingConfiguration.getPingInterval().toMillis();
+        if (null == pinger && pingIntervalMillis > 0) {
+            pinger = adaptableBus.getScheduledExecutor().scheduleAtFixedRate(() -> {
+                final WebSocket ws = webSocket.get();
+                try {
+                    if (null != ws && !ws.isOutputClosed()) {
+                        ws.sendPing(newPingPayload(ws));
+                    }
+                } catch (final RuntimeException e) {
+                    // an exception would suppress all further pings
+                    LOGGER.debug("Client <{}>: Could not send ping: {}", sessionId, e.getMessage());
+                }
+            }, pingIntervalMillis, pingIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Creates the payload of the next ping, which is the time it is sent, and closes the connection if the configured
+     * number of previous pings was not answered by a pong.
+     *
+     * @param ws the WebSocket sending the ping.
+     * @return the payload.
+     */
+    private ByteBuffer newPingPayload(final WebSocket ws) {
+        if (pongMonitor.onPing()) {
+            LOGGER.warn("Client <{}>: Missed <{}> pongs in a row, closing the dead WebSocket connection.", sessionId,
+                    pongMonitor.getMaxMissedPongs());
+            ws.abort();
+            onDisconnected(ws, DisconnectedContext.Source.CLIENT,
+                    new IllegalStateException("Missed " + pongMonitor.getMaxMissedPongs() + " pongs in a row."));
+        }
+        return ByteBuffer.allocate(Long.BYTES).putLong(0, System.nanoTime());
+    }
+
+    @Override
+    public CompletionStage<?> onPong(final WebSocket ws, final ByteBuffer message) {
+        pongMonitor.reset();
+        if (message.remaining() == Long.BYTES) {
+            // the pong echoes the payload of the ping, which is the time the ping was sent
+            final long roundTripNanos = System.nanoTime() - message.getLong(message.position());
+            if (roundTripNanos >= 0L) {
+                pingStatistics.recordRoundTripTime(roundTripNanos);
+            }
+        }
+        ws.request(1L);
+        return null;
+    }
+
+    /**
+     * Returns the round-trip times of the pings sent to keep the connection alive and the number of pongs which
+     * were missed.
+     *
+     * @return the ping statistics.
+     */
+    public PingStatistics getPingStatistics() {
+        return pingStatistics;
+    }
+
+    private synchronized void stopPinging() {
+        if (null != pinger) {
+            pinger.cancel(false);
+            pinger = null;
+        }
+    }
+
+    private RuntimeException mapConnectError(final Throwable e) {
+        final Throwable cause = ReconnectionSupport.getRootCause(e);
+        final RuntimeException result;
+        if (cause instanceof WebSocketHandshakeException) {
+            final int statusCode = ((WebSocketHandshakeException) cause).getResponse().statusCode();
+            result = reconnectionSupport.mapHandshakeError(cause, statusCode, cause.getMessage());
+        } else if (cause instanceof HttpTimeoutException) {
+            result = MessagingException.connectTimeout(sessionId, cause);
+        } else {
+            result = MessagingException.connectFailed(sessionId, cause);
+        }
+        return result;
+    }
+
+    private static final class DeferredMessage {
+
+        private final String message;
+        private final CompletableFuture<Void> written;
+
+        private DeferredMessage(final String message, final CompletableFuture<Void> written) {
+            this.message = message;
+            this.written = written;
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.ditto.client.configuration.MessagingConfiguration;
+import org.eclipse.ditto.client.messaging.AuthenticationProvider;
+import org.eclipse.ditto.client.messaging.MessagingProvider;
+
+/**
+ * Creates messaging providers based on the {@code java.net.http.WebSocket} of Java 11 and newer.
+ * <p>
+ * This is the Java 11 version of this class in {@code META-INF/versions/11} of the multi-release jar.
+ *
+ * @since 3.9.0
+ */
+public final class JdkWebSocketMessagingProviders {
+
+    private JdkWebSocketMessagingProviders() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Indicates whether the Java runtime provides {@code java.net.http.WebSocket}.
+     *
+     * @return {@code true} for Java 11 and newer.
+     */
+    public static boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * Returns a new messaging provider based on {@code java.net.http.WebSocket}.
+     *
+     * @param messagingConfiguration configuration of messaging.
+     * @param authenticationProvider provides authentication, which must be one of the authentication providers of
+     * {@link org.eclipse.ditto.client.messaging.AuthenticationProviders}.
+     * @param callbackExecutor the executor for messages.
+     * @param scheduledExecutor the scheduled executor for scheduling tasks.
+     * @return the provider.
+     * @throws IllegalArgumentException if the authentication provider does not authenticate by handshake headers.
+     */
+    public static MessagingProvider newInstance(final MessagingConfiguration messagingConfiguration,
+            final AuthenticationProvider<?> authenticationProvider,
+            final ExecutorService callbackExecutor,
+            final ScheduledExecutorService scheduledExecutor) {
+
+        return JdkWebSocketMessagingProvider.newInstance(messagingConfiguration, authenticationProvider,
+                callbackExecutor, scheduledExecutor);
+    }
+
+}
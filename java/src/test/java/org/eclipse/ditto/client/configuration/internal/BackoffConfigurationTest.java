@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.configuration.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.client.configuration.BackoffConfiguration;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.client.configuration.BackoffConfiguration}.
+ */
+public final class BackoffConfigurationTest {
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(BackoffConfiguration.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void builderSetsAllValues() {
+        final BackoffConfiguration underTest = BackoffConfiguration.newBuilder()
+                .minBackoff(Duration.ofMillis(500L))
+                .maxBackoff(Duration.ofMinutes(2L))
+                .stableConnectionPeriod(Duration.ofMinutes(5L))
+                .connectAttemptBurst(3)
+                .connectAttemptInterval(Duration.ofSeconds(10L))
+                .build();
+
+        assertThat(underTest.getMinBackoff()).isEqualTo(Duration.ofMillis(500L));
+        assertThat(underTest.getMaxBackoff()).isEqualTo(Duration.ofMinutes(2L));
+        assertThat(underTest.getStableConnectionPeriod()).isEqualTo(Duration.ofMinutes(5L));
+        assertThat(underTest.getConnectAttemptBurst()).isEqualTo(3);
+        assertThat(underTest.getConnectAttemptInterval()).isEqualTo(Duration.ofSeconds(10L));
+    }
+
+    @Test
+    public void maxBackoffLessThanMinBackoffIsRejected() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BackoffConfiguration.newBuilder()
+                        .minBackoff(Duration.ofSeconds(10L))
+                        .maxBackoff(Duration.ofSeconds(5L))
+                        .build());
+    }
+
+    @Test
+    public void nonPositiveValuesAreRejected() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BackoffConfiguration.newBuilder().minBackoff(Duration.ZERO));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BackoffConfiguration.newBuilder().connectAttemptBurst(0));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BackoffConfiguration.newBuilder().connectAttemptInterval(Duration.ofSeconds(-1L)));
+    }
+
+}
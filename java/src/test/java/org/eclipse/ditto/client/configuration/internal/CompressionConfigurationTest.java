@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.configuration.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.eclipse.ditto.client.configuration.CompressionConfiguration;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.client.configuration.CompressionConfiguration}.
+ */
+public final class CompressionConfigurationTest {
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(CompressionConfiguration.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void defaultOfferHasNoParameters() {
+        assertThat(CompressionConfiguration.newBuilder().build().toExtensionOffer())
+                .isEqualTo("permessage-deflate");
+    }
+
+    @Test
+    public void offerContainsConfiguredParameters() {
+        final CompressionConfiguration underTest = CompressionConfiguration.newBuilder()
+                .clientNoContextTakeover(true)
+                .serverNoContextTakeover(true)
+                .serverMaxWindowBits(10)
+                .build();
+
+        assertThat(underTest.toExtensionOffer()).isEqualTo("permessage-deflate; client_no_context_takeover; " +
+                "server_no_context_takeover; server_max_window_bits=10");
+    }
+
+    @Test
+    public void serverMaxWindowBitsOutOfRangeAreRejected() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> CompressionConfiguration.newBuilder().serverMaxWindowBits(16));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> CompressionConfiguration.newBuilder().serverMaxWindowBits(7));
+    }
+
+}
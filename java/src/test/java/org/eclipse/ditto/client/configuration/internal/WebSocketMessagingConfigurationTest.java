@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.configuration.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.client.configuration.MessagingConfiguration;
+import org.eclipse.ditto.client.configuration.WebSocketMessagingConfiguration;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.client.configuration.WebSocketMessagingConfiguration}.
+ */
+public final class WebSocketMessagingConfigurationTest {
+
+    private static final String ENDPOINT = "ws://localhost:8080";
+
+    @Test
+    public void builderSetsPingValues() {
+        final MessagingConfiguration underTest = newBuilder()
+                .pingInterval(Duration.ofSeconds(2L))
+                .maxMissedPongs(3)
+                .build();
+
+        assertThat(underTest.getPingInterval()).isEqualTo(Duration.ofSeconds(2L));
+        assertThat(underTest.getMaxMissedPongs()).isEqualTo(3);
+    }
+
+    @Test
+    public void negativeMaxMissedPongsAreRejected() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> newBuilder().maxMissedPongs(-1));
+    }
+
+    @Test
+    public void maxMissedPongsWithoutPingsAreRejected() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> newBuilder()
+                        .pingInterval(Duration.ZERO)
+                        .maxMissedPongs(2)
+                        .build());
+    }
+
+    @Test
+    public void zeroPingIntervalWithoutMaxMissedPongsIsAccepted() {
+        final MessagingConfiguration underTest = newBuilder()
+                .pingInterval(Duration.ZERO)
+                .build();
+
+        assertThat(underTest.getPingInterval()).isEqualTo(Duration.ZERO);
+        assertThat(underTest.getMaxMissedPongs()).isZero();
+    }
+
+    private static MessagingConfiguration.Builder newBuilder() {
+        return WebSocketMessagingConfiguration.newBuilder()
+                .jsonSchemaVersion(JsonSchemaVersion.V_2)
+                .endpoint(ENDPOINT);
+    }
+
+}
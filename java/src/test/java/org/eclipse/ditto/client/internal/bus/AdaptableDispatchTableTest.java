@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link AdaptableDispatchTable}.
+ */
+public final class AdaptableDispatchTableTest {
+
+    private AdaptableDispatchTable underTest;
+
+    @Before
+    public void setUp() {
+        underTest = new AdaptableDispatchTable();
+        underTest.addClassifier(Classifiers.correlationId());
+        underTest.addClassifier(Classifiers.streamingType());
+        underTest.addClassifier(Classifiers.thingsSearch());
+        underTest.addClassifier(Classifiers.errors());
+        underTest.addClassifier(Classifiers.errorCode());
+    }
+
+    @Test
+    public void classifyTwinEventsInOrderOfClassifiers() {
+        final Adaptable first = adaptable("{\"topic\":\"ns/thing/things/twin/events/modified\"," +
+                "\"headers\":{\"correlation-id\":\"cid-1\"},\"path\":\"/attributes/x\",\"value\":1}");
+        final Adaptable second = adaptable("{\"topic\":\"ns/other/things/twin/events/modified\"," +
+                "\"headers\":{\"correlation-id\":\"cid-2\"},\"path\":\"/attributes/x\",\"value\":2}");
+
+        assertThat(underTest.classify(first)).containsExactly(Classification.forCorrelationId("cid-1"),
+                Classification.StreamingType.TWIN_EVENT);
+        assertThat(underTest.classify(second)).containsExactly(Classification.forCorrelationId("cid-2"),
+                Classification.StreamingType.TWIN_EVENT);
+    }
+
+    @Test
+    public void classifyErrorsByErrorCode() {
+        final Adaptable error = adaptable("{\"topic\":\"ns/thing/things/twin/errors\"," +
+                "\"headers\":{\"correlation-id\":\"cid\"},\"path\":\"/\",\"status\":404," +
+                "\"value\":{\"status\":404,\"error\":\"things:thing.notfound\",\"message\":\"not found\"}}");
+
+        assertThat(underTest.classify(error)).containsExactly(Classification.forCorrelationId("cid"),
+                Classification.forErrors(), Classification.forErrorCode("things:thing.notfound"));
+    }
+
+    @Test
+    public void classifyMessagesWithoutCorrelationIdByRouteOnly() {
+        final Adaptable event = adaptable("{\"topic\":\"ns/thing/things/live/messages/hello\"," +
+                "\"headers\":{\"subject\":\"hello\"},\"path\":\"/inbox/messages/hello\"}");
+
+        assertThat(underTest.classify(event)).containsExactly(Classification.StreamingType.LIVE_MESSAGE);
+    }
+
+    @Test
+    public void addingClassifierInvalidatesRoutes() {
+        final Adaptable event = adaptable("{\"topic\":\"ns/thing/things/twin/events/deleted\"," +
+                "\"headers\":{\"correlation-id\":\"cid\"},\"path\":\"/\"}");
+        underTest.classify(event);
+
+        underTest.addClassifier(adaptable -> Optional.of(Classification.forString("custom")));
+
+        assertThat(underTest.classify(event)).containsExactly(Classification.forCorrelationId("cid"),
+                Classification.StreamingType.TWIN_EVENT, Classification.forString("custom"));
+    }
+
+    private static Adaptable adaptable(final String json) {
+        return ProtocolFactory.jsonifiableAdaptableFromJson(JsonObject.of(json));
+    }
+}
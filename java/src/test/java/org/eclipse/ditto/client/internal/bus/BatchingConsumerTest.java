@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link BatchingConsumer}.
+ */
+public final class BatchingConsumerTest {
+
+    private static final Duration MAX_DELAY = Duration.ofMillis(50L);
+
+    private List<List<Integer>> batches;
+    private List<Runnable> scheduledTasks;
+    private List<Duration> scheduledDelays;
+    private BatchingConsumer<Integer> underTest;
+
+    @Before
+    public void setUp() {
+        batches = new ArrayList<>();
+        scheduledTasks = new ArrayList<>();
+        scheduledDelays = new ArrayList<>();
+        underTest = new BatchingConsumer<>(3, MAX_DELAY, batches::add, Runnable::run, (task, delay) -> {
+            scheduledTasks.add(task);
+            scheduledDelays.add(delay);
+        });
+    }
+
+    @Test
+    public void passesBatchWhenMaxBatchSizeIsReached() {
+        for (int i = 1; i <= 7; i++) {
+            underTest.accept(i);
+        }
+
+        assertThat(batches).containsExactly(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6));
+    }
+
+    @Test
+    public void passesIncompleteBatchAfterMaxDelay() {
+        underTest.accept(1);
+        underTest.accept(2);
+
+        assertThat(batches).isEmpty();
+        assertThat(scheduledTasks).hasSize(1);
+        assertThat(scheduledDelays).containsExactly(MAX_DELAY);
+
+        scheduledTasks.get(0).run();
+
+        assertThat(batches).containsExactly(Arrays.asList(1, 2));
+    }
+
+    @Test
+    public void delayOfBatchCompletedBySizeDoesNotCompleteNextBatch() {
+        underTest.accept(1);
+        underTest.accept(2);
+        underTest.accept(3);
+        underTest.accept(4);
+
+        assertThat(scheduledTasks).hasSize(2);
+        scheduledTasks.get(0).run();
+
+        assertThat(batches).containsExactly(Arrays.asList(1, 2, 3));
+
+        scheduledTasks.get(1).run();
+
+        assertThat(batches).containsExactly(Arrays.asList(1, 2, 3), Arrays.asList(4));
+    }
+
+    @Test
+    public void failingHandlerDoesNotStopDelivery() {
+        final List<List<Integer>> handled = new ArrayList<>();
+        final BatchingConsumer<Integer> failingOnce = new BatchingConsumer<>(1, MAX_DELAY, batch -> {
+            if (handled.isEmpty()) {
+                handled.add(batch);
+                throw new IllegalStateException("expected");
+            }
+            handled.add(batch);
+        }, Runnable::run, (task, delay) -> {});
+
+        failingOnce.accept(1);
+        failingOnce.accept(2);
+
+        assertThat(handled).containsExactly(Arrays.asList(1), Arrays.asList(2));
+    }
+
+    @Test
+    public void batchesCompletedConcurrentlyArePassedInOrder() throws InterruptedException {
+        final int threads = 8;
+        final int itemsPerThread = 50_000;
+        final List<List<Integer>> handled = Collections.synchronizedList(new ArrayList<>());
+        final BatchingConsumer<Integer> concurrentlyFed =
+                new BatchingConsumer<>(1, MAX_DELAY, handled::add, Runnable::run, (task, delay) -> {});
+        final ExecutorService producers = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < threads; t++) {
+                final int offset = t * itemsPerThread;
+                producers.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < itemsPerThread; i++) {
+                        concurrentlyFed.accept(offset + i);
+                    }
+                });
+            }
+            start.countDown();
+            producers.shutdown();
+            assertThat(producers.awaitTermination(30L, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            producers.shutdownNow();
+        }
+
+        // the items of each producer were added in ascending order, so they must be passed in ascending order
+        final int[] lastItemOfProducer = new int[threads];
+        Arrays.fill(lastItemOfProducer, -1);
+        int handledItems = 0;
+        synchronized (handled) {
+            for (final List<Integer> batch : handled) {
+                for (final int item : batch) {
+                    final int producer = item / itemsPerThread;
+                    assertThat(item).isGreaterThan(lastItemOfProducer[producer]);
+                    lastItemOfProducer[producer] = item;
+                    handledItems++;
+                }
+            }
+        }
+        assertThat(handledItems).isEqualTo(threads * itemsPerThread);
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link BoundedCache}.
+ */
+public final class BoundedCacheTest {
+
+    @Test
+    public void sizeStaysBoundedForManyDistinctKeys() {
+        final BoundedCache<String, Integer> underTest = new BoundedCache<>(100);
+
+        for (int i = 0; i < 100_000; i++) {
+            underTest.put("/things/ns:thing-" + i + "/attributes/a", i);
+        }
+
+        assertThat(underTest.size()).isEqualTo(100);
+        assertThat(underTest.getEvictionCount()).isEqualTo(100_000 - 100);
+        assertThat(underTest.get("/things/ns:thing-99999/attributes/a")).isEqualTo(99_999);
+        assertThat(underTest.get("/things/ns:thing-0/attributes/a")).isNull();
+    }
+
+    @Test
+    public void recentlyReadEntriesSurviveEviction() {
+        final BoundedCache<String, Integer> underTest = new BoundedCache<>(10);
+        for (int i = 0; i < 10; i++) {
+            underTest.put("key-" + i, i);
+        }
+
+        for (int i = 10; i < 100; i++) {
+            assertThat(underTest.get("key-0")).isEqualTo(0);
+            underTest.put("key-" + i, i);
+        }
+
+        assertThat(underTest.get("key-0")).isEqualTo(0);
+        assertThat(underTest.get("key-1")).isNull();
+    }
+
+    @Test
+    public void countsHitsAndMisses() {
+        final BoundedCache<String, Integer> underTest = new BoundedCache<>(10);
+        underTest.put("a", 1);
+
+        underTest.get("a");
+        underTest.get("a");
+        underTest.get("b");
+
+        assertThat(underTest.getHitCount()).isEqualTo(2);
+        assertThat(underTest.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void removedEntriesDoNotAccumulate() {
+        final BoundedCache<String, Integer> underTest = new BoundedCache<>(10);
+        underTest.put("kept", 0);
+
+        for (int i = 0; i < 10_000; i++) {
+            underTest.put("key-" + i, i);
+            underTest.removeIf(key -> key.startsWith("key-"));
+        }
+
+        assertThat(underTest.size()).isEqualTo(1);
+        assertThat(underTest.get("kept")).isEqualTo(0);
+        assertThat(underTest.getEvictionCount()).isZero();
+    }
+
+    @Test
+    public void removeWithValueKeepsNewerValue() {
+        final BoundedCache<String, Integer> underTest = new BoundedCache<>(10);
+        final Integer oldValue = 1000;
+        final Integer newValue = 2000;
+        underTest.put("a", oldValue);
+        underTest.put("a", newValue);
+
+        underTest.remove("a", oldValue);
+
+        assertThat(underTest.get("a")).isEqualTo(newValue);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.eclipse.ditto.client.registration.ConsumerQueueConfiguration;
+import org.eclipse.ditto.client.registration.OverflowStrategy;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests {@link BoundedConsumerQueue}.
+ */
+public final class BoundedConsumerQueueTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final ScheduledExecutorService scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+    private final BiConsumer<Runnable, Duration> scheduler =
+            (task, delay) -> scheduledExecutor.schedule(task, delay.toNanos(), TimeUnit.NANOSECONDS);
+    private final List<String> handled = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch handlerBlocked = new CountDownLatch(1);
+    private final CountDownLatch releaseHandler = new CountDownLatch(1);
+
+    @After
+    public void shutdown() {
+        releaseHandler.countDown();
+        executor.shutdownNow();
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    public void dropOldestKeepsNewestChanges() throws InterruptedException {
+        final BoundedConsumerQueue<String> underTest = blockedQueue(OverflowStrategy.DROP_OLDEST, 2);
+
+        underTest.accept("a1");
+        underTest.accept("a2");
+        underTest.accept("a3");
+
+        assertThat(underTest.getDepth()).isEqualTo(2);
+        assertThat(underTest.getDroppedCount()).isEqualTo(1);
+        assertHandledAfterRelease(underTest, "blocker", "a2", "a3");
+    }
+
+    @Test
+    public void dropNewestKeepsOldestChanges() throws InterruptedException {
+        final BoundedConsumerQueue<String> underTest = blockedQueue(OverflowStrategy.DROP_NEWEST, 2);
+
+        underTest.accept("a1");
+        underTest.accept("a2");
+        underTest.accept("a3");
+
+        assertThat(underTest.getDroppedCount()).isEqualTo(1);
+        assertHandledAfterRelease(underTest, "blocker", "a1", "a2");
+    }
+
+    @Test
+    public void conflateByThingKeepsLatestChangePerThing() throws InterruptedException {
+        final BoundedConsumerQueue<String> underTest = blockedQueue(OverflowStrategy.CONFLATE_BY_THING, 2);
+
+        underTest.accept("a1");
+        underTest.accept("b1");
+        underTest.accept("a2");
+        underTest.accept("c1");
+
+        assertThat(underTest.getDepth()).isEqualTo(2);
+        assertThat(underTest.getDroppedCount()).isEqualTo(2);
+        assertHandledAfterRelease(underTest, "blocker", "b1", "c1");
+    }
+
+    @Test
+    public void blockWaitsForRoom() throws InterruptedException {
+        final BoundedConsumerQueue<String> underTest = blockedQueue(OverflowStrategy.BLOCK, 1);
+        underTest.accept("a1");
+        final Thread producer = new Thread(() -> underTest.accept("a2"));
+        producer.start();
+
+        producer.join(200L);
+        assertThat(producer.isAlive()).isTrue();
+
+        releaseHandler.countDown();
+        producer.join(5000L);
+        assertThat(producer.isAlive()).isFalse();
+        assertHandledAfterRelease(underTest, "blocker", "a1", "a2");
+    }
+
+    @Test
+    public void saturatedCallerRunsPoolDoesNotRunHandlerOnPublishingThread() throws InterruptedException {
+        final ThreadPoolExecutor saturatedPool = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            final CountDownLatch poolBusy = new CountDownLatch(1);
+            saturatedPool.execute(() -> {
+                poolBusy.countDown();
+                try {
+                    releaseHandler.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertThat(poolBusy.await(5, TimeUnit.SECONDS)).isTrue();
+            final List<Thread> handlerThreads = Collections.synchronizedList(new ArrayList<>());
+            final CountDownLatch itemHandled = new CountDownLatch(1);
+            final BoundedConsumerQueue<String> underTest = new BoundedConsumerQueue<>(
+                    ConsumerQueueConfiguration.of(10, OverflowStrategy.DROP_OLDEST), item -> item.charAt(0),
+                    item -> {
+                        handlerThreads.add(Thread.currentThread());
+                        itemHandled.countDown();
+                    }, saturatedPool, scheduler);
+
+            underTest.accept("a1");
+
+            assertThat(itemHandled.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(handlerThreads).doesNotContain(Thread.currentThread());
+        } finally {
+            saturatedPool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void rejectedDrainIsRetried() throws InterruptedException {
+        final ThreadPoolExecutor rejectingPool = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new ThreadPoolExecutor.AbortPolicy());
+        try {
+            final CountDownLatch poolBusy = new CountDownLatch(1);
+            final CountDownLatch releasePool = new CountDownLatch(1);
+            rejectingPool.execute(() -> {
+                poolBusy.countDown();
+                try {
+                    releasePool.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertThat(poolBusy.await(5, TimeUnit.SECONDS)).isTrue();
+            final BoundedConsumerQueue<String> underTest = new BoundedConsumerQueue<>(
+                    ConsumerQueueConfiguration.of(10, OverflowStrategy.DROP_OLDEST), item -> item.charAt(0),
+                    handled::add, rejectingPool, scheduler);
+
+            underTest.accept("a1");
+            releasePool.countDown();
+
+            assertHandled(underTest, "a1");
+        } finally {
+            rejectingPool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void failingHandlerIsCountedAsFailed() throws InterruptedException {
+        final BoundedConsumerQueue<String> underTest = new BoundedConsumerQueue<>(
+                ConsumerQueueConfiguration.of(10, OverflowStrategy.DROP_OLDEST), item -> item.charAt(0),
+                item -> {
+                    if ("fail".equals(item)) {
+                        throw new IllegalStateException("expected");
+                    }
+                    handled.add(item);
+                }, executor, scheduler);
+
+        underTest.accept("fail");
+        underTest.accept("a1");
+
+        assertHandled(underTest, "a1");
+        assertThat(underTest.getFailedCount()).isEqualTo(1);
+    }
+
+    private BoundedConsumerQueue<String> blockedQueue(final OverflowStrategy strategy, final int capacity)
+            throws InterruptedException {
+        final Consumer<String> handler = item -> {
+            if ("blocker".equals(item)) {
+                handlerBlocked.countDown();
+                try {
+                    releaseHandler.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            handled.add(item);
+        };
+        final BoundedConsumerQueue<String> queue = new BoundedConsumerQueue<>(
+                ConsumerQueueConfiguration.of(capacity, strategy), item -> item.charAt(0), handler, executor,
+                scheduler);
+        queue.accept("blocker");
+        assertThat(handlerBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+        return queue;
+    }
+
+    private void assertHandledAfterRelease(final BoundedConsumerQueue<String> queue, final String... expected)
+            throws InterruptedException {
+        releaseHandler.countDown();
+        assertHandled(queue, expected);
+    }
+
+    private void assertHandled(final BoundedConsumerQueue<String> queue, final String... expected)
+            throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while (queue.getHandledCount() < expected.length && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        assertThat(handled).containsExactly(expected);
+        assertThat(queue.getDepth()).isZero();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.assertj.core.api.Assertions;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests {@link CorrelationTable}.
+ */
+public final class CorrelationTableTest {
+
+    private final HashedWheelTimer timer = new HashedWheelTimer("test", Runnable::run, Duration.ofMillis(1L), 64);
+    private final CorrelationTable underTest = new CorrelationTable(timer, Runnable::run);
+
+    @After
+    public void stopTimer() {
+        timer.stop();
+    }
+
+    @Test
+    public void completesExpectedResponse() throws Exception {
+        final Adaptable response = Mockito.mock(Adaptable.class);
+        final CompletableFuture<Adaptable> future = underTest.expect("cid", Duration.ofSeconds(10L));
+
+        assertThat(underTest.isExpected("cid")).isTrue();
+        assertThat(underTest.complete("cid", response)).isTrue();
+        assertThat(future.get(1L, TimeUnit.SECONDS)).isSameAs(response);
+        assertThat(underTest.isExpected("cid")).isFalse();
+        assertThat(underTest.complete("cid", response)).isFalse();
+    }
+
+    @Test
+    public void rejectsSecondExpectationOfPendingCorrelationId() {
+        assertThat(underTest.expect("cid", Duration.ofSeconds(10L))).isNotNull();
+        assertThat(underTest.expect("cid", Duration.ofSeconds(10L))).isNull();
+    }
+
+    @Test
+    public void cancellingStopsExpectingResponse() {
+        final Adaptable response = Mockito.mock(Adaptable.class);
+        final CompletableFuture<Adaptable> future = underTest.expect("cid", Duration.ofSeconds(10L));
+
+        future.cancel(false);
+
+        assertThat(underTest.isExpected("cid")).isFalse();
+        assertThat(underTest.size()).isZero();
+        assertThat(underTest.complete("cid", response)).isFalse();
+        assertThat(underTest.expect("cid", Duration.ofSeconds(10L))).isNotNull();
+    }
+
+    @Test
+    public void expiresAfterTimeout() throws InterruptedException {
+        final CompletableFuture<Adaptable> future = underTest.expect("cid", Duration.ofMillis(20L));
+
+        Assertions.assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> future.get(5L, TimeUnit.SECONDS))
+                .withCauseInstanceOf(TimeoutException.class);
+        assertThat(underTest.size()).isZero();
+    }
+
+    @Test
+    public void lookupDoesNotAllocate() {
+        Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() &&
+                threadMXBean.isThreadAllocatedMemoryEnabled());
+        final String[] correlationIds = new String[1000];
+        for (int i = 0; i < correlationIds.length; i++) {
+            correlationIds[i] = "correlation-id-" + i;
+            if (i % 2 == 0) {
+                underTest.expect(correlationIds[i], Duration.ofMinutes(1L));
+            }
+        }
+        final long threadId = Thread.currentThread().getId();
+        int expected = lookUp(correlationIds, 100);
+
+        final long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        expected += lookUp(correlationIds, 1000);
+        final long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertThat(expected).isEqualTo(1100 * correlationIds.length / 2);
+        // a few bytes of slack for measuring the allocation itself; one allocation per lookup would be megabytes
+        assertThat(allocated).isLessThan(1024L);
+    }
+
+    private int lookUp(final String[] correlationIds, final int rounds) {
+        int expected = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (final String correlationId : correlationIds) {
+                if (underTest.isExpected(correlationId)) {
+                    expected++;
+                }
+            }
+        }
+        return expected;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests {@link DefaultAdaptableBus}.
+ */
+public final class DefaultAdaptableBusTest {
+
+    private AdaptableBus underTest;
+
+    @After
+    public void shutdown() {
+        if (underTest != null) {
+            underTest.shutdownExecutors();
+        }
+    }
+
+    @Test
+    public void persistentSubscribersReceiveEventsOfOneThingInOrder() throws InterruptedException {
+        final int things = 4;
+        final int eventsPerThing = 250;
+        underTest = new DefaultAdaptableBus(Executors.newFixedThreadPool(8), Executors.newScheduledThreadPool(1),
+                "test", 0, HashedWheelTimer.DEFAULT_TICK_DURATION, HashedWheelTimer.DEFAULT_TICKS_PER_WHEEL, true)
+                .addAdaptableClassifier(Classifiers.streamingType());
+        final Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        final CountDownLatch latch = new CountDownLatch(things * eventsPerThing);
+        underTest.subscribeForAdaptable(Classification.StreamingType.TWIN_EVENT, adaptable -> {
+            final String thing = adaptable.getTopicPath().getEntityName();
+            final int sequenceNumber = adaptable.getPayload().getValue().orElseThrow(IllegalStateException::new)
+                    .asInt();
+            received.computeIfAbsent(thing, k -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(sequenceNumber);
+            latch.countDown();
+        });
+
+        for (int i = 0; i < eventsPerThing; i++) {
+            for (int thing = 0; thing < things; thing++) {
+                underTest.publish("{\"topic\":\"ns/thing-" + thing + "/things/twin/events/modified\"," +
+                        "\"headers\":{},\"path\":\"/attributes/sequence\",\"value\":" + i + "}");
+            }
+        }
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).hasSize(things);
+        received.values().forEach(sequenceNumbers -> assertThat(sequenceNumbers).isSorted()
+                .hasSize(eventsPerThing));
+    }
+
+    @Test
+    public void decodedEventsAreDispatchedInOrderWithTextEventsOfTheSameThing() throws InterruptedException {
+        final int events = 500;
+        underTest = new DefaultAdaptableBus(Executors.newFixedThreadPool(8), Executors.newScheduledThreadPool(1),
+                "test", 2, HashedWheelTimer.DEFAULT_TICK_DURATION, HashedWheelTimer.DEFAULT_TICKS_PER_WHEEL, true)
+                .addAdaptableClassifier(Classifiers.streamingType());
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch latch = new CountDownLatch(events);
+        underTest.subscribeForAdaptable(Classification.StreamingType.TWIN_EVENT, adaptable -> {
+            received.add(adaptable.getPayload().getValue().orElseThrow(IllegalStateException::new).asInt());
+            latch.countDown();
+        });
+
+        for (int i = 0; i < events; i++) {
+            final String event = "{\"topic\":\"ns/thing/things/twin/events/modified\"," +
+                    "\"headers\":{},\"path\":\"/attributes/sequence\",\"value\":" + i + "}";
+            if (i % 2 == 0) {
+                underTest.publishJson(JsonFactory.newObject(event));
+            } else {
+                underTest.publish(event);
+            }
+        }
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).isSorted().hasSize(events);
+    }
+}
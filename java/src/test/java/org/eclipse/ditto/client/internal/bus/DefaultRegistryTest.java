@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.List;
 import java.util.function.Consumer;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -49,6 +50,125 @@ public final class DefaultRegistryTest {
         selectionShouldContain(registry.select(pointer), consumerB);
     }
 
+    @Test
+    public void selectsTemplatesWhichArePrefixesOfThePointer() {
+        final Consumer thingConsumer = Mockito.mock(Consumer.class);
+        final Consumer attributeConsumer = Mockito.mock(Consumer.class);
+        final Consumer featureConsumer = Mockito.mock(Consumer.class);
+        final Consumer rootConsumer = Mockito.mock(Consumer.class);
+        registry.register(DefaultJsonPointerSelector.jsonPointerSelector("/things/{thingId}"), thingConsumer);
+        registry.register(DefaultJsonPointerSelector.jsonPointerSelector("/things/{thingId}/attributes/{attr}"),
+                attributeConsumer);
+        registry.register(DefaultJsonPointerSelector.jsonPointerSelector("/things/ns:id/features"), featureConsumer);
+        registry.register(DefaultJsonPointerSelector.jsonPointerSelector(""), rootConsumer);
+
+        selectionShouldContain(registry.select(JsonPointer.of("/things/ns:id/attributes/maker")), thingConsumer,
+                attributeConsumer);
+        selectionShouldContain(registry.select(JsonPointer.of("/things/ns:id/features/f1")), thingConsumer,
+                featureConsumer);
+        selectionShouldContain(registry.select(JsonPointer.of("/things/ns:other/features")), thingConsumer);
+        assertThat(registry.select(JsonPointer.of("/things"))).isEmpty();
+        selectionShouldContain(registry.select(JsonPointer.empty()), thingConsumer, attributeConsumer,
+                featureConsumer, rootConsumer);
+    }
+
+    @Test
+    public void selectsRegistrationsMatchingSeveralChangePathsOnce() {
+        final Consumer attributeConsumer = Mockito.mock(Consumer.class);
+        final Consumer attributesConsumer = Mockito.mock(Consumer.class);
+        registry.register(DefaultJsonPointerSelector.jsonPointerSelector("/things/{thingId}/attributes/{attr}"),
+                attributeConsumer);
+        registry.register(DefaultJsonPointerSelector.jsonPointerSelector("/things/{thingId}/attributes"),
+                attributesConsumer);
+
+        final JsonPointer pointer = new JsonPointerWithChangePaths(JsonPointer.of("/things/ns:id"),
+                JsonObject.of("{\"attributes\":{\"a\":1,\"b\":2}}"));
+
+        selectionShouldContain(registry.select(pointer), attributeConsumer, attributesConsumer);
+    }
+
+    @Test
+    public void selectsOnlyTemplatesMatchingPathsOfTheChangedObject() {
+        final Consumer fooConsumer = Mockito.mock(Consumer.class);
+        final Consumer barConsumer = Mockito.mock(Consumer.class);
+        final Consumer propertyConsumer = Mockito.mock(Consumer.class);
+        final Consumer deepConsumer = Mockito.mock(Consumer.class);
+        registry.register(DefaultJsonPointerSelector.jsonPointerSelector("/things/{thingId}/attributes/foo"),
+                fooConsumer);
+        registry.register(DefaultJsonPointerSelector.jsonPointerSelector("/things/{thingId}/attributes/bar"),
+                barConsumer);
+        registry.register(DefaultJsonPointerSelector.jsonPointerSelector(
+                "/things/{thingId}/features/{featureId}/properties/{propertyKey}"), propertyConsumer);
+        registry.register(DefaultJsonPointerSelector.jsonPointerSelector("/things/{thingId}/attributes/foo/x/y"),
+                deepConsumer);
+
+        final JsonPointer pointer = new JsonPointerWithChangePaths(JsonPointer.of("/things/ns:id"),
+                JsonObject.of("{\"attributes\":{\"foo\":{\"x\":1}},\"features\":{\"f\":{\"properties\":{}}}}"));
+
+        selectionShouldContain(registry.select(pointer), fooConsumer);
+    }
+
+    @Test
+    public void cacheIsInvalidatedOnRegistrationAndCancellation() {
+        final JsonPointer pointer = JsonPointer.of("/things/ns:id/attributes");
+        final Consumer consumer = Mockito.mock(Consumer.class);
+        final Consumer otherConsumer = Mockito.mock(Consumer.class);
+        registry.register(DefaultJsonPointerSelector.jsonPointerSelector("/things/{thingId}"), consumer);
+        selectionShouldContain(registry.select(pointer), consumer);
+
+        final Registration<Consumer> otherRegistration =
+                registry.register(DefaultJsonPointerSelector.jsonPointerSelector("/things/ns:id"), otherConsumer);
+        selectionShouldContain(registry.select(pointer), consumer, otherConsumer);
+
+        otherRegistration.cancel();
+        selectionShouldContain(registry.select(pointer), consumer);
+    }
+
+    @Test
+    public void registrationKeepsCachedSelectionsItDoesNotMatch() {
+        final Consumer consumer = Mockito.mock(Consumer.class);
+        registry.register(DefaultJsonPointerSelector.jsonPointerSelector("/things/{thingId}"), consumer);
+        final JsonPointer pointer = JsonPointer.of("/things/ns:a/attributes");
+        final JsonPointer otherPointer = JsonPointer.of("/things/ns:b/attributes");
+        final List<Registration<Consumer>> selection = registry.select(pointer);
+        final List<Registration<Consumer>> otherSelection = registry.select(otherPointer);
+
+        registry.register(DefaultJsonPointerSelector.jsonPointerSelector("/things/ns:b/{path}"),
+                Mockito.mock(Consumer.class));
+
+        assertThat(registry.select(pointer)).isSameAs(selection);
+        assertThat(registry.select(otherPointer)).isNotSameAs(otherSelection).hasSize(2);
+    }
+
+    @Test
+    public void selectionsForChangePathsAreNotCached() {
+        final Consumer consumer = Mockito.mock(Consumer.class);
+        registry.register(DefaultJsonPointerSelector.jsonPointerSelector("/things/{thingId}/attributes/{attr}"),
+                consumer);
+        final JsonPointer plainPointer = JsonPointer.of("/things/ns:id/attributes/a");
+        final JsonPointer pointerWithChangePaths = new JsonPointerWithChangePaths(JsonPointer.of("/things/ns:id"),
+                JsonObject.of("{\"attributes\":{\"a\":1}}"));
+
+        assertThat(registry.select(plainPointer)).isSameAs(registry.select(plainPointer));
+        assertThat(registry.select(pointerWithChangePaths)).isNotSameAs(registry.select(pointerWithChangePaths));
+        selectionShouldContain(registry.select(pointerWithChangePaths), consumer);
+    }
+
+    @Test
+    public void pointersWithChangePathsAreEqualIfTheirPathsAreEqual() {
+        final JsonPointer targetPath = JsonPointer.of("/things/ns:id");
+        final JsonPointer pointer = new JsonPointerWithChangePaths(targetPath,
+                JsonObject.of("{\"attributes\":{\"a\":1,\"b\":{\"c\":true}}}"));
+        final JsonPointer pointerWithOtherValues = new JsonPointerWithChangePaths(targetPath,
+                JsonObject.of("{\"attributes\":{\"a\":2,\"b\":{\"c\":false}}}"));
+        final JsonPointer pointerWithOtherPaths = new JsonPointerWithChangePaths(targetPath,
+                JsonObject.of("{\"attributes\":{\"a\":1,\"b\":{\"d\":true}}}"));
+
+        // JsonPointer is both a CharSequence and an Iterable, so it is compared as an Object
+        assertThat((Object) pointer).isEqualTo(pointerWithOtherValues).hasSameHashCodeAs(pointerWithOtherValues);
+        assertThat((Object) pointer).isNotEqualTo(pointerWithOtherPaths);
+    }
+
     @SafeVarargs
     private final <T> void selectionShouldContain(final List<Registration<T>> selection,
             final T... objects) {
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link HashedWheelTimer}.
+ */
+public final class HashedWheelTimerTest {
+
+    private HashedWheelTimer underTest;
+
+    @Before
+    public void setUp() {
+        underTest = new HashedWheelTimer("test", Runnable::run, Duration.ofMillis(5L), 8);
+    }
+
+    @After
+    public void tearDown() {
+        underTest.stop();
+    }
+
+    @Test
+    public void expiresTimeoutsNotBeforeTheirDelay() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final long start = System.nanoTime();
+
+        // longer than one revolution of the wheel
+        underTest.newTimeout(latch::countDown, Duration.ofMillis(100L));
+
+        assertThat(latch.await(5L, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100L));
+    }
+
+    @Test
+    public void cancelledTimeoutsDoNotExpire() throws InterruptedException {
+        final AtomicInteger expired = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        final HashedWheelTimer.Timeout cancelled = underTest.newTimeout(expired::incrementAndGet,
+                Duration.ofMillis(20L));
+        underTest.newTimeout(latch::countDown, Duration.ofMillis(60L));
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(latch.await(5L, TimeUnit.SECONDS)).isTrue();
+        assertThat(expired).hasValue(0);
+        assertThat(cancelled.cancel()).isFalse();
+    }
+
+    @Test
+    public void expiresManyTimeouts() throws InterruptedException {
+        final int timeouts = 10_000;
+        final CountDownLatch latch = new CountDownLatch(timeouts / 2);
+        for (int i = 0; i < timeouts; i++) {
+            final HashedWheelTimer.Timeout timeout =
+                    underTest.newTimeout(latch::countDown, Duration.ofMillis(i % 50));
+            if (i % 2 == 0) {
+                timeout.cancel();
+            }
+        }
+
+        assertThat(latch.await(5L, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void rejectsTimeoutsAfterStop() {
+        underTest.stop();
+
+        assertThatExceptionOfType(RejectedExecutionException.class)
+                .isThrownBy(() -> underTest.newTimeout(() -> {}, Duration.ofMillis(1L)));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link InboundFramePipeline}.
+ */
+public final class InboundFramePipelineTest {
+
+    @Test
+    public void orderingKeyIsEntityIdOfTopic() {
+        final String frame = "{\"topic\": \"org.eclipse.ditto/thing-1/things/twin/events/modified\"," +
+                "\"headers\":{\"correlation-id\":\"cid\"},\"path\":\"/\"}";
+
+        assertThat(InboundFramePipeline.orderingKey(ScannedFrame.scan(frame)))
+                .isEqualTo("org.eclipse.ditto/thing-1");
+    }
+
+    @Test
+    public void orderingKeyFallsBackToCorrelationId() {
+        final String frame = "{\"headers\":{\"correlation-id\" : \"cid-1\"},\"status\":400}";
+
+        assertThat(InboundFramePipeline.orderingKey(ScannedFrame.scan(frame))).isEqualTo("cid-1");
+    }
+
+    @Test
+    public void orderingKeyOfNonJsonFrameIsConstant() {
+        assertThat(InboundFramePipeline.orderingKey(ScannedFrame.scan("START-SEND-EVENTS:ACK")))
+                .isEqualTo(InboundFramePipeline.orderingKey(ScannedFrame.scan("START-SEND-MESSAGES:ACK")));
+    }
+
+    @Test
+    public void framesOfSameEntityKeepTheirOrder() throws InterruptedException {
+        final int things = 8;
+        final int framesPerThing = 500;
+        final Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        final CountDownLatch latch = new CountDownLatch(things * framesPerThing);
+        final InboundFramePipeline underTest = InboundFramePipeline.newInstance("test", 4, (frame, scanned) -> {
+            final String key = InboundFramePipeline.orderingKey(scanned);
+            final int sequenceNumber = Integer.parseInt(frame.substring(frame.lastIndexOf(':') + 1,
+                    frame.length() - 1));
+            received.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>())).add(sequenceNumber);
+            latch.countDown();
+        });
+        try {
+            for (int i = 0; i < framesPerThing; i++) {
+                for (int thing = 0; thing < things; thing++) {
+                    underTest.submit("{\"topic\":\"ns/thing-" + thing + "/things/twin/events/modified\",\"seq\":" +
+                            i + "}");
+                }
+            }
+
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(received).hasSize(things);
+            received.values().forEach(sequenceNumbers -> assertThat(sequenceNumbers).isSorted()
+                    .hasSize(framesPerThing));
+        } finally {
+            underTest.shutdown();
+        }
+    }
+}
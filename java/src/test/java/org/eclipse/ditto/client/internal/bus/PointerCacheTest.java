@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.junit.Test;
+
+/**
+ * Tests {@link PointerCache}.
+ */
+public final class PointerCacheTest {
+
+    private final PointerCache<String> underTest = new PointerCache<>(100);
+
+    @Test
+    public void invalidatingTemplateRemovesOnlyPointersItMatches() {
+        put("/things/ns:a/attributes/x", "/things/ns:b/attributes/y/z", "/things/ns:a/attributes",
+                "/things/ns:a/features/f", "/things/ns:a", "/policies/ns:a", "");
+
+        underTest.invalidate(template("/things/{thingId}/attributes/{attributeKey}"));
+
+        assertCached("/things/ns:a/attributes", "/things/ns:a/features/f", "/things/ns:a", "/policies/ns:a");
+        assertNotCached("/things/ns:a/attributes/x", "/things/ns:b/attributes/y/z", "");
+    }
+
+    @Test
+    public void invalidatingTemplateWithoutParametersRemovesItsSubtree() {
+        put("/things/ns:a/attributes/x", "/things/ns:a", "/things/ns:b/attributes/x", "/things");
+
+        underTest.invalidate(template("/things/ns:a"));
+
+        assertCached("/things/ns:b/attributes/x", "/things");
+        assertNotCached("/things/ns:a/attributes/x", "/things/ns:a");
+    }
+
+    @Test
+    public void invalidatingEmptyTemplateRemovesOnlyEmptyPointer() {
+        put("/things/ns:a", "");
+
+        underTest.invalidate(template(""));
+
+        assertCached("/things/ns:a");
+        assertNotCached("");
+    }
+
+    @Test
+    public void invalidateIfRemovesPointersMatchingPredicate() {
+        put("/things/ns:a/attributes/x", "/things/ns:b/attributes/x");
+
+        underTest.invalidateIf(pointer -> pointer.toString().contains("ns:a"));
+
+        assertCached("/things/ns:b/attributes/x");
+        assertNotCached("/things/ns:a/attributes/x");
+    }
+
+    @Test
+    public void pointersPutAgainAfterEvictionAreInvalidated() {
+        final PointerCache<String> smallCache = new PointerCache<>(10);
+        for (int i = 0; i < 1_000; i++) {
+            smallCache.put(JsonPointer.of("/things/ns:thing-" + (i % 20)), "value-" + i);
+        }
+        assertThat(smallCache.size()).isEqualTo(10);
+
+        smallCache.invalidate(template("/things/{thingId}"));
+
+        assertThat(smallCache.size()).isZero();
+    }
+
+    @Test
+    public void removedPointersCanBeCachedAgain() {
+        final JsonPointer pointer = JsonPointer.of("/things/ns:a");
+        underTest.put(pointer, "old");
+        underTest.remove(pointer);
+        underTest.put(pointer, "new");
+
+        underTest.invalidate(template("/things/ns:a"));
+
+        assertThat(underTest.get(pointer)).isNull();
+    }
+
+    private void put(final String... pointers) {
+        for (final String pointer : pointers) {
+            underTest.put(JsonPointer.of(pointer), pointer);
+        }
+    }
+
+    private void assertCached(final String... pointers) {
+        for (final String pointer : pointers) {
+            assertThat(underTest.get(JsonPointer.of(pointer))).isEqualTo(pointer);
+        }
+    }
+
+    private void assertNotCached(final String... pointers) {
+        for (final String pointer : pointers) {
+            assertThat(underTest.get(JsonPointer.of(pointer))).isNull();
+        }
+    }
+
+    private static TemplateMatcher template(final String template) {
+        return TemplateMatcher.compile(JsonPointer.of(template));
+    }
+
+}
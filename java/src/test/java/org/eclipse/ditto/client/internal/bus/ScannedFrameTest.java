@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.junit.Test;
+
+/**
+ * Tests {@link ScannedFrame}.
+ */
+public final class ScannedFrameTest {
+
+    @Test
+    public void scanTopicAndCorrelationId() {
+        final ScannedFrame underTest = ScannedFrame.scan("{\"topic\":\"ns/thing/things/twin/commands/retrieve\"," +
+                "\"headers\":{\"content-type\":\"application/json\",\"correlation-id\":\"cid-1\"}," +
+                "\"path\":\"/\",\"value\":{\"topic\":\"nested\"}}");
+
+        assertThat(underTest.getTopic()).contains("ns/thing/things/twin/commands/retrieve");
+        assertThat(underTest.getCorrelationId()).contains("cid-1");
+    }
+
+    @Test
+    public void scanIndependentOfFieldOrderAndNesting() {
+        final ScannedFrame underTest = ScannedFrame.scan(" {\n \"value\" : {\"headers\":{\"correlation-id\":\"no\"}," +
+                "\"list\":[1, \"]}\", {\"a\":null}]},\n \"headers\" : { \"Correlation-Id\" : \"cid\\\"2\" },\n" +
+                " \"status\" : 200, \"topic\" : \"ns/thing/things/twin/events/modified\" }");
+
+        assertThat(underTest.getTopic()).contains("ns/thing/things/twin/events/modified");
+        assertThat(underTest.getCorrelationId()).contains("cid\"2");
+    }
+
+    @Test
+    public void readTopicAndCorrelationIdOfDecodedFrame() {
+        final ScannedFrame underTest = ScannedFrame.of(JsonFactory.newObject(
+                "{\"topic\":\"ns/thing/things/twin/events/modified\",\"headers\":{\"correlation-id\":\"cid-1\"}," +
+                        "\"path\":\"/\",\"value\":{\"topic\":\"nested\"}}"));
+
+        assertThat(underTest.getTopic()).contains("ns/thing/things/twin/events/modified");
+        assertThat(underTest.getCorrelationId()).contains("cid-1");
+    }
+
+    @Test
+    public void ignoreFieldsOfDecodedFrameWhichAreNoStrings() {
+        final ScannedFrame underTest = ScannedFrame.of(JsonFactory.newObject("{\"topic\":1,\"headers\":\"cid\"}"));
+
+        assertThat(underTest.getTopic()).isEmpty();
+        assertThat(underTest.getCorrelationId()).isEmpty();
+    }
+
+    @Test
+    public void scanFrameWithoutHeaders() {
+        final ScannedFrame underTest = ScannedFrame.scan("{\"topic\":\"ns/thing/things/twin/events/deleted\"," +
+                "\"path\":\"/\"}");
+
+        assertThat(underTest.getTopic()).contains("ns/thing/things/twin/events/deleted");
+        assertThat(underTest.getCorrelationId()).isEmpty();
+    }
+
+    @Test
+    public void scanUnicodeEscapes() {
+        final ScannedFrame underTest = ScannedFrame.scan("{\"headers\":{\"correlation-id\":\"\\u00e4\\/b\"}}");
+
+        assertThat(underTest.getTopic()).isEmpty();
+        assertThat(underTest.getCorrelationId()).contains("\u00e4/b");
+    }
+
+    @Test
+    public void scanNonJson() {
+        final ScannedFrame underTest = ScannedFrame.scan("START-SEND-EVENTS:ACK");
+
+        assertThat(underTest.getTopic()).isEmpty();
+        assertThat(underTest.getCorrelationId()).isEmpty();
+    }
+
+    @Test
+    public void scanTruncatedJson() {
+        final ScannedFrame underTest = ScannedFrame.scan("{\"headers\":{\"correlation-id\":\"cid");
+
+        assertThat(underTest.getTopic()).isEmpty();
+        assertThat(underTest.getCorrelationId()).isEmpty();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.internal.bus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Tests {@link TemplateMatcher}.
+ */
+public final class TemplateMatcherTest {
+
+    private static final JsonPointer PROPERTY_TEMPLATE =
+            JsonPointer.of("/things/{thingId}/features/{featureId}/properties/{propertyKey}");
+
+    @Test
+    public void matchesLikeDoesTargetMatchTemplate() {
+        final TemplateMatcher underTest = TemplateMatcher.compile(JsonPointer.of("/things/{thingId}/attributes"));
+
+        assertThat(underTest.matches(JsonPointer.of("/things/ns:id/attributes"))).isTrue();
+        assertThat(underTest.matches(JsonPointer.of("/things/ns:id/attributes/foo"))).isTrue();
+        assertThat(underTest.matches(JsonPointer.empty())).isTrue();
+        assertThat(underTest.matches(JsonPointer.of("/things/ns:id"))).isFalse();
+        assertThat(underTest.matches(JsonPointer.of("/things/ns:id/features"))).isFalse();
+        assertThat(TemplateMatcher.compile(JsonPointer.empty()).matches(JsonPointer.of("/things"))).isFalse();
+    }
+
+    @Test
+    public void resolveBindsTemplateParametersFromTheParameterLevelOn() {
+        final TemplateMatcher underTest = TemplateMatcher.compile(PROPERTY_TEMPLATE, 2);
+        final JsonPointer targetPath = JsonPointer.of("/things/ns:id/features/lamp/properties");
+        final JsonPointer combinedPath = targetPath.addLeaf(JsonKey.of("on"));
+        final JsonObject changedValue = JsonObject.of("{\"on\":true,\"color\":\"red\"}");
+
+        final List<Resolved> resolved = resolve(underTest, targetPath, combinedPath, changedValue);
+
+        assertThat(resolved).hasSize(1);
+        assertThat((Object) resolved.get(0).changePath).isEqualTo(JsonPointer.empty());
+        assertThat(resolved.get(0).changedValue).isEqualTo(JsonValue.of(true));
+        assertThat(resolved.get(0).templateParams)
+                .hasSize(2)
+                .containsEntry("{featureId}", "lamp")
+                .containsEntry("{propertyKey}", "on");
+    }
+
+    @Test
+    public void resolveWrapsValuesBelowTheTemplate() {
+        final TemplateMatcher underTest = TemplateMatcher.compile(JsonPointer.of("/things/{thingId}/attributes"), 2);
+        final JsonPointer targetPath = JsonPointer.of("/things/ns:id/attributes/location/lat");
+
+        final List<Resolved> resolved = resolve(underTest, targetPath, targetPath, JsonValue.of(42));
+
+        assertThat(resolved).hasSize(1);
+        assertThat((Object) resolved.get(0).changePath).isEqualTo(JsonPointer.of("/location/lat"));
+        assertThat(resolved.get(0).changedValue).isEqualTo(JsonObject.of("{\"location\":{\"lat\":42}}"));
+        assertThat(resolved.get(0).templateParams).isEmpty();
+    }
+
+    private static List<Resolved> resolve(final TemplateMatcher underTest, final JsonPointer targetPath,
+            final JsonPointer combinedPath, final JsonValue changedValue) {
+
+        final List<Resolved> resolved = new ArrayList<>();
+        underTest.resolve(targetPath, combinedPath, changedValue, (changePath, value, templateParams) ->
+                resolved.add(new Resolved(changePath, value, templateParams)));
+        return resolved;
+    }
+
+    private static final class Resolved {
+
+        private final JsonPointer changePath;
+        private final JsonValue changedValue;
+        private final Map<String, String> templateParams;
+
+        private Resolved(final JsonPointer changePath, final JsonValue changedValue,
+                final Map<String, String> templateParams) {
+            this.changePath = changePath;
+            this.changedValue = changedValue;
+            this.templateParams = templateParams;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link ExecutorStrategies}.
+ */
+public final class ExecutorStrategiesTest {
+
+    @Test
+    public void threadPoolRunsTasksOnNamedThreads() throws Exception {
+        final ExecutorService executor = ExecutorStrategies.threadPool(2).createExecutorService("test");
+        try {
+            final String threadName =
+                    CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor)
+                            .get(5L, TimeUnit.SECONDS);
+            assertThat(threadName).startsWith("ditto-client-test-");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void workStealingIsBoundedByParallelism() {
+        final ExecutorService executor = ExecutorStrategies.workStealing(3).createExecutorService("test");
+        try {
+            assertThat(executor).isInstanceOf(ForkJoinPool.class);
+            assertThat(((ForkJoinPool) executor).getParallelism()).isEqualTo(3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void inlineRunsTasksOnSubmittingThread() throws Exception {
+        final ExecutorService executor = ExecutorStrategies.inline().createExecutorService("test");
+        final Thread[] runningThread = new Thread[1];
+
+        executor.execute(() -> runningThread[0] = Thread.currentThread());
+        executor.shutdown();
+
+        assertThat(runningThread[0]).isSameAs(Thread.currentThread());
+        assertThat(executor.awaitTermination(1L, TimeUnit.SECONDS)).isTrue();
+        assertThatExceptionOfType(RejectedExecutionException.class)
+                .isThrownBy(() -> executor.execute(() -> {}));
+    }
+
+    @Test
+    public void virtualThreadsFallBackToThreadPoolOnOlderRuntimes() throws Exception {
+        final ExecutorService executor = ExecutorStrategies.virtualThreads().createExecutorService("test");
+        try {
+            final boolean virtual = CompletableFuture.supplyAsync(ExecutorStrategiesTest::isVirtual, executor)
+                    .get(5L, TimeUnit.SECONDS);
+            assertThat(virtual).isEqualTo(isVirtualThreadSupported());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean isVirtual() {
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread());
+        } catch (final ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    private static boolean isVirtualThreadSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (final NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+}
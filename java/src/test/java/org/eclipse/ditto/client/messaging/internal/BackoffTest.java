@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.ditto.client.configuration.BackoffConfiguration;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Backoff} and {@link TokenBucket}.
+ */
+public final class BackoffTest {
+
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1L);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30L);
+    private static final BackoffConfiguration CONFIGURATION = BackoffConfiguration.newBuilder()
+            .minBackoff(MIN_BACKOFF)
+            .maxBackoff(MAX_BACKOFF)
+            .stableConnectionPeriod(Duration.ofSeconds(60L))
+            .build();
+
+    private final AtomicLong nanoClock = new AtomicLong();
+
+    @Test
+    public void delaysStayWithinMinAndThreeTimesPreviousCappedAtMax() {
+        final Backoff underTest = newBackoff();
+
+        Duration previous = MIN_BACKOFF;
+        for (int i = 0; i < 1000; i++) {
+            final Duration delay = underTest.nextDelay();
+            final Duration upperBound = previous.multipliedBy(3L).compareTo(MAX_BACKOFF) < 0
+                    ? previous.multipliedBy(3L)
+                    : MAX_BACKOFF;
+            assertThat(delay).isBetween(MIN_BACKOFF, upperBound);
+            previous = delay;
+        }
+    }
+
+    @Test
+    public void delaysAreJittered() {
+        final Backoff underTest = newBackoff();
+        final Backoff other = newBackoff();
+
+        boolean differs = false;
+        for (int i = 0; i < 10 && !differs; i++) {
+            differs = !underTest.nextDelay().equals(other.nextDelay());
+        }
+
+        assertThat(differs).isTrue();
+    }
+
+    @Test
+    public void delaysGrowExponentiallyUpToMax() {
+        final Backoff underTest = newBackoffWithLongestDelays();
+
+        assertThat(underTest.nextDelay()).isEqualTo(Duration.ofSeconds(3L));
+        assertThat(underTest.nextDelay()).isEqualTo(Duration.ofSeconds(9L));
+        assertThat(underTest.nextDelay()).isEqualTo(Duration.ofSeconds(27L));
+        assertThat(underTest.nextDelay()).isEqualTo(MAX_BACKOFF);
+        assertThat(underTest.nextDelay()).isEqualTo(MAX_BACKOFF);
+    }
+
+    @Test
+    public void stableConnectionResetsDelays() {
+        final Backoff underTest = newBackoffWithLongestDelays();
+        underTest.nextDelay();
+        underTest.nextDelay();
+
+        underTest.onConnected();
+        nanoClock.addAndGet(Duration.ofSeconds(60L).toNanos());
+        underTest.onDisconnected();
+
+        assertThat(underTest.nextDelay()).isEqualTo(Duration.ofSeconds(3L));
+    }
+
+    @Test
+    public void flappingConnectionKeepsDelays() {
+        final Backoff underTest = newBackoffWithLongestDelays();
+        underTest.nextDelay();
+        underTest.nextDelay();
+
+        underTest.onConnected();
+        nanoClock.addAndGet(Duration.ofSeconds(1L).toNanos());
+        underTest.onDisconnected();
+
+        assertThat(underTest.nextDelay()).isEqualTo(Duration.ofSeconds(27L));
+    }
+
+    @Test
+    public void tokenBucketLimitsBurstAndRefills() {
+        final TokenBucket underTest = new TokenBucket(2, Duration.ofSeconds(1L), nanoClock::get);
+
+        assertThat(underTest.tryAcquire()).isZero();
+        assertThat(underTest.tryAcquire()).isZero();
+        assertThat(underTest.tryAcquire()).isEqualTo(Duration.ofSeconds(1L));
+
+        nanoClock.addAndGet(Duration.ofMillis(400L).toNanos());
+        assertThat(underTest.tryAcquire()).isEqualTo(Duration.ofMillis(600L));
+
+        nanoClock.addAndGet(Duration.ofMillis(600L).toNanos());
+        assertThat(underTest.tryAcquire()).isZero();
+        assertThat(underTest.tryAcquire()).isPositive();
+    }
+
+    @Test
+    public void tokenBucketDoesNotExceedCapacity() {
+        final TokenBucket underTest = new TokenBucket(1, Duration.ofSeconds(1L), nanoClock::get);
+
+        nanoClock.addAndGet(Duration.ofHours(1L).toNanos());
+
+        assertThat(underTest.tryAcquire()).isZero();
+        assertThat(underTest.tryAcquire()).isPositive();
+    }
+
+    private static Backoff newBackoff() {
+        return new Backoff(CONFIGURATION, Backoff.newConnectAttemptBucket(CONFIGURATION));
+    }
+
+    private Backoff newBackoffWithLongestDelays() {
+        return new Backoff(CONFIGURATION, Backoff.newConnectAttemptBucket(CONFIGURATION), nanoClock::get,
+                (origin, bound) -> bound - 1);
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CborCodec}.
+ */
+public final class CborCodecTest {
+
+    private static final String MESSAGE = "{\"topic\":\"org.eclipse.ditto/thing/things/twin/events/modified\"," +
+            "\"headers\":{\"correlation-id\":\"c-1\"},\"path\":\"/features/temperature/properties/value\"," +
+            "\"value\":23.42,\"revision\":1234567}";
+
+    @Test
+    public void cborSupportIsLoadedFromClasspath() {
+        assertThat(CborCodec.load()).isNotNull();
+    }
+
+    @Test
+    public void decodesEncodedMessage() throws Exception {
+        final CborCodec underTest = CborCodec.load();
+
+        final byte[] encoded = underTest.encode(MESSAGE);
+
+        assertThat(underTest.decode(encoded)).isEqualTo(JsonFactory.readFrom(MESSAGE));
+        assertThat(encoded.length).isLessThan(MESSAGE.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ConsistentHashRing}.
+ */
+public final class ConsistentHashRingTest {
+
+    @Test
+    public void singleNodeOwnsAllKeys() {
+        final ConsistentHashRing underTest = new ConsistentHashRing(1, 64);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(underTest.nodeFor("org.eclipse.ditto:thing-" + i)).isZero();
+        }
+    }
+
+    @Test
+    public void sameKeyMapsToSameNode() {
+        final ConsistentHashRing underTest = new ConsistentHashRing(4, 64);
+        final ConsistentHashRing other = new ConsistentHashRing(4, 64);
+
+        for (int i = 0; i < 100; i++) {
+            final String key = "org.eclipse.ditto/thing-" + i;
+            assertThat(underTest.nodeFor(key)).isEqualTo(other.nodeFor(key)).isBetween(0, 3);
+        }
+    }
+
+    @Test
+    public void keysAreSpreadOverAllNodes() {
+        final int nodeCount = 4;
+        final int keyCount = 10_000;
+        final ConsistentHashRing underTest = new ConsistentHashRing(nodeCount, 64);
+        final int[] keysPerNode = new int[nodeCount];
+
+        for (int i = 0; i < keyCount; i++) {
+            keysPerNode[underTest.nodeFor("org.eclipse.ditto/thing-" + i)]++;
+        }
+
+        for (final int keys : keysPerNode) {
+            assertThat(keys).isBetween(keyCount / nodeCount / 2, keyCount / nodeCount * 2);
+        }
+    }
+
+    @Test
+    public void addingANodeMovesOnlyPartOfTheKeys() {
+        final ConsistentHashRing fourNodes = new ConsistentHashRing(4, 64);
+        final ConsistentHashRing fiveNodes = new ConsistentHashRing(5, 64);
+        int moved = 0;
+
+        for (int i = 0; i < 10_000; i++) {
+            final String key = "org.eclipse.ditto/thing-" + i;
+            if (fourNodes.nodeFor(key) != fiveNodes.nodeFor(key)) {
+                moved++;
+            }
+        }
+
+        assertThat(moved).isLessThan(10_000 / 3);
+    }
+
+}
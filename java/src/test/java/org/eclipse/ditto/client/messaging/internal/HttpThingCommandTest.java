@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.eclipse.ditto.protocol.TopicPath;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link HttpThingCommand}.
+ */
+public final class HttpThingCommandTest {
+
+    private static final String TWIN_COMMANDS = "org.eclipse.ditto/my-thing/things/twin/commands/";
+
+    @Test
+    public void retrieveIsMappedToGet() {
+        final HttpThingCommand underTest = HttpThingCommand.of(command(TWIN_COMMANDS + "retrieve",
+                "/attributes/my attribute", null)).orElseThrow(AssertionError::new);
+
+        assertThat(underTest.getMethod()).isEqualTo("GET");
+        assertThat(underTest.getPathAndQuery())
+                .isEqualTo("/api/2/things/org.eclipse.ditto%3Amy-thing/attributes/my%20attribute");
+        assertThat(underTest.getHeaders()).containsEntry("correlation-id", "cid");
+        assertThat(underTest.getBody()).isEmpty();
+    }
+
+    @Test
+    public void mergeIsMappedToPatchWithMergePatchBody() {
+        final HttpThingCommand underTest = HttpThingCommand.of(command(TWIN_COMMANDS + "merge",
+                "/attributes", "{\"location\":null}")).orElseThrow(AssertionError::new);
+
+        assertThat(underTest.getMethod()).isEqualTo("PATCH");
+        assertThat(underTest.getHeaders()).containsEntry("Content-Type", "application/merge-patch+json");
+        assertThat(underTest.getBody()).contains("{\"location\":null}");
+    }
+
+    @Test
+    public void createLiveAndRequestsForMultipleThingsAreNotMapped() {
+        assertThat(HttpThingCommand.of(command(TWIN_COMMANDS + "create", "/", "{}"))).isEmpty();
+        assertThat(HttpThingCommand.of(command("org.eclipse.ditto/my-thing/things/live/commands/retrieve",
+                "/", null))).isEmpty();
+        assertThat(HttpThingCommand.of(command("_/_/things/twin/commands/retrieve", "/", null))).isEmpty();
+    }
+
+    @Test
+    public void successfulResponseIsMappedToCommandResponse() {
+        final HttpThingCommand underTest = HttpThingCommand.of(command(TWIN_COMMANDS + "retrieve",
+                "/attributes", null)).orElseThrow(AssertionError::new);
+
+        final Adaptable response = underTest.toResponse(200, "\"rev:3\"", "{\"location\":\"kitchen\"}");
+
+        assertThat(response.getTopicPath().getPath()).isEqualTo(TWIN_COMMANDS + "retrieve");
+        assertThat(response.getPayload().getHttpStatus()).contains(HttpStatus.OK);
+        assertThat(response.getPayload().getValue()).contains(JsonFactory.readFrom("{\"location\":\"kitchen\"}"));
+        assertThat(response.getDittoHeaders().getCorrelationId()).contains("cid");
+    }
+
+    @Test
+    public void errorResponseIsMappedToError() {
+        final HttpThingCommand underTest = HttpThingCommand.of(command(TWIN_COMMANDS + "delete",
+                "/attributes/location", null)).orElseThrow(AssertionError::new);
+
+        final Adaptable response = underTest.toResponse(404, null,
+                "{\"status\":404,\"error\":\"things:attribute.notfound\",\"message\":\"not found\"}");
+
+        assertThat(response.getTopicPath().getCriterion()).isEqualTo(TopicPath.Criterion.ERRORS);
+        assertThat(response.getPayload().getHttpStatus()).contains(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    public void httpBaseUriIsDerivedFromWebSocketEndpoint() {
+        assertThat(HttpThingCommand.getHttpBaseUri(URI.create("wss://ditto.example.com/ws/2")))
+                .isEqualTo(URI.create("https://ditto.example.com"));
+        assertThat(HttpThingCommand.getHttpBaseUri(URI.create("ws://localhost:8080/ditto/ws/2/")))
+                .isEqualTo(URI.create("http://localhost:8080/ditto"));
+    }
+
+    private static Adaptable command(final String topic, final String path, final String value) {
+        final String valueField = null != value ? ",\"value\":" + value : "";
+        return ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject("{\"topic\":\"" + topic + "\"," +
+                "\"headers\":{\"correlation-id\":\"cid\"},\"path\":\"" + path + "\"" + valueField + "}"));
+    }
+
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link OutboundWriter}.
+ */
+public final class OutboundWriterTest {
+
+    private ScheduledExecutorService scheduler;
+    private List<List<String>> batches;
+
+    @Before
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        batches = new CopyOnWriteArrayList<>();
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void writesMessageRightAwayWithoutLinger() {
+        final OutboundWriter<String> underTest =
+                new OutboundWriter<>(10, 100, Duration.ZERO, scheduler, this::addBatch, String::length);
+
+        underTest.write("a");
+        underTest.write("b");
+
+        assertThat(batches).containsExactly(Collections.singletonList("a"), Collections.singletonList("b"));
+    }
+
+    @Test
+    public void coalescesMessagesWithinLinger() throws InterruptedException {
+        final CountDownLatch written = new CountDownLatch(1);
+        final OutboundWriter<String> underTest =
+                new OutboundWriter<>(10, 100, Duration.ofMillis(100L), scheduler, batch -> {
+                    addBatch(batch);
+                    written.countDown();
+                }, String::length);
+
+        underTest.write("a");
+        underTest.write("b");
+        underTest.write("c");
+
+        assertThat(batches).isEmpty();
+        assertThat(written.await(5L, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).containsExactly(Arrays.asList("a", "b", "c"));
+    }
+
+    @Test
+    public void writesFullBatchBeforeLingerHasPassed() {
+        final OutboundWriter<String> underTest =
+                new OutboundWriter<>(2, 100, Duration.ofHours(1L), scheduler, this::addBatch, String::length);
+
+        underTest.write("a");
+        underTest.write("b");
+
+        assertThat(batches).containsExactly(Arrays.asList("a", "b"));
+    }
+
+    @Test
+    public void splitsBatchesByCharacters() {
+        final OutboundWriter<String> underTest =
+                new OutboundWriter<>(10, 4, Duration.ofHours(1L), scheduler, this::addBatch, String::length);
+
+        underTest.write("aa");
+        underTest.write("bbbbbb");
+
+        assertThat(batches).containsExactly(Collections.singletonList("aa"), Collections.singletonList("bbbbbb"));
+    }
+
+    @Test
+    public void flushWritesLingeringMessages() {
+        final OutboundWriter<String> underTest =
+                new OutboundWriter<>(10, 100, Duration.ofHours(1L), scheduler, this::addBatch, String::length);
+
+        underTest.write("a");
+        underTest.flush();
+
+        assertThat(batches).containsExactly(Collections.singletonList("a"));
+    }
+
+    @Test
+    public void completesFutureOnceMessageWasWritten() {
+        final OutboundWriter<String> underTest =
+                new OutboundWriter<>(10, 100, Duration.ofHours(1L), scheduler, this::addBatch, String::length);
+        final CompletableFuture<Void> written = new CompletableFuture<>();
+
+        underTest.write("a", written);
+
+        assertThat(written).isNotDone();
+
+        underTest.flush();
+
+        assertThat(written).isCompleted();
+    }
+
+    @Test
+    public void failsFuturesOfBatchWhichCouldNotBeWritten() {
+        final IllegalStateException error = new IllegalStateException("expected");
+        final OutboundWriter<String> underTest =
+                new OutboundWriter<>(10, 100, Duration.ZERO, scheduler, batch -> {
+                    throw error;
+                }, String::length);
+        final CompletableFuture<Void> written = new CompletableFuture<>();
+
+        underTest.write("a", written);
+
+        assertThat(written).isCompletedExceptionally();
+        assertThatThrownBy(written::join).hasCause(error);
+    }
+
+    @Test
+    public void keepsMessagesQueuedWhileNotWritable() {
+        final AtomicBoolean writable = new AtomicBoolean(false);
+        final OutboundWriter<String> underTest =
+                new OutboundWriter<>(10, 100, Duration.ZERO, scheduler, this::addBatch, String::length, writable::get);
+        final CompletableFuture<Void> written = new CompletableFuture<>();
+
+        underTest.write("a", written);
+        underTest.write("b");
+        underTest.flush();
+
+        assertThat(batches).isEmpty();
+        assertThat(written).isNotDone();
+
+        writable.set(true);
+        underTest.flush();
+
+        assertThat(batches).containsExactly(Arrays.asList("a", "b"));
+        assertThat(written).isCompleted();
+    }
+
+    @Test
+    public void discardFailsFuturesOfQueuedMessages() {
+        final OutboundWriter<String> underTest =
+                new OutboundWriter<>(10, 100, Duration.ZERO, scheduler, this::addBatch, String::length, () -> false);
+        final IllegalStateException error = new IllegalStateException("expected");
+        final CompletableFuture<Void> written = new CompletableFuture<>();
+        underTest.write("a", written);
+        underTest.write("b");
+
+        assertThat(underTest.discard(discarded -> error)).isEqualTo(2);
+
+        assertThatThrownBy(written::join).hasCause(error);
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    public void writesAllMessagesOfConcurrentProducersInOrderPerProducer() throws InterruptedException {
+        final int producers = 4;
+        final int messagesPerProducer = 1000;
+        final CountDownLatch written = new CountDownLatch(producers * messagesPerProducer);
+        final OutboundWriter<String> underTest =
+                new OutboundWriter<>(32, 1024, Duration.ZERO, scheduler, batch -> {
+                    addBatch(batch);
+                    batch.forEach(message -> written.countDown());
+                }, String::length);
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final String producer = String.valueOf(p);
+            final Thread thread = new Thread(() -> {
+                for (int i = 0; i < messagesPerProducer; i++) {
+                    underTest.write(producer + ":" + i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(written.await(5L, TimeUnit.SECONDS)).isTrue();
+        final int[] next = new int[producers];
+        batches.stream().flatMap(List::stream).forEach(message -> {
+            final String[] parts = message.split(":");
+            final int producer = Integer.parseInt(parts[0]);
+            assertThat(Integer.parseInt(parts[1])).isEqualTo(next[producer]++);
+        });
+        assertThat(next).containsOnly(messagesPerProducer);
+    }
+
+    @Test
+    public void fullBatchDoesNotStartSecondDrainWhileLingeringDrainIsRunning() throws InterruptedException {
+        final CountDownLatch drainStarted = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch written = new CountDownLatch(3);
+        final AtomicBoolean writing = new AtomicBoolean(false);
+        final AtomicBoolean concurrentlyWritten = new AtomicBoolean(false);
+        // runs the lingering drain right away and returns its future only once it is writing
+        final ScheduledExecutorService startingScheduler = new ScheduledThreadPoolExecutor(1) {
+            @Override
+            public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+                final ScheduledFuture<?> future = super.schedule(command, 0L, unit);
+                await(drainStarted);
+                return future;
+            }
+        };
+        try {
+            final OutboundWriter<String> underTest =
+                    new OutboundWriter<>(2, 100, Duration.ofHours(1L), startingScheduler, batch -> {
+                        if (!writing.compareAndSet(false, true)) {
+                            concurrentlyWritten.set(true);
+                        }
+                        if (drainStarted.getCount() > 0) {
+                            drainStarted.countDown();
+                            await(release);
+                        }
+                        addBatch(batch);
+                        batch.forEach(message -> written.countDown());
+                        writing.set(false);
+                    }, String::length);
+
+            underTest.write("a");
+            underTest.write("b");
+            underTest.write("c");
+            release.countDown();
+
+            assertThat(written.await(5L, TimeUnit.SECONDS)).isTrue();
+            assertThat(concurrentlyWritten).isFalse();
+            assertThat(batches).containsExactly(Collections.singletonList("a"), Arrays.asList("b", "c"));
+        } finally {
+            startingScheduler.shutdownNow();
+        }
+    }
+
+    private void addBatch(final List<String> batch) {
+        batches.add(new ArrayList<>(batch));
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5L, TimeUnit.SECONDS)).isTrue();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests {@link OutboxJournal}.
+ */
+public final class OutboxJournalTest {
+
+    private static final int SEGMENT_SIZE = 64;
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void passesAppendedMessagesInOrder() throws IOException {
+        final OutboxJournal underTest = OutboxJournal.open(temporaryFolder.getRoot().toPath(), SEGMENT_SIZE);
+
+        assertThat(underTest.append("first")).isEqualTo(1L);
+        assertThat(underTest.append("zweite Nachricht mit Umlauten: äöü")).isEqualTo(2L);
+        assertThat(underTest.append("third")).isEqualTo(3L);
+
+        assertThat(readFrom(underTest, 1L))
+                .containsExactly("1:first", "2:zweite Nachricht mit Umlauten: äöü", "3:third");
+        assertThat(readFrom(underTest, 3L)).containsExactly("3:third");
+    }
+
+    @Test
+    public void recoversUnacknowledgedMessagesWhenOpenedAgain() throws IOException {
+        final Path directory = temporaryFolder.getRoot().toPath();
+        final OutboxJournal journal = OutboxJournal.open(directory, SEGMENT_SIZE);
+        for (int i = 1; i <= 10; i++) {
+            journal.append("message " + i);
+        }
+        for (long i = 1; i <= 7; i++) {
+            journal.acknowledge(i);
+        }
+        journal.close();
+
+        final OutboxJournal underTest = OutboxJournal.open(directory, SEGMENT_SIZE);
+
+        assertThat(underTest.getAcknowledgedSequenceNumber()).isEqualTo(7L);
+        assertThat(underTest.getLastSequenceNumber()).isEqualTo(10L);
+        assertThat(readFrom(underTest, 8L)).containsExactly("8:message 8", "9:message 9", "10:message 10");
+        assertThat(underTest.append("message 11")).isEqualTo(11L);
+    }
+
+    @Test
+    public void deletesSegmentsOfAcknowledgedMessages() throws IOException {
+        final Path directory = temporaryFolder.getRoot().toPath();
+        final OutboxJournal underTest = OutboxJournal.open(directory, SEGMENT_SIZE);
+        for (int i = 1; i <= 10; i++) {
+            underTest.append("message " + i);
+        }
+        final long segmentsBefore = countSegments(directory);
+
+        for (long i = 1; i <= 8; i++) {
+            underTest.acknowledge(i);
+        }
+
+        assertThat(segmentsBefore).isGreaterThan(2L);
+        assertThat(countSegments(directory)).isLessThan(segmentsBefore);
+        assertThat(readFrom(underTest, 9L)).containsExactly("9:message 9", "10:message 10");
+    }
+
+    @Test
+    public void acknowledgesOnlyInOrder() throws IOException {
+        final OutboxJournal underTest = OutboxJournal.open(temporaryFolder.getRoot().toPath(), SEGMENT_SIZE);
+        underTest.append("a");
+        underTest.append("b");
+
+        assertThat(underTest.acknowledge(2L)).isFalse();
+        assertThat(underTest.acknowledge(1L)).isTrue();
+        assertThat(underTest.acknowledge(2L)).isTrue();
+        assertThat(underTest.getAcknowledgedSequenceNumber()).isEqualTo(2L);
+    }
+
+    @Test
+    public void readsBacklogInChunksAcrossSegments() throws IOException {
+        final OutboxJournal underTest = OutboxJournal.open(temporaryFolder.getRoot().toPath(), SEGMENT_SIZE);
+        for (int i = 1; i <= 10; i++) {
+            underTest.append("message-" + i);
+        }
+        final List<String> messages = new ArrayList<>();
+
+        final int passed = underTest.forEachFrom(3L, 4,
+                (message, sequenceNumber) -> messages.add(sequenceNumber + ":" + message));
+
+        assertThat(passed).isEqualTo(4);
+        assertThat(messages).containsExactly("3:message-3", "4:message-4", "5:message-5", "6:message-6");
+        assertThat(underTest.forEachFrom(9L, 4, (message, sequenceNumber) -> {})).isEqualTo(2);
+        assertThat(underTest.forEachFrom(11L, 4, (message, sequenceNumber) -> {})).isZero();
+    }
+
+    @Test
+    public void ignoresTornRecord() throws IOException {
+        final Path directory = temporaryFolder.getRoot().toPath();
+        final OutboxJournal journal = OutboxJournal.open(directory, SEGMENT_SIZE);
+        journal.append("complete");
+        journal.append("torn");
+        journal.close();
+        // corrupts the last byte of the second record
+        final Path segment = listSegments(directory).get(0);
+        try (final RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            final long lastByte = 2L * 8 + "complete".length() + "torn".length() - 1;
+            file.seek(lastByte);
+            file.write('x');
+        }
+
+        final OutboxJournal underTest = OutboxJournal.open(directory, SEGMENT_SIZE);
+
+        assertThat(readFrom(underTest, 1L)).containsExactly("1:complete");
+        assertThat(underTest.append("next")).isEqualTo(2L);
+        assertThat(readFrom(underTest, 1L)).containsExactly("1:complete", "2:next");
+    }
+
+    private static List<String> readFrom(final OutboxJournal journal, final long fromSequenceNumber) {
+        final List<String> messages = new ArrayList<>();
+        journal.forEachFrom(fromSequenceNumber,
+                (message, sequenceNumber) -> messages.add(sequenceNumber + ":" + message));
+        return messages;
+    }
+
+    private static long countSegments(final Path directory) throws IOException {
+        return listSegments(directory).size();
+    }
+
+    private static List<Path> listSegments(final Path directory) throws IOException {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".log"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+}
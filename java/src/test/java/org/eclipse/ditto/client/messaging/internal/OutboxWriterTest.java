@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.ditto.client.messaging.MessagingException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests {@link OutboxWriter}.
+ */
+public final class OutboxWriterTest {
+
+    private static final int BUFFER_SIZE = 10;
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ScheduledExecutorService scheduler;
+    private AtomicBoolean connected;
+    private List<String> sent;
+    private OutboxJournal journal;
+    private OutboxWriter underTest;
+
+    @Before
+    public void setUp() throws IOException {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        connected = new AtomicBoolean(true);
+        sent = new CopyOnWriteArrayList<>();
+        journal = OutboxJournal.open(temporaryFolder.getRoot().toPath(), 1024);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+        journal.close();
+    }
+
+    @Test
+    public void writesMessagesInOrderAndAcknowledgesThem() throws Exception {
+        underTest = newOutboxWriter(new OutboundWriter<>(2, 1000, Duration.ZERO, scheduler, this::send,
+                OutboxWriterTest::getSize, connected::get));
+
+        final List<CompletableFuture<Void>> emitted = emit(1, 25);
+
+        CompletableFuture.allOf(emitted.toArray(new CompletableFuture[0])).get(5L, TimeUnit.SECONDS);
+        assertThat(sent).containsExactlyElementsOf(messages(1, 25));
+        assertThat(journal.getAcknowledgedSequenceNumber()).isEqualTo(25L);
+    }
+
+    @Test
+    public void disconnectWhileBatchIsInFlightReplaysFromFirstUnacknowledgedMessage() throws Exception {
+        final CountDownLatch batchInFlight = new CountDownLatch(1);
+        final CountDownLatch disconnected = new CountDownLatch(1);
+        final AtomicBoolean firstBatch = new AtomicBoolean(true);
+        // lingering lets the scheduler write the batches, so that the first one can be held in flight
+        final OutboundWriter<Object> outboundWriter = new OutboundWriter<>(2, 1000, Duration.ofMillis(1L),
+                scheduler, batch -> {
+                    if (firstBatch.getAndSet(false)) {
+                        // the connection is lost while the first batch is written
+                        batchInFlight.countDown();
+                        await(disconnected);
+                        throw MessagingException.notConnected("session", batch.size());
+                    }
+                    send(batch);
+                }, OutboxWriterTest::getSize, connected::get);
+        underTest = newOutboxWriter(outboundWriter);
+
+        final List<CompletableFuture<Void>> emitted = new ArrayList<>(emit(1, 1));
+        assertThat(batchInFlight.await(5L, TimeUnit.SECONDS)).isTrue();
+        emitted.addAll(emit(2, 5));
+        connected.set(false);
+        disconnected.countDown();
+        emitted.addAll(emit(6, 7));
+
+        // reconnecting replays the outbox and flushes the messages queued while disconnected
+        connected.set(true);
+        underTest.replay();
+        outboundWriter.flush();
+
+        CompletableFuture.allOf(emitted.toArray(new CompletableFuture[0])).get(5L, TimeUnit.SECONDS);
+        assertThat(sent).containsExactlyElementsOf(messages(1, 7));
+        assertThat(journal.getAcknowledgedSequenceNumber()).isEqualTo(7L);
+        final List<CompletableFuture<Void>> emittedAfterwards = emit(8, 7 + BUFFER_SIZE);
+        CompletableFuture.allOf(emittedAfterwards.toArray(new CompletableFuture[0])).get(5L, TimeUnit.SECONDS);
+        assertThat(sent).containsExactlyElementsOf(messages(1, 7 + BUFFER_SIZE));
+    }
+
+    @Test
+    public void closeFailsFuturesOfMessagesNotWritten() {
+        connected.set(false);
+        underTest = newOutboxWriter(new OutboundWriter<>(2, 1000, Duration.ZERO, scheduler, this::send,
+                OutboxWriterTest::getSize, connected::get));
+        final List<CompletableFuture<Void>> emitted = emit(1, 3);
+
+        underTest.close();
+
+        assertThat(emitted).allMatch(CompletableFuture::isCompletedExceptionally);
+        assertThat(sent).isEmpty();
+        assertThat(journal.getLastSequenceNumber()).isEqualTo(3L);
+        assertThat(journal.getAcknowledgedSequenceNumber()).isZero();
+    }
+
+    private OutboxWriter newOutboxWriter(final OutboundWriter<Object> outboundWriter) {
+        return new OutboxWriter(journal, outboundWriter, BUFFER_SIZE, scheduler, connected::get, "session");
+    }
+
+    private List<CompletableFuture<Void>> emit(final int from, final int to) {
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (final String message : messages(from, to)) {
+            final CompletableFuture<Void> written = new CompletableFuture<>();
+            underTest.emit(message, written);
+            futures.add(written);
+        }
+        return futures;
+    }
+
+    private void send(final List<Object> batch) {
+        for (final Object frame : batch) {
+            final OutboxWriter.Frame outboxFrame = (OutboxWriter.Frame) frame;
+            if (underTest.isCurrent(outboxFrame)) {
+                sent.add(outboxFrame.getMessage());
+            }
+        }
+    }
+
+    private static List<String> messages(final int from, final int to) {
+        final List<String> messages = new ArrayList<>();
+        for (int i = from; i <= to; i++) {
+            messages.add("{\"message\":" + i + "}");
+        }
+        return messages;
+    }
+
+    private static int getSize(final Object frame) {
+        return ((OutboxWriter.Frame) frame).getMessage().length();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5L, TimeUnit.SECONDS)).isTrue();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
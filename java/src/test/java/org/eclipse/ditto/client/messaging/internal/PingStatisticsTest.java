@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PingStatistics}.
+ */
+public final class PingStatisticsTest {
+
+    @Test
+    public void withoutSamplesAllRoundTripTimesAreZero() {
+        final PingStatistics underTest = new PingStatistics();
+
+        assertThat(underTest.getSampleCount()).isZero();
+        assertThat(underTest.getMinRoundTripTime()).isEqualTo(Duration.ZERO);
+        assertThat(underTest.getMeanRoundTripTime()).isEqualTo(Duration.ZERO);
+        assertThat(underTest.getRoundTripTimePercentile(99.0)).isEqualTo(Duration.ZERO);
+        assertThat(underTest.getRoundTripTimeHistogram()).isEmpty();
+    }
+
+    @Test
+    public void recordsRoundTripTimes() {
+        final PingStatistics underTest = new PingStatistics();
+
+        underTest.recordRoundTripTime(Duration.ofMillis(10L).toNanos());
+        underTest.recordRoundTripTime(Duration.ofMillis(30L).toNanos());
+        underTest.recordRoundTripTime(Duration.ofMillis(20L).toNanos());
+
+        assertThat(underTest.getSampleCount()).isEqualTo(3L);
+        assertThat(underTest.getLastRoundTripTime()).isEqualTo(Duration.ofMillis(20L));
+        assertThat(underTest.getMinRoundTripTime()).isEqualTo(Duration.ofMillis(10L));
+        assertThat(underTest.getMaxRoundTripTime()).isEqualTo(Duration.ofMillis(30L));
+        assertThat(underTest.getMeanRoundTripTime()).isEqualTo(Duration.ofMillis(20L));
+    }
+
+    @Test
+    public void histogramBucketsDoubleInSize() {
+        final PingStatistics underTest = new PingStatistics();
+
+        underTest.recordRoundTripTime(500L);
+        underTest.recordRoundTripTime(Duration.ofNanos(1_500L).toNanos());
+        underTest.recordRoundTripTime(Duration.ofMillis(10L).toNanos());
+        underTest.recordRoundTripTime(Duration.ofMillis(12L).toNanos());
+
+        assertThat(underTest.getRoundTripTimeHistogram())
+                .containsExactly(
+                        entry(Duration.ofNanos(1_000L), 1L),
+                        entry(Duration.ofNanos(2_000L), 1L),
+                        entry(Duration.ofNanos(16_384_000L), 2L));
+    }
+
+    @Test
+    public void percentileIsUpperBoundOfBucketCappedByMaximum() {
+        final PingStatistics underTest = new PingStatistics();
+        for (int i = 0; i < 99; i++) {
+            underTest.recordRoundTripTime(Duration.ofMillis(1L).toNanos());
+        }
+        underTest.recordRoundTripTime(Duration.ofSeconds(1L).toNanos());
+
+        assertThat(underTest.getRoundTripTimePercentile(50.0)).isEqualTo(Duration.ofNanos(1_024_000L));
+        assertThat(underTest.getRoundTripTimePercentile(99.0)).isEqualTo(Duration.ofNanos(1_024_000L));
+        assertThat(underTest.getRoundTripTimePercentile(100.0)).isEqualTo(Duration.ofSeconds(1L));
+        assertThatIllegalArgumentException().isThrownBy(() -> underTest.getRoundTripTimePercentile(101.0));
+    }
+
+    @Test
+    public void countsMissedPongsAndDeadConnections() {
+        final PingStatistics underTest = new PingStatistics();
+
+        underTest.recordMissedPong();
+        underTest.recordMissedPong();
+        underTest.recordDeadConnection();
+
+        assertThat(underTest.getMissedPongs()).isEqualTo(2L);
+        assertThat(underTest.getDeadConnections()).isEqualTo(1L);
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PongMonitor}.
+ */
+public final class PongMonitorTest {
+
+    private final PingStatistics pingStatistics = new PingStatistics();
+
+    @Test
+    public void connectionIsDeadAfterMaxMissedPongs() {
+        final PongMonitor underTest = new PongMonitor(3, pingStatistics);
+
+        assertThat(underTest.onPing()).isFalse();
+        assertThat(underTest.onPing()).isFalse();
+        assertThat(underTest.onPing()).isFalse();
+        assertThat(underTest.onPing()).isTrue();
+
+        assertThat(pingStatistics.getMissedPongs()).isEqualTo(3L);
+        assertThat(pingStatistics.getDeadConnections()).isEqualTo(1L);
+    }
+
+    @Test
+    public void pongResetsMissedPongs() {
+        final PongMonitor underTest = new PongMonitor(2, pingStatistics);
+
+        assertThat(underTest.onPing()).isFalse();
+        assertThat(underTest.onPing()).isFalse();
+        underTest.reset();
+        assertThat(underTest.onPing()).isFalse();
+        assertThat(underTest.onPing()).isFalse();
+        assertThat(underTest.onPing()).isTrue();
+
+        assertThat(pingStatistics.getMissedPongs()).isEqualTo(3L);
+        assertThat(pingStatistics.getDeadConnections()).isEqualTo(1L);
+    }
+
+    @Test
+    public void connectionIsNeverDeadWithoutMaxMissedPongs() {
+        final PongMonitor underTest = new PongMonitor(0, pingStatistics);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(underTest.onPing()).isFalse();
+        }
+
+        assertThat(pingStatistics.getMissedPongs()).isEqualTo(99L);
+        assertThat(pingStatistics.getDeadConnections()).isZero();
+    }
+
+}
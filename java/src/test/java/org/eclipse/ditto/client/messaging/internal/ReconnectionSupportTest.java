@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.client.configuration.DisconnectedContext;
+import org.eclipse.ditto.client.configuration.MessagingConfiguration;
+import org.eclipse.ditto.client.internal.bus.AdaptableBus;
+import org.eclipse.ditto.client.internal.bus.Classification;
+import org.eclipse.ditto.client.messaging.AuthenticationException;
+import org.eclipse.ditto.client.messaging.MessagingException;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ReconnectionSupport}.
+ */
+public final class ReconnectionSupportTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(1L);
+
+    private MessagingConfiguration messagingConfiguration;
+    private AdaptableBus adaptableBus;
+    private ScheduledExecutorService scheduledExecutor;
+    private Runnable reconnect;
+    private Runnable selfDestruct;
+    private ReconnectionSupport underTest;
+
+    @Before
+    public void setUp() {
+        messagingConfiguration = mock(MessagingConfiguration.class);
+        when(messagingConfiguration.getTimeout()).thenReturn(TIMEOUT);
+        adaptableBus = mock(AdaptableBus.class);
+        scheduledExecutor = mock(ScheduledExecutorService.class);
+        when(adaptableBus.getScheduledExecutor()).thenReturn(scheduledExecutor);
+        reconnect = mock(Runnable.class);
+        selfDestruct = mock(Runnable.class);
+        underTest = new ReconnectionSupport("session", messagingConfiguration, adaptableBus, () -> {}, reconnect,
+                selfDestruct);
+    }
+
+    @Test
+    public void resubscribeCompletesOnceAllMessagesAreAcknowledged() {
+        final CompletableFuture<String> eventsAck = expectAck("START-SEND-EVENTS:ACK");
+        final CompletableFuture<String> messagesAck = expectAck("START-SEND-MESSAGES:ACK");
+        underTest.registerSubscriptionMessage("events", "START-SEND-EVENTS?filter=exists(thingId)");
+        underTest.registerSubscriptionMessage("messages", "START-SEND-MESSAGES");
+        final List<String> sent = new ArrayList<>();
+        final CompletableFuture<Void> resubscribed = new CompletableFuture<>();
+
+        underTest.resubscribe(resubscribed, message -> {
+            sent.add(message);
+            return CompletableFuture.completedFuture(null);
+        });
+
+        assertThat(sent).containsExactlyInAnyOrder("START-SEND-EVENTS?filter=exists(thingId)", "START-SEND-MESSAGES");
+        eventsAck.complete("START-SEND-EVENTS:ACK");
+        assertThat(resubscribed).isNotDone();
+        messagesAck.complete("START-SEND-MESSAGES:ACK");
+        assertThat(resubscribed).isCompleted();
+    }
+
+    @Test
+    public void resubscribeFailsIfMessageCannotBeSent() {
+        expectAck("START-SEND-EVENTS:ACK");
+        underTest.registerSubscriptionMessage("events", "START-SEND-EVENTS");
+        final MessagingException notConnected = MessagingException.notConnected("session", 1);
+        final CompletableFuture<Void> resubscribed = new CompletableFuture<>();
+
+        underTest.resubscribe(resubscribed, message -> {
+            throw notConnected;
+        });
+
+        assertThat(resubscribed).isCompletedExceptionally();
+        assertThat(resubscribed.handle((result, error) -> error).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCause(notConnected);
+    }
+
+    @Test
+    public void resubscribeWithoutMessagesCompletesRightAway() {
+        final CompletableFuture<Void> resubscribed = new CompletableFuture<>();
+        underTest.registerSubscriptionMessage("events", "START-SEND-EVENTS");
+        underTest.unregisterSubscriptionMessage("events");
+
+        underTest.resubscribe(resubscribed, message -> {
+            throw new AssertionError("Nothing to send expected, but got: " + message);
+        });
+
+        assertThat(resubscribed).isCompleted();
+    }
+
+    @Test
+    public void disconnectionReconnectsIfEnabled() {
+        when(messagingConfiguration.isReconnectEnabled()).thenReturn(true);
+        final List<DisconnectedContext> disconnections = new ArrayList<>();
+
+        underTest.handleDisconnection(DisconnectedContext.Source.SERVER, null, disconnections::add);
+
+        assertThat(disconnections).hasSize(1);
+        assertThat(disconnections.get(0).getSource()).isEqualTo(DisconnectedContext.Source.SERVER);
+        verify(reconnect).run();
+    }
+
+    @Test
+    public void disconnectionClosesProviderIfListenerPreventsReconnect() {
+        when(messagingConfiguration.isReconnectEnabled()).thenReturn(true);
+
+        underTest.handleDisconnection(DisconnectedContext.Source.CLIENT, null,
+                context -> context.handleDisconnect().preventConfiguredReconnect(true));
+
+        verify(scheduledExecutor).schedule(eq(selfDestruct), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void reconnectPerformedByListenerIsRetriedUntilReconnected() {
+        when(messagingConfiguration.isReconnectEnabled()).thenReturn(false);
+
+        underTest.handleDisconnection(DisconnectedContext.Source.CLIENT, null,
+                context -> context.handleDisconnect().performReconnect());
+
+        verify(reconnect).run();
+        assertThat(underTest.isRetryingReconnect()).isTrue();
+        underTest.onReconnected();
+        assertThat(underTest.isRetryingReconnect()).isFalse();
+    }
+
+    @Test
+    public void mapsHandshakeStatusToException() {
+        final IllegalStateException cause = new IllegalStateException("handshake rejected");
+
+        assertThat(underTest.mapHandshakeError(cause, 401, "Unauthorized"))
+                .isInstanceOf(AuthenticationException.class);
+        assertThat(underTest.mapHandshakeError(cause, 429, "Too Many Requests"))
+                .isInstanceOf(AuthenticationException.class)
+                .hasMessageContaining("Too Many Requests");
+        assertThat(underTest.mapHandshakeError(cause, 503, "Service Unavailable"))
+                .isInstanceOf(MessagingException.class)
+                .hasCause(cause);
+    }
+
+    @Test
+    public void rootCauseUnwrapsExceptionsOfFutures() {
+        final IllegalStateException cause = new IllegalStateException("expected");
+
+        assertThat(ReconnectionSupport.getRootCause(new CompletionException(new CompletionException(cause))))
+                .isSameAs(cause);
+        assertThat(ReconnectionSupport.getRootCause(cause)).isSameAs(cause);
+    }
+
+    private CompletableFuture<String> expectAck(final String ack) {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        when(adaptableBus.subscribeOnceForString(eq(Classification.forString(ack)), any(Duration.class)))
+                .thenReturn(future);
+        return future;
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.eclipse.ditto.client.configuration.DisconnectedContext;
+import org.eclipse.ditto.client.configuration.MessagingConfiguration;
+import org.eclipse.ditto.client.internal.bus.AdaptableBus;
+import org.eclipse.ditto.client.messaging.AuthenticationProvider;
+import org.eclipse.ditto.client.messaging.MessagingProvider;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.neovisionaries.ws.client.WebSocket;
+
+/**
+ * Unit test for {@link ShardedMessagingProvider}.
+ */
+public final class ShardedMessagingProviderTest {
+
+    private static final int SHARD_COUNT = 4;
+    private static final String TWIN_COMMAND = "{\"topic\":\"org.eclipse.ditto/thing-1/things/twin/commands/modify\"," +
+            "\"headers\":{\"correlation-id\":\"cid\"},\"path\":\"/attributes/a\",\"value\":1}";
+
+    private final ConsistentHashRing ring = new ConsistentHashRing(SHARD_COUNT, 64);
+    private final List<MessagingProvider> shards = new ArrayList<>();
+    private AdaptableBus adaptableBus;
+    private MessagingConfiguration messagingConfiguration;
+    private AuthenticationProvider<WebSocket> authenticationProvider;
+    private Consumer<DisconnectedContext> disconnectedListener;
+    private ConnectionGroup group;
+    private ShardedMessagingProvider underTest;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards.add(mock(MessagingProvider.class));
+        }
+        adaptableBus = mock(AdaptableBus.class);
+        messagingConfiguration = mock(MessagingConfiguration.class);
+        authenticationProvider = mock(AuthenticationProvider.class);
+        disconnectedListener = mock(Consumer.class);
+        when(messagingConfiguration.getDisconnectedListener()).thenReturn(Optional.of(disconnectedListener));
+        underTest = new ShardedMessagingProvider(adaptableBus, messagingConfiguration, authenticationProvider,
+                new InlineExecutorService(), connectionGroup -> {
+                    group = connectionGroup;
+                    return shards;
+                });
+    }
+
+    @Test
+    public void partitionsNamespacesOverShards() {
+        final List<String> namespaces = Arrays.asList("ns.a", "ns.b", "ns.c", "ns.d", "ns.e", "ns.f", "ns.g");
+
+        final Map<Integer, String> partitions =
+                underTest.partition("START-SEND-EVENTS?namespaces=" + String.join(",", namespaces) + "&filter=x");
+
+        final List<String> partitionedNamespaces = new ArrayList<>();
+        partitions.forEach((shard, partition) -> {
+            assertThat(partition).startsWith("START-SEND-EVENTS?namespaces=").endsWith("&filter=x");
+            final String shardNamespaces = partition.substring("START-SEND-EVENTS?namespaces=".length(),
+                    partition.indexOf('&'));
+            for (final String namespace : shardNamespaces.split("%2C")) {
+                assertThat(ring.nodeFor(namespace)).isEqualTo(shard);
+                partitionedNamespaces.add(namespace);
+            }
+        });
+        assertThat(partitionedNamespaces).containsExactlyInAnyOrderElementsOf(namespaces);
+    }
+
+    @Test
+    public void sendsSubscriptionWithoutNamespacesOverOneShard() {
+        final Map<Integer, String> partitions = underTest.partition("START-SEND-EVENTS?filter=x");
+
+        assertThat(partitions).containsOnlyKeys(ring.nodeFor("START-SEND-EVENTS"))
+                .containsValue("START-SEND-EVENTS?filter=x");
+    }
+
+    @Test
+    public void sendsOtherProtocolCommandsOverAllShards() {
+        assertThat(underTest.partition("STOP-SEND-EVENTS"))
+                .containsOnlyKeys(0, 1, 2, 3)
+                .allSatisfy((shard, partition) -> assertThat(partition).isEqualTo("STOP-SEND-EVENTS"));
+    }
+
+    @Test
+    public void extractsEntityKeyFromTopic() {
+        assertThat(ShardedMessagingProvider.extractEntityKey(TWIN_COMMAND)).isEqualTo("org.eclipse.ditto/thing-1");
+        assertThat(ShardedMessagingProvider.extractEntityKey("START-SEND-EVENTS")).isNull();
+        assertThat(ShardedMessagingProvider.extractEntityKey("{\"topic\":\"no-slashes\"}")).isNull();
+        assertThat(ShardedMessagingProvider.extractEntityKey("{\"path\":\"/\"}")).isNull();
+    }
+
+    @Test
+    public void routesMessagesOfEntityToItsShard() {
+        final MessagingProvider expectedShard = shards.get(ring.nodeFor("org.eclipse.ditto/thing-1"));
+
+        underTest.emit(TWIN_COMMAND);
+        underTest.emitAsync(TWIN_COMMAND);
+        underTest.emitAdaptable(ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(TWIN_COMMAND)));
+
+        verify(expectedShard).emit(TWIN_COMMAND);
+        verify(expectedShard).emitAsync(TWIN_COMMAND);
+        verify(expectedShard).emitAdaptable(any(Adaptable.class));
+        shards.stream()
+                .filter(shard -> shard != expectedShard)
+                .forEach(shard -> {
+                    verify(shard, never()).emit(anyString());
+                    verify(shard, never()).emitAsync(anyString());
+                    verify(shard, never()).emitAdaptable(any(Adaptable.class));
+                });
+    }
+
+    @Test
+    public void closesSharedResourcesOnce() {
+        group.close();
+        underTest.close();
+
+        shards.forEach(shard -> verify(shard).close());
+        verify(authenticationProvider).destroy();
+        verify(adaptableBus).shutdownExecutors();
+    }
+
+    @Test
+    public void notifiesDisconnectedListenerOncePerOutage() {
+        final DisconnectedContext context = mock(DisconnectedContext.class);
+
+        group.onDisconnected(shards.get(0), context);
+        group.onDisconnected(shards.get(1), context);
+        group.onReconnected(shards.get(0));
+        group.onDisconnected(shards.get(2), context);
+
+        verify(disconnectedListener).accept(context);
+
+        group.onReconnected(shards.get(1));
+        group.onReconnected(shards.get(2));
+        group.onDisconnected(shards.get(3), context);
+
+        verify(disconnectedListener, times(2)).accept(context);
+    }
+
+}
@@ -15,10 +15,19 @@ package org.eclipse.ditto.client.messaging.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -33,6 +42,7 @@ import java.util.function.Consumer;
 
 import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.client.configuration.BasicAuthenticationConfiguration;
+import org.eclipse.ditto.client.configuration.DisconnectedContext;
 import org.eclipse.ditto.client.configuration.MessagingConfiguration;
 import org.eclipse.ditto.client.configuration.WebSocketMessagingConfiguration;
 import org.eclipse.ditto.client.messaging.AuthenticationProvider;
@@ -49,6 +59,7 @@ import com.neovisionaries.ws.client.WebSocket;
  */
 public final class WebSocketMessagingProviderTest {
 
+    private static final String WEBSOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
     private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor();
     private static final ScheduledExecutorService SCHEDULED_EXECUTOR = Executors.newScheduledThreadPool(1);
 
@@ -121,6 +132,53 @@ public final class WebSocketMessagingProviderTest {
                 .withCauseInstanceOf(MessagingException.class);
     }
 
+    @Test(timeout = 15_000)
+    public void deadConnectionIsClosedAfterMaxMissedPongs() throws Exception {
+        final BlockingQueue<DisconnectedContext> disconnections = new LinkedBlockingQueue<>();
+        final ExecutorService e = Executors.newSingleThreadExecutor();
+        final ScheduledExecutorService se = Executors.newScheduledThreadPool(1);
+        try (final ServerSocket serverSocket = new ServerSocket(0)) {
+            // the server completes the handshake but never answers a ping
+            final CompletableFuture<Socket> accepted =
+                    CompletableFuture.supplyAsync(() -> acceptWebSocket(serverSocket));
+            final WebSocketMessagingProvider underTest = WebSocketMessagingProvider.newInstance(
+                    pingConfigOf("ws://127.0.0.1:" + serverSocket.getLocalPort(), Duration.ofMillis(100L), 2,
+                            disconnections::add),
+                    dummyAuth(), e, se);
+            underTest.initializeAsync().toCompletableFuture().get(10L, TimeUnit.SECONDS);
+
+            assertThat(disconnections.poll(5L, TimeUnit.SECONDS)).isNotNull();
+            assertThat(underTest.getPingStatistics().getDeadConnections()).isEqualTo(1L);
+            assertThat(underTest.getPingStatistics().getMissedPongs()).isGreaterThanOrEqualTo(2L);
+
+            underTest.close();
+            accepted.join().close();
+        }
+    }
+
+    @Test(timeout = 15_000)
+    public void connectionWithoutPingsIsNotClosed() throws Exception {
+        final BlockingQueue<DisconnectedContext> disconnections = new LinkedBlockingQueue<>();
+        final ExecutorService e = Executors.newSingleThreadExecutor();
+        final ScheduledExecutorService se = Executors.newScheduledThreadPool(1);
+        try (final ServerSocket serverSocket = new ServerSocket(0)) {
+            final CompletableFuture<Socket> accepted =
+                    CompletableFuture.supplyAsync(() -> acceptWebSocket(serverSocket));
+            final WebSocketMessagingProvider underTest = WebSocketMessagingProvider.newInstance(
+                    pingConfigOf("ws://127.0.0.1:" + serverSocket.getLocalPort(), Duration.ZERO, 0,
+                            disconnections::add),
+                    dummyAuth(), e, se);
+            underTest.initializeAsync().toCompletableFuture().get(10L, TimeUnit.SECONDS);
+
+            expectNoMsg(disconnections);
+            assertThat(underTest.getPingStatistics().getMissedPongs()).isZero();
+            assertThat(underTest.getPingStatistics().getDeadConnections()).isZero();
+
+            underTest.close();
+            accepted.join().close();
+        }
+    }
+
     private MessagingConfiguration configOf(final String uri, final Consumer<Throwable> errorHandler,
             final boolean reconnect) {
         return WebSocketMessagingConfiguration.newBuilder()
@@ -132,11 +190,53 @@ public final class WebSocketMessagingProviderTest {
                 .build();
     }
 
+    private MessagingConfiguration pingConfigOf(final String uri, final Duration pingInterval,
+            final int maxMissedPongs, final Consumer<DisconnectedContext> disconnectedListener) {
+        return WebSocketMessagingConfiguration.newBuilder()
+                .jsonSchemaVersion(JsonSchemaVersion.V_2)
+                .reconnectEnabled(false)
+                .endpoint(uri)
+                .pingInterval(pingInterval)
+                .maxMissedPongs(maxMissedPongs)
+                .disconnectedListener(disconnectedListener)
+                .build();
+    }
+
     private AuthenticationProvider<WebSocket> dummyAuth() {
         return AuthenticationProviders.basic(
                 BasicAuthenticationConfiguration.newBuilder().username("dummy").password("auth").build());
     }
 
+    /**
+     * Accepts one connection and completes the WebSocket handshake; the frames sent by the client are never read.
+     */
+    private static Socket acceptWebSocket(final ServerSocket serverSocket) {
+        try {
+            final Socket socket = serverSocket.accept();
+            final BufferedReader reader =
+                    new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+            String key = null;
+            String line;
+            while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                if (line.regionMatches(true, 0, "Sec-WebSocket-Key:", 0, 18)) {
+                    key = line.substring(18).trim();
+                }
+            }
+            final byte[] acceptKey = MessageDigest.getInstance("SHA-1")
+                    .digest((key + WEBSOCKET_GUID).getBytes(StandardCharsets.ISO_8859_1));
+            final OutputStream out = socket.getOutputStream();
+            out.write(("HTTP/1.1 101 Switching Protocols\r\n" +
+                    "Upgrade: websocket\r\n" +
+                    "Connection: Upgrade\r\n" +
+                    "Sec-WebSocket-Accept: " + Base64.getEncoder().encodeToString(acceptKey) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+            return socket;
+        } catch (final IOException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private static void write(final Socket socket, final String line) throws Exception {
         final PrintWriter writer = new PrintWriter(socket.getOutputStream());
         writer.println(line);
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.client.configuration.BasicAuthenticationConfiguration;
+import org.eclipse.ditto.client.configuration.WebSocketMessagingConfiguration;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Unit test for {@link Http2RequestChannel}.
+ */
+public final class Http2RequestChannelTest {
+
+    private static final String TWIN_COMMANDS = "org.eclipse.ditto/my-thing/things/twin/commands/";
+
+    private final BlockingQueue<ReceivedRequest> requests = new LinkedBlockingQueue<>();
+    private HttpServer server;
+    private Http2RequestChannel underTest;
+
+    @Before
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::respond);
+        server.start();
+        underTest = Http2RequestChannel.newInstance(WebSocketMessagingConfiguration.newBuilder()
+                        .jsonSchemaVersion(JsonSchemaVersion.V_2)
+                        .endpoint("ws://127.0.0.1:" + server.getAddress().getPort() + "/ws/2")
+                        .build(),
+                new BasicAuthenticationProvider(
+                        BasicAuthenticationConfiguration.newBuilder().username("dummy").password("auth").build()));
+    }
+
+    @After
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void retrieveIsSentAsGetAndAnsweredWithResponse() throws Exception {
+        final HttpThingCommand command = HttpThingCommand.of(command(TWIN_COMMANDS + "retrieve", "/attributes", null))
+                .orElseThrow(AssertionError::new);
+
+        final Adaptable response = underTest.send(command).toCompletableFuture().get(10L, TimeUnit.SECONDS);
+
+        final ReceivedRequest request = requests.poll(1L, TimeUnit.SECONDS);
+        assertThat(request).isNotNull();
+        assertThat(request.method).isEqualTo("GET");
+        assertThat(request.rawPath).isEqualTo("/api/2/things/org.eclipse.ditto%3Amy-thing/attributes");
+        assertThat(request.authorization).startsWith("Basic ");
+        assertThat(request.correlationId).isEqualTo("cid");
+        assertThat(request.body).isEmpty();
+        assertThat(response.getPayload().getHttpStatus()).contains(HttpStatus.OK);
+        assertThat(response.getPayload().getValue()).contains(JsonFactory.readFrom("{\"location\":\"kitchen\"}"));
+        assertThat(response.getDittoHeaders().getCorrelationId()).contains("cid");
+    }
+
+    @Test
+    public void modifyIsSentAsPutWithBody() throws Exception {
+        final HttpThingCommand command =
+                HttpThingCommand.of(command(TWIN_COMMANDS + "modify", "/attributes/location", "\"garden\""))
+                        .orElseThrow(AssertionError::new);
+
+        underTest.send(command).toCompletableFuture().get(10L, TimeUnit.SECONDS);
+
+        final ReceivedRequest request = requests.poll(1L, TimeUnit.SECONDS);
+        assertThat(request).isNotNull();
+        assertThat(request.method).isEqualTo("PUT");
+        assertThat(request.rawPath).isEqualTo("/api/2/things/org.eclipse.ditto%3Amy-thing/attributes/location");
+        assertThat(request.body).isEqualTo("\"garden\"");
+    }
+
+    private void respond(final HttpExchange exchange) throws IOException {
+        try (final InputStream requestBody = exchange.getRequestBody()) {
+            requests.add(new ReceivedRequest(exchange.getRequestMethod(), exchange.getRequestURI().getRawPath(),
+                    exchange.getRequestHeaders().getFirst("Authorization"),
+                    exchange.getRequestHeaders().getFirst("correlation-id"),
+                    new String(requestBody.readAllBytes(), StandardCharsets.UTF_8)));
+        }
+        final byte[] responseBody = "{\"location\":\"kitchen\"}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("ETag", "\"rev:3\"");
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, responseBody.length);
+        try (final OutputStream out = exchange.getResponseBody()) {
+            out.write(responseBody);
+        }
+    }
+
+    private static Adaptable command(final String topic, final String path, final String value) {
+        final String valueField = null != value ? ",\"value\":" + value : "";
+        return ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject("{\"topic\":\"" + topic + "\"," +
+                "\"headers\":{\"correlation-id\":\"cid\"},\"path\":\"" + path + "\"" + valueField + "}"));
+    }
+
+    private static final class ReceivedRequest {
+
+        private final String method;
+        private final String rawPath;
+        private final String authorization;
+        private final String correlationId;
+        private final String body;
+
+        private ReceivedRequest(final String method, final String rawPath, final String authorization,
+                final String correlationId, final String body) {
+            this.method = method;
+            this.rawPath = rawPath;
+            this.authorization = authorization;
+            this.correlationId = correlationId;
+            this.body = body;
+        }
+    }
+
+}
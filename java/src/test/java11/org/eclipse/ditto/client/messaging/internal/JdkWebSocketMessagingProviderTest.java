@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.client.messaging.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.client.configuration.BasicAuthenticationConfiguration;
+import org.eclipse.ditto.client.configuration.MessagingConfiguration;
+import org.eclipse.ditto.client.configuration.WebSocketMessagingConfiguration;
+import org.eclipse.ditto.client.messaging.MessagingException;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JdkWebSocketMessagingProvider}.
+ */
+public final class JdkWebSocketMessagingProviderTest {
+
+    private static final String WEBSOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+    private static final String MESSAGE = "{\"topic\":\"org.eclipse.ditto/my-thing/things/twin/commands/retrieve\"," +
+            "\"headers\":{\"correlation-id\":\"cid\"},\"path\":\"/\"}";
+
+    // closing the provider shuts down its executors
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final ScheduledExecutorService scheduledExecutor = Executors.newScheduledThreadPool(1);
+    private JdkWebSocketMessagingProvider underTest;
+
+    @After
+    public void closeProvider() {
+        if (null != underTest) {
+            underTest.close();
+        }
+        executor.shutdownNow();
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test(timeout = 15_000)
+    public void messageEmittedBeforeConnectingIsWrittenAfterConnecting() throws Exception {
+        final BlockingQueue<String> receivedMessages = new LinkedBlockingQueue<>();
+        try (final ServerSocket serverSocket = new ServerSocket(0)) {
+            final ExecutorService server = Executors.newSingleThreadExecutor();
+            CompletableFuture.runAsync(() -> acceptAndReceiveTextFrame(serverSocket, receivedMessages), server);
+            server.shutdown();
+            underTest = JdkWebSocketMessagingProvider.newInstance(
+                    configOf("ws://127.0.0.1:" + serverSocket.getLocalPort(), 100), dummyAuth(), executor,
+                    scheduledExecutor);
+
+            final CompletableFuture<Void> written = underTest.emitAsync(MESSAGE).toCompletableFuture();
+
+            assertThat(written).isNotDone();
+
+            underTest.initializeAsync().toCompletableFuture().get(10L, TimeUnit.SECONDS);
+            written.get(10L, TimeUnit.SECONDS);
+            assertThat(receivedMessages.poll(10L, TimeUnit.SECONDS)).isEqualTo(MESSAGE);
+        }
+    }
+
+    @Test
+    public void messagesNotWrittenBeforeClosingFail() {
+        underTest = JdkWebSocketMessagingProvider.newInstance(configOf("ws://127.0.0.1:1", 100), dummyAuth(),
+                executor, scheduledExecutor);
+        final CompletableFuture<Void> written = underTest.emitAsync(MESSAGE).toCompletableFuture();
+
+        underTest.close();
+
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> written.get(1L, TimeUnit.SECONDS))
+                .withCauseInstanceOf(MessagingException.class);
+        assertThat(underTest.emitAsync(MESSAGE).toCompletableFuture()).isCompletedExceptionally();
+    }
+
+    @Test
+    public void messagesExceedingOutboundBufferFail() {
+        underTest = JdkWebSocketMessagingProvider.newInstance(configOf("ws://127.0.0.1:1", 1), dummyAuth(),
+                executor, scheduledExecutor);
+
+        final CompletableFuture<Void> buffered = underTest.emitAsync(MESSAGE).toCompletableFuture();
+        final CompletableFuture<Void> rejected = underTest.emitAsync(MESSAGE).toCompletableFuture();
+
+        assertThat(buffered).isNotDone();
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> rejected.get(1L, TimeUnit.SECONDS))
+                .withCauseInstanceOf(MessagingException.class);
+    }
+
+    private static MessagingConfiguration configOf(final String uri, final int outboundBufferSize) {
+        return WebSocketMessagingConfiguration.newBuilder()
+                .jsonSchemaVersion(JsonSchemaVersion.V_2)
+                .endpoint(uri)
+                .reconnectEnabled(false)
+                .initialConnectRetryEnabled(false)
+                .outboundBufferSize(outboundBufferSize)
+                .build();
+    }
+
+    private static BasicAuthenticationProvider dummyAuth() {
+        return new BasicAuthenticationProvider(
+                BasicAuthenticationConfiguration.newBuilder().username("dummy").password("auth").build());
+    }
+
+    /**
+     * Accepts one WebSocket connection and receives the first unfragmented text frame sent by the client.
+     */
+    private static void acceptAndReceiveTextFrame(final ServerSocket serverSocket,
+            final BlockingQueue<String> receivedMessages) {
+        try (final Socket socket = serverSocket.accept()) {
+            final BufferedReader reader =
+                    new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+            String key = null;
+            String line;
+            while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                if (line.regionMatches(true, 0, "Sec-WebSocket-Key:", 0, 18)) {
+                    key = line.substring(18).trim();
+                }
+            }
+            final OutputStream out = socket.getOutputStream();
+            out.write(("HTTP/1.1 101 Switching Protocols\r\n" +
+                    "Upgrade: websocket\r\n" +
+                    "Connection: Upgrade\r\n" +
+                    "Sec-WebSocket-Accept: " + acceptKeyOf(key) + "\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+
+            // the client sends nothing before the handshake response, so the reader buffered no frame bytes
+            final DataInputStream in = new DataInputStream(socket.getInputStream());
+            while (true) {
+                final int opcode = in.readUnsignedByte() & 0x0F;
+                long length = in.readUnsignedByte() & 0x7F;
+                if (length == 126) {
+                    length = in.readUnsignedShort();
+                } else if (length == 127) {
+                    length = in.readLong();
+                }
+                final byte[] mask = new byte[4];
+                in.readFully(mask);
+                final byte[] payload = new byte[(int) length];
+                in.readFully(payload);
+                for (int i = 0; i < payload.length; i++) {
+                    payload[i] ^= mask[i % 4];
+                }
+                if (opcode == 0x1) {
+                    receivedMessages.add(new String(payload, StandardCharsets.UTF_8));
+                    return;
+                }
+            }
+        } catch (final IOException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String acceptKeyOf(final String key) throws NoSuchAlgorithmException {
+        final byte[] digest = MessageDigest.getInstance("SHA-1")
+                .digest((key + WEBSOCKET_GUID).getBytes(StandardCharsets.ISO_8859_1));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+}